@@ -21,12 +21,15 @@
  */
 package antafes.vampireEditor;
 
+import antafes.vampireEditor.language.LanguageChangeListener;
 import antafes.vampireEditor.language.LanguageInterface;
 
 import javax.swing.*;
 import java.awt.*;
 import java.io.*;
+import java.util.EnumMap;
 import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -41,6 +44,9 @@ public class Configuration
     public static final String PATH = System.getProperty("user.home") + "/.vampire/";
     private final Properties properties;
     private final File propertiesFile;
+    private volatile Language language;
+    private final EnumMap<Language, LanguageInterface> languageObjects;
+    private final CopyOnWriteArrayList<LanguageChangeListener> languageChangeListeners;
 
     /**
      * constructor
@@ -49,6 +55,8 @@ public class Configuration
     {
         this.propertiesFile = new File(PATH + "gui.xml");
         this.properties = new Properties();
+        this.languageObjects = new EnumMap<>(Language.class);
+        this.languageChangeListeners = new CopyOnWriteArrayList<>();
     }
 
     /**
@@ -86,6 +94,9 @@ public class Configuration
             this.properties.setProperty("saveDirPath", new File(PATH + "../Documents/").getPath());
             this.properties.setProperty("language", Language.ENGLISH.toString());
         }
+
+        String language = this.properties.getProperty("language");
+        this.language = language == null ? null : Language.valueOf(language);
     }
 
     /**
@@ -188,7 +199,14 @@ public class Configuration
      */
     public Language getLanguage()
     {
-        return Language.valueOf(this.properties.getProperty("language"));
+        Language language = this.language;
+
+        if (language == null) {
+            language = Language.valueOf(this.properties.getProperty("language"));
+            this.language = language;
+        }
+
+        return language;
     }
 
     /**
@@ -198,15 +216,33 @@ public class Configuration
      */
     public LanguageInterface getLanguageObject()
     {
-        LanguageInterface language = null;
+        return this.getLanguageObject(this.getLanguage());
+    }
 
-        try {
-            language = (LanguageInterface) Class.forName(this.getLanguage().getLanguageString()).newInstance();
-        } catch (ClassNotFoundException | InstantiationException | IllegalAccessException ex) {
-            Logger.getLogger(Configuration.class.getName()).log(Level.SEVERE, null, ex);
-        }
+    /**
+     * Get the language object for the given language.
+     * Every language object is only created once and shared afterwards, as the translations are immutable.
+     *
+     * @param language The language to fetch the object for
+     *
+     * @return Language object for the given language
+     */
+    public LanguageInterface getLanguageObject(Language language)
+    {
+        synchronized (this.languageObjects) {
+            LanguageInterface languageObject = this.languageObjects.get(language);
+
+            if (languageObject == null) {
+                try {
+                    languageObject = (LanguageInterface) Class.forName(language.getLanguageString()).newInstance();
+                    this.languageObjects.put(language, languageObject);
+                } catch (ClassNotFoundException | InstantiationException | IllegalAccessException ex) {
+                    Logger.getLogger(Configuration.class.getName()).log(Level.SEVERE, null, ex);
+                }
+            }
 
-        return language;
+            return languageObject;
+        }
     }
 
     /**
@@ -262,7 +298,32 @@ public class Configuration
      * @param language The language that has been selected
      */
     public void setLanguage(Language language) {
+        Language previous = this.language;
         this.properties.setProperty("language", language.toString());
+        this.language = language;
+
+        if (previous != language) {
+            LanguageInterface languageObject = this.getLanguageObject(language);
+            this.languageChangeListeners.forEach((listener) -> listener.languageChanged(language, languageObject));
+        }
+    }
+
+    /**
+     * Add a listener that gets notified whenever the selected language changes.
+     *
+     * @param listener The listener to add
+     */
+    public void addLanguageChangeListener(LanguageChangeListener listener) {
+        this.languageChangeListeners.add(listener);
+    }
+
+    /**
+     * Remove a previously added language change listener.
+     *
+     * @param listener The listener to remove
+     */
+    public void removeLanguageChangeListener(LanguageChangeListener listener) {
+        this.languageChangeListeners.remove(listener);
     }
 
     /**
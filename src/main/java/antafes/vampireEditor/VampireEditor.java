@@ -21,6 +21,7 @@
  */
 package antafes.vampireEditor;
 
+import antafes.vampireEditor.batch.BatchRunner;
 import antafes.vampireEditor.entity.storage.StorageFactory;
 import antafes.vampireEditor.gui.BaseWindow;
 
@@ -50,9 +51,18 @@ public class VampireEditor {
     private static final boolean DEBUG = false;
 
     /**
+     * Start the editor, or process a directory of characters without any window if --batch is given.
+     *
      * @param args the command line arguments
      */
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("--batch")) {
+            System.setProperty("java.awt.headless", "true");
+            Configuration.getInstance().loadProperties();
+            new VampireEditor();
+            System.exit(BatchRunner.run(args, System.out, System.err));
+        }
+
         Configuration configuration = Configuration.getInstance();
         configuration.loadProperties();
         VampireEditor ve = new VampireEditor();
@@ -0,0 +1,210 @@
+/*
+ * This file is part of Vampire Editor.
+ *
+ * Vampire Editor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Vampire Editor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Vampire Editor. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @package Vampire Editor
+ * @author Marian Pollzien <map@wafriv.de>
+ * @copyright (c) 2026, Marian Pollzien
+ * @license https://www.gnu.org/licenses/lgpl.html LGPLv3
+ */
+
+package antafes.vampireEditor.batch;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Machine readable report of a batch run.
+ *
+ * @author Marian Pollzien
+ */
+public class BatchReport {
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_FAILURES = 1;
+    public static final int EXIT_USAGE = 2;
+
+    private final BatchRunner.Command command;
+    private final List<Entry> entries;
+    private final long elapsedMillis;
+
+    /**
+     * Result of a single processed file.
+     */
+    public static final class Entry {
+        private final File file;
+        private final List<File> outputs;
+        private final List<String> errors;
+
+        /**
+         * Constructor
+         *
+         * @param file The processed file
+         * @param outputs Every file written for the processed file
+         * @param errors Every error that occurred, empty on success
+         */
+        Entry(File file, List<File> outputs, List<String> errors) {
+            this.file = file;
+            this.outputs = Collections.unmodifiableList(new ArrayList<>(outputs));
+            this.errors = Collections.unmodifiableList(new ArrayList<>(errors));
+        }
+
+        /**
+         * Get the processed file.
+         */
+        public File getFile() {
+            return file;
+        }
+
+        /**
+         * Get every file written for the processed file.
+         */
+        public List<File> getOutputs() {
+            return outputs;
+        }
+
+        /**
+         * Get every error that occurred.
+         */
+        public List<String> getErrors() {
+            return errors;
+        }
+
+        /**
+         * Check if the file has been processed without errors.
+         */
+        public boolean isSuccessful() {
+            return this.errors.isEmpty();
+        }
+    }
+
+    /**
+     * Constructor
+     *
+     * @param command The executed command
+     * @param entries The results of every processed file
+     * @param elapsedMillis Duration of the run in milliseconds
+     */
+    BatchReport(BatchRunner.Command command, List<Entry> entries, long elapsedMillis) {
+        this.command = command;
+        this.entries = Collections.unmodifiableList(new ArrayList<>(entries));
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * Get the results of every processed file.
+     */
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Get the number of files that failed.
+     */
+    public int getFailed() {
+        return (int) this.entries.stream().filter(entry -> !entry.isSuccessful()).count();
+    }
+
+    /**
+     * Get the exit code for the run: 0 if every file succeeded, 1 otherwise.
+     */
+    public int getExitCode() {
+        return this.getFailed() == 0 ? EXIT_SUCCESS : EXIT_FAILURES;
+    }
+
+    /**
+     * Create the JSON representation of the report.
+     *
+     * @return The report as JSON document
+     */
+    public String toJson() {
+        StringBuilder json = new StringBuilder("{\n");
+        json.append("  \"command\": ").append(quote(this.command.name().toLowerCase(Locale.ROOT))).append(",\n");
+        json.append("  \"total\": ").append(this.entries.size()).append(",\n");
+        json.append("  \"succeeded\": ").append(this.entries.size() - this.getFailed()).append(",\n");
+        json.append("  \"failed\": ").append(this.getFailed()).append(",\n");
+        json.append("  \"elapsedMillis\": ").append(this.elapsedMillis).append(",\n");
+        json.append("  \"files\": [");
+
+        for (int i = 0; i < this.entries.size(); i++) {
+            Entry entry = this.entries.get(i);
+            json.append(i == 0 ? "\n" : ",\n");
+            json.append("    {\"file\": ").append(quote(entry.getFile().getPath()));
+            json.append(", \"status\": ").append(quote(entry.isSuccessful() ? "ok" : "failed"));
+            json.append(", \"outputs\": [");
+
+            for (int j = 0; j < entry.getOutputs().size(); j++) {
+                json.append(j == 0 ? "" : ", ").append(quote(entry.getOutputs().get(j).getPath()));
+            }
+
+            json.append("], \"errors\": [");
+
+            for (int j = 0; j < entry.getErrors().size(); j++) {
+                json.append(j == 0 ? "" : ", ").append(quote(entry.getErrors().get(j)));
+            }
+
+            json.append("]}");
+        }
+
+        json.append(this.entries.isEmpty() ? "]\n" : "\n  ]\n").append("}\n");
+
+        return json.toString();
+    }
+
+    /**
+     * Quote and escape a JSON string.
+     *
+     * @param value The string to quote
+     *
+     * @return The JSON string
+     */
+    private static String quote(String value) {
+        if (value == null) {
+            return "null";
+        }
+
+        StringBuilder quoted = new StringBuilder("\"");
+
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"':
+                    quoted.append("\\\"");
+                    break;
+                case '\\':
+                    quoted.append("\\\\");
+                    break;
+                case '\n':
+                    quoted.append("\\n");
+                    break;
+                case '\r':
+                    quoted.append("\\r");
+                    break;
+                case '\t':
+                    quoted.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        quoted.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        quoted.append(c);
+                    }
+            }
+        }
+
+        return quoted.append('"').toString();
+    }
+}
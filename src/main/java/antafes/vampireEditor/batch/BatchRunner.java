@@ -0,0 +1,355 @@
+/*
+ * This file is part of Vampire Editor.
+ *
+ * Vampire Editor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Vampire Editor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Vampire Editor. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @package Vampire Editor
+ * @author Marian Pollzien <map@wafriv.de>
+ * @copyright (c) 2026, Marian Pollzien
+ * @license https://www.gnu.org/licenses/lgpl.html LGPLv3
+ */
+
+package antafes.vampireEditor.batch;
+
+import antafes.vampireEditor.entity.Character;
+import antafes.vampireEditor.entity.storage.CharacterImport;
+import antafes.vampireEditor.entity.storage.CharacterStorage;
+import antafes.vampireEditor.entity.storage.StorageFactory;
+import antafes.vampireEditor.print.PrintBase;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * Processes a whole directory of character files without any window.
+ * Files are handled in parallel, the result of every file is collected in a {@link BatchReport}.
+ *
+ * Usage: --batch validate|convert|render &lt;dir&gt; [--output &lt;dir&gt;] [--format xml|binary] [--threads &lt;n&gt;]
+ * [--report &lt;file&gt;]
+ *
+ * @author Marian Pollzien
+ */
+public class BatchRunner {
+    public static final String USAGE = "Usage: --batch validate|convert|render <dir> [--output <dir>]"
+        + " [--format xml|binary] [--threads <n>] [--report <file>]";
+
+    // The print pages are Swing components sharing look and feel state, so only one character is laid out at once.
+    private static final Object RENDER_LOCK = new Object();
+
+    private final Command command;
+    private final File input;
+    private final File output;
+    private final CharacterStorage.Format format;
+    private final int threads;
+
+    /**
+     * The available batch commands.
+     */
+    public enum Command {
+        /**
+         * Load every file validating it against the character schema.
+         */
+        VALIDATE ("validated"),
+        /**
+         * Convert every file into another format.
+         */
+        CONVERT ("converted"),
+        /**
+         * Render the print pages of every file into PNG images.
+         */
+        RENDER ("rendered");
+
+        private final String outputDirectory;
+
+        /**
+         * Constructor
+         *
+         * @param outputDirectory Name of the default output directory
+         */
+        Command(String outputDirectory) {
+            this.outputDirectory = outputDirectory;
+        }
+
+        /**
+         * Get the name of the default output directory, created inside of the input directory.
+         */
+        public String getOutputDirectory() {
+            return outputDirectory;
+        }
+    }
+
+    /**
+     * Create a new batch runner.
+     *
+     * @param command The command to execute
+     * @param input The directory containing the character files
+     * @param output The directory to write to, null for the default output directory of the command
+     * @param format The format to convert to, null to convert into the respective other format
+     * @param threads Number of files processed at once
+     */
+    public BatchRunner(Command command, File input, File output, CharacterStorage.Format format, int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("At least one thread is required");
+        }
+
+        this.command = command;
+        this.input = input;
+        this.output = output != null ? output : new File(input, command.getOutputDirectory());
+        this.format = format;
+        this.threads = threads;
+    }
+
+    /**
+     * Run a batch from the command line arguments and write the report.
+     *
+     * @param args The command line arguments, starting with --batch
+     * @param out Stream receiving the report if no report file is given
+     * @param err Stream receiving usage errors
+     *
+     * @return The exit code
+     */
+    public static int run(String[] args, PrintStream out, PrintStream err) {
+        Command command;
+        File input;
+        File output = null;
+        File report = null;
+        CharacterStorage.Format format = null;
+        int threads = Runtime.getRuntime().availableProcessors();
+
+        try {
+            if (args.length < 3 || !args[0].equals("--batch")) {
+                throw new IllegalArgumentException("Missing command or directory");
+            }
+
+            command = Command.valueOf(args[1].toUpperCase(Locale.ROOT));
+            input = new File(args[2]);
+
+            if (!input.isDirectory()) {
+                throw new IllegalArgumentException("Not a directory: " + input);
+            }
+
+            for (int i = 3; i < args.length; i += 2) {
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + args[i]);
+                }
+
+                switch (args[i]) {
+                    case "--output":
+                        output = new File(args[i + 1]);
+                        break;
+                    case "--report":
+                        report = new File(args[i + 1]);
+                        break;
+                    case "--format":
+                        format = CharacterStorage.Format.valueOf(args[i + 1].toUpperCase(Locale.ROOT));
+                        break;
+                    case "--threads":
+                        threads = Integer.parseInt(args[i + 1]);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown option " + args[i]);
+                }
+            }
+        } catch (IllegalArgumentException ex) {
+            err.println(ex.getMessage());
+            err.println(USAGE);
+
+            return BatchReport.EXIT_USAGE;
+        }
+
+        try {
+            BatchReport result = new BatchRunner(command, input, output, format, threads).run();
+
+            if (report == null) {
+                out.print(result.toJson());
+            } else {
+                Files.write(report.toPath(), result.toJson().getBytes(StandardCharsets.UTF_8));
+            }
+
+            return result.getExitCode();
+        } catch (IOException | InterruptedException | IllegalArgumentException ex) {
+            err.println(ex.getMessage());
+
+            return BatchReport.EXIT_FAILURES;
+        }
+    }
+
+    /**
+     * Process every character file in the input directory.
+     *
+     * @return The report of the run
+     *
+     * @throws IOException If the input directory couldn't be read
+     * @throws InterruptedException If the run has been interrupted
+     */
+    public BatchReport run() throws IOException, InterruptedException {
+        long start = System.currentTimeMillis();
+        Path outputPath = this.output.toPath().toAbsolutePath();
+        List<File> files = CharacterImport.collectFiles(this.input)
+            .stream()
+            .filter(file -> !file.toPath().toAbsolutePath().startsWith(outputPath))
+            .collect(Collectors.toList());
+
+        if (files.isEmpty()) {
+            return new BatchReport(this.command, Collections.emptyList(), System.currentTimeMillis() - start);
+        }
+
+        CharacterStorage storage = (CharacterStorage) StorageFactory.getStorage(StorageFactory.StorageType.CHARACTER);
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(this.threads, files.size()));
+        ArrayList<Callable<BatchReport.Entry>> tasks = new ArrayList<>();
+        files.forEach(file -> tasks.add(() -> this.process(storage, file)));
+        ArrayList<BatchReport.Entry> entries = new ArrayList<>();
+
+        try {
+            for (Future<BatchReport.Entry> future : executor.invokeAll(tasks)) {
+                entries.add(future.get());
+            }
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException(ex.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return new BatchReport(this.command, entries, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Process a single file.
+     *
+     * @param storage The storage to load the file with
+     * @param file The file to process
+     *
+     * @return The result of the file
+     */
+    private BatchReport.Entry process(CharacterStorage storage, File file) {
+        ArrayList<File> outputs = new ArrayList<>();
+        ArrayList<String> errors = new ArrayList<>();
+
+        try {
+            switch (this.command) {
+                case VALIDATE:
+                    storage.load(file, CharacterStorage.ValidationLevel.STRICT);
+                    break;
+                case CONVERT:
+                    File target = this.getTarget(file, this.getTargetFormat(file).getExtension());
+                    storage.convert(file, target);
+                    outputs.add(target);
+                    break;
+                case RENDER:
+                    outputs.addAll(this.render(storage.load(file, CharacterStorage.ValidationLevel.STRICT), file));
+                    break;
+            }
+        } catch (Exception ex) {
+            errors.add(ex.getMessage() != null ? ex.getMessage() : ex.toString());
+
+            for (Throwable throwable : ex.getSuppressed()) {
+                errors.add(throwable.getMessage() != null ? throwable.getMessage() : throwable.toString());
+            }
+        }
+
+        return new BatchReport.Entry(file, outputs, errors);
+    }
+
+    /**
+     * Render every print page of the character into a PNG image.
+     *
+     * @param character The character to render
+     * @param file The file the character has been loaded from
+     *
+     * @return The written images
+     *
+     * @throws IOException If an image couldn't be written
+     */
+    private List<File> render(Character character, File file) throws IOException {
+        ArrayList<BufferedImage> images = new ArrayList<>();
+
+        synchronized (RENDER_LOCK) {
+            for (PrintBase page : PrintBase.createPages(character)) {
+                BufferedImage image = new BufferedImage(page.getWidth(), page.getHeight(), BufferedImage.TYPE_INT_RGB);
+                Graphics2D graphics = image.createGraphics();
+                graphics.setColor(Color.WHITE);
+                graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+                page.print(graphics);
+                graphics.dispose();
+                images.add(image);
+            }
+        }
+
+        ArrayList<File> outputs = new ArrayList<>();
+
+        for (int i = 0; i < images.size(); i++) {
+            File target = this.getTarget(file, "-" + (i + 1) + ".png");
+            ImageIO.write(images.get(i), "png", target);
+            outputs.add(target);
+        }
+
+        return outputs;
+    }
+
+    /**
+     * Get the format to convert the given file to.
+     *
+     * @param file The file to convert
+     *
+     * @return The target format
+     */
+    private CharacterStorage.Format getTargetFormat(File file) {
+        if (this.format != null) {
+            return this.format;
+        }
+
+        return CharacterStorage.Format.forFilename(file.getName()) == CharacterStorage.Format.XML
+            ? CharacterStorage.Format.BINARY
+            : CharacterStorage.Format.XML;
+    }
+
+    /**
+     * Get the output file for the given input file, keeping its position relative to the input directory.
+     * The extension of the input file is replaced by the given suffix.
+     *
+     * @param file The input file
+     * @param suffix The suffix to append to the name without extension
+     *
+     * @return The output file
+     *
+     * @throws IOException If the output directory couldn't be created
+     */
+    private File getTarget(File file, String suffix) throws IOException {
+        Path relative = this.input.toPath().toAbsolutePath().relativize(file.toPath().toAbsolutePath());
+        Path target = this.output.toPath().resolve(relative);
+        String name = target.getFileName().toString();
+        int extension = name.lastIndexOf('.');
+        target = target.resolveSibling((extension > 0 ? name.substring(0, extension) : name) + suffix);
+        Files.createDirectories(target.getParent());
+
+        return target.toFile();
+    }
+}
@@ -36,20 +36,53 @@ import java.util.HashMap;
 public abstract class BaseTranslatedEntity extends BaseEntity {
     private final String key;
     private final HashMap<Configuration.Language, String> names;
-
     /**
-     * Get the name of the entity according to the currently used language.
+     * The names indexed by the ordinal of the language, with the english fallback already applied.
      */
-    public String getName() {
-        Configuration configuration = Configuration.getInstance();
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final String[] localizedNames = new String[Configuration.Language.values().length];
+
+    protected BaseTranslatedEntity(BaseTranslatedEntityBuilder<?, ?> b)
+    {
+        super(b);
+        this.key = b.key;
+        this.names = new HashMap<>(b.names);
+
+        for (Configuration.Language language : Configuration.Language.values()) {
+            String name = this.names.get(language);
 
-        String name = this.names.get(configuration.getLanguage());
+            if (name == null || name.isEmpty()) {
+                name = this.names.get(Configuration.Language.ENGLISH);
+            }
 
-        if (name == null || name.isEmpty()) {
-            name = this.names.get(Configuration.Language.ENGLISH);
+            this.localizedNames[language.ordinal()] = name;
         }
+    }
 
-        return name;
+    /**
+     * Get the translated names of the entity.
+     * A copy is returned, as the localized names are resolved from them when the entity is built.
+     */
+    public HashMap<Configuration.Language, String> getNames() {
+        return new HashMap<>(this.names);
+    }
+
+    /**
+     * Get the name of the entity according to the currently used language.
+     */
+    public String getName() {
+        return this.getName(Configuration.getInstance().getLanguage());
+    }
+
+    /**
+     * Get the name of the entity in the given language, falling back to english.
+     *
+     * @param language The language of the name
+     */
+    public String getName(Configuration.Language language) {
+        return this.localizedNames[language.ordinal()];
     }
 
     @Override
@@ -71,6 +104,20 @@ public abstract class BaseTranslatedEntity extends BaseEntity {
             }
         }
 
+        /**
+         * Set the translated names.
+         * The map is copied, so adding names later on doesn't change the given map or the names of another entity.
+         *
+         * @param names The translated names
+         *
+         * @return The builder object
+         */
+        public B setNames(HashMap<Configuration.Language, String> names) {
+            this.names = names == null ? null : new HashMap<>(names);
+
+            return this.self();
+        }
+
         /**
          * Add a single translated name to the map.
          *
@@ -23,7 +23,10 @@ package antafes.vampireEditor.entity;
 
 import antafes.vampireEditor.Configuration;
 import antafes.vampireEditor.entity.character.*;
-import antafes.vampireEditor.utility.StringComparator;
+import antafes.vampireEditor.entity.storage.AbilityStorage;
+import antafes.vampireEditor.entity.storage.AdvantageStorage;
+import antafes.vampireEditor.entity.storage.AttributeStorage;
+import antafes.vampireEditor.entity.storage.StorageFactory;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.experimental.SuperBuilder;
@@ -31,7 +34,6 @@ import lombok.experimental.SuperBuilder;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 /**
  * Character object.
@@ -53,9 +55,9 @@ public class Character extends BaseEntity {
     private final String concept;
     private final String sire;
     private final String sect;
-    private final ArrayList<Attribute> attributes;
-    private final ArrayList<Ability> abilities;
-    private final ArrayList<Advantage> advantages;
+    private final TraitValues<Attribute, AttributeInterface.AttributeType> attributeValues;
+    private final TraitValues<Ability, AbilityInterface.AbilityType> abilityValues;
+    private final TraitValues<Advantage, AdvantageInterface.AdvantageType> advantageValues;
     private final ArrayList<Merit> merits;
     private final ArrayList<Flaw> flaws;
     private final Road road;
@@ -76,47 +78,98 @@ public class Character extends BaseEntity {
     private final String story;
     private final String description;
 
+    /**
+     * Get a list of attributes.
+     * This creates a full entity for every attribute, prefer {@link #getAttributeValues()} instead.
+     *
+     * @return List of attributes
+     */
+    public ArrayList<Attribute> getAttributes() {
+        ArrayList<Attribute> attributes = new ArrayList<>();
+        this.attributeValues.forEach(
+            (trait) -> attributes.add(trait.getDefinition().toBuilder().setValue(trait.getValue()).build())
+        );
+
+        return attributes;
+    }
+
     /**
      * Get a list of attributes by type.
+     * This creates a full entity for every attribute, prefer {@link #getAttributeValues()} instead.
      *
      * @param type Type of attributes to get
      *
      * @return List of attributes
      */
     public ArrayList<Attribute> getAttributesByType(AttributeInterface.AttributeType type) {
-        ArrayList<Attribute> attributes = (ArrayList<Attribute>) this.attributes.stream()
-            .filter((attribute) -> (attribute.getType() == type)).collect(Collectors.toList());
-        attributes.sort(new StringComparator());
+        ArrayList<Attribute> attributes = new ArrayList<>();
+        this.attributeValues.getByType(type).forEach(
+            (trait) -> attributes.add(trait.getDefinition().toBuilder().setValue(trait.getValue()).build())
+        );
 
         return attributes;
     }
 
+    /**
+     * Get a list of abilities.
+     * This creates a full entity for every ability, prefer {@link #getAbilityValues()} instead.
+     *
+     * @return List of abilities
+     */
+    public ArrayList<Ability> getAbilities() {
+        ArrayList<Ability> abilities = new ArrayList<>();
+        this.abilityValues.forEach(
+            (trait) -> abilities.add(trait.getDefinition().toBuilder().setValue(trait.getValue()).build())
+        );
+
+        return abilities;
+    }
+
     /**
      * Get a list of abilities by type.
+     * This creates a full entity for every ability, prefer {@link #getAbilityValues()} instead.
      *
      * @param type Type of abilities to get
      *
      * @return List of abilities
      */
     public ArrayList<Ability> getAbilitiesByType(AbilityInterface.AbilityType type) {
-        ArrayList<Ability> abilities = (ArrayList<Ability>) this.abilities.stream()
-            .filter((ability) -> (ability.getType() == type)).collect(Collectors.toList());
-        abilities.sort(new StringComparator());
+        ArrayList<Ability> abilities = new ArrayList<>();
+        this.abilityValues.getByType(type).forEach(
+            (trait) -> abilities.add(trait.getDefinition().toBuilder().setValue(trait.getValue()).build())
+        );
 
         return abilities;
     }
 
+    /**
+     * Get a list of advantages.
+     * This creates a full entity for every advantage, prefer {@link #getAdvantageValues()} instead.
+     *
+     * @return List of advantages
+     */
+    public ArrayList<Advantage> getAdvantages() {
+        ArrayList<Advantage> advantages = new ArrayList<>();
+        this.advantageValues.forEach(
+            (trait) -> advantages.add(trait.getDefinition().toBuilder().setValue(trait.getValue()).build())
+        );
+
+        return advantages;
+    }
+
     /**
      * Get a list of advantages by type.
+     * This creates a full entity for every advantage, prefer {@link #getAdvantageValues()} instead.
      *
      * @param type Type of advantages to get
      *
      * @return List of advantages
      */
     public ArrayList<Advantage> getAdvantagesByType(AdvantageInterface.AdvantageType type) {
-        ArrayList<Advantage> advantages = (ArrayList<Advantage>) this.advantages.stream()
-            .filter((advantage) -> (advantage.getType() == type)).collect(Collectors.toList());
-        advantages.sort(new StringComparator());
+        ArrayList<Advantage> advantages = new ArrayList<>();
+        this.advantageValues.getByType(type).forEach(
+            (trait) -> advantages.add(trait.getDefinition().toBuilder().setValue(trait.getValue()).build())
+        );
 
         return advantages;
     }
@@ -146,6 +199,10 @@ public class Character extends BaseEntity {
      * Builder for character objects.
      */
     public abstract static class CharacterBuilder<C extends Character, B extends CharacterBuilder<C, B>> extends BaseEntityBuilder<C, B> {
+        private ArrayList<TraitValue<Attribute>> attributes;
+        private ArrayList<TraitValue<Ability>> abilities;
+        private ArrayList<TraitValue<Advantage>> advantages;
+
         public CharacterBuilder()
         {
             this.attributes = new ArrayList<>();
@@ -191,6 +248,19 @@ public class Character extends BaseEntity {
             this.checkAttributes();
             this.checkAbilities();
             this.checkAdvantages();
+
+            this.attributeValues = TraitValues.of(
+                (AttributeStorage) StorageFactory.getStorage(StorageFactory.StorageType.ATTRIBUTE),
+                this.attributes
+            );
+            this.abilityValues = TraitValues.of(
+                (AbilityStorage) StorageFactory.getStorage(StorageFactory.StorageType.ABILITY),
+                this.abilities
+            );
+            this.advantageValues = TraitValues.of(
+                (AdvantageStorage) StorageFactory.getStorage(StorageFactory.StorageType.ADVANTAGE),
+                this.advantages
+            );
         }
 
         /**
@@ -256,20 +326,80 @@ public class Character extends BaseEntity {
             }
         }
 
+        public B setAttributes(ArrayList<Attribute> attributes) {
+            this.attributes = attributes == null ? null : new ArrayList<>();
+
+            if (attributes != null) {
+                attributes.forEach(this::addAttribute);
+            }
+
+            return this.self();
+        }
+
+        public B setAttributeValues(TraitValues<Attribute, AttributeInterface.AttributeType> attributeValues) {
+            this.attributes = attributeValues.toList();
+
+            return this.self();
+        }
+
         public B addAttribute(Attribute attribute) {
-            this.attributes.add(attribute);
+            return this.addAttribute(attribute, attribute.getValue());
+        }
+
+        public B addAttribute(Attribute attribute, int value) {
+            this.attributes.add(new TraitValue<>(attribute, value));
+
+            return this.self();
+        }
+
+        public B setAbilities(ArrayList<Ability> abilities) {
+            this.abilities = abilities == null ? null : new ArrayList<>();
+
+            if (abilities != null) {
+                abilities.forEach(this::addAbility);
+            }
+
+            return this.self();
+        }
+
+        public B setAbilityValues(TraitValues<Ability, AbilityInterface.AbilityType> abilityValues) {
+            this.abilities = abilityValues.toList();
 
             return this.self();
         }
 
         public B addAbility(Ability ability) {
-            this.abilities.add(ability);
+            return this.addAbility(ability, ability.getValue());
+        }
+
+        public B addAbility(Ability ability, int value) {
+            this.abilities.add(new TraitValue<>(ability, value));
+
+            return this.self();
+        }
+
+        public B setAdvantages(ArrayList<Advantage> advantages) {
+            this.advantages = advantages == null ? null : new ArrayList<>();
+
+            if (advantages != null) {
+                advantages.forEach(this::addAdvantage);
+            }
+
+            return this.self();
+        }
+
+        public B setAdvantageValues(TraitValues<Advantage, AdvantageInterface.AdvantageType> advantageValues) {
+            this.advantages = advantageValues.toList();
 
             return this.self();
         }
 
         public B addAdvantage(Advantage advantage) {
-            this.advantages.add(advantage);
+            return this.addAdvantage(advantage, advantage.getValue());
+        }
+
+        public B addAdvantage(Advantage advantage, int value) {
+            this.advantages.add(new TraitValue<>(advantage, value));
 
             return this.self();
         }
@@ -0,0 +1,65 @@
+/*
+ * This file is part of Vampire Editor.
+ *
+ * Vampire Editor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Vampire Editor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Vampire Editor. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @package Vampire Editor
+ * @author Marian Pollzien <map@wafriv.de>
+ * @copyright (c) 2026, Marian Pollzien
+ * @license https://www.gnu.org/licenses/lgpl.html LGPLv3
+ */
+
+package antafes.vampireEditor.entity.character;
+
+import antafes.vampireEditor.entity.BaseTypedTranslatedEntity;
+import lombok.Data;
+
+/**
+ * Value of a single trait of a character.
+ * Only holds the value and a reference to the shared definition from the storage.
+ *
+ * @param <C> The type of trait
+ */
+@Data
+public final class TraitValue<C extends BaseTypedTranslatedEntity> {
+    private final C definition;
+    private final int value;
+
+    /**
+     * Get the key of the trait.
+     */
+    public String getKey() {
+        return this.definition.getKey();
+    }
+
+    /**
+     * Get the name of the trait according to the currently used language.
+     */
+    public String getName() {
+        return this.definition.getName();
+    }
+
+    /**
+     * Get the type of the trait.
+     */
+    public EntityTypeInterface getType() {
+        return this.definition.getType();
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.getName();
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * This file is part of Vampire Editor.
+ *
+ * Vampire Editor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Vampire Editor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Vampire Editor. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @package Vampire Editor
+ * @author Marian Pollzien <map@wafriv.de>
+ * @copyright (c) 2026, Marian Pollzien
+ * @license https://www.gnu.org/licenses/lgpl.html LGPLv3
+ */
+
+package antafes.vampireEditor.entity.character;
+
+import antafes.vampireEditor.entity.BaseTypedTranslatedEntity;
+import antafes.vampireEditor.entity.EntityException;
+import antafes.vampireEditor.entity.storage.BaseTypedStorage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Compact set of trait values of a character.
+ * The values are stored in an array indexed by the ordinal of the trait in its storage.
+ *
+ * @param <C> The type of trait
+ * @param <T> The type enum of the trait
+ */
+public final class TraitValues<C extends BaseTypedTranslatedEntity, T extends Enum<T> & EntityTypeInterface>
+    implements Iterable<TraitValue<C>>
+{
+    private static final int ABSENT = -1;
+
+    private final BaseTypedStorage<C, T> storage;
+    private final int[] values;
+    private final int size;
+
+    /**
+     * Constructor
+     *
+     * @param storage The storage containing the trait definitions
+     * @param values The values indexed by ordinal
+     * @param size The number of set values
+     */
+    private TraitValues(BaseTypedStorage<C, T> storage, int[] values, int size) {
+        this.storage = storage;
+        this.values = values;
+        this.size = size;
+    }
+
+    /**
+     * Create the trait values from a list of traits.
+     *
+     * @param storage The storage containing the trait definitions
+     * @param traits The traits with their values
+     *
+     * @return The trait values
+     * @throws EntityException If a trait is unknown to the storage
+     */
+    public static <C extends BaseTypedTranslatedEntity, T extends Enum<T> & EntityTypeInterface> TraitValues<C, T> of(
+        BaseTypedStorage<C, T> storage,
+        Collection<TraitValue<C>> traits
+    ) throws EntityException {
+        int[] values = new int[storage.getOrdinalCount()];
+        Arrays.fill(values, ABSENT);
+        int size = 0;
+
+        for (TraitValue<C> trait : traits) {
+            int ordinal = storage.getOrdinal(trait.getKey());
+
+            if (ordinal == ABSENT) {
+                throw new EntityException("Unknown trait: " + trait.getKey());
+            }
+
+            if (values[ordinal] == ABSENT) {
+                size++;
+            }
+
+            values[ordinal] = trait.getValue();
+        }
+
+        return new TraitValues<>(storage, values, size);
+    }
+
+    /**
+     * Get the number of set traits.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Check whether the trait with the given key is set.
+     *
+     * @param key The key of the trait
+     */
+    public boolean contains(String key) {
+        int ordinal = this.storage.getOrdinal(key);
+
+        return ordinal != ABSENT && this.values[ordinal] != ABSENT;
+    }
+
+    /**
+     * Get the value of the trait with the given key.
+     *
+     * @param key The key of the trait
+     *
+     * @return The value or 0 if the trait is not set
+     */
+    public int getValue(String key) {
+        return this.contains(key) ? this.values[this.storage.getOrdinal(key)] : 0;
+    }
+
+    /**
+     * Get the traits of the given type, sorted by the name in the currently used language.
+     *
+     * @param type The type of traits to fetch
+     *
+     * @return List of trait values
+     */
+    public ArrayList<TraitValue<C>> getByType(T type) {
+        ArrayList<TraitValue<C>> list = new ArrayList<>();
+
+        for (C definition : this.storage.getEntityListByType(type)) {
+            int value = this.values[this.storage.getOrdinal(definition.getKey())];
+
+            if (value != ABSENT) {
+                list.add(new TraitValue<>(definition, value));
+            }
+        }
+
+        return list;
+    }
+
+    /**
+     * Get every set trait in ordinal order.
+     *
+     * @return List of trait values
+     */
+    public ArrayList<TraitValue<C>> toList() {
+        ArrayList<TraitValue<C>> list = new ArrayList<>(this.size);
+        this.forEach(list::add);
+
+        return list;
+    }
+
+    @Override
+    public Iterator<TraitValue<C>> iterator() {
+        return new Iterator<TraitValue<C>>() {
+            private int ordinal = this.skipAbsent(0);
+
+            private int skipAbsent(int from) {
+                while (from < TraitValues.this.values.length && TraitValues.this.values[from] == ABSENT) {
+                    from++;
+                }
+
+                return from;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return this.ordinal < TraitValues.this.values.length;
+            }
+
+            @Override
+            public TraitValue<C> next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                TraitValue<C> trait = new TraitValue<>(
+                    TraitValues.this.storage.getEntity(this.ordinal),
+                    TraitValues.this.values[this.ordinal]
+                );
+                this.ordinal = this.skipAbsent(this.ordinal + 1);
+
+                return trait;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof TraitValues)) {
+            return false;
+        }
+
+        TraitValues<?, ?> other = (TraitValues<?, ?>) o;
+
+        return this.storage == other.storage && Arrays.equals(this.values, other.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.values);
+    }
+}
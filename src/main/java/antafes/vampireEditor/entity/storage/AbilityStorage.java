@@ -38,12 +38,23 @@ import java.util.HashMap;
  */
 public class AbilityStorage extends BaseTypedStorage<Ability, AbilityInterface.AbilityType>
 {
+    /**
+     * Constructor
+     */
+    public AbilityStorage() {
+        super(AbilityInterface.AbilityType.class);
+    }
+
     /**
      * Initializes the storage and pre-loads available data.
      */
     @Override
     public void init() {
-        this.loadData();
+        if (!ReferenceSnapshot.getInstance().load(StorageFactory.StorageType.ABILITY, this)) {
+            this.loadData();
+        }
+
+        this.buildTypeIndex();
     }
 
     /**
@@ -78,4 +89,37 @@ public class AbilityStorage extends BaseTypedStorage<Ability, AbilityInterface.A
             });
         }
     }
+
+    /**
+     * Write the stored entities into a section of the reference snapshot.
+     *
+     * @param writer The section writer
+     */
+    @Override
+    void writeSnapshot(ReferenceSnapshot.Writer writer) {
+        writer.writeInt(this.getList().size());
+        this.getList().values().forEach((ability) -> {
+            writer.writeString(ability.getKey());
+            writer.writeString(ability.getType().name());
+            writer.writeNames(ability.getNames());
+        });
+    }
+
+    /**
+     * Fill the storage from a section of the reference snapshot.
+     *
+     * @param reader The section reader
+     */
+    @Override
+    void readSnapshot(ReferenceSnapshot.Reader reader) {
+        for (int i = reader.readInt(); i > 0; i--) {
+            Ability ability = Ability.builder()
+                .setKey(reader.readString())
+                .setType(AbilityInterface.AbilityType.valueOf(reader.readString()))
+                .setNames(reader.readNames())
+                .build();
+
+            this.getList().put(ability.getKey(), ability);
+        }
+    }
 }
@@ -36,12 +36,23 @@ import java.util.HashMap;
  * Storage for advantages
  */
 public class AdvantageStorage extends BaseTypedStorage<Advantage, AdvantageInterface.AdvantageType> {
+    /**
+     * Constructor
+     */
+    public AdvantageStorage() {
+        super(AdvantageInterface.AdvantageType.class);
+    }
+
     /**
      * Initializes the storage and pre-loads available data.
      */
     @Override
     public void init() {
-        this.loadData();
+        if (!ReferenceSnapshot.getInstance().load(StorageFactory.StorageType.ADVANTAGE, this)) {
+            this.loadData();
+        }
+
+        this.buildTypeIndex();
     }
 
     /**
@@ -73,4 +84,37 @@ public class AdvantageStorage extends BaseTypedStorage<Advantage, AdvantageInter
             });
         }
     }
+
+    /**
+     * Write the stored entities into a section of the reference snapshot.
+     *
+     * @param writer The section writer
+     */
+    @Override
+    void writeSnapshot(ReferenceSnapshot.Writer writer) {
+        writer.writeInt(this.getList().size());
+        this.getList().values().forEach((advantage) -> {
+            writer.writeString(advantage.getKey());
+            writer.writeString(advantage.getType().name());
+            writer.writeNames(advantage.getNames());
+        });
+    }
+
+    /**
+     * Fill the storage from a section of the reference snapshot.
+     *
+     * @param reader The section reader
+     */
+    @Override
+    void readSnapshot(ReferenceSnapshot.Reader reader) {
+        for (int i = reader.readInt(); i > 0; i--) {
+            Advantage advantage = Advantage.builder()
+                .setKey(reader.readString())
+                .setType(AdvantageInterface.AdvantageType.valueOf(reader.readString()))
+                .setNames(reader.readNames())
+                .build();
+
+            this.getList().put(advantage.getKey(), advantage);
+        }
+    }
 }
@@ -0,0 +1,139 @@
+/*
+ * This file is part of Vampire Editor.
+ *
+ * Vampire Editor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Vampire Editor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Vampire Editor. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @package Vampire Editor
+ * @author Marian Pollzien <map@wafriv.de>
+ * @copyright (c) 2026, Marian Pollzien
+ * @license https://www.gnu.org/licenses/lgpl.html LGPLv3
+ */
+package antafes.vampireEditor.entity.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.util.UUID;
+
+/**
+ * Replaces files atomically, so readers never see a partially written file.
+ * The content is written to a temporary file in the same directory, which is synced to the disk and then renamed over
+ * the target file.
+ *
+ * @author Marian Pollzien
+ */
+final class AtomicFileWriter {
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    /**
+     * Writes the content of a file.
+     *
+     * @param <E> Further exception thrown while writing
+     */
+    @FunctionalInterface
+    interface Content<E extends Exception> {
+        /**
+         * Write the content to the given stream.
+         *
+         * @param output The stream to write to, it must not be closed
+         *
+         * @throws IOException If writing fails
+         * @throws E If the content couldn't be created
+         */
+        void write(OutputStream output) throws IOException, E;
+    }
+
+    private AtomicFileWriter() {
+    }
+
+    /**
+     * Write the given file, creating missing directories.
+     * The permissions and, where possible, the owner of an existing file are kept.
+     *
+     * @param file The file to write
+     * @param content Writes the content of the file
+     * @param <E> Further exception thrown while writing
+     *
+     * @throws IOException If the file couldn't be written
+     * @throws E If the content couldn't be created
+     */
+    static <E extends Exception> void write(File file, Content<E> content) throws IOException, E {
+        Path path = file.toPath().toAbsolutePath();
+        Files.createDirectories(path.getParent());
+        // Not created through Files.createTempFile, as that would restrict the written file to the owner.
+        Path temp = Files.createFile(path.resolveSibling("." + path.getFileName() + "." + UUID.randomUUID() + ".tmp"));
+
+        try {
+            try (
+                FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE);
+                OutputStream output = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE)
+            ) {
+                content.write(output);
+                output.flush();
+                channel.force(true);
+            }
+
+            AtomicFileWriter.copyFileAttributes(path, temp);
+
+            try {
+                Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Copy the permissions and, where possible, the owner of an existing file onto the file replacing it.
+     *
+     * @param source The existing file
+     * @param target The file replacing the existing one
+     *
+     * @throws IOException If the permissions couldn't be copied
+     */
+    private static void copyFileAttributes(Path source, Path target) throws IOException {
+        if (!Files.exists(source)) {
+            return;
+        }
+
+        PosixFileAttributeView sourceView = Files.getFileAttributeView(source, PosixFileAttributeView.class);
+        PosixFileAttributeView targetView = Files.getFileAttributeView(target, PosixFileAttributeView.class);
+
+        if (sourceView == null || targetView == null) {
+            return;
+        }
+
+        PosixFileAttributes attributes = sourceView.readAttributes();
+        targetView.setPermissions(attributes.permissions());
+
+        try {
+            targetView.setOwner(attributes.owner());
+            targetView.setGroup(attributes.group());
+        } catch (IOException ex) {
+            // Only privileged users may hand a file over to someone else, so the owner is kept as is.
+        }
+    }
+}
@@ -36,12 +36,23 @@ import java.util.HashMap;
  * Storage for attributes.
  */
 public class AttributeStorage extends BaseTypedStorage<Attribute, AttributeInterface.AttributeType> {
+    /**
+     * Constructor
+     */
+    public AttributeStorage() {
+        super(AttributeInterface.AttributeType.class);
+    }
+
     /**
      * Initializes the storage and pre-loads available data.
      */
     @Override
     public void init() {
-        this.loadData();
+        if (!ReferenceSnapshot.getInstance().load(StorageFactory.StorageType.ATTRIBUTE, this)) {
+            this.loadData();
+        }
+
+        this.buildTypeIndex();
     }
 
     /**
@@ -73,4 +84,37 @@ public class AttributeStorage extends BaseTypedStorage<Attribute, AttributeInter
             });
         }
     }
+
+    /**
+     * Write the stored entities into a section of the reference snapshot.
+     *
+     * @param writer The section writer
+     */
+    @Override
+    void writeSnapshot(ReferenceSnapshot.Writer writer) {
+        writer.writeInt(this.getList().size());
+        this.getList().values().forEach((attribute) -> {
+            writer.writeString(attribute.getKey());
+            writer.writeString(attribute.getType().name());
+            writer.writeNames(attribute.getNames());
+        });
+    }
+
+    /**
+     * Fill the storage from a section of the reference snapshot.
+     *
+     * @param reader The section reader
+     */
+    @Override
+    void readSnapshot(ReferenceSnapshot.Reader reader) {
+        for (int i = reader.readInt(); i > 0; i--) {
+            Attribute attribute = Attribute.builder()
+                .setKey(reader.readString())
+                .setType(AttributeInterface.AttributeType.valueOf(reader.readString()))
+                .setNames(reader.readNames())
+                .build();
+
+            this.getList().put(attribute.getKey(), attribute);
+        }
+    }
 }
@@ -26,18 +26,28 @@ import antafes.vampireEditor.entity.BaseEntity;
 import antafes.vampireEditor.entity.EntityStorageException;
 
 import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Base storage object.
  */
 public abstract class BaseStorage<T extends BaseEntity> {
-    private final HashMap<String, T> list;
+    private final Map<String, T> list;
 
     /**
      * Constructor
      */
     BaseStorage() {
-        this.list = new HashMap<>();
+        this(new HashMap<>());
+    }
+
+    /**
+     * Constructor
+     *
+     * @param list The map used to store the entities
+     */
+    BaseStorage(Map<String, T> list) {
+        this.list = list;
     }
 
     /**
@@ -63,7 +73,7 @@ public abstract class BaseStorage<T extends BaseEntity> {
     /**
      * Get the list of stored entities.
      */
-    public HashMap<String, T> getList() {
+    public Map<String, T> getList() {
         return this.list;
     }
 }
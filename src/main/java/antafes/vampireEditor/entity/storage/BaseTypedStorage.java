@@ -22,42 +22,150 @@
 
 package antafes.vampireEditor.entity.storage;
 
+import antafes.vampireEditor.Configuration;
 import antafes.vampireEditor.entity.BaseTypedTranslatedEntity;
 import antafes.vampireEditor.entity.character.EntityTypeInterface;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
-public abstract class BaseTypedStorage<C extends BaseTypedTranslatedEntity, T extends EntityTypeInterface> extends BaseStorage<C>
+public abstract class BaseTypedStorage<C extends BaseTypedTranslatedEntity, T extends Enum<T> & EntityTypeInterface> extends ReferenceStorage<C>
 {
+    private final Class<T> typeClass;
+    private volatile EnumMap<T, Map<String, C>> mapIndex;
+    private volatile EnumMap<T, EnumMap<Configuration.Language, List<C>>> listIndex;
+    private volatile List<C> ordinalIndex;
+    private volatile Map<String, Integer> ordinals;
+
     /**
-     * Fetch a subset of abilities from the storage.
+     * Constructor
      *
-     * @param type The type of abilities to fetch
-     * @return Map of abilities
+     * @param typeClass The enum class of the entity types
+     */
+    BaseTypedStorage(Class<T> typeClass)
+    {
+        super();
+        this.typeClass = typeClass;
+        this.mapIndex = new EnumMap<>(typeClass);
+        this.listIndex = new EnumMap<>(typeClass);
+        this.ordinalIndex = Collections.emptyList();
+        this.ordinals = Collections.emptyMap();
+    }
+
+    /**
+     * Build the per type index of the stored entities.
+     * Has to be called after the storage has been filled.
      */
-    public HashMap<String, C> getEntityMapByType(T type)
+    protected void buildTypeIndex()
     {
-        HashMap<String, C> list = new HashMap<>();
+        EnumMap<T, Map<String, C>> mapIndex = new EnumMap<>(this.typeClass);
+        EnumMap<T, EnumMap<Configuration.Language, List<C>>> listIndex = new EnumMap<>(this.typeClass);
+
+        for (T type : this.typeClass.getEnumConstants()) {
+            HashMap<String, C> entities = new HashMap<>();
+            this.getList().forEach((String key, C entity) -> {
+                if (Objects.equals(type, entity.getType())) {
+                    entities.put(key, entity);
+                }
+            });
+            mapIndex.put(type, Collections.unmodifiableMap(entities));
 
-        this.getList().forEach((String key, C entity) -> {
-            if (Objects.equals(type, entity.getType())) {
-                list.put(key, entity);
+            EnumMap<Configuration.Language, List<C>> sorted = new EnumMap<>(Configuration.Language.class);
+            for (Configuration.Language language : Configuration.Language.values()) {
+                ArrayList<C> list = new ArrayList<>(entities.values());
+                list.sort(Comparator.comparing((C entity) -> entity.getName(language)));
+                sorted.put(language, Collections.unmodifiableList(list));
             }
-        });
+            listIndex.put(type, sorted);
+        }
+
+        ArrayList<C> ordinalIndex = new ArrayList<>(this.getList().values());
+        ordinalIndex.sort(Comparator.comparing(BaseTypedTranslatedEntity::getKey));
+        HashMap<String, Integer> ordinals = new HashMap<>();
+
+        for (int i = 0; i < ordinalIndex.size(); i++) {
+            ordinals.put(ordinalIndex.get(i).getKey(), i);
+        }
+
+        this.mapIndex = mapIndex;
+        this.listIndex = listIndex;
+        this.ordinalIndex = Collections.unmodifiableList(ordinalIndex);
+        this.ordinals = Collections.unmodifiableMap(ordinals);
+    }
+
+    /**
+     * Get the ordinal of the entity with the given key. Ordinals are dense and stable for the stored data.
+     *
+     * @param key The key of the entity
+     * @return The ordinal or -1 if there is no entity for the key
+     */
+    public int getOrdinal(String key)
+    {
+        return this.ordinals.getOrDefault(key, -1);
+    }
+
+    /**
+     * Fetch the entity with the given ordinal.
+     *
+     * @param ordinal The ordinal of the entity
+     * @return The entity
+     */
+    public C getEntity(int ordinal)
+    {
+        return this.ordinalIndex.get(ordinal);
+    }
+
+    /**
+     * Get the number of ordinals, which is the number of stored entities.
+     */
+    public int getOrdinalCount()
+    {
+        return this.ordinalIndex.size();
+    }
+
+    /**
+     * Fetch a subset of entities from the storage.
+     *
+     * @param type The type of entities to fetch
+     * @return Unmodifiable map of entities
+     */
+    public Map<String, C> getEntityMapByType(T type)
+    {
+        return this.mapIndex.getOrDefault(type, Collections.emptyMap());
+    }
 
-        return list;
+    /**
+     * Fetch a subset of entities from the storage, sorted by the name in the currently used language.
+     *
+     * @param type The type of entities to fetch
+     * @return Unmodifiable list of entities
+     */
+    public List<C> getEntityListByType(T type)
+    {
+        return this.getEntityListByType(type, Configuration.getInstance().getLanguage());
     }
 
     /**
-     * Fetch a subset of abilities from the storage.
+     * Fetch a subset of entities from the storage, sorted by the name in the given language.
      *
-     * @param type The type of abilities to fetch
-     * @return List of abilities
+     * @param type The type of entities to fetch
+     * @param language The language used for sorting
+     * @return Unmodifiable list of entities
      */
-    public ArrayList<C> getEntityListByType(T type)
+    public List<C> getEntityListByType(T type, Configuration.Language language)
     {
-        return new ArrayList<>(this.getEntityMapByType(type).values());
+        EnumMap<Configuration.Language, List<C>> sorted = this.listIndex.get(type);
+
+        if (sorted == null) {
+            return Collections.emptyList();
+        }
+
+        return sorted.get(language);
     }
 }
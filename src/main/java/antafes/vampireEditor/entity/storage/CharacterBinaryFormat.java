@@ -0,0 +1,437 @@
+/*
+ * This file is part of Vampire Editor.
+ *
+ * Vampire Editor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Vampire Editor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Vampire Editor. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @package Vampire Editor
+ * @author Marian Pollzien <map@wafriv.de>
+ * @copyright (c) 2026, Marian Pollzien
+ * @license https://www.gnu.org/licenses/lgpl.html LGPLv3
+ */
+
+package antafes.vampireEditor.entity.storage;
+
+import antafes.vampireEditor.entity.BaseTypedTranslatedEntity;
+import antafes.vampireEditor.entity.Character;
+import antafes.vampireEditor.entity.EntityStorageException;
+import antafes.vampireEditor.entity.character.Flaw;
+import antafes.vampireEditor.entity.character.Merit;
+import antafes.vampireEditor.entity.character.TraitValue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.UUID;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Compact binary encoding of a single character.
+ * Trait values are stored as one byte per trait in the ordinal order of the reference storages, every string is
+ * stored once in a string table and referenced by its index.
+ *
+ * Layout: magic, version, string table, length of the body and the body. Every trait section starts with the number
+ * of traits and a fingerprint of the trait keys, so files written against other reference data are rejected.
+ */
+final class CharacterBinaryFormat {
+    private static final int MAGIC = 0x56454348;
+    private static final byte VERSION = 1;
+    private static final int NULL = -1;
+    private static final long NO_DATE = Long.MIN_VALUE;
+
+    /**
+     * Constructor
+     */
+    private CharacterBinaryFormat() {
+    }
+
+    /**
+     * Write the given character.
+     *
+     * @param character The character to write
+     * @param output The stream to write to
+     *
+     * @throws IOException If writing failed
+     */
+    static void write(Character character, OutputStream output) throws IOException {
+        LinkedHashMap<String, Integer> strings = new LinkedHashMap<>();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+        DataOutputStream body = new DataOutputStream(bytes);
+
+        body.writeLong(character.getId().getMostSignificantBits());
+        body.writeLong(character.getId().getLeastSignificantBits());
+        writeString(body, strings, character.getName());
+        writeString(body, strings, character.getClan().getKey());
+        body.writeInt(character.getGeneration().getGeneration());
+        writeString(body, strings, character.getChronicle());
+        body.writeInt(character.getExperience());
+        writeString(body, strings, character.getNature());
+        writeString(body, strings, character.getHideout());
+        writeString(body, strings, character.getPlayer());
+        writeString(body, strings, character.getDemeanor());
+        writeString(body, strings, character.getConcept());
+        writeString(body, strings, character.getSire());
+        writeString(body, strings, character.getSect());
+        writeTraits(body, getStorage(StorageFactory.StorageType.ATTRIBUTE), character.getAttributeValues());
+        writeTraits(body, getStorage(StorageFactory.StorageType.ABILITY), character.getAbilityValues());
+        writeTraits(body, getStorage(StorageFactory.StorageType.ADVANTAGE), character.getAdvantageValues());
+
+        body.writeInt(character.getMerits().size());
+        for (Merit merit : character.getMerits()) {
+            writeString(body, strings, merit.getKey());
+        }
+
+        body.writeInt(character.getFlaws().size());
+        for (Flaw flaw : character.getFlaws()) {
+            writeString(body, strings, flaw.getKey());
+        }
+
+        writeString(body, strings, character.getRoad().getKey());
+        body.writeInt(character.getRoad().getValue());
+        body.writeInt(character.getWillpower());
+        body.writeInt(character.getUsedWillpower());
+        body.writeInt(character.getBloodPool());
+        body.writeInt(character.getAge());
+        body.writeInt(character.getApparentAge());
+        writeDate(body, character.getDayOfBirth());
+        writeDate(body, character.getDayOfDeath());
+        writeString(body, strings, character.getHairColor());
+        writeString(body, strings, character.getEyeColor());
+        writeString(body, strings, character.getSkinColor());
+        writeString(body, strings, character.getNationality());
+        body.writeInt(character.getHeight());
+        body.writeInt(character.getWeight());
+        writeString(body, strings, character.getSex().name());
+        writeString(body, strings, character.getStory());
+        writeString(body, strings, character.getDescription());
+        body.flush();
+
+        DataOutputStream data = new DataOutputStream(output);
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        data.writeInt(strings.size());
+
+        for (String string : strings.keySet()) {
+            byte[] encoded = string.getBytes(StandardCharsets.UTF_8);
+            data.writeInt(encoded.length);
+            data.write(encoded);
+        }
+
+        data.writeInt(bytes.size());
+        bytes.writeTo(data);
+        data.flush();
+    }
+
+    /**
+     * Read only the id of the character from the given stream.
+     * The string table is skipped, everything behind the id isn't read at all.
+     *
+     * @param input The stream containing the character file
+     *
+     * @return The id
+     *
+     * @throws IOException If the stream couldn't be read
+     * @throws EntityStorageException If the stream doesn't contain a binary character of the current version
+     */
+    static UUID readId(InputStream input) throws IOException, EntityStorageException {
+        try {
+            DataInputStream data = new DataInputStream(input);
+
+            if (data.readInt() != MAGIC) {
+                throw new EntityStorageException("Not a binary character file");
+            }
+
+            byte version = data.readByte();
+
+            if (version != VERSION) {
+                throw new EntityStorageException("Unsupported binary character version " + version);
+            }
+
+            for (int i = data.readInt(); i > 0; i--) {
+                int length = data.readInt();
+
+                if (length < 0 || data.skipBytes(length) != length) {
+                    throw new EntityStorageException("Truncated binary character file");
+                }
+            }
+
+            data.readInt();
+
+            return new UUID(data.readLong(), data.readLong());
+        } catch (EOFException ex) {
+            throw new EntityStorageException("Truncated binary character file", ex);
+        }
+    }
+
+    /**
+     * Read a character from the given buffer.
+     *
+     * @param buffer The buffer containing the whole file
+     *
+     * @return The read character
+     *
+     * @throws EntityStorageException If the buffer doesn't contain a valid character of the current version
+     */
+    static Character read(ByteBuffer buffer) throws EntityStorageException {
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new EntityStorageException("Not a binary character file");
+            }
+
+            byte version = buffer.get();
+
+            if (version != VERSION) {
+                throw new EntityStorageException("Unsupported binary character version " + version);
+            }
+
+            String[] strings = new String[buffer.getInt()];
+
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[buffer.getInt()];
+                buffer.get(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            int length = buffer.getInt();
+
+            if (length != buffer.remaining()) {
+                throw new EntityStorageException("Truncated binary character file");
+            }
+
+            return readBody(buffer, strings);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException ex) {
+            throw new EntityStorageException("Invalid binary character file", ex);
+        }
+    }
+
+    /**
+     * Read the body of a character file.
+     *
+     * @param buffer The buffer positioned at the start of the body
+     * @param strings The string table
+     *
+     * @return The read character
+     *
+     * @throws EntityStorageException If a referenced entity doesn't exist
+     */
+    private static Character readBody(ByteBuffer buffer, String[] strings) throws EntityStorageException {
+        Character.CharacterBuilder<?, ?> builder = Character.builder();
+        ClanStorage clanStorage = (ClanStorage) StorageFactory.getStorage(StorageFactory.StorageType.CLAN);
+        GenerationStorage generationStorage = (GenerationStorage) StorageFactory.getStorage(
+            StorageFactory.StorageType.GENERATION
+        );
+        MeritStorage meritStorage = (MeritStorage) StorageFactory.getStorage(StorageFactory.StorageType.MERIT);
+        FlawStorage flawStorage = (FlawStorage) StorageFactory.getStorage(StorageFactory.StorageType.FLAW);
+        RoadStorage roadStorage = (RoadStorage) StorageFactory.getStorage(StorageFactory.StorageType.ROAD);
+        AttributeStorage attributeStorage = (AttributeStorage) getStorage(StorageFactory.StorageType.ATTRIBUTE);
+        AbilityStorage abilityStorage = (AbilityStorage) getStorage(StorageFactory.StorageType.ABILITY);
+        AdvantageStorage advantageStorage = (AdvantageStorage) getStorage(StorageFactory.StorageType.ADVANTAGE);
+
+        builder.setId(new UUID(buffer.getLong(), buffer.getLong()));
+        builder.setName(readString(buffer, strings));
+        builder.setClan(clanStorage.getEntity(readString(buffer, strings)));
+        builder.setGeneration(generationStorage.getEntity(buffer.getInt()));
+        builder.setChronicle(readString(buffer, strings));
+        builder.setExperience(buffer.getInt());
+        builder.setNature(readString(buffer, strings));
+        builder.setHideout(readString(buffer, strings));
+        builder.setPlayer(readString(buffer, strings));
+        builder.setDemeanor(readString(buffer, strings));
+        builder.setConcept(readString(buffer, strings));
+        builder.setSire(readString(buffer, strings));
+        builder.setSect(readString(buffer, strings));
+        readTraits(buffer, attributeStorage, (attribute, value) -> builder.addAttribute(attribute, value));
+        readTraits(buffer, abilityStorage, (ability, value) -> builder.addAbility(ability, value));
+        readTraits(buffer, advantageStorage, (advantage, value) -> builder.addAdvantage(advantage, value));
+
+        for (int i = buffer.getInt(); i > 0; i--) {
+            builder.addMerit(meritStorage.getEntity(readString(buffer, strings)));
+        }
+
+        for (int i = buffer.getInt(); i > 0; i--) {
+            builder.addFlaw(flawStorage.getEntity(readString(buffer, strings)));
+        }
+
+        builder.setRoad(
+            roadStorage.getEntity(readString(buffer, strings)).toBuilder().setValue(buffer.getInt()).build()
+        );
+        builder.setWillpower(buffer.getInt());
+        builder.setUsedWillpower(buffer.getInt());
+        builder.setBloodPool(buffer.getInt());
+        builder.setAge(buffer.getInt());
+        builder.setApparentAge(buffer.getInt());
+        builder.setDayOfBirth(readDate(buffer));
+        builder.setDayOfDeath(readDate(buffer));
+        builder.setHairColor(readString(buffer, strings));
+        builder.setEyeColor(readString(buffer, strings));
+        builder.setSkinColor(readString(buffer, strings));
+        builder.setNationality(readString(buffer, strings));
+        builder.setHeight(buffer.getInt());
+        builder.setWeight(buffer.getInt());
+        builder.setSex(Character.Sex.valueOf(readString(buffer, strings)));
+        builder.setStory(readString(buffer, strings));
+        builder.setDescription(readString(buffer, strings));
+
+        return builder.build();
+    }
+
+    /**
+     * Write the values of the given traits as one byte per trait of the storage.
+     *
+     * @param body The stream to write to
+     * @param storage The storage defining the trait order
+     * @param traits The traits to write
+     *
+     * @throws IOException If writing failed
+     */
+    private static <C extends BaseTypedTranslatedEntity> void writeTraits(
+        DataOutputStream body,
+        BaseTypedStorage<?, ?> storage,
+        Iterable<TraitValue<C>> traits
+    ) throws IOException {
+        byte[] values = new byte[storage.getOrdinalCount()];
+        Arrays.fill(values, (byte) NULL);
+
+        for (TraitValue<C> trait : traits) {
+            if (trait.getValue() < 0 || trait.getValue() > Byte.MAX_VALUE) {
+                throw new IOException("Value out of range for trait " + trait.getKey() + ": " + trait.getValue());
+            }
+
+            values[storage.getOrdinal(trait.getKey())] = (byte) trait.getValue();
+        }
+
+        body.writeInt(values.length);
+        body.writeInt(fingerprint(storage));
+        body.write(values);
+    }
+
+    /**
+     * Read the trait values written by {@link #writeTraits(DataOutputStream, BaseTypedStorage, Iterable)}.
+     *
+     * @param buffer The buffer to read from
+     * @param storage The storage defining the trait order
+     * @param consumer Receives every trait with its value
+     *
+     * @throws EntityStorageException If the file has been written against other reference data
+     */
+    private static <C extends BaseTypedTranslatedEntity> void readTraits(
+        ByteBuffer buffer,
+        BaseTypedStorage<C, ?> storage,
+        ObjIntConsumer<C> consumer
+    ) throws EntityStorageException {
+        int count = buffer.getInt();
+
+        if (count != storage.getOrdinalCount() || buffer.getInt() != fingerprint(storage)) {
+            throw new EntityStorageException("Binary character file doesn't match the reference data");
+        }
+
+        for (int ordinal = 0; ordinal < count; ordinal++) {
+            byte value = buffer.get();
+
+            if (value != NULL) {
+                consumer.accept(storage.getEntity(ordinal), value);
+            }
+        }
+    }
+
+    /**
+     * Compute a fingerprint over the trait keys of the storage in ordinal order.
+     *
+     * @param storage The storage
+     *
+     * @return The fingerprint
+     */
+    private static int fingerprint(BaseTypedStorage<?, ?> storage) {
+        int hash = 1;
+
+        for (int ordinal = 0; ordinal < storage.getOrdinalCount(); ordinal++) {
+            hash = 31 * hash + storage.getEntity(ordinal).getKey().hashCode();
+        }
+
+        return hash;
+    }
+
+    /**
+     * Write a string as index into the string table.
+     *
+     * @param body The stream to write to
+     * @param strings The string table
+     * @param value The string or null
+     *
+     * @throws IOException If writing failed
+     */
+    private static void writeString(DataOutputStream body, LinkedHashMap<String, Integer> strings, String value)
+        throws IOException {
+        body.writeInt(value == null ? NULL : strings.computeIfAbsent(value, (string) -> strings.size()));
+    }
+
+    /**
+     * Read a string from the string table.
+     *
+     * @param buffer The buffer to read from
+     * @param strings The string table
+     *
+     * @return The string or null
+     */
+    private static String readString(ByteBuffer buffer, String[] strings) {
+        int index = buffer.getInt();
+
+        return index == NULL ? null : strings[index];
+    }
+
+    /**
+     * Write a date as milliseconds since the epoch.
+     *
+     * @param body The stream to write to
+     * @param date The date or null
+     *
+     * @throws IOException If writing failed
+     */
+    private static void writeDate(DataOutputStream body, Date date) throws IOException {
+        body.writeLong(date == null ? NO_DATE : date.getTime());
+    }
+
+    /**
+     * Read a date.
+     *
+     * @param buffer The buffer to read from
+     *
+     * @return The date or null
+     */
+    private static Date readDate(ByteBuffer buffer) {
+        long time = buffer.getLong();
+
+        return time == NO_DATE ? null : new Date(time);
+    }
+
+    /**
+     * Get one of the typed trait storages.
+     *
+     * @param type The storage type
+     *
+     * @return The storage
+     */
+    private static BaseTypedStorage<?, ?> getStorage(StorageFactory.StorageType type) {
+        return (BaseTypedStorage<?, ?>) StorageFactory.getStorage(type);
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * This file is part of Vampire Editor.
+ *
+ * Vampire Editor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Vampire Editor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Vampire Editor. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @package Vampire Editor
+ * @author Marian Pollzien <map@wafriv.de>
+ * @copyright (c) 2026, Marian Pollzien
+ * @license https://www.gnu.org/licenses/lgpl.html LGPLv3
+ */
+package antafes.vampireEditor.entity.storage;
+
+import antafes.vampireEditor.entity.Character;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Bounded cache of loaded characters, ordered by last access.
+ * If the cache grows beyond its capacity, the least recently used characters are evicted. Pinned characters, e.g.
+ * those shown in an open tab, are never evicted, so the cache may exceed its capacity if more characters are pinned.
+ * Iterating the cache works on a snapshot, removing entries through the views isn't supported.
+ *
+ * @author Marian Pollzien
+ */
+final class CharacterCache extends AbstractMap<String, Character> {
+    private final int capacity;
+    private final LinkedHashMap<String, Character> characters;
+    private final HashSet<String> pinned;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Constructor
+     *
+     * @param capacity The number of unpinned characters kept in the cache
+     */
+    CharacterCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The cache capacity has to be positive: " + capacity);
+        }
+
+        this.capacity = capacity;
+        this.characters = new LinkedHashMap<>(16, 0.75f, true);
+        this.pinned = new HashSet<>();
+    }
+
+    /**
+     * Get the number of unpinned characters kept in the cache.
+     */
+    int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Look up a cached character, counting the lookup as hit or miss.
+     * A character that is cached but not valid anymore, e.g. because its file has been changed, is a miss.
+     *
+     * @param key The id of the character
+     * @param valid Check if the cached character is still valid
+     *
+     * @return The character or null if there is no valid character cached
+     */
+    Character lookup(String key, Predicate<Character> valid) {
+        Character character;
+
+        synchronized (this) {
+            character = this.characters.get(key);
+        }
+
+        if (character == null || !valid.test(character)) {
+            this.misses.incrementAndGet();
+
+            return null;
+        }
+
+        this.hits.incrementAndGet();
+
+        return character;
+    }
+
+    /**
+     * Get the number of lookups that found a valid character.
+     */
+    long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Get the number of lookups that didn't find a valid character.
+     */
+    long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Get the number of characters evicted from the cache.
+     */
+    long getEvictions() {
+        return evictions.get();
+    }
+
+    /**
+     * Pin the character with the given id, so it isn't evicted.
+     * The character doesn't have to be in the cache yet.
+     *
+     * @param key The id of the character
+     */
+    synchronized void pin(String key) {
+        this.pinned.add(key);
+    }
+
+    /**
+     * Unpin the character with the given id, so it may be evicted again.
+     *
+     * @param key The id of the character
+     */
+    synchronized void unpin(String key) {
+        if (this.pinned.remove(key)) {
+            this.evict();
+        }
+    }
+
+    /**
+     * Check if the character with the given id is pinned.
+     *
+     * @param key The id of the character
+     *
+     * @return True if the character is pinned
+     */
+    synchronized boolean isPinned(String key) {
+        return this.pinned.contains(key);
+    }
+
+    @Override
+    public synchronized Character get(Object key) {
+        return this.characters.get(key);
+    }
+
+    @Override
+    public synchronized boolean containsKey(Object key) {
+        return this.characters.containsKey(key);
+    }
+
+    @Override
+    public synchronized Character put(String key, Character value) {
+        Character previous = this.characters.put(key, value);
+        this.evict();
+
+        return previous;
+    }
+
+    @Override
+    public synchronized Character remove(Object key) {
+        return this.characters.remove(key);
+    }
+
+    @Override
+    public synchronized void clear() {
+        this.characters.clear();
+    }
+
+    @Override
+    public synchronized int size() {
+        return this.characters.size();
+    }
+
+    @Override
+    public synchronized Set<Entry<String, Character>> entrySet() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(this.characters)).entrySet();
+    }
+
+    /**
+     * Evict the least recently used unpinned characters until the cache is within its capacity.
+     */
+    private void evict() {
+        int unpinned = this.characters.size();
+
+        for (String key : this.pinned) {
+            if (this.characters.containsKey(key)) {
+                unpinned--;
+            }
+        }
+
+        Iterator<String> keys = this.characters.keySet().iterator();
+
+        while (unpinned > this.capacity && keys.hasNext()) {
+            if (!this.pinned.contains(keys.next())) {
+                keys.remove();
+                unpinned--;
+                this.evictions.incrementAndGet();
+            }
+        }
+    }
+}
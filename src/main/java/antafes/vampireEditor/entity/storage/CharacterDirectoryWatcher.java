@@ -0,0 +1,293 @@
+/*
+ * This file is part of Vampire Editor.
+ *
+ * Vampire Editor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Vampire Editor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Vampire Editor. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @package Vampire Editor
+ * @author Marian Pollzien <map@wafriv.de>
+ * @copyright (c) 2026, Marian Pollzien
+ * @license https://www.gnu.org/licenses/lgpl.html LGPLv3
+ */
+package antafes.vampireEditor.entity.storage;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Watches a directory tree for changed character files and keeps the library up to date.
+ * The watcher waits for events of the file system instead of polling the directory. Bursts of events, like a
+ * program saving several files or writing a file in many steps, are collected until the directory has been quiet for
+ * a moment, then only the changed files are loaded again on the watcher thread.
+ *
+ * @author Marian Pollzien
+ */
+public class CharacterDirectoryWatcher implements Closeable {
+    private static final long DEFAULT_QUIET_PERIOD_MILLIS = 300;
+    private static final long MAX_DELAY_MILLIS = 2000;
+
+    private final CharacterLibrary library;
+    private final Path directory;
+    private final long quietPeriod;
+    private final WatchService watchService;
+    private final ConcurrentHashMap<WatchKey, Path> directories = new ConcurrentHashMap<>();
+    private final CopyOnWriteArrayList<Listener> listeners = new CopyOnWriteArrayList<>();
+    private final Thread thread;
+    private volatile boolean closed;
+
+    /**
+     * Listener notified after changed files have been refreshed in the library.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        /**
+         * Called on the watcher thread after the library has been updated.
+         *
+         * @param files The changed, created or removed files
+         */
+        void filesChanged(Collection<File> files);
+    }
+
+    /**
+     * Create a watcher for the given directory.
+     *
+     * @param library The library to keep up to date
+     * @param directory The directory to watch, including every sub directory
+     *
+     * @throws IOException If the file system can't be watched
+     */
+    public CharacterDirectoryWatcher(CharacterLibrary library, File directory) throws IOException {
+        this(library, directory, DEFAULT_QUIET_PERIOD_MILLIS);
+    }
+
+    /**
+     * Create a watcher for the given directory.
+     *
+     * @param library The library to keep up to date
+     * @param directory The directory to watch, including every sub directory
+     * @param quietPeriod Milliseconds without events after which collected changes are refreshed
+     *
+     * @throws IOException If the file system can't be watched
+     */
+    CharacterDirectoryWatcher(CharacterLibrary library, File directory, long quietPeriod) throws IOException {
+        this.library = library;
+        this.directory = directory.toPath().toAbsolutePath();
+        this.quietPeriod = quietPeriod;
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.thread = new Thread(this::run, "character-watcher");
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * Get the watched directory.
+     */
+    public File getDirectory() {
+        return this.directory.toFile();
+    }
+
+    /**
+     * Add a listener to be notified about changed files.
+     *
+     * @param listener The listener
+     */
+    public void addListener(Listener listener) {
+        this.listeners.add(listener);
+    }
+
+    /**
+     * Remove a listener.
+     *
+     * @param listener The listener
+     */
+    public void removeListener(Listener listener) {
+        this.listeners.remove(listener);
+    }
+
+    /**
+     * Register the directory tree and start watching it.
+     *
+     * @throws IOException If the directory couldn't be registered
+     */
+    public void start() throws IOException {
+        this.register(this.directory);
+        this.thread.start();
+    }
+
+    /**
+     * Stop watching. Changes that have been collected but not refreshed yet are dropped.
+     *
+     * @throws IOException If the watch service couldn't be closed
+     */
+    @Override
+    public void close() throws IOException {
+        this.closed = true;
+        this.watchService.close();
+        this.thread.interrupt();
+    }
+
+    /**
+     * Wait for events and refresh the library for every burst of changes.
+     */
+    private void run() {
+        try {
+            while (!this.closed) {
+                LinkedHashSet<Path> changed = new LinkedHashSet<>();
+                boolean overflow = this.process(this.watchService.take(), changed);
+                long deadline = System.currentTimeMillis() + MAX_DELAY_MILLIS;
+
+                // Collect until the directory has been quiet for a moment, but don't let a constant stream of events
+                // delay the refresh forever.
+                while (true) {
+                    long wait = Math.min(this.quietPeriod, deadline - System.currentTimeMillis());
+                    WatchKey key = wait > 0 ? this.watchService.poll(wait, TimeUnit.MILLISECONDS) : null;
+
+                    if (key == null) {
+                        break;
+                    }
+
+                    overflow |= this.process(key, changed);
+                }
+
+                this.refresh(changed, overflow);
+            }
+        } catch (InterruptedException | ClosedWatchServiceException ex) {
+            // Closed, nothing left to do.
+        }
+    }
+
+    /**
+     * Collect the changed files of the events of a watch key.
+     *
+     * @param key The signalled key
+     * @param changed The set to add changed files to
+     *
+     * @return True if events have been lost and the whole directory has to be refreshed
+     */
+    private boolean process(WatchKey key, Collection<Path> changed) {
+        Path parent = this.directories.get(key);
+        boolean overflow = false;
+
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || parent == null) {
+                overflow = true;
+                continue;
+            }
+
+            Path path = parent.resolve((Path) event.context());
+
+            if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(path)) {
+                // Files may have been moved in with the directory before it could be registered.
+                try {
+                    this.register(path);
+                    CharacterImport.collectFiles(path.toFile()).forEach(file -> changed.add(file.toPath()));
+                } catch (IOException ex) {
+                    Logger.getLogger(CharacterDirectoryWatcher.class.getName()).log(Level.WARNING, null, ex);
+                    overflow = true;
+                }
+            } else if (CharacterImport.isCharacterFile(path)) {
+                changed.add(path);
+            } else if (event.kind() == StandardWatchEventKinds.ENTRY_DELETE) {
+                // A removed directory takes every indexed file inside with it.
+                String prefix = path.toString() + File.separator;
+                this.library.getEntries().stream()
+                    .filter(entry -> entry.getPath().startsWith(prefix))
+                    .forEach(entry -> changed.add(entry.getFile().toPath()));
+            }
+        }
+
+        if (!key.reset()) {
+            this.directories.remove(key);
+        }
+
+        return overflow;
+    }
+
+    /**
+     * Refresh the library for the changed files and notify the listeners.
+     *
+     * @param changed The changed files
+     * @param overflow Whether events have been lost
+     */
+    private void refresh(Collection<Path> changed, boolean overflow) {
+        List<File> files = changed.stream().map(Path::toFile).collect(Collectors.toCollection(ArrayList::new));
+
+        try {
+            if (overflow) {
+                // Only the watched directory is refreshed, the library may contain files of other directories.
+                this.library.getEntries().stream()
+                    .map(CharacterLibrary.Entry::getFile)
+                    .filter(file -> file.toPath().startsWith(this.directory))
+                    .forEach(files::add);
+                files.addAll(CharacterImport.collectFiles(this.directory.toFile()));
+            } else if (files.isEmpty()) {
+                return;
+            }
+
+            this.library.refresh(files);
+        } catch (IOException ex) {
+            Logger.getLogger(CharacterDirectoryWatcher.class.getName()).log(Level.SEVERE, null, ex);
+        }
+
+        Collection<File> unique = Collections.unmodifiableCollection(new LinkedHashSet<>(files));
+
+        for (Listener listener : this.listeners) {
+            try {
+                listener.filesChanged(unique);
+            } catch (RuntimeException ex) {
+                Logger.getLogger(CharacterDirectoryWatcher.class.getName()).log(Level.SEVERE, null, ex);
+            }
+        }
+    }
+
+    /**
+     * Register the given directory and every sub directory with the watch service.
+     *
+     * @param root The directory to register
+     *
+     * @throws IOException If a directory couldn't be registered
+     */
+    private void register(Path root) throws IOException {
+        try (Stream<Path> paths = Files.walk(root)) {
+            for (Path path : paths.filter(Files::isDirectory).collect(Collectors.toList())) {
+                WatchKey key = path.register(
+                    this.watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_DELETE,
+                    StandardWatchEventKinds.ENTRY_MODIFY
+                );
+                this.directories.put(key, path);
+            }
+        }
+    }
+}
@@ -0,0 +1,337 @@
+/*
+ * This file is part of Vampire Editor.
+ *
+ * Vampire Editor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Vampire Editor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Vampire Editor. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @package Vampire Editor
+ * @author Marian Pollzien <map@wafriv.de>
+ * @copyright (c) 2026, Marian Pollzien
+ * @license https://www.gnu.org/licenses/lgpl.html LGPLv3
+ */
+
+package antafes.vampireEditor.entity.storage;
+
+import antafes.vampireEditor.entity.Character;
+import antafes.vampireEditor.entity.EntityStorageException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Imports many character files at once.
+ * The files are loaded concurrently on a bounded pool of worker threads. Every finished file is reported to a
+ * listener as soon as it is done, in the order the files finish.
+ *
+ * @author Marian Pollzien
+ */
+public class CharacterImport {
+    private final CharacterStorage storage;
+    private final int threads;
+    private final CharacterStorage.ValidationLevel level;
+
+    /**
+     * Listener receiving every imported file.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        /**
+         * Called after a single file has been loaded or failed to load.
+         * This is called on the thread running the import.
+         *
+         * @param result The result of the file
+         * @param completed Number of files finished so far, including this one
+         * @param total Number of files in the import
+         */
+        void fileImported(Result result, int completed, int total);
+    }
+
+    /**
+     * Result of a single imported file.
+     */
+    public static final class Result {
+        private final File file;
+        private final Character character;
+        private final EntityStorageException exception;
+
+        /**
+         * Constructor
+         *
+         * @param file The imported file
+         * @param character The loaded character or null
+         * @param exception The exception if loading failed or null
+         */
+        private Result(File file, Character character, EntityStorageException exception) {
+            this.file = file;
+            this.character = character;
+            this.exception = exception;
+        }
+
+        /**
+         * Get the imported file.
+         */
+        public File getFile() {
+            return file;
+        }
+
+        /**
+         * Get the loaded character, null if loading failed.
+         */
+        public Character getCharacter() {
+            return character;
+        }
+
+        /**
+         * Get the exception, including the collected causes as suppressed exceptions, null if loading succeeded.
+         */
+        public EntityStorageException getException() {
+            return exception;
+        }
+
+        /**
+         * Check if the file has been loaded.
+         */
+        public boolean isSuccessful() {
+            return this.exception == null;
+        }
+    }
+
+    /**
+     * Summary of a finished import.
+     */
+    public static final class Summary {
+        private final int total;
+        private final List<Result> failures;
+        private final long elapsedNanos;
+
+        /**
+         * Constructor
+         *
+         * @param total Number of files in the import
+         * @param failures Every file that failed to load
+         * @param elapsedNanos Duration of the import in nanoseconds
+         */
+        private Summary(int total, List<Result> failures, long elapsedNanos) {
+            this.total = total;
+            this.failures = Collections.unmodifiableList(failures);
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /**
+         * Get the number of files in the import.
+         */
+        public int getTotal() {
+            return total;
+        }
+
+        /**
+         * Get the number of loaded files.
+         */
+        public int getLoaded() {
+            return this.total - this.failures.size();
+        }
+
+        /**
+         * Get every file that failed to load.
+         */
+        public List<Result> getFailures() {
+            return failures;
+        }
+
+        /**
+         * Get the duration of the import in milliseconds.
+         */
+        public long getElapsedMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(this.elapsedNanos);
+        }
+
+        /**
+         * Get the number of files processed per second.
+         */
+        public double getThroughput() {
+            return this.elapsedNanos == 0 ? 0 : this.total * (double) TimeUnit.SECONDS.toNanos(1) / this.elapsedNanos;
+        }
+    }
+
+    /**
+     * Create a new import using one thread per available processor.
+     *
+     * @param storage The storage to load the characters with
+     * @param level The amount of validation to apply to XML files
+     */
+    public CharacterImport(CharacterStorage storage, CharacterStorage.ValidationLevel level) {
+        this(storage, Runtime.getRuntime().availableProcessors(), level);
+    }
+
+    /**
+     * Create a new import.
+     *
+     * @param storage The storage to load the characters with
+     * @param threads The maximum number of files loaded at once
+     * @param level The amount of validation to apply to XML files
+     */
+    public CharacterImport(CharacterStorage storage, int threads, CharacterStorage.ValidationLevel level) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("At least one thread is required");
+        }
+
+        this.storage = storage;
+        this.threads = threads;
+        this.level = level;
+    }
+
+    /**
+     * Collect every character file out of the given selection.
+     * Directories are searched recursively, files are taken as they are.
+     *
+     * @param selection The selected files and directories
+     *
+     * @return The character files
+     *
+     * @throws IOException If a directory could not be read
+     */
+    public static List<File> collectFiles(File... selection) throws IOException {
+        ArrayList<File> files = new ArrayList<>();
+
+        for (File selected : selection) {
+            if (!selected.isDirectory()) {
+                files.add(selected);
+                continue;
+            }
+
+            try (Stream<Path> paths = Files.walk(selected.toPath())) {
+                files.addAll(
+                    paths.filter(Files::isRegularFile)
+                        .filter(CharacterImport::isCharacterFile)
+                        .sorted()
+                        .map(Path::toFile)
+                        .collect(Collectors.toList())
+                );
+            }
+        }
+
+        return files;
+    }
+
+    /**
+     * Load every given file.
+     *
+     * @param files The files to load
+     * @param listener Listener receiving every finished file
+     *
+     * @return The summary of the import
+     *
+     * @throws InterruptedException If the import has been interrupted, remaining files are not loaded
+     */
+    public Summary run(List<File> files, Listener listener) throws InterruptedException {
+        long start = System.nanoTime();
+        ArrayList<Result> failures = new ArrayList<>();
+
+        if (files.isEmpty()) {
+            return new Summary(0, failures, 0);
+        }
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(
+            Math.min(this.threads, files.size()),
+            (runnable) -> {
+                Thread thread = new Thread(runnable, "character-import-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+
+                return thread;
+            }
+        );
+        CompletionService<Result> completionService = new ExecutorCompletionService<>(executor);
+
+        try {
+            for (File file : files) {
+                completionService.submit(() -> this.load(file));
+            }
+
+            for (int completed = 1; completed <= files.size(); completed++) {
+                Result result;
+
+                try {
+                    result = completionService.take().get();
+                } catch (ExecutionException ex) {
+                    throw new IllegalStateException(ex.getCause());
+                }
+
+                if (!result.isSuccessful()) {
+                    failures.add(result);
+                }
+
+                listener.fileImported(result, completed, files.size());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return new Summary(files.size(), failures, System.nanoTime() - start);
+    }
+
+    /**
+     * Load a single file.
+     *
+     * @param file The file to load
+     *
+     * @return The result of the file
+     */
+    private Result load(File file) {
+        try {
+            return new Result(file, this.storage.load(file, this.level), null);
+        } catch (EntityStorageException ex) {
+            return new Result(file, null, ex);
+        } catch (Exception ex) {
+            EntityStorageException exception = new EntityStorageException(
+                "Could not load character '" + file.getPath() + "'!"
+            );
+            exception.addSuppressed(ex);
+
+            return new Result(file, null, exception);
+        }
+    }
+
+    /**
+     * Check if the given path has the extension of a character file.
+     *
+     * @param path The path to check
+     *
+     * @return True for XML and binary character files
+     */
+    static boolean isCharacterFile(Path path) {
+        String filename = path.getFileName().toString().toLowerCase();
+
+        for (CharacterStorage.Format format : CharacterStorage.Format.values()) {
+            if (filename.endsWith(format.getExtension())) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
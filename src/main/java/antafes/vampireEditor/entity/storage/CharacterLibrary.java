@@ -0,0 +1,812 @@
+/*
+ * This file is part of Vampire Editor.
+ *
+ * Vampire Editor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Vampire Editor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Vampire Editor. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @package Vampire Editor
+ * @author Marian Pollzien <map@wafriv.de>
+ * @copyright (c) 2026, Marian Pollzien
+ * @license https://www.gnu.org/licenses/lgpl.html LGPLv3
+ */
+package antafes.vampireEditor.entity.storage;
+
+import antafes.vampireEditor.Configuration;
+import antafes.vampireEditor.entity.Character;
+import antafes.vampireEditor.entity.EntityStorageException;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * Persistent index of every character file in the library.
+ * The index keeps the most important fields of every character file, so the library can be listed and filtered
+ * without loading a single character. It is stored in the configuration directory and rescanned incrementally, only
+ * files whose modification time or size changed since the last scan are loaded again.
+ *
+ * @author Marian Pollzien
+ */
+public class CharacterLibrary {
+    private static final int MAGIC = 0x56454C49;
+    private static final byte VERSION = 1;
+    private static CharacterLibrary instance;
+
+    private final CharacterStorage storage;
+    private final File indexFile;
+    private final CopyOnWriteArrayList<Listener> listeners = new CopyOnWriteArrayList<>();
+    private volatile Map<String, Entry> entries = Collections.emptyMap();
+
+    /**
+     * Listener notified about the files handled by a rescan, e.g. to maintain further indexes of the library.
+     * The methods may be called from several threads at once.
+     */
+    public interface Listener {
+        /**
+         * Check if the listener already knows the given state of a file.
+         * Unchanged files are loaded again if a listener doesn't know them, e.g. because its own index got lost.
+         *
+         * @param file The file
+         * @param lastModified The modification time of the file
+         * @param size The size of the file
+         *
+         * @return True if the file doesn't have to be loaded for this listener
+         */
+        default boolean isIndexed(File file, long lastModified, long size) {
+            return true;
+        }
+
+        /**
+         * Called after a new or changed file has been loaded.
+         *
+         * @param file The file
+         * @param lastModified The modification time of the file
+         * @param size The size of the file
+         * @param character The loaded character
+         */
+        void characterIndexed(File file, long lastModified, long size, Character character);
+
+        /**
+         * Called for every file removed from the library, because it has been deleted or couldn't be loaded anymore.
+         *
+         * @param file The removed file
+         */
+        void fileRemoved(File file);
+
+        /**
+         * Called after the rescan has been finished.
+         */
+        default void rescanFinished() {
+        }
+    }
+
+    /**
+     * A single indexed character file.
+     */
+    public static final class Entry {
+        private final String path;
+        private final long lastModified;
+        private final long size;
+        private final UUID id;
+        private final String name;
+        private final String clanKey;
+        private final int generation;
+        private final String player;
+
+        /**
+         * Constructor
+         *
+         * @param path The absolute path of the file
+         * @param lastModified The modification time of the file
+         * @param size The size of the file
+         * @param id The id of the character
+         * @param name The name of the character
+         * @param clanKey The key of the clan of the character
+         * @param generation The generation of the character
+         * @param player The player of the character
+         */
+        Entry(
+            String path,
+            long lastModified,
+            long size,
+            UUID id,
+            String name,
+            String clanKey,
+            int generation,
+            String player
+        ) {
+            this.path = path;
+            this.lastModified = lastModified;
+            this.size = size;
+            this.id = id;
+            this.name = name;
+            this.clanKey = clanKey;
+            this.generation = generation;
+            this.player = player;
+        }
+
+        /**
+         * Create an entry for the given character.
+         *
+         * @param file The file the character has been loaded from
+         * @param lastModified The modification time of the file
+         * @param size The size of the file
+         * @param character The character
+         *
+         * @return The entry
+         */
+        static Entry of(File file, long lastModified, long size, Character character) {
+            return new Entry(
+                file.getAbsolutePath(),
+                lastModified,
+                size,
+                character.getId(),
+                character.getName(),
+                character.getClan() == null ? null : character.getClan().getKey(),
+                character.getGeneration() == null ? 0 : character.getGeneration().getGeneration(),
+                character.getPlayer()
+            );
+        }
+
+        /**
+         * Get the file of the character.
+         */
+        public File getFile() {
+            return new File(this.path);
+        }
+
+        /**
+         * Get the absolute path of the file.
+         */
+        public String getPath() {
+            return path;
+        }
+
+        /**
+         * Get the modification time of the file when it has been indexed.
+         */
+        public long getLastModified() {
+            return lastModified;
+        }
+
+        /**
+         * Get the size of the file when it has been indexed.
+         */
+        public long getSize() {
+            return size;
+        }
+
+        /**
+         * Get the id of the character.
+         */
+        public UUID getId() {
+            return id;
+        }
+
+        /**
+         * Get the name of the character.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Get the key of the clan of the character.
+         */
+        public String getClanKey() {
+            return clanKey;
+        }
+
+        /**
+         * Get the generation of the character.
+         */
+        public int getGeneration() {
+            return generation;
+        }
+
+        /**
+         * Get the player of the character.
+         */
+        public String getPlayer() {
+            return player;
+        }
+
+        /**
+         * Check if the entry matches the given filter text.
+         * The name, player and clan key are searched case insensitive, a number matches the generation.
+         *
+         * @param text The lower case filter text
+         *
+         * @return True if the entry matches
+         */
+        boolean matches(String text) {
+            return contains(this.name, text)
+                || contains(this.player, text)
+                || contains(this.clanKey, text)
+                || Integer.toString(this.generation).equals(text);
+        }
+
+        /**
+         * Check if the value contains the given lower case text.
+         *
+         * @param value The value to search in
+         * @param text The lower case text to search for
+         *
+         * @return True if the text has been found
+         */
+        private static boolean contains(String value, String text) {
+            return value != null && value.toLowerCase(Locale.ROOT).contains(text);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+
+            Entry entry = (Entry) o;
+
+            return lastModified == entry.lastModified
+                && size == entry.size
+                && generation == entry.generation
+                && path.equals(entry.path)
+                && Objects.equals(id, entry.id)
+                && Objects.equals(name, entry.name)
+                && Objects.equals(clanKey, entry.clanKey)
+                && Objects.equals(player, entry.player);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(path, lastModified, size, id, name, clanKey, generation, player);
+        }
+
+        @Override
+        public String toString() {
+            return this.name + " (" + this.path + ")";
+        }
+    }
+
+    /**
+     * Result of a rescan of the library.
+     */
+    public static final class RescanResult {
+        private final int indexed;
+        private final int parsed;
+        private final int removed;
+        private final List<File> failures;
+        private final Map<UUID, List<Entry>> collisions;
+
+        /**
+         * Constructor
+         *
+         * @param indexed Number of files in the index after the rescan
+         * @param parsed Number of new or changed files that have been loaded
+         * @param removed Number of files removed from the index
+         * @param failures Files that couldn't be loaded
+         * @param collisions Entries of files sharing the same character id, by id
+         */
+        RescanResult(int indexed, int parsed, int removed, List<File> failures, Map<UUID, List<Entry>> collisions) {
+            this.indexed = indexed;
+            this.parsed = parsed;
+            this.removed = removed;
+            this.failures = Collections.unmodifiableList(failures);
+            this.collisions = Collections.unmodifiableMap(collisions);
+        }
+
+        /**
+         * Get the number of files in the index after the rescan.
+         */
+        public int getIndexed() {
+            return indexed;
+        }
+
+        /**
+         * Get the number of new or changed files that have been loaded.
+         */
+        public int getParsed() {
+            return parsed;
+        }
+
+        /**
+         * Get the number of files removed from the index, because they have been deleted or couldn't be loaded.
+         */
+        public int getRemoved() {
+            return removed;
+        }
+
+        /**
+         * Get the files that couldn't be loaded.
+         */
+        public List<File> getFailures() {
+            return failures;
+        }
+
+        /**
+         * Get the entries of files sharing the same character id, by id.
+         */
+        public Map<UUID, List<Entry>> getCollisions() {
+            return collisions;
+        }
+    }
+
+    /**
+     * Create a new library.
+     *
+     * @param storage The storage used to load changed character files
+     * @param indexFile The file the index is stored in
+     */
+    public CharacterLibrary(CharacterStorage storage, File indexFile) {
+        this.storage = storage;
+        this.indexFile = indexFile;
+    }
+
+    /**
+     * Get the library stored in the configuration directory, loading its index on first use.
+     *
+     * @return The library
+     */
+    public static synchronized CharacterLibrary getInstance() {
+        if (instance == null) {
+            instance = new CharacterLibrary(
+                (CharacterStorage) StorageFactory.getStorage(StorageFactory.StorageType.CHARACTER),
+                new File(Configuration.PATH, "library.idx")
+            );
+            instance.load();
+        }
+
+        return instance;
+    }
+
+    /**
+     * Add a listener notified about the files handled by every rescan.
+     *
+     * @param listener The listener to add
+     */
+    public void addListener(Listener listener) {
+        this.listeners.add(listener);
+    }
+
+    /**
+     * Remove a previously added listener.
+     *
+     * @param listener The listener to remove
+     */
+    public void removeListener(Listener listener) {
+        this.listeners.remove(listener);
+    }
+
+    /**
+     * Get the file the index is stored in.
+     */
+    public File getIndexFile() {
+        return indexFile;
+    }
+
+    /**
+     * Load the index file. A missing or unreadable index results in an empty library.
+     *
+     * @return True if the index has been loaded
+     */
+    public synchronized boolean load() {
+        if (!this.indexFile.isFile()) {
+            this.entries = Collections.emptyMap();
+
+            return false;
+        }
+
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(this.indexFile.toPath())))) {
+            if (input.readInt() != MAGIC || input.readByte() != VERSION) {
+                throw new IOException("Unsupported library index '" + this.indexFile.getPath() + "'!");
+            }
+
+            int count = input.readInt();
+            HashMap<String, Entry> loaded = new HashMap<>(count * 4 / 3 + 1);
+
+            for (int i = 0; i < count; i++) {
+                Entry entry = new Entry(
+                    input.readUTF(),
+                    input.readLong(),
+                    input.readLong(),
+                    new UUID(input.readLong(), input.readLong()),
+                    readString(input),
+                    readString(input),
+                    input.readInt(),
+                    readString(input)
+                );
+                loaded.put(entry.getPath(), entry);
+            }
+
+            this.entries = Collections.unmodifiableMap(loaded);
+
+            return true;
+        } catch (IOException ex) {
+            Logger.getLogger(CharacterLibrary.class.getName()).log(Level.WARNING, null, ex);
+            this.entries = Collections.emptyMap();
+
+            return false;
+        }
+    }
+
+    /**
+     * Rescan the given directories and store the updated index.
+     * Files that are unchanged since the last scan are kept as they are, new and changed files are loaded in
+     * parallel and files below the roots that no longer exist are removed. Entries outside of the given roots are
+     * kept untouched. Files sharing the same character id are reported as collisions.
+     *
+     * @param roots The directories or files to scan
+     *
+     * @return The result of the rescan
+     * @throws IOException If a directory couldn't be walked or the index couldn't be stored
+     */
+    public synchronized RescanResult rescan(File... roots) throws IOException {
+        Map<String, Entry> previous = this.entries;
+        ConcurrentHashMap<String, Entry> updated = new ConcurrentHashMap<>();
+        ArrayList<File> changed = new ArrayList<>();
+        previous.values().stream()
+            .filter(entry -> !this.isBelow(entry.getPath(), roots))
+            .forEach(entry -> updated.put(entry.getPath(), entry));
+
+        for (File file : CharacterImport.collectFiles(roots)) {
+            Entry entry = previous.get(file.getAbsolutePath());
+
+            if (entry != null && entry.getLastModified() == file.lastModified() && entry.getSize() == file.length()
+                && this.isIndexedByListeners(file, entry)) {
+                updated.put(entry.getPath(), entry);
+            } else {
+                changed.add(file);
+            }
+        }
+
+        List<File> failures = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger parsed = new AtomicInteger();
+        changed.parallelStream().forEach(file -> {
+            Entry entry = this.index(file);
+
+            if (entry == null) {
+                failures.add(file);
+            } else {
+                updated.put(entry.getPath(), entry);
+                parsed.incrementAndGet();
+            }
+        });
+
+        List<String> removedPaths = previous.keySet().stream()
+            .filter(path -> !updated.containsKey(path))
+            .collect(Collectors.toList());
+        int removed = removedPaths.size();
+        this.entries = Collections.unmodifiableMap(new HashMap<>(updated));
+
+        for (String path : removedPaths) {
+            this.listeners.forEach(listener -> listener.fileRemoved(new File(path)));
+        }
+
+        if (parsed.get() > 0 || removed > 0 || !this.indexFile.isFile()) {
+            this.store();
+        }
+
+        this.listeners.forEach(Listener::rescanFinished);
+        Map<UUID, List<Entry>> collisions = this.getCollisions();
+        collisions.forEach((id, entries) -> Logger.getLogger(CharacterLibrary.class.getName()).log(
+            Level.WARNING,
+            "Character id " + id + " is used by " + entries.size() + " files: " + entries
+        ));
+
+        return new RescanResult(updated.size(), parsed.get(), removed, new ArrayList<>(failures), collisions);
+    }
+
+    /**
+     * Check if the given path is one of the roots or lies below one of them.
+     *
+     * @param path The absolute path to check
+     * @param roots The directories or files
+     *
+     * @return True if the path is covered by the roots
+     */
+    private boolean isBelow(String path, File... roots) {
+        for (File root : roots) {
+            String rootPath = root.getAbsolutePath();
+
+            if (path.equals(rootPath) || path.startsWith(rootPath.endsWith(File.separator) ? rootPath : rootPath + File.separator)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Update the index for the given files only and store it.
+     * Files that are unchanged are kept, changed character files are loaded again and files that no longer exist or
+     * can't be loaded any longer are removed. Other files of the library are not looked at, so this is much cheaper
+     * than a rescan when the changed files are already known.
+     *
+     * @param files The files that may have changed
+     *
+     * @return The result of the refresh
+     * @throws IOException If the index couldn't be stored
+     */
+    public synchronized RescanResult refresh(Collection<File> files) throws IOException {
+        HashMap<String, Entry> updated = new HashMap<>(this.entries);
+        ArrayList<File> changed = new ArrayList<>();
+        ArrayList<File> removedFiles = new ArrayList<>();
+
+        for (File file : files) {
+            Entry entry = updated.get(file.getAbsolutePath());
+
+            if (!file.isFile() || !CharacterImport.isCharacterFile(file.toPath())) {
+                if (entry != null) {
+                    updated.remove(entry.getPath());
+                    removedFiles.add(entry.getFile());
+                }
+            } else if (entry == null || entry.getLastModified() != file.lastModified() || entry.getSize() != file.length()
+                || !this.isIndexedByListeners(file, entry)) {
+                changed.add(file);
+            }
+        }
+
+        List<File> failures = Collections.synchronizedList(new ArrayList<>());
+        List<Entry> parsed = changed.parallelStream()
+            .map(file -> {
+                Entry entry = this.index(file);
+
+                if (entry == null) {
+                    failures.add(file);
+                }
+
+                return entry;
+            })
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+        parsed.forEach(entry -> updated.put(entry.getPath(), entry));
+
+        // Like a rescan, files that can't be loaded any longer are dropped instead of keeping their outdated entry.
+        for (File file : failures) {
+            Entry entry = updated.remove(file.getAbsolutePath());
+
+            if (entry != null) {
+                removedFiles.add(entry.getFile());
+            }
+        }
+
+        this.entries = Collections.unmodifiableMap(updated);
+
+        for (File file : removedFiles) {
+            this.listeners.forEach(listener -> listener.fileRemoved(file));
+        }
+
+        if (!parsed.isEmpty() || !removedFiles.isEmpty()) {
+            this.store();
+        }
+
+        this.listeners.forEach(Listener::rescanFinished);
+
+        return new RescanResult(updated.size(), parsed.size(), removedFiles.size(), new ArrayList<>(failures), this.getCollisions());
+    }
+
+    /**
+     * Get every indexed character, sorted by name.
+     *
+     * @return The entries
+     */
+    public List<Entry> getEntries() {
+        return this.sorted(new ArrayList<>(this.entries.values()));
+    }
+
+    /**
+     * Get every indexed character matching the given filter text, sorted by name.
+     * The name, player and clan key are searched case insensitive, a number also matches the generation.
+     *
+     * @param text The filter text, empty to get every character
+     *
+     * @return The matching entries
+     */
+    public List<Entry> filter(String text) {
+        String lowerText = text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+
+        if (lowerText.isEmpty()) {
+            return this.getEntries();
+        }
+
+        return this.sorted(
+            this.entries.values().stream()
+                .filter(entry -> entry.matches(lowerText))
+                .collect(Collectors.toCollection(ArrayList::new))
+        );
+    }
+
+    /**
+     * Get the indexed file of the given character.
+     *
+     * @param id The id of the character
+     *
+     * @return The entry or null if the character isn't indexed
+     */
+    public Entry getEntry(UUID id) {
+        return this.entries.values().stream()
+            .filter(entry -> id.equals(entry.getId()))
+            .findFirst()
+            .orElse(null);
+    }
+
+    /**
+     * Get every indexed character id that is used by more than one file.
+     *
+     * @return The entries sharing an id, by id
+     */
+    public Map<UUID, List<Entry>> getCollisions() {
+        return this.getEntries().stream()
+            .collect(Collectors.groupingBy(Entry::getId, HashMap::new, Collectors.toList()))
+            .entrySet().stream()
+            .filter(group -> group.getValue().size() > 1)
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    /**
+     * Get the indexed files containing the same character as the given file.
+     * Only the id of the given file is read, so this is cheap enough to check a file before it is opened or copied
+     * into the library.
+     *
+     * @param file The file to check
+     *
+     * @return Entries of other files with the same character id
+     * @throws EntityStorageException If the id of the file couldn't be read
+     */
+    public List<Entry> findCollisions(File file) throws EntityStorageException {
+        UUID id = this.storage.peekId(file);
+        String path = file.getAbsolutePath();
+
+        return this.getEntries().stream()
+            .filter(entry -> id.equals(entry.getId()) && !path.equals(entry.getPath()))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Load the given file and create an entry for it.
+     * The id is peeked first, so files that aren't characters at all are rejected without being parsed completely.
+     *
+     * @param file The file to index
+     *
+     * @return The entry or null if the file couldn't be loaded
+     */
+    private Entry index(File file) {
+        long lastModified = file.lastModified();
+        long size = file.length();
+
+        try {
+            this.storage.peekId(file);
+            Character character = this.storage.read(file, file.getPath(), CharacterStorage.ValidationLevel.LENIENT);
+            this.listeners.forEach(listener -> listener.characterIndexed(file, lastModified, size, character));
+
+            return Entry.of(file, lastModified, size, character);
+        } catch (EntityStorageException ex) {
+            Logger.getLogger(CharacterLibrary.class.getName()).log(Level.WARNING, ex.getMessage());
+
+            return null;
+        }
+    }
+
+    /**
+     * Check if every listener already knows the indexed state of the given file.
+     *
+     * @param file The file
+     * @param entry The entry of the file
+     *
+     * @return True if no listener needs the file to be loaded again
+     */
+    private boolean isIndexedByListeners(File file, Entry entry) {
+        for (Listener listener : this.listeners) {
+            if (!listener.isIndexed(file, entry.getLastModified(), entry.getSize())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Write the index to the index file, replacing the previous one atomically.
+     *
+     * @throws IOException If the index couldn't be written
+     */
+    private void store() throws IOException {
+        Collection<Entry> values = this.entries.values();
+        AtomicFileWriter.write(this.indexFile, stream -> {
+            DataOutputStream output = new DataOutputStream(stream);
+            output.writeInt(MAGIC);
+            output.writeByte(VERSION);
+            output.writeInt(values.size());
+
+            for (Entry entry : values) {
+                output.writeUTF(entry.getPath());
+                output.writeLong(entry.getLastModified());
+                output.writeLong(entry.getSize());
+                output.writeLong(entry.getId().getMostSignificantBits());
+                output.writeLong(entry.getId().getLeastSignificantBits());
+                writeString(output, entry.getName());
+                writeString(output, entry.getClanKey());
+                output.writeInt(entry.getGeneration());
+                writeString(output, entry.getPlayer());
+            }
+
+            output.flush();
+        });
+    }
+
+    /**
+     * Sort the given entries by name and path.
+     *
+     * @param entries The entries to sort
+     *
+     * @return The sorted entries
+     */
+    private List<Entry> sorted(ArrayList<Entry> entries) {
+        entries.sort(
+            Comparator.comparing(Entry::getName, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER))
+                .thenComparing(Entry::getPath)
+        );
+
+        return entries;
+    }
+
+    /**
+     * Write a string that may be null.
+     *
+     * @param output The stream to write to
+     * @param value The string to write
+     *
+     * @throws IOException If writing failed
+     */
+    static void writeString(DataOutputStream output, String value) throws IOException {
+        output.writeBoolean(value != null);
+
+        if (value != null) {
+            output.writeUTF(value);
+        }
+    }
+
+    /**
+     * Read a string that may be null.
+     *
+     * @param input The stream to read from
+     *
+     * @return The string
+     * @throws IOException If reading failed
+     */
+    static String readString(DataInputStream input) throws IOException {
+        return input.readBoolean() ? input.readUTF() : null;
+    }
+}
@@ -0,0 +1,483 @@
+/*
+ * This file is part of Vampire Editor.
+ *
+ * Vampire Editor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Vampire Editor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Vampire Editor. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @package Vampire Editor
+ * @author Marian Pollzien <map@wafriv.de>
+ * @copyright (c) 2026, Marian Pollzien
+ * @license https://www.gnu.org/licenses/lgpl.html LGPLv3
+ */
+package antafes.vampireEditor.entity.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.IntPredicate;
+
+/**
+ * Parsed query over the columns of a {@link CharacterQueryIndex}.
+ * The query language combines comparisons with AND, OR, NOT and parentheses, e.g.
+ * {@code clan=brujah AND generation<=8 AND attribute.strength>=4}. Keywords and text values are case insensitive.
+ * <ul>
+ *     <li>Text fields support =, != and ~ (contains): name, player, clan, road, sect, chronicle, nature, demeanor</li>
+ *     <li>Number fields support =, !=, &lt;, &lt;=, &gt; and &gt;=: generation, experience, willpower, bloodpool,
+ *     age</li>
+ *     <li>Traits are number fields named after their reference key: attribute.strength, ability.alertness,
+ *     advantage.potence. Missing traits have the value 0.</li>
+ * </ul>
+ *
+ * @author Marian Pollzien
+ */
+final class CharacterQuery {
+    private final Condition condition;
+
+    /**
+     * A condition of the query, bound to the columns when the query is executed.
+     */
+    @FunctionalInterface
+    interface Condition {
+        /**
+         * Create a predicate over the row numbers of the given columns.
+         *
+         * @param columns The columns to evaluate
+         *
+         * @return The predicate
+         */
+        IntPredicate bind(CharacterQueryIndex.Columns columns);
+    }
+
+    /**
+     * Types of tokens in a query.
+     */
+    private enum TokenType {
+        WORD, NUMBER, TEXT, OPERATOR, OPEN, CLOSE, END
+    }
+
+    /**
+     * A single token of a query.
+     */
+    private static final class Token {
+        private final TokenType type;
+        private final String value;
+        private final int position;
+
+        /**
+         * Constructor
+         *
+         * @param type The type of the token
+         * @param value The text of the token
+         * @param position The position of the token in the query
+         */
+        Token(TokenType type, String value, int position) {
+            this.type = type;
+            this.value = value;
+            this.position = position;
+        }
+
+        /**
+         * Check if the token is the given keyword.
+         *
+         * @param keyword The upper case keyword
+         *
+         * @return True if the token is the keyword
+         */
+        boolean isKeyword(String keyword) {
+            return this.type == TokenType.WORD && this.value.equalsIgnoreCase(keyword);
+        }
+    }
+
+    /**
+     * Constructor
+     *
+     * @param condition The condition of the query
+     */
+    private CharacterQuery(Condition condition) {
+        this.condition = condition;
+    }
+
+    /**
+     * Parse the given query.
+     *
+     * @param query The query to parse
+     * @param index The index providing the available fields
+     *
+     * @return The parsed query
+     * @throws CharacterQueryException If the query is invalid
+     */
+    static CharacterQuery parse(String query, CharacterQueryIndex index) throws CharacterQueryException {
+        Parser parser = new Parser(tokenize(query), index);
+        Condition condition = parser.parseOr();
+        parser.expect(TokenType.END, "Unexpected input");
+
+        return new CharacterQuery(condition);
+    }
+
+    /**
+     * Create a predicate over the row numbers of the given columns.
+     *
+     * @param columns The columns to evaluate
+     *
+     * @return The predicate
+     */
+    IntPredicate bind(CharacterQueryIndex.Columns columns) {
+        return this.condition.bind(columns);
+    }
+
+    /**
+     * Split the query into tokens.
+     *
+     * @param query The query
+     *
+     * @return The tokens, ending with an end token
+     * @throws CharacterQueryException If the query contains an invalid character or an unterminated text
+     */
+    private static List<Token> tokenize(String query) throws CharacterQueryException {
+        ArrayList<Token> tokens = new ArrayList<>();
+        int i = 0;
+
+        while (i < query.length()) {
+            char c = query.charAt(i);
+            int start = i;
+
+            if (java.lang.Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '(' || c == ')') {
+                tokens.add(new Token(c == '(' ? TokenType.OPEN : TokenType.CLOSE, String.valueOf(c), start));
+                i++;
+            } else if (c == '"' || c == '\'') {
+                int end = query.indexOf(c, i + 1);
+
+                if (end == -1) {
+                    throw new CharacterQueryException("Unterminated text", start);
+                }
+
+                tokens.add(new Token(TokenType.TEXT, query.substring(i + 1, end), start));
+                i = end + 1;
+            } else if ("=!<>~".indexOf(c) != -1) {
+                i++;
+
+                if (i < query.length() && query.charAt(i) == '=' && c != '=' && c != '~') {
+                    i++;
+                }
+
+                String operator = query.substring(start, i);
+
+                if (operator.equals("!")) {
+                    throw new CharacterQueryException("Unknown operator '!'", start);
+                }
+
+                tokens.add(new Token(TokenType.OPERATOR, operator, start));
+            } else if (java.lang.Character.isDigit(c) || (c == '-' && i + 1 < query.length()
+                && java.lang.Character.isDigit(query.charAt(i + 1)))) {
+                i++;
+
+                while (i < query.length() && java.lang.Character.isDigit(query.charAt(i))) {
+                    i++;
+                }
+
+                tokens.add(new Token(TokenType.NUMBER, query.substring(start, i), start));
+            } else if (java.lang.Character.isLetter(c) || c == '_') {
+                while (i < query.length() && (java.lang.Character.isLetterOrDigit(query.charAt(i))
+                    || query.charAt(i) == '_' || query.charAt(i) == '.' || query.charAt(i) == '-')) {
+                    i++;
+                }
+
+                tokens.add(new Token(TokenType.WORD, query.substring(start, i), start));
+            } else {
+                throw new CharacterQueryException("Unexpected character '" + c + "'", start);
+            }
+        }
+
+        tokens.add(new Token(TokenType.END, "", query.length()));
+
+        return tokens;
+    }
+
+    /**
+     * Recursive descent parser for the token list.
+     */
+    private static final class Parser {
+        private final List<Token> tokens;
+        private final CharacterQueryIndex index;
+        private int current;
+
+        /**
+         * Constructor
+         *
+         * @param tokens The tokens to parse
+         * @param index The index providing the available fields
+         */
+        Parser(List<Token> tokens, CharacterQueryIndex index) {
+            this.tokens = tokens;
+            this.index = index;
+        }
+
+        /**
+         * Parse conditions combined with OR.
+         *
+         * @return The condition
+         * @throws CharacterQueryException If the query is invalid
+         */
+        Condition parseOr() throws CharacterQueryException {
+            Condition condition = this.parseAnd();
+
+            while (this.peek().isKeyword("OR")) {
+                this.current++;
+                Condition left = condition;
+                Condition right = this.parseAnd();
+                condition = columns -> left.bind(columns).or(right.bind(columns));
+            }
+
+            return condition;
+        }
+
+        /**
+         * Parse conditions combined with AND.
+         *
+         * @return The condition
+         * @throws CharacterQueryException If the query is invalid
+         */
+        private Condition parseAnd() throws CharacterQueryException {
+            Condition condition = this.parseNot();
+
+            while (this.peek().isKeyword("AND")) {
+                this.current++;
+                Condition left = condition;
+                Condition right = this.parseNot();
+                condition = columns -> left.bind(columns).and(right.bind(columns));
+            }
+
+            return condition;
+        }
+
+        /**
+         * Parse a negated condition.
+         *
+         * @return The condition
+         * @throws CharacterQueryException If the query is invalid
+         */
+        private Condition parseNot() throws CharacterQueryException {
+            if (this.peek().isKeyword("NOT")) {
+                this.current++;
+                Condition condition = this.parseNot();
+
+                return columns -> condition.bind(columns).negate();
+            }
+
+            return this.parsePrimary();
+        }
+
+        /**
+         * Parse a condition in parentheses or a single comparison.
+         *
+         * @return The condition
+         * @throws CharacterQueryException If the query is invalid
+         */
+        private Condition parsePrimary() throws CharacterQueryException {
+            if (this.peek().type == TokenType.OPEN) {
+                this.current++;
+                Condition condition = this.parseOr();
+                this.expect(TokenType.CLOSE, "Missing ')'");
+
+                return condition;
+            }
+
+            Token field = this.expect(TokenType.WORD, "Expected a field");
+            Token operator = this.expect(TokenType.OPERATOR, "Expected an operator");
+            Token value = this.next();
+
+            if (value.type != TokenType.WORD && value.type != TokenType.NUMBER && value.type != TokenType.TEXT) {
+                throw new CharacterQueryException("Expected a value", value.position);
+            }
+
+            return this.comparison(field, operator, value);
+        }
+
+        /**
+         * Create the condition of a single comparison.
+         *
+         * @param field The field token
+         * @param operator The operator token
+         * @param value The value token
+         *
+         * @return The condition
+         * @throws CharacterQueryException If the field is unknown or the operator doesn't fit the field
+         */
+        private Condition comparison(Token field, Token operator, Token value) throws CharacterQueryException {
+            String name = field.value.toLowerCase(Locale.ROOT);
+
+            if (this.index.isTextField(name)) {
+                String text = value.value.toLowerCase(Locale.ROOT);
+
+                switch (operator.value) {
+                    case "=":
+                        return columns -> {
+                            String[] column = columns.getText(name);
+
+                            return row -> text.equals(column[row]);
+                        };
+                    case "!=":
+                        return columns -> {
+                            String[] column = columns.getText(name);
+
+                            return row -> !text.equals(column[row]);
+                        };
+                    case "~":
+                        return columns -> {
+                            String[] column = columns.getText(name);
+
+                            return row -> column[row] != null && column[row].contains(text);
+                        };
+                    default:
+                        throw new CharacterQueryException(
+                            "Operator '" + operator.value + "' can't be used for text field '" + field.value + "'",
+                            operator.position
+                        );
+                }
+            }
+
+            int traitColumn = this.index.getTraitColumn(name);
+
+            if (traitColumn == -1 && !this.index.isNumberField(name)) {
+                throw new CharacterQueryException("Unknown field '" + field.value + "'", field.position);
+            }
+
+            IntComparison comparison = this.intComparison(operator, field);
+            int number = this.number(value);
+
+            if (traitColumn != -1) {
+                return columns -> {
+                    byte[] column = columns.getTrait(traitColumn);
+
+                    return row -> comparison.test(column[row], number);
+                };
+            }
+
+            return columns -> {
+                int[] column = columns.getNumber(name);
+
+                return row -> comparison.test(column[row], number);
+            };
+        }
+
+        /**
+         * Get the comparison for the given operator.
+         *
+         * @param operator The operator token
+         * @param field The field token
+         *
+         * @return The comparison
+         * @throws CharacterQueryException If the operator can't be used for numbers
+         */
+        private IntComparison intComparison(Token operator, Token field) throws CharacterQueryException {
+            switch (operator.value) {
+                case "=":
+                    return (a, b) -> a == b;
+                case "!=":
+                    return (a, b) -> a != b;
+                case "<":
+                    return (a, b) -> a < b;
+                case "<=":
+                    return (a, b) -> a <= b;
+                case ">":
+                    return (a, b) -> a > b;
+                case ">=":
+                    return (a, b) -> a >= b;
+                default:
+                    throw new CharacterQueryException(
+                        "Operator '" + operator.value + "' can't be used for number field '" + field.value + "'",
+                        operator.position
+                    );
+            }
+        }
+
+        /**
+         * Get the number of the given value token.
+         *
+         * @param value The value token
+         *
+         * @return The number
+         * @throws CharacterQueryException If the value isn't a number
+         */
+        private int number(Token value) throws CharacterQueryException {
+            if (value.type != TokenType.NUMBER) {
+                throw new CharacterQueryException("Expected a number", value.position);
+            }
+
+            try {
+                return Integer.parseInt(value.value);
+            } catch (NumberFormatException ex) {
+                throw new CharacterQueryException("Number out of range", value.position);
+            }
+        }
+
+        /**
+         * Get the current token without consuming it.
+         */
+        private Token peek() {
+            return this.tokens.get(this.current);
+        }
+
+        /**
+         * Consume the current token.
+         *
+         * @return The consumed token
+         */
+        private Token next() {
+            Token token = this.tokens.get(this.current);
+
+            if (token.type != TokenType.END) {
+                this.current++;
+            }
+
+            return token;
+        }
+
+        /**
+         * Consume a token of the given type.
+         *
+         * @param type The expected type
+         * @param message The message used if the token has another type
+         *
+         * @return The consumed token
+         * @throws CharacterQueryException If the token has another type
+         */
+        Token expect(TokenType type, String message) throws CharacterQueryException {
+            Token token = this.peek();
+
+            if (token.type != type) {
+                throw new CharacterQueryException(message, token.position);
+            }
+
+            return this.next();
+        }
+    }
+
+    /**
+     * Comparison of two numbers.
+     */
+    @FunctionalInterface
+    private interface IntComparison {
+        /**
+         * Compare the values.
+         *
+         * @param value The value of the row
+         * @param operand The value of the query
+         *
+         * @return True if the comparison matches
+         */
+        boolean test(int value, int operand);
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * This file is part of Vampire Editor.
+ *
+ * Vampire Editor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Vampire Editor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Vampire Editor. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @package Vampire Editor
+ * @author Marian Pollzien <map@wafriv.de>
+ * @copyright (c) 2026, Marian Pollzien
+ * @license https://www.gnu.org/licenses/lgpl.html LGPLv3
+ */
+package antafes.vampireEditor.entity.storage;
+
+/**
+ * Exception thrown for invalid character queries.
+ *
+ * @author Marian Pollzien
+ */
+public class CharacterQueryException extends Exception {
+    private final int position;
+
+    /**
+     * Constructor
+     *
+     * @param message The message describing the problem
+     * @param position The position in the query the problem has been found at
+     */
+    public CharacterQueryException(String message, int position) {
+        super(message + " at position " + (position + 1));
+        this.position = position;
+    }
+
+    /**
+     * Get the position in the query the problem has been found at, starting with 0.
+     */
+    public int getPosition() {
+        return position;
+    }
+}
@@ -0,0 +1,738 @@
+/*
+ * This file is part of Vampire Editor.
+ *
+ * Vampire Editor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Vampire Editor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Vampire Editor. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @package Vampire Editor
+ * @author Marian Pollzien <map@wafriv.de>
+ * @copyright (c) 2026, Marian Pollzien
+ * @license https://www.gnu.org/licenses/lgpl.html LGPLv3
+ */
+package antafes.vampireEditor.entity.storage;
+
+import antafes.vampireEditor.Configuration;
+import antafes.vampireEditor.entity.Character;
+import antafes.vampireEditor.entity.character.TraitValue;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntPredicate;
+import java.util.function.ToIntFunction;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+/**
+ * Columnar in-memory index of every character in the library for structured queries.
+ * Every queryable field is kept in its own primitive column with one row per character file, trait values are kept in
+ * one byte column per trait of the reference storages. Queries run as loops over the columns, without creating
+ * character objects. The index is filled by the library rescans and updated whenever a character is saved. It is
+ * stored next to the search index, so later sessions only load the files that changed in the meantime.
+ *
+ * @see CharacterQuery for the query language
+ * @author Marian Pollzien
+ */
+public class CharacterQueryIndex implements CharacterLibrary.Listener, CharacterStorage.SaveListener {
+    private static final int MAGIC = 0x56455149;
+    private static final byte VERSION = 1;
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int PARALLEL_THRESHOLD = 4096;
+    private static final Map<String, TextField> TEXT_FIELDS = createTextFields();
+    private static final Map<String, ToIntFunction<Character>> NUMBER_FIELDS = createNumberFields();
+    private static final StorageFactory.StorageType[] TRAIT_STORAGES = {
+        StorageFactory.StorageType.ATTRIBUTE,
+        StorageFactory.StorageType.ABILITY,
+        StorageFactory.StorageType.ADVANTAGE
+    };
+    private static CharacterQueryIndex instance;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    /**
+     * The trait columns by their lower case field name, as the field names of a query are not case sensitive.
+     */
+    private final HashMap<String, Integer> traitColumns = new HashMap<>();
+    private final ArrayList<String> traitFieldNames = new ArrayList<>();
+    private final HashMap<String, Integer> rowsByPath = new HashMap<>();
+    private final Columns columns;
+    private final File indexFile;
+    private volatile boolean dirty;
+
+    /**
+     * Reads a text field of a character.
+     */
+    @FunctionalInterface
+    private interface TextField {
+        /**
+         * Get the value of the field.
+         *
+         * @param character The character
+         *
+         * @return The value or null
+         */
+        String get(Character character);
+    }
+
+    /**
+     * The columns of the index. Row numbers are only valid while the read lock of the index is held.
+     */
+    static final class Columns {
+        private int rows;
+        private String[] paths;
+        private UUID[] ids;
+        private String[] names;
+        private long[] lastModified;
+        private long[] sizes;
+        private final HashMap<String, String[]> text = new HashMap<>();
+        private final HashMap<String, int[]> numbers = new HashMap<>();
+        private byte[][] traits;
+
+        /**
+         * Constructor
+         *
+         * @param traitCount The number of trait columns
+         */
+        Columns(int traitCount) {
+            this.paths = new String[INITIAL_CAPACITY];
+            this.ids = new UUID[INITIAL_CAPACITY];
+            this.names = new String[INITIAL_CAPACITY];
+            this.lastModified = new long[INITIAL_CAPACITY];
+            this.sizes = new long[INITIAL_CAPACITY];
+            TEXT_FIELDS.keySet().forEach(field -> this.text.put(field, new String[INITIAL_CAPACITY]));
+            NUMBER_FIELDS.keySet().forEach(field -> this.numbers.put(field, new int[INITIAL_CAPACITY]));
+            this.traits = new byte[traitCount][INITIAL_CAPACITY];
+        }
+
+        /**
+         * Get the lower case column of the given text field.
+         *
+         * @param field The name of the field
+         *
+         * @return The column
+         */
+        String[] getText(String field) {
+            return this.text.get(field);
+        }
+
+        /**
+         * Get the column of the given number field.
+         *
+         * @param field The name of the field
+         *
+         * @return The column
+         */
+        int[] getNumber(String field) {
+            return this.numbers.get(field);
+        }
+
+        /**
+         * Get the column of the given trait.
+         *
+         * @param column The trait column number
+         *
+         * @return The column
+         */
+        byte[] getTrait(int column) {
+            return this.traits[column];
+        }
+
+        /**
+         * Make sure there is room for one more row.
+         */
+        private void ensureCapacity() {
+            if (this.rows < this.paths.length) {
+                return;
+            }
+
+            int capacity = this.paths.length * 2;
+            this.paths = Arrays.copyOf(this.paths, capacity);
+            this.ids = Arrays.copyOf(this.ids, capacity);
+            this.names = Arrays.copyOf(this.names, capacity);
+            this.lastModified = Arrays.copyOf(this.lastModified, capacity);
+            this.sizes = Arrays.copyOf(this.sizes, capacity);
+            this.text.replaceAll((field, column) -> Arrays.copyOf(column, capacity));
+            this.numbers.replaceAll((field, column) -> Arrays.copyOf(column, capacity));
+
+            for (int i = 0; i < this.traits.length; i++) {
+                this.traits[i] = Arrays.copyOf(this.traits[i], capacity);
+            }
+        }
+
+        /**
+         * Copy a row over another one.
+         *
+         * @param from The row to copy
+         * @param to The row to overwrite
+         */
+        private void copyRow(int from, int to) {
+            this.paths[to] = this.paths[from];
+            this.ids[to] = this.ids[from];
+            this.names[to] = this.names[from];
+            this.lastModified[to] = this.lastModified[from];
+            this.sizes[to] = this.sizes[from];
+            this.text.values().forEach(column -> column[to] = column[from]);
+            this.numbers.values().forEach(column -> column[to] = column[from]);
+
+            for (byte[] column : this.traits) {
+                column[to] = column[from];
+            }
+        }
+    }
+
+    /**
+     * A single character matching a query.
+     */
+    public static final class Match {
+        private final File file;
+        private final UUID id;
+        private final String name;
+
+        /**
+         * Constructor
+         *
+         * @param file The file of the character
+         * @param id The id of the character
+         * @param name The name of the character
+         */
+        Match(File file, UUID id, String name) {
+            this.file = file;
+            this.id = id;
+            this.name = name;
+        }
+
+        /**
+         * Get the file of the character.
+         */
+        public File getFile() {
+            return file;
+        }
+
+        /**
+         * Get the id of the character.
+         */
+        public UUID getId() {
+            return id;
+        }
+
+        /**
+         * Get the name of the character.
+         */
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String toString() {
+            return this.name + " (" + this.file.getPath() + ")";
+        }
+    }
+
+    /**
+     * Create a new, empty query index with one trait column for every trait of the reference storages.
+     * The index is only kept in memory.
+     */
+    public CharacterQueryIndex() {
+        this(null);
+    }
+
+    /**
+     * Create a new, empty query index with one trait column for every trait of the reference storages.
+     *
+     * @param indexFile The file the index is stored in or null to only keep it in memory
+     */
+    public CharacterQueryIndex(File indexFile) {
+        this.indexFile = indexFile;
+
+        for (StorageFactory.StorageType type : TRAIT_STORAGES) {
+            BaseTypedStorage<?, ?> storage = (BaseTypedStorage<?, ?>) StorageFactory.getStorage(type);
+            String prefix = type.name().toLowerCase(Locale.ROOT) + ".";
+
+            for (int ordinal = 0; ordinal < storage.getOrdinalCount(); ordinal++) {
+                String field = prefix + storage.getEntity(ordinal).getKey();
+                this.traitColumns.put(field.toLowerCase(Locale.ROOT), this.traitColumns.size());
+                this.traitFieldNames.add(field);
+            }
+        }
+
+        Collections.sort(this.traitFieldNames);
+
+        this.columns = new Columns(this.traitColumns.size());
+    }
+
+    /**
+     * Get the query index of the library.
+     * On first use the index is loaded and registered to be updated by the library and every save.
+     *
+     * @return The query index
+     */
+    public static synchronized CharacterQueryIndex getInstance() {
+        if (instance == null) {
+            instance = new CharacterQueryIndex(new File(Configuration.PATH, "query.idx"));
+            instance.load();
+            CharacterLibrary.getInstance().addListener(instance);
+            ((CharacterStorage) StorageFactory.getStorage(StorageFactory.StorageType.CHARACTER)).addSaveListener(instance);
+        }
+
+        return instance;
+    }
+
+    /**
+     * Get the number of indexed files.
+     */
+    public int size() {
+        this.lock.readLock().lock();
+
+        try {
+            return this.columns.rows;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Add or replace the given character file in the index.
+     *
+     * @param file The file of the character
+     * @param lastModified The modification time of the file
+     * @param size The size of the file
+     * @param character The character
+     */
+    public void update(File file, long lastModified, long size, Character character) {
+        String path = file.getAbsolutePath();
+        this.lock.writeLock().lock();
+
+        try {
+            Integer existing = this.rowsByPath.get(path);
+            int row;
+
+            if (existing == null) {
+                this.columns.ensureCapacity();
+                row = this.columns.rows++;
+                this.rowsByPath.put(path, row);
+            } else {
+                row = existing;
+            }
+
+            Columns columns = this.columns;
+            columns.paths[row] = path;
+            columns.ids[row] = character.getId();
+            columns.names[row] = character.getName();
+            columns.lastModified[row] = lastModified;
+            columns.sizes[row] = size;
+            TEXT_FIELDS.forEach((field, getter) -> {
+                String value = getter.get(character);
+                columns.text.get(field)[row] = value == null ? null : value.toLowerCase(Locale.ROOT);
+            });
+            NUMBER_FIELDS.forEach((field, getter) -> columns.numbers.get(field)[row] = getter.applyAsInt(character));
+
+            for (byte[] column : columns.traits) {
+                column[row] = 0;
+            }
+
+            this.setTraits(row, "attribute.", character.getAttributeValues());
+            this.setTraits(row, "ability.", character.getAbilityValues());
+            this.setTraits(row, "advantage.", character.getAdvantageValues());
+            this.dirty = true;
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove the given file from the index.
+     *
+     * @param file The file to remove
+     */
+    public void remove(File file) {
+        this.lock.writeLock().lock();
+
+        try {
+            Integer row = this.rowsByPath.remove(file.getAbsolutePath());
+
+            if (row == null) {
+                return;
+            }
+
+            int last = --this.columns.rows;
+
+            if (row != last) {
+                this.columns.copyRow(last, row);
+                this.rowsByPath.put(this.columns.paths[row], row);
+            }
+
+            this.columns.paths[last] = null;
+            this.columns.ids[last] = null;
+            this.columns.names[last] = null;
+            this.dirty = true;
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Run the given query over every indexed character.
+     *
+     * @param query The query, e.g. {@code clan=brujah AND generation<=8 AND attribute.strength>=4}
+     *
+     * @return The matching characters, sorted by name
+     * @throws CharacterQueryException If the query is invalid
+     */
+    public List<Match> query(String query) throws CharacterQueryException {
+        CharacterQuery parsed = CharacterQuery.parse(query, this);
+        ArrayList<Match> matches = new ArrayList<>();
+        this.lock.readLock().lock();
+
+        try {
+            Columns columns = this.columns;
+            IntPredicate predicate = parsed.bind(columns);
+            IntStream rows = IntStream.range(0, columns.rows);
+
+            if (columns.rows >= PARALLEL_THRESHOLD) {
+                rows = rows.parallel();
+            }
+
+            for (int row : rows.filter(predicate).toArray()) {
+                matches.add(new Match(new File(columns.paths[row]), columns.ids[row], columns.names[row]));
+            }
+        } finally {
+            this.lock.readLock().unlock();
+        }
+
+        matches.sort(
+            Comparator.comparing(Match::getName, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER))
+                .thenComparing(match -> match.getFile().getPath())
+        );
+
+        return matches;
+    }
+
+    /**
+     * Get the names of every field that can be queried.
+     *
+     * @return The field names
+     */
+    public List<String> getFieldNames() {
+        ArrayList<String> fields = new ArrayList<>(TEXT_FIELDS.keySet());
+        fields.addAll(NUMBER_FIELDS.keySet());
+        fields.addAll(this.traitFieldNames);
+
+        return fields;
+    }
+
+    /**
+     * Load the index file. A missing or unreadable index, or one created for other fields, results in an empty index.
+     *
+     * @return True if the index has been loaded
+     */
+    public boolean load() {
+        this.lock.writeLock().lock();
+
+        try {
+            this.clear();
+
+            if (this.indexFile == null || !this.indexFile.isFile()) {
+                return false;
+            }
+
+            try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(this.indexFile.toPath())))) {
+                if (input.readInt() != MAGIC || input.readByte() != VERSION) {
+                    throw new IOException("Unsupported query index '" + this.indexFile.getPath() + "'!");
+                }
+
+                List<String> layout = this.getLayout();
+
+                if (input.readInt() != layout.size()) {
+                    return false;
+                }
+
+                for (String field : layout) {
+                    if (!field.equals(input.readUTF())) {
+                        return false;
+                    }
+                }
+
+                Columns columns = this.columns;
+
+                for (int i = input.readInt(); i > 0; i--) {
+                    columns.ensureCapacity();
+                    int row = columns.rows++;
+                    columns.paths[row] = input.readUTF();
+                    columns.ids[row] = new UUID(input.readLong(), input.readLong());
+                    columns.names[row] = CharacterLibrary.readString(input);
+                    columns.lastModified[row] = input.readLong();
+                    columns.sizes[row] = input.readLong();
+
+                    for (String field : TEXT_FIELDS.keySet()) {
+                        columns.text.get(field)[row] = CharacterLibrary.readString(input);
+                    }
+
+                    for (String field : NUMBER_FIELDS.keySet()) {
+                        columns.numbers.get(field)[row] = input.readInt();
+                    }
+
+                    for (byte[] column : columns.traits) {
+                        column[row] = input.readByte();
+                    }
+
+                    this.rowsByPath.put(columns.paths[row], row);
+                }
+
+                this.dirty = false;
+
+                return true;
+            } catch (IOException ex) {
+                Logger.getLogger(CharacterQueryIndex.class.getName()).log(Level.WARNING, null, ex);
+                this.clear();
+
+                return false;
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Write the index to the index file if it has been changed, replacing the previous one atomically.
+     *
+     * @throws IOException If the index couldn't be written
+     */
+    public void store() throws IOException {
+        if (this.indexFile == null) {
+            return;
+        }
+
+        this.lock.readLock().lock();
+
+        try {
+            if (!this.dirty && this.indexFile.isFile()) {
+                return;
+            }
+
+            Columns columns = this.columns;
+            List<String> layout = this.getLayout();
+            AtomicFileWriter.write(this.indexFile, stream -> {
+                DataOutputStream output = new DataOutputStream(stream);
+                output.writeInt(MAGIC);
+                output.writeByte(VERSION);
+                output.writeInt(layout.size());
+
+                for (String field : layout) {
+                    output.writeUTF(field);
+                }
+
+                output.writeInt(columns.rows);
+
+                for (int row = 0; row < columns.rows; row++) {
+                    output.writeUTF(columns.paths[row]);
+                    output.writeLong(columns.ids[row].getMostSignificantBits());
+                    output.writeLong(columns.ids[row].getLeastSignificantBits());
+                    CharacterLibrary.writeString(output, columns.names[row]);
+                    output.writeLong(columns.lastModified[row]);
+                    output.writeLong(columns.sizes[row]);
+
+                    for (String field : TEXT_FIELDS.keySet()) {
+                        CharacterLibrary.writeString(output, columns.text.get(field)[row]);
+                    }
+
+                    for (String field : NUMBER_FIELDS.keySet()) {
+                        output.writeInt(columns.numbers.get(field)[row]);
+                    }
+
+                    for (byte[] column : columns.traits) {
+                        output.writeByte(column[row]);
+                    }
+                }
+
+                output.flush();
+            });
+            this.dirty = false;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean isIndexed(File file, long lastModified, long size) {
+        this.lock.readLock().lock();
+
+        try {
+            Integer row = this.rowsByPath.get(file.getAbsolutePath());
+
+            return row != null && this.columns.lastModified[row] == lastModified && this.columns.sizes[row] == size;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void characterIndexed(File file, long lastModified, long size, Character character) {
+        this.update(file, lastModified, size, character);
+    }
+
+    @Override
+    public void fileRemoved(File file) {
+        this.remove(file);
+    }
+
+    @Override
+    public void rescanFinished() {
+        this.storeLogged();
+    }
+
+    @Override
+    public void characterSaved(Character character, File file) {
+        this.update(file, file.lastModified(), file.length(), character);
+        this.storeLogged();
+    }
+
+    /**
+     * Check if the given name is a text field.
+     *
+     * @param field The lower case field name
+     *
+     * @return True if it is a text field
+     */
+    boolean isTextField(String field) {
+        return TEXT_FIELDS.containsKey(field);
+    }
+
+    /**
+     * Check if the given name is a number field other than a trait.
+     *
+     * @param field The lower case field name
+     *
+     * @return True if it is a number field
+     */
+    boolean isNumberField(String field) {
+        return NUMBER_FIELDS.containsKey(field);
+    }
+
+    /**
+     * Get the column number of the given trait field.
+     *
+     * @param field The lower case field name, e.g. attribute.strength
+     *
+     * @return The column number or -1 if there is no such trait
+     */
+    int getTraitColumn(String field) {
+        return this.traitColumns.getOrDefault(field, -1);
+    }
+
+    /**
+     * Store the index, logging failures.
+     */
+    private void storeLogged() {
+        try {
+            this.store();
+        } catch (IOException ex) {
+            Logger.getLogger(CharacterQueryIndex.class.getName()).log(Level.SEVERE, null, ex);
+        }
+    }
+
+    /**
+     * Remove every row. The write lock has to be held.
+     */
+    private void clear() {
+        this.rowsByPath.clear();
+        Arrays.fill(this.columns.paths, 0, this.columns.rows, null);
+        Arrays.fill(this.columns.ids, 0, this.columns.rows, null);
+        Arrays.fill(this.columns.names, 0, this.columns.rows, null);
+        this.columns.rows = 0;
+        this.dirty = false;
+    }
+
+    /**
+     * Get the names of every column in the order they are stored in, to detect index files of other fields.
+     *
+     * @return The column names
+     */
+    private List<String> getLayout() {
+        String[] traits = new String[this.traitColumns.size()];
+        this.traitColumns.forEach((field, column) -> traits[column] = field);
+        ArrayList<String> layout = new ArrayList<>(TEXT_FIELDS.keySet());
+        layout.addAll(NUMBER_FIELDS.keySet());
+        layout.addAll(Arrays.asList(traits));
+
+        return layout;
+    }
+
+    /**
+     * Write the given trait values into their columns.
+     *
+     * @param row The row to write
+     * @param prefix The field name prefix of the traits
+     * @param traits The trait values
+     */
+    private void setTraits(int row, String prefix, Iterable<? extends TraitValue<?>> traits) {
+        for (TraitValue<?> trait : traits) {
+            Integer column = this.traitColumns.get((prefix + trait.getKey()).toLowerCase(Locale.ROOT));
+
+            if (column != null) {
+                this.columns.traits[column][row] = (byte) Math.min(trait.getValue(), Byte.MAX_VALUE);
+            }
+        }
+    }
+
+    /**
+     * Create the table of text fields.
+     *
+     * @return The text fields by name
+     */
+    private static Map<String, TextField> createTextFields() {
+        LinkedHashMap<String, TextField> fields = new LinkedHashMap<>();
+        fields.put("name", Character::getName);
+        fields.put("player", Character::getPlayer);
+        fields.put("clan", character -> character.getClan() == null ? null : character.getClan().getKey());
+        fields.put("road", character -> character.getRoad() == null ? null : character.getRoad().getKey());
+        fields.put("sect", Character::getSect);
+        fields.put("chronicle", Character::getChronicle);
+        fields.put("nature", Character::getNature);
+        fields.put("demeanor", Character::getDemeanor);
+
+        return Collections.unmodifiableMap(fields);
+    }
+
+    /**
+     * Create the table of number fields.
+     *
+     * @return The number fields by name
+     */
+    private static Map<String, ToIntFunction<Character>> createNumberFields() {
+        LinkedHashMap<String, ToIntFunction<Character>> fields = new LinkedHashMap<>();
+        fields.put(
+            "generation",
+            character -> character.getGeneration() == null ? 0 : character.getGeneration().getGeneration()
+        );
+        fields.put("experience", Character::getExperience);
+        fields.put("willpower", Character::getWillpower);
+        fields.put("bloodpool", Character::getBloodPool);
+        fields.put("age", Character::getAge);
+
+        return Collections.unmodifiableMap(fields);
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * This file is part of Vampire Editor.
+ *
+ * Vampire Editor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Vampire Editor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Vampire Editor. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @package Vampire Editor
+ * @author Marian Pollzien <map@wafriv.de>
+ * @copyright (c) 2026, Marian Pollzien
+ * @license https://www.gnu.org/licenses/lgpl.html LGPLv3
+ */
+
+package antafes.vampireEditor.entity.storage;
+
+import antafes.vampireEditor.entity.Character;
+
+import java.io.File;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Write-behind queue for character saves.
+ * Every save is written by a single writer thread. Saves of a character that is still waiting to be written are
+ * merged into the waiting save, so only the latest state is written and every caller gets the same future.
+ *
+ * @author Marian Pollzien
+ */
+final class CharacterSaveQueue {
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final ConcurrentHashMap<String, PendingSave> pending;
+    private final ExecutorService writer;
+    private final SaveWriter saveWriter;
+
+    /**
+     * Writes a single character to its file.
+     */
+    @FunctionalInterface
+    interface SaveWriter {
+        /**
+         * Write the character.
+         *
+         * @param character The character to write
+         * @param file The file to write to
+         *
+         * @throws Exception If writing failed
+         */
+        void write(Character character, File file) throws Exception;
+    }
+
+    /**
+     * A save waiting to be written.
+     */
+    private static final class PendingSave {
+        private final CompletableFuture<File> future;
+        private volatile Character character;
+        private volatile File file;
+
+        /**
+         * Constructor
+         *
+         * @param character The character to save
+         * @param file The file to save to
+         */
+        private PendingSave(Character character, File file) {
+            this.future = new CompletableFuture<>();
+            this.character = character;
+            this.file = file;
+        }
+    }
+
+    /**
+     * Constructor
+     *
+     * @param saveWriter Writes a single character to its file
+     */
+    CharacterSaveQueue(SaveWriter saveWriter) {
+        this.pending = new ConcurrentHashMap<>();
+        this.saveWriter = saveWriter;
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "character-writer");
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        // Closing the editor exits the JVM, give queued saves the chance to be written.
+        Runtime.getRuntime().addShutdownHook(new Thread(
+            () -> this.awaitPending(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS),
+            "character-writer-shutdown"
+        ));
+    }
+
+    /**
+     * Queue the character to be saved.
+     *
+     * @param character The character to save
+     * @param file The file to save to
+     *
+     * @return Future completed with the written file once the character has been saved
+     */
+    CompletableFuture<File> submit(Character character, File file) {
+        String id = character.getId().toString();
+        PendingSave created = new PendingSave(character, file);
+        PendingSave save = this.pending.compute(id, (key, existing) -> {
+            if (existing == null) {
+                return created;
+            }
+
+            existing.character = character;
+            existing.file = file;
+
+            return existing;
+        });
+
+        if (save == created) {
+            this.writer.execute(() -> this.write(id));
+        }
+
+        return save.future;
+    }
+
+    /**
+     * Wait until every save queued so far has been written.
+     *
+     * @param timeout The maximum time to wait
+     * @param unit The unit of the timeout
+     *
+     * @return True if every save has been written in time
+     */
+    boolean awaitPending(long timeout, TimeUnit unit) {
+        try {
+            this.writer.submit(() -> { }).get(timeout, unit);
+
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException ex) {
+            Logger.getLogger(CharacterSaveQueue.class.getName()).log(Level.WARNING, "Pending saves not written", ex);
+        }
+
+        return false;
+    }
+
+    /**
+     * Write the pending save of the given character.
+     * The save is removed from the queue first, so later saves of the character are queued again.
+     *
+     * @param id The id of the character
+     */
+    private void write(String id) {
+        PendingSave save = this.pending.remove(id);
+
+        try {
+            this.saveWriter.write(save.character, save.file);
+            save.future.complete(save.file);
+        } catch (Exception ex) {
+            Logger.getLogger(CharacterSaveQueue.class.getName()).log(Level.SEVERE, null, ex);
+            save.future.completeExceptionally(ex);
+        }
+    }
+}
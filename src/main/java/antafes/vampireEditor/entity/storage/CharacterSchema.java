@@ -0,0 +1,221 @@
+/*
+ * This file is part of Vampire Editor.
+ *
+ * Vampire Editor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Vampire Editor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Vampire Editor. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @package Vampire Editor
+ * @author Marian Pollzien <map@wafriv.de>
+ * @copyright (c) 2026, Marian Pollzien
+ * @license https://www.gnu.org/licenses/lgpl.html LGPLv3
+ */
+
+package antafes.vampireEditor.entity.storage;
+
+import antafes.vampireEditor.VampireEditor;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.HashSet;
+
+/**
+ * Parser for character files.
+ * The character schema is compiled only once and shared by every thread, the amount of validation is chosen for
+ * every parsed file.
+ *
+ * @author Marian Pollzien
+ */
+final class CharacterSchema {
+    static final String SCHEMA_PATH = "character.xsd";
+    private static final String[] REQUIRED_FIELDS = {
+        "name", "clan", "generation", "experience", "nature", "demeanor", "concept", "attributes", "abilities",
+        "advantages", "road", "willpower", "bloodPool",
+    };
+    private static final ErrorHandler ERROR_HANDLER = new ErrorHandler() {
+        @Override
+        public void warning(SAXParseException exception) {
+        }
+
+        @Override
+        public void error(SAXParseException exception) throws SAXException {
+            throw exception;
+        }
+
+        @Override
+        public void fatalError(SAXParseException exception) throws SAXException {
+            throw exception;
+        }
+    };
+    private static volatile Schema schema;
+    private static volatile DocumentBuilderFactory validatingFactory;
+    private static final DocumentBuilderFactory FACTORY = createFactory(null);
+
+    /**
+     * Constructor
+     */
+    private CharacterSchema() {
+    }
+
+    /**
+     * Get the compiled character schema.
+     *
+     * @return The schema
+     *
+     * @throws SAXException If the schema could not be compiled
+     */
+    static Schema getSchema() throws SAXException {
+        Schema result = schema;
+
+        if (result == null) {
+            synchronized (CharacterSchema.class) {
+                result = schema;
+
+                if (result == null) {
+                    try (InputStream stream = VampireEditor.getFileInJar(SCHEMA_PATH)) {
+                        result = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI)
+                            .newSchema(new StreamSource(stream));
+                    } catch (IOException ex) {
+                        throw new SAXException(ex);
+                    }
+
+                    schema = result;
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Parse the given character file.
+     *
+     * @param file The file to parse
+     * @param level The amount of validation to apply
+     *
+     * @return The parsed document
+     *
+     * @throws IOException If the file could not be read
+     * @throws SAXException If the file is not well-formed or fails the validation
+     * @throws ParserConfigurationException If no parser could be created
+     */
+    static Document parse(File file, CharacterStorage.ValidationLevel level)
+        throws IOException, SAXException, ParserConfigurationException {
+        DocumentBuilderFactory factory = level == CharacterStorage.ValidationLevel.STRICT
+            ? getValidatingFactory()
+            : FACTORY;
+        DocumentBuilder builder;
+
+        // Factories are not guaranteed to be thread safe, the created builders are only used by this thread.
+        synchronized (factory) {
+            builder = factory.newDocumentBuilder();
+        }
+
+        builder.setErrorHandler(ERROR_HANDLER);
+        Document document = builder.parse(file);
+
+        if (level == CharacterStorage.ValidationLevel.LENIENT) {
+            checkRequiredFields(document.getDocumentElement());
+        }
+
+        return document;
+    }
+
+    /**
+     * Check that the id and every field required to build a character exist.
+     *
+     * @param root The root element of the character file
+     *
+     * @throws SAXException If a required field is missing
+     */
+    private static void checkRequiredFields(Element root) throws SAXException {
+        if (!root.getNodeName().equals("character") || root.getAttribute("id").isEmpty()) {
+            throw new SAXException("Missing character id");
+        }
+
+        HashSet<String> missing = new HashSet<>(Arrays.asList(REQUIRED_FIELDS));
+
+        for (Node node = root.getFirstChild(); node != null && !missing.isEmpty(); node = node.getNextSibling()) {
+            if (node.getNodeType() == Node.ELEMENT_NODE) {
+                missing.remove(node.getNodeName());
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            throw new SAXException("Missing required fields: " + missing);
+        }
+    }
+
+    /**
+     * Get the factory for parsers validating against the character schema.
+     *
+     * @return The factory
+     *
+     * @throws SAXException If the schema could not be compiled
+     */
+    private static DocumentBuilderFactory getValidatingFactory() throws SAXException {
+        DocumentBuilderFactory result = validatingFactory;
+
+        if (result == null) {
+            synchronized (CharacterSchema.class) {
+                result = validatingFactory;
+
+                if (result == null) {
+                    result = createFactory(getSchema());
+                    validatingFactory = result;
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Create a namespace aware parser factory.
+     * Doctype declarations and external entities are rejected, as character files may come from shared folders.
+     *
+     * @param schema The schema to validate against or null for no validation
+     *
+     * @return The factory
+     */
+    private static DocumentBuilderFactory createFactory(Schema schema) {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        factory.setSchema(schema);
+        factory.setExpandEntityReferences(false);
+        factory.setXIncludeAware(false);
+
+        try {
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+        } catch (ParserConfigurationException ex) {
+            throw new IllegalStateException("The XML parser doesn't support secure processing", ex);
+        }
+
+        return factory;
+    }
+}
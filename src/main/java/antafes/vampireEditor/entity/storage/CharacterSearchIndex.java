@@ -0,0 +1,508 @@
+/*
+ * This file is part of Vampire Editor.
+ *
+ * Vampire Editor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Vampire Editor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Vampire Editor. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @package Vampire Editor
+ * @author Marian Pollzien <map@wafriv.de>
+ * @copyright (c) 2026, Marian Pollzien
+ * @license https://www.gnu.org/licenses/lgpl.html LGPLv3
+ */
+package antafes.vampireEditor.entity.storage;
+
+import antafes.vampireEditor.Configuration;
+import antafes.vampireEditor.entity.Character;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+/**
+ * Full-text index over the free-text fields of every character in the library.
+ * The index is an inverted index from folded terms to the files containing them. It is updated whenever a character
+ * is saved or the library is rescanned and stored in the configuration directory.
+ * Search results are ranked with BM25, every term of the query has to match.
+ *
+ * @author Marian Pollzien
+ */
+public class CharacterSearchIndex implements CharacterLibrary.Listener, CharacterStorage.SaveListener {
+    private static final int MAGIC = 0x56455349;
+    private static final byte VERSION = 1;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static CharacterSearchIndex instance;
+
+    private final File indexFile;
+    private final HashMap<String, Document> documents = new HashMap<>();
+    private final HashMap<String, HashMap<String, Integer>> postings = new HashMap<>();
+    private long totalLength;
+    private boolean dirty;
+
+    /**
+     * A single indexed character file.
+     */
+    private static final class Document {
+        private final String path;
+        private final UUID id;
+        private final String name;
+        private final long lastModified;
+        private final long size;
+        private final Map<String, Integer> terms;
+        private final int length;
+
+        /**
+         * Constructor
+         *
+         * @param path The absolute path of the file
+         * @param id The id of the character
+         * @param name The name of the character
+         * @param lastModified The modification time of the file
+         * @param size The size of the file
+         * @param terms The frequency of every term of the character
+         */
+        Document(String path, UUID id, String name, long lastModified, long size, Map<String, Integer> terms) {
+            this.path = path;
+            this.id = id;
+            this.name = name;
+            this.lastModified = lastModified;
+            this.size = size;
+            this.terms = terms;
+            this.length = terms.values().stream().mapToInt(Integer::intValue).sum();
+        }
+    }
+
+    /**
+     * A single search result.
+     */
+    public static final class Hit {
+        private final File file;
+        private final UUID id;
+        private final String name;
+        private final double score;
+
+        /**
+         * Constructor
+         *
+         * @param file The file of the character
+         * @param id The id of the character
+         * @param name The name of the character
+         * @param score The relevance of the result
+         */
+        Hit(File file, UUID id, String name, double score) {
+            this.file = file;
+            this.id = id;
+            this.name = name;
+            this.score = score;
+        }
+
+        /**
+         * Get the file of the character.
+         */
+        public File getFile() {
+            return file;
+        }
+
+        /**
+         * Get the id of the character.
+         */
+        public UUID getId() {
+            return id;
+        }
+
+        /**
+         * Get the name of the character.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Get the relevance of the result, higher is better.
+         */
+        public double getScore() {
+            return score;
+        }
+
+        @Override
+        public String toString() {
+            return this.name + " (" + this.file.getPath() + ")";
+        }
+    }
+
+    /**
+     * Create a new search index.
+     *
+     * @param indexFile The file the index is stored in
+     */
+    public CharacterSearchIndex(File indexFile) {
+        this.indexFile = indexFile;
+    }
+
+    /**
+     * Get the search index stored in the configuration directory.
+     * On first use the index is loaded and registered to be updated by the library and every save.
+     *
+     * @return The search index
+     */
+    public static synchronized CharacterSearchIndex getInstance() {
+        if (instance == null) {
+            instance = new CharacterSearchIndex(new File(Configuration.PATH, "search.idx"));
+            instance.load();
+            CharacterLibrary.getInstance().addListener(instance);
+            ((CharacterStorage) StorageFactory.getStorage(StorageFactory.StorageType.CHARACTER)).addSaveListener(instance);
+        }
+
+        return instance;
+    }
+
+    /**
+     * Split the given text into search terms.
+     * Terms are lower case, German umlauts are folded into their two letter form and other accents are removed, so
+     * "Müller", "Mueller" and "MÜLLER" all result in the same term.
+     *
+     * @param text The text to split
+     *
+     * @return The terms in order of appearance
+     */
+    public static List<String> tokenize(String text) {
+        ArrayList<String> terms = new ArrayList<>();
+
+        if (text == null || text.isEmpty()) {
+            return terms;
+        }
+
+        String folded = text.toLowerCase(Locale.GERMAN)
+            .replace("ä", "ae")
+            .replace("ö", "oe")
+            .replace("ü", "ue")
+            .replace("ß", "ss");
+        folded = COMBINING_MARKS.matcher(Normalizer.normalize(folded, Normalizer.Form.NFD)).replaceAll("");
+        int start = -1;
+
+        for (int i = 0; i <= folded.length(); i++) {
+            boolean letter = i < folded.length() && java.lang.Character.isLetterOrDigit(folded.charAt(i));
+
+            if (letter && start == -1) {
+                start = i;
+            } else if (!letter && start != -1) {
+                terms.add(folded.substring(start, i));
+                start = -1;
+            }
+        }
+
+        return terms;
+    }
+
+    /**
+     * Get the file the index is stored in.
+     */
+    public File getIndexFile() {
+        return indexFile;
+    }
+
+    /**
+     * Get the number of indexed files.
+     */
+    public synchronized int size() {
+        return this.documents.size();
+    }
+
+    /**
+     * Add or replace the given character file in the index.
+     *
+     * @param file The file of the character
+     * @param lastModified The modification time of the file
+     * @param size The size of the file
+     * @param character The character
+     */
+    public synchronized void update(File file, long lastModified, long size, Character character) {
+        HashMap<String, Integer> terms = new HashMap<>();
+
+        for (String field : new String[] {
+            character.getName(),
+            character.getConcept(),
+            character.getHideout(),
+            character.getSire(),
+            character.getStory(),
+            character.getDescription()
+        }) {
+            for (String term : tokenize(field)) {
+                terms.merge(term, 1, Integer::sum);
+            }
+        }
+
+        String path = file.getAbsolutePath();
+        this.removeDocument(path);
+        Document document = new Document(path, character.getId(), character.getName(), lastModified, size, terms);
+        this.addDocument(document);
+    }
+
+    /**
+     * Remove the given file from the index.
+     *
+     * @param file The file to remove
+     */
+    public synchronized void remove(File file) {
+        this.removeDocument(file.getAbsolutePath());
+    }
+
+    /**
+     * Search for characters containing every term of the query.
+     *
+     * @param query The query
+     * @param limit The maximum number of results
+     *
+     * @return The results, most relevant first
+     */
+    public synchronized List<Hit> search(String query, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+
+        if (terms.isEmpty() || this.documents.isEmpty() || limit < 1) {
+            return Collections.emptyList();
+        }
+
+        ArrayList<HashMap<String, Integer>> termPostings = new ArrayList<>();
+
+        for (String term : terms) {
+            HashMap<String, Integer> posting = this.postings.get(term);
+
+            if (posting == null) {
+                return Collections.emptyList();
+            }
+
+            termPostings.add(posting);
+        }
+
+        // Walk the rarest term and look up the others, every term has to match.
+        termPostings.sort(Comparator.comparingInt(HashMap::size));
+        double averageLength = (double) this.totalLength / this.documents.size();
+        Comparator<Hit> byScore = Comparator.comparingDouble(Hit::getScore);
+        PriorityQueue<Hit> best = new PriorityQueue<>(limit + 1, byScore);
+
+        candidates:
+        for (String path : termPostings.get(0).keySet()) {
+            Document document = this.documents.get(path);
+            double score = 0;
+
+            for (HashMap<String, Integer> posting : termPostings) {
+                Integer frequency = posting.get(path);
+
+                if (frequency == null) {
+                    continue candidates;
+                }
+
+                double idf = Math.log(1 + (this.documents.size() - posting.size() + 0.5) / (posting.size() + 0.5));
+                score += idf * frequency * (K1 + 1)
+                    / (frequency + K1 * (1 - B + B * document.length / averageLength));
+            }
+
+            best.add(new Hit(new File(path), document.id, document.name, score));
+
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+
+        ArrayList<Hit> hits = new ArrayList<>(best);
+        hits.sort(byScore.reversed().thenComparing(hit -> hit.getFile().getPath()));
+
+        return hits;
+    }
+
+    /**
+     * Load the index file. A missing or unreadable index results in an empty index.
+     *
+     * @return True if the index has been loaded
+     */
+    public synchronized boolean load() {
+        this.documents.clear();
+        this.postings.clear();
+        this.totalLength = 0;
+        this.dirty = false;
+
+        if (!this.indexFile.isFile()) {
+            return false;
+        }
+
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(this.indexFile.toPath())))) {
+            if (input.readInt() != MAGIC || input.readByte() != VERSION) {
+                throw new IOException("Unsupported search index '" + this.indexFile.getPath() + "'!");
+            }
+
+            for (int i = input.readInt(); i > 0; i--) {
+                String path = input.readUTF();
+                UUID id = new UUID(input.readLong(), input.readLong());
+                String name = input.readUTF();
+                name = name.isEmpty() ? null : name;
+                long lastModified = input.readLong();
+                long size = input.readLong();
+                int count = input.readInt();
+                HashMap<String, Integer> terms = new HashMap<>(count * 4 / 3 + 1);
+
+                for (int j = 0; j < count; j++) {
+                    terms.put(input.readUTF(), input.readInt());
+                }
+
+                this.addDocument(new Document(path, id, name, lastModified, size, terms));
+            }
+
+            this.dirty = false;
+
+            return true;
+        } catch (IOException ex) {
+            Logger.getLogger(CharacterSearchIndex.class.getName()).log(Level.WARNING, null, ex);
+            this.documents.clear();
+            this.postings.clear();
+            this.totalLength = 0;
+
+            return false;
+        }
+    }
+
+    /**
+     * Write the index to the index file if it has been changed, replacing the previous one atomically.
+     *
+     * @throws IOException If the index couldn't be written
+     */
+    public synchronized void store() throws IOException {
+        if (!this.dirty && this.indexFile.isFile()) {
+            return;
+        }
+
+        AtomicFileWriter.write(this.indexFile, stream -> {
+            DataOutputStream output = new DataOutputStream(stream);
+            output.writeInt(MAGIC);
+            output.writeByte(VERSION);
+            output.writeInt(this.documents.size());
+
+            for (Document document : this.documents.values()) {
+                output.writeUTF(document.path);
+                output.writeLong(document.id.getMostSignificantBits());
+                output.writeLong(document.id.getLeastSignificantBits());
+                output.writeUTF(document.name == null ? "" : document.name);
+                output.writeLong(document.lastModified);
+                output.writeLong(document.size);
+                output.writeInt(document.terms.size());
+
+                for (Map.Entry<String, Integer> term : document.terms.entrySet()) {
+                    output.writeUTF(term.getKey());
+                    output.writeInt(term.getValue());
+                }
+            }
+
+            output.flush();
+        });
+        this.dirty = false;
+    }
+
+    @Override
+    public synchronized boolean isIndexed(File file, long lastModified, long size) {
+        Document document = this.documents.get(file.getAbsolutePath());
+
+        return document != null && document.lastModified == lastModified && document.size == size;
+    }
+
+    @Override
+    public void characterIndexed(File file, long lastModified, long size, Character character) {
+        this.update(file, lastModified, size, character);
+    }
+
+    @Override
+    public void fileRemoved(File file) {
+        this.remove(file);
+    }
+
+    @Override
+    public void rescanFinished() {
+        this.storeLogged();
+    }
+
+    @Override
+    public void characterSaved(Character character, File file) {
+        this.update(file, file.lastModified(), file.length(), character);
+        this.storeLogged();
+    }
+
+    /**
+     * Store the index, logging failures.
+     */
+    private void storeLogged() {
+        try {
+            this.store();
+        } catch (IOException ex) {
+            Logger.getLogger(CharacterSearchIndex.class.getName()).log(Level.SEVERE, null, ex);
+        }
+    }
+
+    /**
+     * Add a document to the index.
+     *
+     * @param document The document to add
+     */
+    private void addDocument(Document document) {
+        this.documents.put(document.path, document);
+        this.totalLength += document.length;
+        this.dirty = true;
+
+        document.terms.forEach(
+            (term, frequency) -> this.postings.computeIfAbsent(term, key -> new HashMap<>()).put(document.path, frequency)
+        );
+    }
+
+    /**
+     * Remove a document from the index.
+     *
+     * @param path The path of the document to remove
+     */
+    private void removeDocument(String path) {
+        Document document = this.documents.remove(path);
+
+        if (document == null) {
+            return;
+        }
+
+        this.totalLength -= document.length;
+        this.dirty = true;
+
+        for (String term : document.terms.keySet()) {
+            HashMap<String, Integer> posting = this.postings.get(term);
+
+            if (posting != null) {
+                posting.remove(path);
+
+                if (posting.isEmpty()) {
+                    this.postings.remove(term);
+                }
+            }
+        }
+    }
+}
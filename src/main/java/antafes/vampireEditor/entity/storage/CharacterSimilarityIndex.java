@@ -0,0 +1,975 @@
+/*
+ * This file is part of Vampire Editor.
+ *
+ * Vampire Editor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Vampire Editor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Vampire Editor. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @package Vampire Editor
+ * @author Marian Pollzien <map@wafriv.de>
+ * @copyright (c) 2026, Marian Pollzien
+ * @license https://www.gnu.org/licenses/lgpl.html LGPLv3
+ */
+package antafes.vampireEditor.entity.storage;
+
+import antafes.vampireEditor.Configuration;
+import antafes.vampireEditor.entity.Character;
+import antafes.vampireEditor.entity.character.TraitValue;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+/**
+ * In-memory index of the trait vectors of every character in the library for finding similar characters.
+ * Every character is turned into a fixed byte vector of its attributes, abilities and advantages, followed by the
+ * road value, generation and willpower. Vectors are stored row by row in a single array and compared in parallel.
+ * Large libraries are partitioned into clusters of similar vectors, so a query only has to compare the vectors of
+ * the clusters closest to it. The vectors are stored next to the search index, so later sessions only load the files
+ * that changed in the meantime. The clusters are trained again on the first query.
+ *
+ * @author Marian Pollzien
+ */
+public class CharacterSimilarityIndex implements CharacterLibrary.Listener, CharacterStorage.SaveListener {
+    static final int DEFAULT_CLUSTER_THRESHOLD = 20000;
+    private static final int MAGIC = 0x56455356;
+    private static final byte VERSION = 1;
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int PARALLEL_THRESHOLD = 4096;
+    private static final int PROBED_CLUSTERS = 24;
+    private static final int TRAINING_ITERATIONS = 6;
+    private static final int TRAINING_SAMPLES_PER_CLUSTER = 32;
+    private static final StorageFactory.StorageType[] TRAIT_STORAGES = {
+        StorageFactory.StorageType.ATTRIBUTE,
+        StorageFactory.StorageType.ABILITY,
+        StorageFactory.StorageType.ADVANTAGE
+    };
+    private static CharacterSimilarityIndex instance;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final HashMap<String, Integer> dimensionsByTrait = new HashMap<>();
+    private final HashMap<String, Integer> rowsByPath = new HashMap<>();
+    private final int dimensions;
+    private final int clusterThreshold;
+    private final File indexFile;
+    private volatile boolean dirty;
+    private int rows;
+    private String[] paths = new String[INITIAL_CAPACITY];
+    private UUID[] ids = new UUID[INITIAL_CAPACITY];
+    private String[] names = new String[INITIAL_CAPACITY];
+    private long[] lastModified = new long[INITIAL_CAPACITY];
+    private long[] sizes = new long[INITIAL_CAPACITY];
+    private float[] norms = new float[INITIAL_CAPACITY];
+    private int[] clusterOfRow = new int[INITIAL_CAPACITY];
+    private byte[] vectors;
+    private float[][] centroids;
+    private int trainedRows;
+    private int[][] clusterRows;
+
+    /**
+     * The measure used to compare two vectors.
+     */
+    public enum Metric {
+        /**
+         * Distance is one minus the cosine of the angle between both vectors, ignoring the overall power level.
+         */
+        COSINE,
+
+        /**
+         * Distance is the sum of the absolute differences of every trait.
+         */
+        L1
+    }
+
+    /**
+     * A character similar to the one searched for.
+     */
+    public static final class Neighbour {
+        private final File file;
+        private final UUID id;
+        private final String name;
+        private final float distance;
+
+        /**
+         * Constructor
+         *
+         * @param file The file of the character
+         * @param id The id of the character
+         * @param name The name of the character
+         * @param distance The distance to the searched character
+         */
+        Neighbour(File file, UUID id, String name, float distance) {
+            this.file = file;
+            this.id = id;
+            this.name = name;
+            this.distance = distance;
+        }
+
+        /**
+         * Get the file of the character.
+         */
+        public File getFile() {
+            return file;
+        }
+
+        /**
+         * Get the id of the character.
+         */
+        public UUID getId() {
+            return id;
+        }
+
+        /**
+         * Get the name of the character.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Get the distance to the searched character, smaller is more similar.
+         */
+        public float getDistance() {
+            return distance;
+        }
+
+        @Override
+        public String toString() {
+            return this.name + " (" + this.distance + ")";
+        }
+    }
+
+    /**
+     * Create a new, empty similarity index, which is only kept in memory.
+     */
+    public CharacterSimilarityIndex() {
+        this(null, DEFAULT_CLUSTER_THRESHOLD);
+    }
+
+    /**
+     * Create a new, empty similarity index.
+     *
+     * @param indexFile The file the index is stored in or null to only keep it in memory
+     */
+    public CharacterSimilarityIndex(File indexFile) {
+        this(indexFile, DEFAULT_CLUSTER_THRESHOLD);
+    }
+
+    /**
+     * Create a new, empty similarity index, which is only kept in memory.
+     *
+     * @param clusterThreshold The number of characters from which on the vectors are partitioned into clusters
+     */
+    CharacterSimilarityIndex(int clusterThreshold) {
+        this(null, clusterThreshold);
+    }
+
+    /**
+     * Create a new, empty similarity index.
+     *
+     * @param indexFile The file the index is stored in or null to only keep it in memory
+     * @param clusterThreshold The number of characters from which on the vectors are partitioned into clusters
+     */
+    CharacterSimilarityIndex(File indexFile, int clusterThreshold) {
+        this.indexFile = indexFile;
+
+        for (StorageFactory.StorageType type : TRAIT_STORAGES) {
+            BaseTypedStorage<?, ?> storage = (BaseTypedStorage<?, ?>) StorageFactory.getStorage(type);
+            String prefix = type.name() + ".";
+
+            for (int ordinal = 0; ordinal < storage.getOrdinalCount(); ordinal++) {
+                this.dimensionsByTrait.put(prefix + storage.getEntity(ordinal).getKey(), this.dimensionsByTrait.size());
+            }
+        }
+
+        // Road value, generation and willpower follow the traits.
+        this.dimensions = this.dimensionsByTrait.size() + 3;
+        this.clusterThreshold = clusterThreshold;
+        this.vectors = new byte[INITIAL_CAPACITY * this.dimensions];
+    }
+
+    /**
+     * Get the similarity index of the library.
+     * On first use the index is loaded and registered to be updated by the library and every save.
+     *
+     * @return The similarity index
+     */
+    public static synchronized CharacterSimilarityIndex getInstance() {
+        if (instance == null) {
+            instance = new CharacterSimilarityIndex(new File(Configuration.PATH, "similarity.idx"));
+            instance.load();
+            CharacterLibrary.getInstance().addListener(instance);
+            ((CharacterStorage) StorageFactory.getStorage(StorageFactory.StorageType.CHARACTER)).addSaveListener(instance);
+        }
+
+        return instance;
+    }
+
+    /**
+     * Get the number of values of every vector.
+     */
+    public int getDimensions() {
+        return this.dimensions;
+    }
+
+    /**
+     * Get the number of indexed files.
+     */
+    public int size() {
+        this.lock.readLock().lock();
+
+        try {
+            return this.rows;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Turn the given character into its trait vector.
+     *
+     * @param character The character
+     *
+     * @return The vector
+     */
+    public byte[] toVector(Character character) {
+        byte[] vector = new byte[this.dimensions];
+        this.setTraits(vector, StorageFactory.StorageType.ATTRIBUTE, character.getAttributeValues());
+        this.setTraits(vector, StorageFactory.StorageType.ABILITY, character.getAbilityValues());
+        this.setTraits(vector, StorageFactory.StorageType.ADVANTAGE, character.getAdvantageValues());
+        int offset = this.dimensionsByTrait.size();
+        vector[offset] = toByte(character.getRoad() == null ? 0 : character.getRoad().getValue());
+        vector[offset + 1] = toByte(character.getGeneration() == null ? 0 : character.getGeneration().getGeneration());
+        vector[offset + 2] = toByte(character.getWillpower());
+
+        return vector;
+    }
+
+    /**
+     * Add or replace the given character file in the index.
+     *
+     * @param file The file of the character
+     * @param lastModified The modification time of the file
+     * @param size The size of the file
+     * @param character The character
+     */
+    public void update(File file, long lastModified, long size, Character character) {
+        this.update(file, lastModified, size, character.getId(), character.getName(), this.toVector(character));
+    }
+
+    /**
+     * Add or replace the given vector in the index.
+     *
+     * @param file The file of the character
+     * @param lastModified The modification time of the file
+     * @param size The size of the file
+     * @param id The id of the character
+     * @param name The name of the character
+     * @param vector The trait vector of the character
+     */
+    void update(File file, long lastModified, long size, UUID id, String name, byte[] vector) {
+        String path = file.getAbsolutePath();
+        this.lock.writeLock().lock();
+
+        try {
+            Integer existing = this.rowsByPath.get(path);
+            int row;
+
+            if (existing == null) {
+                this.ensureCapacity();
+                row = this.rows++;
+                this.rowsByPath.put(path, row);
+            } else {
+                row = existing;
+            }
+
+            this.paths[row] = path;
+            this.ids[row] = id;
+            this.names[row] = name;
+            this.lastModified[row] = lastModified;
+            this.sizes[row] = size;
+            System.arraycopy(vector, 0, this.vectors, row * this.dimensions, this.dimensions);
+            this.norms[row] = norm(vector, 0, this.dimensions);
+
+            if (this.centroids != null) {
+                this.clusterOfRow[row] = this.nearestCentroid(row);
+            }
+
+            this.clusterRows = null;
+            this.dirty = true;
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove the given file from the index.
+     *
+     * @param file The file to remove
+     */
+    public void remove(File file) {
+        this.lock.writeLock().lock();
+
+        try {
+            Integer row = this.rowsByPath.remove(file.getAbsolutePath());
+
+            if (row == null) {
+                return;
+            }
+
+            int last = --this.rows;
+
+            if (row != last) {
+                this.paths[row] = this.paths[last];
+                this.ids[row] = this.ids[last];
+                this.names[row] = this.names[last];
+                this.lastModified[row] = this.lastModified[last];
+                this.sizes[row] = this.sizes[last];
+                this.norms[row] = this.norms[last];
+                this.clusterOfRow[row] = this.clusterOfRow[last];
+                System.arraycopy(this.vectors, last * this.dimensions, this.vectors, row * this.dimensions, this.dimensions);
+                this.rowsByPath.put(this.paths[row], row);
+            }
+
+            this.paths[last] = null;
+            this.ids[last] = null;
+            this.names[last] = null;
+            this.clusterRows = null;
+            this.dirty = true;
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Find the characters most similar to the given one.
+     * The character itself is never part of the result.
+     *
+     * @param character The character to compare with
+     * @param limit The maximum number of characters to return
+     * @param metric The measure to compare the vectors with
+     *
+     * @return The most similar characters, the most similar first
+     */
+    public List<Neighbour> findSimilar(Character character, int limit, Metric metric) {
+        return this.findSimilar(this.toVector(character), character.getId(), limit, metric);
+    }
+
+    /**
+     * Find the characters whose vectors are most similar to the given one.
+     *
+     * @param vector The vector to compare with
+     * @param exclude The id of a character to leave out or null
+     * @param limit The maximum number of characters to return
+     * @param metric The measure to compare the vectors with
+     *
+     * @return The most similar characters, the most similar first
+     */
+    List<Neighbour> findSimilar(byte[] vector, UUID exclude, int limit, Metric metric) {
+        if (limit <= 0) {
+            return new ArrayList<>();
+        }
+
+        this.preparePartitions();
+        this.lock.readLock().lock();
+
+        try {
+            int[] candidates = this.getCandidates(vector);
+            float[] distances = new float[candidates == null ? this.rows : candidates.length];
+            float vectorNorm = norm(vector, 0, vector.length);
+            IntStream indices = IntStream.range(0, distances.length);
+
+            if (distances.length >= PARALLEL_THRESHOLD) {
+                indices = indices.parallel();
+            }
+
+            indices.forEach(i -> distances[i] = this.distance(
+                vector,
+                vectorNorm,
+                candidates == null ? i : candidates[i],
+                metric
+            ));
+
+            // Max heap of the best rows found so far, the worst one on top to be replaced first.
+            PriorityQueue<Integer> best = new PriorityQueue<>(
+                limit + 1,
+                (a, b) -> Float.compare(distances[b], distances[a])
+            );
+
+            for (int i = 0; i < distances.length; i++) {
+                int row = candidates == null ? i : candidates[i];
+
+                if (this.ids[row].equals(exclude)) {
+                    continue;
+                }
+
+                if (best.size() < limit) {
+                    best.add(i);
+                } else if (distances[i] < distances[best.peek()]) {
+                    best.poll();
+                    best.add(i);
+                }
+            }
+
+            Neighbour[] neighbours = new Neighbour[best.size()];
+
+            for (int position = neighbours.length - 1; position >= 0; position--) {
+                int i = best.poll();
+                int row = candidates == null ? i : candidates[i];
+                neighbours[position] = new Neighbour(new File(this.paths[row]), this.ids[row], this.names[row], distances[i]);
+            }
+
+            return new ArrayList<>(Arrays.asList(neighbours));
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Load the index file. A missing or unreadable index, or one created for other traits, results in an empty index.
+     *
+     * @return True if the index has been loaded
+     */
+    public boolean load() {
+        this.lock.writeLock().lock();
+
+        try {
+            this.clear();
+
+            if (this.indexFile == null || !this.indexFile.isFile()) {
+                return false;
+            }
+
+            try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(this.indexFile.toPath())))) {
+                if (input.readInt() != MAGIC || input.readByte() != VERSION) {
+                    throw new IOException("Unsupported similarity index '" + this.indexFile.getPath() + "'!");
+                }
+
+                String[] layout = this.getLayout();
+
+                if (input.readInt() != this.dimensions || input.readInt() != layout.length) {
+                    return false;
+                }
+
+                for (String trait : layout) {
+                    if (!trait.equals(input.readUTF())) {
+                        return false;
+                    }
+                }
+
+                byte[] vector = new byte[this.dimensions];
+
+                for (int i = input.readInt(); i > 0; i--) {
+                    File file = new File(input.readUTF());
+                    UUID id = new UUID(input.readLong(), input.readLong());
+                    String name = CharacterLibrary.readString(input);
+                    long lastModified = input.readLong();
+                    long size = input.readLong();
+                    input.readFully(vector);
+                    this.update(file, lastModified, size, id, name, vector);
+                }
+
+                this.dirty = false;
+
+                return true;
+            } catch (IOException ex) {
+                Logger.getLogger(CharacterSimilarityIndex.class.getName()).log(Level.WARNING, null, ex);
+                this.clear();
+
+                return false;
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Write the index to the index file if it has been changed, replacing the previous one atomically.
+     *
+     * @throws IOException If the index couldn't be written
+     */
+    public void store() throws IOException {
+        if (this.indexFile == null) {
+            return;
+        }
+
+        this.lock.readLock().lock();
+
+        try {
+            if (!this.dirty && this.indexFile.isFile()) {
+                return;
+            }
+
+            String[] layout = this.getLayout();
+            AtomicFileWriter.write(this.indexFile, stream -> {
+                DataOutputStream output = new DataOutputStream(stream);
+                output.writeInt(MAGIC);
+                output.writeByte(VERSION);
+                output.writeInt(this.dimensions);
+                output.writeInt(layout.length);
+
+                for (String trait : layout) {
+                    output.writeUTF(trait);
+                }
+
+                output.writeInt(this.rows);
+
+                for (int row = 0; row < this.rows; row++) {
+                    output.writeUTF(this.paths[row]);
+                    output.writeLong(this.ids[row].getMostSignificantBits());
+                    output.writeLong(this.ids[row].getLeastSignificantBits());
+                    CharacterLibrary.writeString(output, this.names[row]);
+                    output.writeLong(this.lastModified[row]);
+                    output.writeLong(this.sizes[row]);
+                    output.write(this.vectors, row * this.dimensions, this.dimensions);
+                }
+
+                output.flush();
+            });
+            this.dirty = false;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean isIndexed(File file, long lastModified, long size) {
+        this.lock.readLock().lock();
+
+        try {
+            Integer row = this.rowsByPath.get(file.getAbsolutePath());
+
+            return row != null && this.lastModified[row] == lastModified && this.sizes[row] == size;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void characterIndexed(File file, long lastModified, long size, Character character) {
+        this.update(file, lastModified, size, character);
+    }
+
+    @Override
+    public void fileRemoved(File file) {
+        this.remove(file);
+    }
+
+    @Override
+    public void rescanFinished() {
+        this.storeLogged();
+    }
+
+    @Override
+    public void characterSaved(Character character, File file) {
+        this.update(file, file.lastModified(), file.length(), character);
+        this.storeLogged();
+    }
+
+    /**
+     * Check if the vectors are currently partitioned into clusters.
+     */
+    boolean isPartitioned() {
+        this.lock.readLock().lock();
+
+        try {
+            return this.centroids != null;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Get the rows of the clusters closest to the given vector.
+     *
+     * @param vector The vector to compare with
+     *
+     * @return The rows or null if every row has to be compared
+     */
+    private int[] getCandidates(byte[] vector) {
+        // The member lists may have been dropped by an update since they were prepared.
+        if (this.centroids == null || this.clusterRows == null) {
+            return null;
+        }
+
+        float[] centroidDistances = new float[this.centroids.length];
+
+        for (int cluster = 0; cluster < this.centroids.length; cluster++) {
+            centroidDistances[cluster] = squaredDistance(this.centroids[cluster], vector, 0, Float.MAX_VALUE);
+        }
+
+        Integer[] order = new Integer[this.centroids.length];
+        Arrays.setAll(order, cluster -> cluster);
+        Arrays.sort(order, (a, b) -> Float.compare(centroidDistances[a], centroidDistances[b]));
+        // Probe the closest clusters until there are as many rows as in the given number of average sized clusters,
+        // so a few oversized clusters can't turn the query into a full scan.
+        long target = (long) PROBED_CLUSTERS * this.rows / order.length;
+        int probes = 0;
+        int count = 0;
+
+        while (probes < order.length && count < target) {
+            count += this.clusterRows[order[probes++]].length;
+        }
+
+        int[] candidates = new int[count];
+        int position = 0;
+
+        for (int i = 0; i < probes; i++) {
+            int[] members = this.clusterRows[order[i]];
+            System.arraycopy(members, 0, candidates, position, members.length);
+            position += members.length;
+        }
+
+        return candidates;
+    }
+
+    /**
+     * Make sure the cluster partitions fit the current rows.
+     * Clusters are trained once the library reaches the threshold and retrained whenever it has doubled in size
+     * since. In between only the member lists are rebuilt after changes.
+     */
+    private void preparePartitions() {
+        this.lock.readLock().lock();
+
+        try {
+            if (!this.needsPartitioning()) {
+                return;
+            }
+        } finally {
+            this.lock.readLock().unlock();
+        }
+
+        this.lock.writeLock().lock();
+
+        try {
+            if (!this.needsPartitioning()) {
+                return;
+            }
+
+            if (this.rows < this.clusterThreshold) {
+                this.centroids = null;
+                this.clusterRows = null;
+
+                return;
+            }
+
+            if (this.centroids == null || this.rows >= this.trainedRows * 2) {
+                this.trainClusters();
+            }
+
+            if (this.clusterRows == null) {
+                this.buildClusterRows();
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Store the index, logging failures.
+     */
+    private void storeLogged() {
+        try {
+            this.store();
+        } catch (IOException ex) {
+            Logger.getLogger(CharacterSimilarityIndex.class.getName()).log(Level.SEVERE, null, ex);
+        }
+    }
+
+    /**
+     * Remove every row and cluster. The write lock has to be held.
+     */
+    private void clear() {
+        this.rowsByPath.clear();
+        Arrays.fill(this.paths, 0, this.rows, null);
+        Arrays.fill(this.ids, 0, this.rows, null);
+        Arrays.fill(this.names, 0, this.rows, null);
+        this.rows = 0;
+        this.centroids = null;
+        this.trainedRows = 0;
+        this.clusterRows = null;
+        this.dirty = false;
+    }
+
+    /**
+     * Get the trait of every vector dimension, to detect index files of other traits.
+     *
+     * @return The traits by dimension
+     */
+    private String[] getLayout() {
+        String[] layout = new String[this.dimensionsByTrait.size()];
+        this.dimensionsByTrait.forEach((trait, dimension) -> layout[dimension] = trait);
+
+        return layout;
+    }
+
+    /**
+     * Check if the clusters have to be trained, rebuilt or dropped.
+     *
+     * @return True if the clusters don't fit the current rows
+     */
+    private boolean needsPartitioning() {
+        if (this.rows < this.clusterThreshold) {
+            return this.centroids != null;
+        }
+
+        return this.centroids == null || this.clusterRows == null || this.rows >= this.trainedRows * 2;
+    }
+
+    /**
+     * Train the cluster centroids with k-means on a sample of the rows and assign every row to its closest cluster.
+     */
+    private void trainClusters() {
+        int clusters = (int) Math.sqrt(this.rows / 2.0);
+        Random random = new Random(this.rows);
+        int[] sample = new int[Math.min(this.rows, clusters * TRAINING_SAMPLES_PER_CLUSTER)];
+
+        for (int i = 0; i < sample.length; i++) {
+            sample[i] = sample.length == this.rows ? i : random.nextInt(this.rows);
+        }
+
+        float[][] trained = new float[clusters][this.dimensions];
+
+        for (int cluster = 0; cluster < clusters; cluster++) {
+            int offset = sample[random.nextInt(sample.length)] * this.dimensions;
+
+            for (int d = 0; d < this.dimensions; d++) {
+                trained[cluster][d] = this.vectors[offset + d];
+            }
+        }
+
+        this.centroids = trained;
+        int[] assignment = new int[sample.length];
+
+        for (int iteration = 0; iteration < TRAINING_ITERATIONS; iteration++) {
+            IntStream.range(0, sample.length).parallel().forEach(i -> assignment[i] = this.nearestCentroid(sample[i]));
+            float[][] sums = new float[clusters][this.dimensions];
+            int[] counts = new int[clusters];
+
+            for (int i = 0; i < sample.length; i++) {
+                int offset = sample[i] * this.dimensions;
+                counts[assignment[i]]++;
+
+                for (int d = 0; d < this.dimensions; d++) {
+                    sums[assignment[i]][d] += this.vectors[offset + d];
+                }
+            }
+
+            for (int cluster = 0; cluster < clusters; cluster++) {
+                // Empty clusters keep their old centroid.
+                if (counts[cluster] > 0) {
+                    for (int d = 0; d < this.dimensions; d++) {
+                        trained[cluster][d] = sums[cluster][d] / counts[cluster];
+                    }
+                }
+            }
+        }
+
+        IntStream.range(0, this.rows).parallel().forEach(row -> this.clusterOfRow[row] = this.nearestCentroid(row));
+        this.trainedRows = this.rows;
+        this.clusterRows = null;
+    }
+
+    /**
+     * Collect the rows of every cluster.
+     */
+    private void buildClusterRows() {
+        int[] counts = new int[this.centroids.length];
+
+        for (int row = 0; row < this.rows; row++) {
+            counts[this.clusterOfRow[row]]++;
+        }
+
+        int[][] members = new int[this.centroids.length][];
+
+        for (int cluster = 0; cluster < members.length; cluster++) {
+            members[cluster] = new int[counts[cluster]];
+            counts[cluster] = 0;
+        }
+
+        for (int row = 0; row < this.rows; row++) {
+            int cluster = this.clusterOfRow[row];
+            members[cluster][counts[cluster]++] = row;
+        }
+
+        this.clusterRows = members;
+    }
+
+    /**
+     * Get the cluster whose centroid is closest to the vector of the given row.
+     *
+     * @param row The row
+     *
+     * @return The cluster
+     */
+    private int nearestCentroid(int row) {
+        int nearest = 0;
+        float nearestDistance = Float.MAX_VALUE;
+
+        for (int cluster = 0; cluster < this.centroids.length; cluster++) {
+            float distance = squaredDistance(this.centroids[cluster], this.vectors, row * this.dimensions, nearestDistance);
+
+            if (distance < nearestDistance) {
+                nearest = cluster;
+                nearestDistance = distance;
+            }
+        }
+
+        return nearest;
+    }
+
+    /**
+     * Get the distance between the given vector and the vector of a row.
+     *
+     * @param vector The vector
+     * @param vectorNorm The euclidean norm of the vector
+     * @param row The row
+     * @param metric The measure to use
+     *
+     * @return The distance
+     */
+    private float distance(byte[] vector, float vectorNorm, int row, Metric metric) {
+        int offset = row * this.dimensions;
+
+        if (metric == Metric.L1) {
+            int sum = 0;
+
+            for (int d = 0; d < this.dimensions; d++) {
+                sum += Math.abs(vector[d] - this.vectors[offset + d]);
+            }
+
+            return sum;
+        }
+
+        float norms = vectorNorm * this.norms[row];
+
+        if (norms == 0) {
+            return 1;
+        }
+
+        int dot = 0;
+
+        for (int d = 0; d < this.dimensions; d++) {
+            dot += vector[d] * this.vectors[offset + d];
+        }
+
+        return 1 - dot / norms;
+    }
+
+    /**
+     * Write the given trait values into the vector.
+     *
+     * @param vector The vector to write to
+     * @param type The storage type of the traits
+     * @param traits The trait values
+     */
+    private void setTraits(byte[] vector, StorageFactory.StorageType type, Iterable<? extends TraitValue<?>> traits) {
+        String prefix = type.name() + ".";
+
+        for (TraitValue<?> trait : traits) {
+            Integer dimension = this.dimensionsByTrait.get(prefix + trait.getKey());
+
+            if (dimension != null) {
+                vector[dimension] = toByte(trait.getValue());
+            }
+        }
+    }
+
+    /**
+     * Make sure there is room for one more row.
+     */
+    private void ensureCapacity() {
+        if (this.rows < this.paths.length) {
+            return;
+        }
+
+        int capacity = this.paths.length * 2;
+        this.paths = Arrays.copyOf(this.paths, capacity);
+        this.ids = Arrays.copyOf(this.ids, capacity);
+        this.names = Arrays.copyOf(this.names, capacity);
+        this.lastModified = Arrays.copyOf(this.lastModified, capacity);
+        this.sizes = Arrays.copyOf(this.sizes, capacity);
+        this.norms = Arrays.copyOf(this.norms, capacity);
+        this.clusterOfRow = Arrays.copyOf(this.clusterOfRow, capacity);
+        this.vectors = Arrays.copyOf(this.vectors, capacity * this.dimensions);
+    }
+
+    /**
+     * Get the euclidean norm of a vector.
+     *
+     * @param vector The array containing the vector
+     * @param offset The start of the vector
+     * @param length The number of values
+     *
+     * @return The norm
+     */
+    private static float norm(byte[] vector, int offset, int length) {
+        int sum = 0;
+
+        for (int d = offset; d < offset + length; d++) {
+            sum += vector[d] * vector[d];
+        }
+
+        return (float) Math.sqrt(sum);
+    }
+
+    /**
+     * Get the squared euclidean distance between a centroid and a vector.
+     * The calculation stops early once the distance exceeds the given bound.
+     *
+     * @param centroid The centroid
+     * @param vectors The array containing the vector
+     * @param offset The start of the vector
+     * @param bound The distance from which on the exact value isn't of interest
+     *
+     * @return The squared distance or a value of at least the bound
+     */
+    private static float squaredDistance(float[] centroid, byte[] vectors, int offset, float bound) {
+        float sum = 0;
+
+        for (int d = 0; d < centroid.length; d++) {
+            float difference = centroid[d] - vectors[offset + d];
+            sum += difference * difference;
+
+            if (sum >= bound) {
+                return sum;
+            }
+        }
+
+        return sum;
+    }
+
+    /**
+     * Clamp a trait value into a byte.
+     *
+     * @param value The value
+     *
+     * @return The clamped value
+     */
+    private static byte toByte(int value) {
+        return (byte) Math.max(Byte.MIN_VALUE, Math.min(Byte.MAX_VALUE, value));
+    }
+}
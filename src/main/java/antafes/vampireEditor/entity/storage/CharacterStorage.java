@@ -21,20 +21,29 @@
  */
 package antafes.vampireEditor.entity.storage;
 
-import antafes.myXML.XMLParser;
-import antafes.myXML.XMLValidator;
-import antafes.myXML.XMLWriter;
 import antafes.vampireEditor.Configuration;
-import antafes.vampireEditor.VampireEditor;
-import antafes.vampireEditor.entity.*;
 import antafes.vampireEditor.entity.Character;
-import antafes.vampireEditor.entity.character.*;
-import org.w3c.dom.Element;
-
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.util.HashMap;
+import antafes.vampireEditor.entity.EntityStorageException;
+import org.xml.sax.SAXException;
+
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamException;
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -44,25 +53,182 @@ import java.util.logging.Logger;
  * @author Marian Pollzien
  */
 public class CharacterStorage extends BaseStorage<Character> {
+    /**
+     * The amount of validation applied when loading a character file.
+     */
+    public enum ValidationLevel {
+        /**
+         * Validate against the full character schema.
+         */
+        STRICT,
+        /**
+         * Only check that the file is well-formed and contains every field required to build a character.
+         */
+        LENIENT,
+        /**
+         * Only check that the file is well-formed, for trusted files written by the editor itself.
+         */
+        OFF;
+
+        /**
+         * Check if this level validates at least as much as the given one.
+         *
+         * @param level The level to compare to
+         *
+         * @return True if this level is the same or stricter
+         */
+        public boolean covers(ValidationLevel level) {
+            return this.ordinal() <= level.ordinal();
+        }
+    }
+
+    /**
+     * The file formats characters can be stored in.
+     */
+    public enum Format {
+        XML (".xml"),
+        BINARY (".vch");
+
+        private final String extension;
+
+        /**
+         * Constructor
+         *
+         * @param extension The file extension of the format
+         */
+        Format(String extension) {
+            this.extension = extension;
+        }
+
+        /**
+         * Get the file extension of the format.
+         */
+        public String getExtension() {
+            return extension;
+        }
+
+        /**
+         * Get the format of the given file by its extension. Unknown extensions are treated as XML.
+         *
+         * @param filename The name of the file
+         *
+         * @return The format
+         */
+        public static Format forFilename(String filename) {
+            return filename.toLowerCase().endsWith(BINARY.extension) ? BINARY : XML;
+        }
+    }
+
+    /**
+     * Listener notified about every character written to a file.
+     */
+    @FunctionalInterface
+    public interface SaveListener {
+        /**
+         * Called after a character has been written. This is called on the thread that wrote the file.
+         * Saves that are skipped, because the file already contains the character, are not reported.
+         *
+         * @param character The saved character
+         * @param file The written file
+         */
+        void characterSaved(Character character, File file);
+    }
+
+    /**
+     * The content of a character as it is stored in a file.
+     */
+    private static final class StoredContent {
+        private final String hash;
+        private final Path path;
+        private final long lastModified;
+        private final long size;
+        private final ValidationLevel level;
+
+        /**
+         * Constructor
+         *
+         * @param hash The content hash of the character
+         * @param path The file the character is stored in
+         * @param level The validation the file has been loaded with
+         *
+         * @throws IOException If the attributes of the file couldn't be read
+         */
+        StoredContent(String hash, Path path, ValidationLevel level) throws IOException {
+            this.hash = hash;
+            this.path = path;
+            this.level = level;
+            this.lastModified = Files.getLastModifiedTime(path).toMillis();
+            this.size = Files.size(path);
+        }
+
+        /**
+         * Check if the given file still contains a character with the given hash.
+         * The file is expected to be unchanged if neither its modification time nor its size changed.
+         *
+         * @param hash The content hash of the character
+         * @param path The file to check
+         *
+         * @return True if the file doesn't have to be written again
+         */
+        boolean isUpToDate(String hash, Path path) {
+            return this.hash.equals(hash) && this.isUnchanged(path);
+        }
+
+        /**
+         * Check if the given file is the one the character is stored in and hasn't been changed since.
+         *
+         * @param path The file to check
+         *
+         * @return True if the file is unchanged
+         */
+        boolean isUnchanged(Path path) {
+            try {
+                return this.path.equals(path)
+                    && Files.getLastModifiedTime(path).toMillis() == this.lastModified
+                    && Files.size(path) == this.size;
+            } catch (IOException ex) {
+                return false;
+            }
+        }
+    }
+
+    private static final int PEEK_BUFFER_SIZE = 1024;
+    private static final int DEFAULT_CACHE_CAPACITY = 50;
+    private static final String HASH_ALGORITHM = "SHA-256";
     private final Configuration configuration;
-    private final XMLWriter xw;
-    private final XMLParser xp;
-    private final XMLValidator xv;
+    private final ConcurrentHashMap<String, StoredContent> storedContents = new ConcurrentHashMap<>();
+    private final CharacterCache cache;
+    private final CopyOnWriteArrayList<SaveListener> saveListeners = new CopyOnWriteArrayList<>();
+    private volatile CharacterSaveQueue saveQueue;
 
     /**
      * Create a new character storage.
+     * Every load and save uses its own parser or writer, so characters may be loaded and saved from several
+     * threads at once. Loaded characters are kept in a bounded cache, characters shown in open tabs should be pinned.
      */
     CharacterStorage() {
-        super();
+        this(DEFAULT_CACHE_CAPACITY);
+    }
 
-        HashMap<String, String> rootAttributes = new HashMap<>();
-        rootAttributes.put("xmlns:xsi", "http://www.w3.org/2001/XMLSchema-instance");
+    /**
+     * Create a new character storage keeping the given number of characters that aren't pinned.
+     *
+     * @param cacheCapacity The number of unpinned characters kept in memory
+     */
+    CharacterStorage(int cacheCapacity) {
+        this(new CharacterCache(cacheCapacity));
+    }
+
+    /**
+     * Create a new character storage.
+     *
+     * @param cache The cache holding the loaded characters
+     */
+    private CharacterStorage(CharacterCache cache) {
+        super(cache);
+
+        this.cache = cache;
         this.configuration = Configuration.getInstance();
-        String characterSchemaPath = "character.xsd";
-        this.xw = new XMLWriter("character");
-        this.xw.addRootNodeAttributes(rootAttributes);
-        this.xp = new XMLParser(VampireEditor.getFileInJar(characterSchemaPath));
-        this.xv = new XMLValidator(VampireEditor.getFileInJar(characterSchemaPath));
     }
 
     /**
@@ -87,19 +253,54 @@ public class CharacterStorage extends BaseStorage<Character> {
     }
 
     /**
-     * Save the given character.
+     * Save the given character. The format is chosen by the extension of the filename.
+     * The file is replaced atomically, so it either contains the previous or the new state of the character.
+     * Nothing is written if the file already contains the current state of the character.
      *
      * @param character The character to save
      * @param filename The filename to use for saving
      */
     public void save(antafes.vampireEditor.entity.Character character, String filename) {
-        this.addRequiredFields(character);
-        this.xw.write(this.configuration.getSaveDirPath(filename));
+        try {
+            this.writeIfChanged(character, this.getSaveFile(filename));
+        } catch (IOException | XMLStreamException ex) {
+            Logger.getLogger(CharacterStorage.class.getName()).log(Level.SEVERE, null, ex);
+        }
+
+        this.getList().put(character.getId().toString(), character);
+    }
+
+    /**
+     * Queue the given character to be saved in the background. The format is chosen by the extension of the filename.
+     * Saves are written one after another by a single writer thread. Saving a character again before its previous
+     * save has been written only writes the latest state, both calls get the same future. Nothing is written if the
+     * file already contains the current state of the character.
+     *
+     * @param character The character to save
+     * @param filename The filename to use for saving
+     *
+     * @return Future completed with the written file, or exceptionally if the character couldn't be saved
+     */
+    public CompletableFuture<File> saveAsync(antafes.vampireEditor.entity.Character character, String filename) {
         this.getList().put(character.getId().toString(), character);
+
+        return this.getSaveQueue().submit(character, this.getSaveFile(filename));
     }
 
     /**
-     * Load a character from the given file.
+     * Wait until every save queued with {@link #saveAsync(Character, String)} so far has been written.
+     *
+     * @param timeout The maximum time to wait
+     * @param unit The unit of the timeout
+     *
+     * @return True if every save has been written in time
+     */
+    public boolean awaitPendingSaves(long timeout, TimeUnit unit) {
+        return this.saveQueue == null || this.saveQueue.awaitPending(timeout, unit);
+    }
+
+    /**
+     * Load a character from the given file, validating it against the character schema.
      *
      * @param filename The file to load
      *
@@ -107,276 +308,444 @@ public class CharacterStorage extends BaseStorage<Character> {
      * @throws EntityStorageException Thrown if character couldn't be loaded
      */
     public antafes.vampireEditor.entity.Character load(String filename) throws EntityStorageException  {
-        if (this.xp.parse(this.configuration.getOpenDirPath() + "/" + filename)) {
-            Character character = this.fillValues();
+        return this.load(filename, ValidationLevel.STRICT);
+    }
 
-            if (character != null) {
-                this.getList().put(character.getId().toString(), character);
+    /**
+     * Load a character from the given file. The format is chosen by the extension of the filename.
+     *
+     * @param filename The file to load
+     * @param level The amount of validation to apply to XML files
+     *
+     * @return The loaded character
+     * @throws EntityStorageException Thrown if character couldn't be loaded
+     */
+    public antafes.vampireEditor.entity.Character load(String filename, ValidationLevel level)
+        throws EntityStorageException {
+        return this.load(new File(this.configuration.getOpenDirPath(), filename), filename, level);
+    }
 
-                return character;
-            }
-        }
+    /**
+     * Load a character from the given file. The format is chosen by the extension of the file.
+     *
+     * @param file The file to load
+     * @param level The amount of validation to apply to XML files
+     *
+     * @return The loaded character
+     * @throws EntityStorageException Thrown if character couldn't be loaded
+     */
+    public antafes.vampireEditor.entity.Character load(File file, ValidationLevel level) throws EntityStorageException {
+        return this.load(file, file.getPath(), level);
+    }
 
-        EntityStorageException ex = new EntityStorageException("Could not load character '" + filename + "'!");
+    /**
+     * Add a listener notified about every character written by {@link #save(Character, String)} or
+     * {@link #saveAsync(Character, String)}.
+     *
+     * @param listener The listener to add
+     */
+    public void addSaveListener(SaveListener listener) {
+        this.saveListeners.add(listener);
+    }
 
-        this.xp.getExceptionList().forEach(ex::addSuppressed);
+    /**
+     * Remove a previously added save listener.
+     *
+     * @param listener The listener to remove
+     */
+    public void removeSaveListener(SaveListener listener) {
+        this.saveListeners.remove(listener);
+    }
 
-        throw ex;
+    /**
+     * Pin the given character, so it stays in memory until it is unpinned.
+     * This should be called for every character shown in a tab.
+     *
+     * @param id The id of the character
+     */
+    public void pin(UUID id) {
+        this.cache.pin(id.toString());
     }
 
     /**
-     * Add all fields that are required to generate a new character object out of the stored data.
-     *
-     * @param character The character to get the data from
-     */
-    private void addRequiredFields(antafes.vampireEditor.entity.Character character) {
-        SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd");
-        HashMap<String, String> dateNilAttributes = new HashMap<>();
-        dateNilAttributes.put("xsi:nil", "true");
-        HashMap<String, String> rootAttributes = new HashMap<>();
-        rootAttributes.put("id", character.getId().toString());
-
-        this.xw.addRootNodeAttributes(rootAttributes);
-        this.xw.addChild("name", character.getName());
-        this.xw.addChild("clan", character.getClan().getKey());
-        this.xw.addChild("generation", character.getGeneration().toString());
-        this.xw.addChild("chronicle", character.getChronicle());
-        this.xw.addChild("experience", Integer.toString(character.getExperience()));
-        this.xw.addChild("nature", character.getNature());
-        this.xw.addChild("hideout", character.getHideout());
-        this.xw.addChild("player", character.getPlayer());
-        this.xw.addChild("demeanor", character.getDemeanor());
-        this.xw.addChild("concept", character.getConcept());
-        this.xw.addChild("sire", character.getSire());
-        this.xw.addChild("sect", character.getSect());
-
-        Element attributes = this.xw.addChild("attributes");
-        character.getAttributes().forEach((attribute) -> {
-            HashMap<String, String> attributeList = new HashMap<>();
-            attributeList.put("key", attribute.getKey());
-            this.xw.addChild(attributes, "attribute", Integer.toString(attribute.getValue()), attributeList);
-        });
+     * Unpin the given character, so it may be evicted from memory again.
+     *
+     * @param id The id of the character
+     */
+    public void unpin(UUID id) {
+        this.cache.unpin(id.toString());
+    }
 
-        Element abilities = this.xw.addChild("abilities");
-        character.getAbilities().forEach((ability) -> {
-            HashMap<String, String> abilitiesList = new HashMap<>();
-            abilitiesList.put("key", ability.getKey());
-            this.xw.addChild(abilities, "ability", Integer.toString(ability.getValue()), abilitiesList);
-        });
+    /**
+     * Get the number of loads answered from memory instead of reading the file.
+     */
+    public long getCacheHits() {
+        return this.cache.getHits();
+    }
 
-        Element advantages = this.xw.addChild("advantages");
-        character.getAdvantages().forEach((advantage) -> {
-            HashMap<String, String> advantagesList = new HashMap<>();
-            advantagesList.put("key", advantage.getKey());
-            this.xw.addChild(advantages, "advantage", Integer.toString(advantage.getValue()), advantagesList);
-        });
+    /**
+     * Get the number of loads that had to read the file.
+     */
+    public long getCacheMisses() {
+        return this.cache.getMisses();
+    }
 
-        Element merits = this.xw.addChild("merits");
-        character.getMerits().forEach((merit) -> this.xw.addChild(merits, "merit", merit.getKey()));
-
-        Element flaws = this.xw.addChild("flaws");
-        character.getFlaws().forEach((flaw) -> this.xw.addChild(flaws, "flaw", flaw.getKey()));
-
-        HashMap<String, String> roadAttributes = new HashMap<>();
-        roadAttributes.put("key", character.getRoad().getKey());
-        this.xw.addChild("road", Integer.toString(character.getRoad().getValue()), roadAttributes);
-        this.xw.addChild("willpower", Integer.toString(character.getWillpower()));
-        this.xw.addChild("usedWillpower", Integer.toString(character.getUsedWillpower()));
-        this.xw.addChild("bloodPool", Integer.toString(character.getBloodPool()));
-        this.xw.addChild("age", Integer.toString(character.getAge()));
-        this.xw.addChild("apparentAge", Integer.toString(character.getApparentAge()));
-
-        if (character.getDayOfBirth() != null) {
-            this.xw.addChild("dayOfBirth",format.format(character.getDayOfBirth()));
-        } else {
-            this.xw.addChild("dayOfBirth", dateNilAttributes);
-        }
+    /**
+     * Get the number of characters evicted from memory.
+     */
+    public long getCacheEvictions() {
+        return this.cache.getEvictions();
+    }
 
-        if (character.getDayOfDeath() != null) {
-            this.xw.addChild("dayOfDeath", format.format(character.getDayOfDeath()));
-        } else {
-            this.xw.addChild("dayOfDeath", dateNilAttributes);
+    /**
+     * Load a character from the given file, unless the character of the file is still in memory.
+     * A character is taken from memory if the file hasn't changed since it has been loaded or saved, still contains
+     * the same content and has been loaded with at least the requested validation.
+     *
+     * @param file The file to load
+     * @param filename The name of the file used in error messages
+     * @param level The amount of validation to apply to XML files
+     *
+     * @return The loaded character
+     * @throws EntityStorageException Thrown if character couldn't be loaded
+     */
+    private Character load(File file, String filename, ValidationLevel level) throws EntityStorageException {
+        Character cached = this.getCached(file, level);
+
+        if (cached != null) {
+            return cached;
         }
 
-        this.xw.addChild("hairColor", character.getHairColor());
-        this.xw.addChild("eyeColor", character.getEyeColor());
-        this.xw.addChild("skinColor", character.getSkinColor());
-        this.xw.addChild("nationality", character.getNationality());
-        this.xw.addChild("height", Integer.toString(character.getHeight()));
-        this.xw.addChild("weight", Integer.toString(character.getWeight()));
-        this.xw.addChild("sex", character.getSex().name());
-        this.xw.addChild("story", character.getStory());
-        this.xw.addChild("description", character.getDescription());
+        Character character = this.read(file, filename, level);
+        this.getList().put(character.getId().toString(), character);
+        // The validation level only applies to XML files, binary files are always read completely.
+        boolean binary = Format.forFilename(file.getName()) == Format.BINARY;
+        this.rememberContent(character, file, binary ? ValidationLevel.STRICT : level);
+
+        return character;
     }
 
     /**
-     * Create a new character object and fill it with values.
+     * Get the character of the given file from memory.
+     *
+     * @param file The file of the character
+     * @param level The validation the character must have been loaded with
      *
-     * @return The newly created character
+     * @return The character or null if it has to be read from the file
      */
-    private antafes.vampireEditor.entity.Character fillValues() {
-        antafes.vampireEditor.entity.Character.CharacterBuilder<?, ?> builder = antafes.vampireEditor.entity.Character.builder();
-        SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd");
-        Element root = this.xp.getRootElement();
-        String id = root.getAttribute("id");
+    private Character getCached(File file, ValidationLevel level) {
+        String id;
 
-        if (id == null || id.equals("")) {
+        try {
+            id = this.peekId(file).toString();
+        } catch (EntityStorageException ex) {
             return null;
         }
 
-        ClanStorage clanStorage = (ClanStorage) StorageFactory.getStorage(StorageFactory.StorageType.CLAN);
-        builder.setId(UUID.fromString(id));
-        builder.setName(XMLParser.getTagValue("name", root));
+        Path path = file.toPath().toAbsolutePath();
+        StoredContent stored = this.storedContents.get(id);
+
+        return this.cache.lookup(
+            id,
+            character -> stored != null
+                && stored.level.covers(level)
+                && stored.isUnchanged(path)
+                && stored.hash.equals(this.getContentHash(character))
+        );
+    }
+
+    /**
+     * Read only the id of the character in the given file. The format is chosen by the extension of the file.
+     * XML files are read with a streaming parser that stops at the root element, nothing is validated and the
+     * character isn't added to the storage. This is much cheaper than loading the character.
+     *
+     * @param file The file to read
+     *
+     * @return The id of the character
+     * @throws EntityStorageException Thrown if the file doesn't start like a character file
+     */
+    public UUID peekId(File file) throws EntityStorageException {
+        EntityStorageException ex = new EntityStorageException("Could not read id of character '" + file.getPath() + "'!");
+
+        try (InputStream input = new BufferedInputStream(Files.newInputStream(file.toPath()), PEEK_BUFFER_SIZE)) {
+            UUID id = Format.forFilename(file.getName()) == Format.BINARY
+                ? CharacterBinaryFormat.readId(input)
+                : CharacterXMLReader.readId(input);
+
+            if (id != null) {
+                return id;
+            }
+        } catch (IOException | XMLStreamException | EntityStorageException e) {
+            ex.addSuppressed(e);
+        }
+
+        throw ex;
+    }
 
+    /**
+     * Get the content hash of the given character.
+     * The hash is calculated over the canonical binary form of the character, so characters with equal content have
+     * equal hashes no matter which file or format they were loaded from. This can be used to find duplicate
+     * characters.
+     *
+     * @param character The character to hash
+     *
+     * @return The hash as lower case hex string
+     */
+    public String getContentHash(antafes.vampireEditor.entity.Character character) {
         try {
-            builder.setClan(clanStorage.getEntity(XMLParser.getTagValue("clan", root)));
-        } catch (EntityStorageException e) {
-            e.printStackTrace();
+            MessageDigest digest = MessageDigest.getInstance(HASH_ALGORITHM);
+
+            try (OutputStream output = new DigestOutputStream(new NullOutputStream(), digest)) {
+                CharacterBinaryFormat.write(character, output);
+            }
+
+            StringBuilder hash = new StringBuilder();
+
+            for (byte b : digest.digest()) {
+                hash.append(String.format("%02x", b));
+            }
+
+            return hash.toString();
+        } catch (NoSuchAlgorithmException | IOException ex) {
+            throw new IllegalStateException(ex);
         }
+    }
+
+    /**
+     * Get the content hash of the character with the given id as it was last loaded or saved.
+     *
+     * @param id The id of the character
+     *
+     * @return The hash or null if the character hasn't been loaded or saved
+     */
+    public String getStoredContentHash(String id) {
+        StoredContent content = this.storedContents.get(id);
+
+        return content == null ? null : content.hash;
+    }
+
+    /**
+     * Get the file the character with the given id was last loaded from or saved to.
+     *
+     * @param id The id of the character
+     *
+     * @return The file or null if the character hasn't been loaded or saved
+     */
+    public File getStoredFile(UUID id) {
+        StoredContent content = this.storedContents.get(id.toString());
+
+        return content == null ? null : content.path.toFile();
+    }
+
+    /**
+     * Check if the given character differs from the state it was last loaded or saved in.
+     *
+     * @param character The character
+     *
+     * @return True if the character has changes that aren't stored, or has never been stored at all
+     */
+    public boolean hasLocalChanges(antafes.vampireEditor.entity.Character character) {
+        String hash = this.getStoredContentHash(character.getId().toString());
+
+        return hash == null || !hash.equals(this.getContentHash(character));
+    }
+
+    /**
+     * Check if the file of the character with the given id has been changed since the character was loaded from or
+     * saved to it, e.g. by another program.
+     *
+     * @param id The id of the character
+     *
+     * @return True if the file has been changed or removed
+     */
+    public boolean isStoredFileChanged(UUID id) {
+        StoredContent content = this.storedContents.get(id.toString());
+
+        return content != null && !content.isUnchanged(content.path);
+    }
+
+    /**
+     * Convert a character file into another format.
+     * The formats are chosen by the extensions of the files, the converted character is not added to the storage.
+     *
+     * @param source The file to convert
+     * @param target The file to write the converted character to
+     *
+     * @throws EntityStorageException Thrown if the source couldn't be loaded or the target couldn't be written
+     */
+    public void convert(File source, File target) throws EntityStorageException {
+        Character character = this.read(source, source.getPath(), ValidationLevel.STRICT);
 
-        GenerationStorage generationStorage = (GenerationStorage) StorageFactory.getStorage(StorageFactory.StorageType.GENERATION);
         try {
-            builder.setGeneration(generationStorage.getEntity(XMLParser.getTagValueInt("generation", root)));
-        } catch (EntityStorageException e) {
-            e.printStackTrace();
+            this.write(character, target);
+        } catch (IOException | XMLStreamException ex) {
+            throw new EntityStorageException("Could not write character '" + target.getPath() + "'!", ex);
         }
-        builder.setChronicle(XMLParser.getTagValue("chronicle", root));
-        builder.setExperience(XMLParser.getTagValueInt("experience", root));
-        builder.setNature(XMLParser.getTagValue("nature", root));
-        builder.setHideout(XMLParser.getTagValue("hideout", root));
-        builder.setPlayer(XMLParser.getTagValue("player", root));
-        builder.setDemeanor(XMLParser.getTagValue("demeanor", root));
-        builder.setConcept(XMLParser.getTagValue("concept", root));
-        builder.setSire(XMLParser.getTagValue("sire", root));
-        builder.setSect(XMLParser.getTagValue("sect", root));
-
-        Element attributes = XMLParser.getTagElement("attributes", root);
-        AttributeStorage attributeStorage = (AttributeStorage) StorageFactory.getStorage(StorageFactory.StorageType.ATTRIBUTE);
-        XMLParser.getAllChildren(attributes).stream().map((element) -> {
-            try {
-                String key = element.getAttribute("key");
-                Attribute attribute = attributeStorage.getEntity(key);
+    }
 
-                return attribute.toBuilder()
-                    .setValue(XMLParser.getElementValueInt(element))
-                    .build();
-            } catch (EntityStorageException ex) {
-                Logger.getLogger(CharacterStorage.class.getName()).log(Level.SEVERE, null, ex);
-            }
+    /**
+     * Read a character from the given file.
+     *
+     * @param file The file to read
+     * @param filename The name of the file used in error messages
+     * @param level The amount of validation to apply to XML files
+     *
+     * @return The read character
+     * @throws EntityStorageException Thrown if character couldn't be read
+     */
+    Character read(File file, String filename, ValidationLevel level) throws EntityStorageException {
+        EntityStorageException ex = new EntityStorageException("Could not load character '" + filename + "'!");
 
-            return null;
-        }).forEachOrdered(builder::addAttribute);
+        try {
+            Character character;
 
-        Element abilities = XMLParser.getTagElement("abilities", root);
-        AbilityStorage abilityStorage = (AbilityStorage) StorageFactory.getStorage(StorageFactory.StorageType.ABILITY);
-        XMLParser.getAllChildren(abilities).stream().map((element) -> {
-            try {
-                String key = element.getAttribute("key");
-                Ability ability = abilityStorage.getEntity(key);
+            if (Format.forFilename(file.getName()) == Format.BINARY) {
+                character = CharacterBinaryFormat.read(ByteBuffer.wrap(Files.readAllBytes(file.toPath())));
+            } else {
+                character = new CharacterXMLReader().read(CharacterSchema.parse(file, level).getDocumentElement());
+            }
 
-                return ability.toBuilder()
-                    .setValue(XMLParser.getElementValueInt(element))
-                    .build();
-            } catch (EntityStorageException ex) {
-                Logger.getLogger(CharacterStorage.class.getName()).log(Level.SEVERE, null, ex);
+            if (character != null) {
+                return character;
             }
+        } catch (IOException | SAXException | ParserConfigurationException | EntityStorageException e) {
+            ex.addSuppressed(e);
+        }
 
-            return null;
-        }).forEachOrdered(builder::addAbility);
+        throw ex;
+    }
 
-        Element advantages = XMLParser.getTagElement("advantages", root);
-        AdvantageStorage advantageStorage = (AdvantageStorage) StorageFactory.getStorage(StorageFactory.StorageType.ADVANTAGE);
-        XMLParser.getAllChildren(advantages).stream().map((element) -> {
-            try {
-                String key = element.getAttribute("key");
-                Advantage advantage = advantageStorage.getEntity(key);
+    /**
+     * Get the file to save to for the given filename.
+     *
+     * @param filename The filename to use for saving
+     *
+     * @return The file inside of the save directory
+     */
+    private File getSaveFile(String filename) {
+        return Format.forFilename(filename) == Format.BINARY
+            ? new File(this.configuration.getSaveDirPath(), filename)
+            : this.configuration.getSaveDirPath(filename);
+    }
 
-                return advantage.toBuilder()
-                    .setValue(XMLParser.getElementValueInt(element))
-                    .build();
-            } catch (EntityStorageException ex) {
-                Logger.getLogger(CharacterStorage.class.getName()).log(Level.SEVERE, null, ex);
-            }
+    /**
+     * Get the queue for background saves, creating it on first use.
+     *
+     * @return The save queue
+     */
+    private CharacterSaveQueue getSaveQueue() {
+        CharacterSaveQueue queue = this.saveQueue;
 
-            return null;
-        }).forEachOrdered(builder::addAdvantage);
-
-        MeritStorage meritStorage = (MeritStorage) StorageFactory.getStorage(StorageFactory.StorageType.MERIT);
-        XMLParser.getAllChildren(XMLParser.getTagElement("merits", root))
-            .forEach((element) -> {
-                try {
-                    builder.addMerit(meritStorage.getEntity(XMLParser.getElementValue(element)));
-                } catch (EntityStorageException e) {
-                    e.printStackTrace();
-                }
-            });
-
-        FlawStorage flawStorage = (FlawStorage) StorageFactory.getStorage(StorageFactory.StorageType.FLAW);
-        XMLParser.getAllChildren(XMLParser.getTagElement("flaws", root))
-            .forEach((element) -> {
-                try {
-                    builder.addFlaw(flawStorage.getEntity(XMLParser.getElementValue(element)));
-                } catch (EntityStorageException e) {
-                    e.printStackTrace();
+        if (queue == null) {
+            synchronized (this) {
+                queue = this.saveQueue;
+
+                if (queue == null) {
+                    queue = new CharacterSaveQueue(this::writeIfChanged);
+                    this.saveQueue = queue;
                 }
-            });
+            }
+        }
+
+        return queue;
+    }
+
+    /**
+     * Remember the content hash of the given character, which has just been read from or written to the given file.
+     *
+     * @param character The character
+     * @param file The file containing the character
+     * @param level The validation the file has been loaded with
+     */
+    private void rememberContent(Character character, File file, ValidationLevel level) {
+        this.rememberContent(
+            character.getId().toString(),
+            this.getContentHash(character),
+            file.toPath().toAbsolutePath(),
+            level
+        );
+    }
 
-        RoadStorage roadStorage = (RoadStorage) StorageFactory.getStorage(StorageFactory.StorageType.ROAD);
-        Element road = XMLParser.getTagElement("road", root);
+    /**
+     * Remember the content hash of a character.
+     *
+     * @param id The id of the character
+     * @param hash The content hash of the character
+     * @param path The file containing the character
+     * @param level The validation the file has been loaded with
+     */
+    private void rememberContent(String id, String hash, Path path, ValidationLevel level) {
         try {
-            builder.setRoad(
-                roadStorage
-                    .getEntity(road.getAttribute("key"))
-                    .toBuilder()
-                    .setValue(XMLParser.getTagValueInt("road", root))
-                    .build()
-            );
-        } catch (EntityStorageException e) {
-            e.printStackTrace();
+            this.storedContents.put(id, new StoredContent(hash, path, level));
+        } catch (IOException ex) {
+            this.storedContents.remove(id);
         }
+    }
 
-        builder.setWillpower(XMLParser.getTagValueInt("willpower", root));
-
-        if (XMLParser.tagExists("usedWillpower", root) && XMLParser.getTagValue("usedWillpower", root) != null) {
-            builder.setUsedWillpower(XMLParser.getTagValueInt("usedWillpower", root));
+    /**
+     * Write the character to the given file, unless the file already contains the current state of the character.
+     *
+     * @param character The character to write
+     * @param file The file to write to
+     *
+     * @throws IOException If the file couldn't be written
+     * @throws XMLStreamException If the XML couldn't be generated
+     */
+    private void writeIfChanged(Character character, File file) throws IOException, XMLStreamException {
+        String id = character.getId().toString();
+        String hash = this.getContentHash(character);
+        Path path = file.toPath().toAbsolutePath();
+        StoredContent stored = this.storedContents.get(id);
+
+        if (stored != null && stored.isUpToDate(hash, path)) {
+            return;
         }
 
-        builder.setBloodPool(XMLParser.getTagValueInt("bloodPool", root));
-        builder.setAge(XMLParser.getTagValueInt("age", root));
-        builder.setApparentAge(XMLParser.getTagValueInt("apparentAge", root));
+        this.write(character, file);
+        // Files written by the editor itself are valid, so they don't have to be validated when loaded again.
+        this.rememberContent(id, hash, path, ValidationLevel.STRICT);
 
-        if (XMLParser.tagExists("dayOfBirth", root)
-            && XMLParser.getTagValue("dayOfBirth", root) != null
-            && !XMLParser.getTagValue("dayOfBirth", root).equals("")
-        ) {
+        for (SaveListener listener : this.saveListeners) {
             try {
-                builder.setDayOfBirth(format.parse(XMLParser.getTagValue("dayOfBirth", root)));
-            } catch (ParseException ex) {
+                listener.characterSaved(character, file);
+            } catch (RuntimeException ex) {
                 Logger.getLogger(CharacterStorage.class.getName()).log(Level.SEVERE, null, ex);
             }
         }
+    }
 
-        if (XMLParser.tagExists("dayOfDeath", root)
-            && XMLParser.getTagValue("dayOfDeath", root) != null
-            && !XMLParser.getTagValue("dayOfDeath", root).equals("")
-        ) {
-            try {
-                builder.setDayOfDeath(format.parse(XMLParser.getTagValue("dayOfDeath", root)));
-            } catch (ParseException ex) {
-                Logger.getLogger(CharacterStorage.class.getName()).log(Level.SEVERE, null, ex);
+    /**
+     * Write the character to the given file, creating missing directories.
+     * The character is written to a temporary file in the same directory, which is synced to the disk and then
+     * renamed over the target file.
+     *
+     * @param character The character to write
+     * @param file The file to write to
+     *
+     * @throws IOException If the file couldn't be written
+     * @throws XMLStreamException If the XML couldn't be generated
+     */
+    private void write(Character character, File file) throws IOException, XMLStreamException {
+        AtomicFileWriter.write(file, output -> {
+            if (Format.forFilename(file.getName()) == Format.BINARY) {
+                CharacterBinaryFormat.write(character, output);
+            } else {
+                new CharacterXMLWriter(output).write(character);
             }
+        });
+    }
+
+    /**
+     * Output stream discarding everything written to it.
+     */
+    private static final class NullOutputStream extends OutputStream {
+        @Override
+        public void write(int b) {
         }
 
-        builder.setHairColor(XMLParser.getTagValue("hairColor", root));
-        builder.setEyeColor(XMLParser.getTagValue("eyeColor", root));
-        builder.setSkinColor(XMLParser.getTagValue("skinColor", root));
-        builder.setNationality(XMLParser.getTagValue("nationality", root));
-        builder.setHeight(XMLParser.getTagValueInt("height", root));
-        builder.setWeight(XMLParser.getTagValueInt("weight", root));
-        builder.setSex(antafes.vampireEditor.entity.Character.Sex.valueOf(XMLParser.getTagValue("sex", root)));
-        builder.setStory(XMLParser.getTagValue("story", root));
-        builder.setDescription(XMLParser.getTagValue("description", root));
-
-        return builder.build();
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
     }
 }
@@ -0,0 +1,296 @@
+/*
+ * This file is part of Vampire Editor.
+ *
+ * Vampire Editor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Vampire Editor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Vampire Editor. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @package Vampire Editor
+ * @author Marian Pollzien <map@wafriv.de>
+ * @copyright (c) 2026, Marian Pollzien
+ * @license https://www.gnu.org/licenses/lgpl.html LGPLv3
+ */
+
+package antafes.vampireEditor.entity.storage;
+
+import antafes.myXML.XMLParser;
+import antafes.vampireEditor.entity.Character;
+import antafes.vampireEditor.entity.EntityStorageException;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Single pass reader for parsed character files.
+ * Every child of the root element is visited exactly once and handed to the binding registered for its name, which
+ * fills the character builder. Trait keys are resolved against the storages while walking the document.
+ *
+ * @author Marian Pollzien
+ */
+final class CharacterXMLReader {
+    private static final Map<String, FieldBinding> BINDINGS = createBindings();
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+
+    private final ClanStorage clanStorage;
+    private final GenerationStorage generationStorage;
+    private final AttributeStorage attributeStorage;
+    private final AbilityStorage abilityStorage;
+    private final AdvantageStorage advantageStorage;
+    private final MeritStorage meritStorage;
+    private final FlawStorage flawStorage;
+    private final RoadStorage roadStorage;
+    private final SimpleDateFormat format;
+
+    /**
+     * Binding of a single element to the character builder.
+     */
+    @FunctionalInterface
+    private interface FieldBinding {
+        /**
+         * Fill the builder with the value of the given element.
+         *
+         * @param reader The reader providing the storages
+         * @param builder The builder to fill
+         * @param element The element to read
+         *
+         * @throws EntityStorageException If a referenced entity could not be found
+         * @throws ParseException If a date could not be parsed
+         */
+        void bind(CharacterXMLReader reader, Character.CharacterBuilder<?, ?> builder, Element element)
+            throws EntityStorageException, ParseException;
+    }
+
+    /**
+     * Constructor
+     */
+    CharacterXMLReader() {
+        this.clanStorage = (ClanStorage) StorageFactory.getStorage(StorageFactory.StorageType.CLAN);
+        this.generationStorage = (GenerationStorage) StorageFactory.getStorage(StorageFactory.StorageType.GENERATION);
+        this.attributeStorage = (AttributeStorage) StorageFactory.getStorage(StorageFactory.StorageType.ATTRIBUTE);
+        this.abilityStorage = (AbilityStorage) StorageFactory.getStorage(StorageFactory.StorageType.ABILITY);
+        this.advantageStorage = (AdvantageStorage) StorageFactory.getStorage(StorageFactory.StorageType.ADVANTAGE);
+        this.meritStorage = (MeritStorage) StorageFactory.getStorage(StorageFactory.StorageType.MERIT);
+        this.flawStorage = (FlawStorage) StorageFactory.getStorage(StorageFactory.StorageType.FLAW);
+        this.roadStorage = (RoadStorage) StorageFactory.getStorage(StorageFactory.StorageType.ROAD);
+        this.format = new SimpleDateFormat("yyyy-MM-dd");
+    }
+
+    /**
+     * Read only the id of the character from the given XML stream.
+     * The stream is read up to the root element and not parsed any further.
+     *
+     * @param input The stream containing the character file
+     *
+     * @return The id or null if the root element has no id
+     * @throws XMLStreamException If the file doesn't start with a well-formed root element
+     */
+    static UUID readId(InputStream input) throws XMLStreamException {
+        XMLStreamReader reader = INPUT_FACTORY.createXMLStreamReader(input);
+
+        try {
+            reader.nextTag();
+            String id = reader.getAttributeValue(null, "id");
+
+            return id == null || id.isEmpty() ? null : UUID.fromString(id);
+        } catch (IllegalArgumentException ex) {
+            throw new XMLStreamException("Invalid character id", reader.getLocation(), ex);
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * Create a new character object out of the given root element.
+     *
+     * @param root The root element of the parsed character file
+     *
+     * @return The newly created character or null if the root element has no id
+     */
+    Character read(Element root) {
+        String id = root.getAttribute("id");
+
+        if (id == null || id.isEmpty()) {
+            return null;
+        }
+
+        Character.CharacterBuilder<?, ?> builder = Character.builder();
+        builder.setId(UUID.fromString(id));
+
+        for (Node node = root.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (node.getNodeType() != Node.ELEMENT_NODE) {
+                continue;
+            }
+
+            FieldBinding binding = BINDINGS.get(node.getNodeName());
+
+            if (binding == null) {
+                continue;
+            }
+
+            try {
+                binding.bind(this, builder, (Element) node);
+            } catch (EntityStorageException | ParseException ex) {
+                Logger.getLogger(CharacterXMLReader.class.getName()).log(Level.SEVERE, null, ex);
+            }
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Create the factory for streaming id lookups, without support for DTDs and external entities.
+     *
+     * @return The input factory
+     */
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+
+        return factory;
+    }
+
+    /**
+     * Create the table of element bindings.
+     *
+     * @return The bindings by element name
+     */
+    private static Map<String, FieldBinding> createBindings() {
+        HashMap<String, FieldBinding> bindings = new HashMap<>();
+
+        bindings.put("name", (reader, builder, element) -> builder.setName(value(element)));
+        bindings.put(
+            "clan",
+            (reader, builder, element) -> builder.setClan(reader.clanStorage.getEntity(value(element)))
+        );
+        bindings.put(
+            "generation",
+            (reader, builder, element) -> builder.setGeneration(reader.generationStorage.getEntity(intValue(element)))
+        );
+        bindings.put("chronicle", (reader, builder, element) -> builder.setChronicle(value(element)));
+        bindings.put("experience", (reader, builder, element) -> builder.setExperience(intValue(element)));
+        bindings.put("nature", (reader, builder, element) -> builder.setNature(value(element)));
+        bindings.put("hideout", (reader, builder, element) -> builder.setHideout(value(element)));
+        bindings.put("player", (reader, builder, element) -> builder.setPlayer(value(element)));
+        bindings.put("demeanor", (reader, builder, element) -> builder.setDemeanor(value(element)));
+        bindings.put("concept", (reader, builder, element) -> builder.setConcept(value(element)));
+        bindings.put("sire", (reader, builder, element) -> builder.setSire(value(element)));
+        bindings.put("sect", (reader, builder, element) -> builder.setSect(value(element)));
+        bindings.put("attributes", (reader, builder, element) -> {
+            for (Element child : XMLParser.getAllChildren(element)) {
+                builder.addAttribute(reader.attributeStorage.getEntity(child.getAttribute("key")), intValue(child));
+            }
+        });
+        bindings.put("abilities", (reader, builder, element) -> {
+            for (Element child : XMLParser.getAllChildren(element)) {
+                builder.addAbility(reader.abilityStorage.getEntity(child.getAttribute("key")), intValue(child));
+            }
+        });
+        bindings.put("advantages", (reader, builder, element) -> {
+            for (Element child : XMLParser.getAllChildren(element)) {
+                builder.addAdvantage(reader.advantageStorage.getEntity(child.getAttribute("key")), intValue(child));
+            }
+        });
+        bindings.put("merits", (reader, builder, element) -> {
+            for (Element child : XMLParser.getAllChildren(element)) {
+                builder.addMerit(reader.meritStorage.getEntity(value(child)));
+            }
+        });
+        bindings.put("flaws", (reader, builder, element) -> {
+            for (Element child : XMLParser.getAllChildren(element)) {
+                builder.addFlaw(reader.flawStorage.getEntity(value(child)));
+            }
+        });
+        bindings.put(
+            "road",
+            (reader, builder, element) -> builder.setRoad(
+                reader.roadStorage
+                    .getEntity(element.getAttribute("key"))
+                    .toBuilder()
+                    .setValue(intValue(element))
+                    .build()
+            )
+        );
+        bindings.put("willpower", (reader, builder, element) -> builder.setWillpower(intValue(element)));
+        bindings.put("usedWillpower", (reader, builder, element) -> {
+            if (value(element) != null) {
+                builder.setUsedWillpower(intValue(element));
+            }
+        });
+        bindings.put("bloodPool", (reader, builder, element) -> builder.setBloodPool(intValue(element)));
+        bindings.put("age", (reader, builder, element) -> builder.setAge(intValue(element)));
+        bindings.put("apparentAge", (reader, builder, element) -> builder.setApparentAge(intValue(element)));
+        bindings.put("dayOfBirth", (reader, builder, element) -> {
+            String value = value(element);
+
+            if (value != null && !value.isEmpty()) {
+                builder.setDayOfBirth(reader.format.parse(value));
+            }
+        });
+        bindings.put("dayOfDeath", (reader, builder, element) -> {
+            String value = value(element);
+
+            if (value != null && !value.isEmpty()) {
+                builder.setDayOfDeath(reader.format.parse(value));
+            }
+        });
+        bindings.put("hairColor", (reader, builder, element) -> builder.setHairColor(value(element)));
+        bindings.put("eyeColor", (reader, builder, element) -> builder.setEyeColor(value(element)));
+        bindings.put("skinColor", (reader, builder, element) -> builder.setSkinColor(value(element)));
+        bindings.put("nationality", (reader, builder, element) -> builder.setNationality(value(element)));
+        bindings.put("height", (reader, builder, element) -> builder.setHeight(intValue(element)));
+        bindings.put("weight", (reader, builder, element) -> builder.setWeight(intValue(element)));
+        bindings.put(
+            "sex",
+            (reader, builder, element) -> builder.setSex(Character.Sex.valueOf(value(element)))
+        );
+        bindings.put("story", (reader, builder, element) -> builder.setStory(value(element)));
+        bindings.put("description", (reader, builder, element) -> builder.setDescription(value(element)));
+
+        return Collections.unmodifiableMap(bindings);
+    }
+
+    /**
+     * Get the text value of the given element.
+     *
+     * @param element The element
+     *
+     * @return The text or null for empty elements
+     */
+    private static String value(Element element) {
+        return XMLParser.getElementValue(element);
+    }
+
+    /**
+     * Get the numeric value of the given element.
+     *
+     * @param element The element
+     *
+     * @return The value
+     */
+    private static int intValue(Element element) {
+        return XMLParser.getElementValueInt(element);
+    }
+}
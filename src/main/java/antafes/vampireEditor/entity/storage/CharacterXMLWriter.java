@@ -0,0 +1,265 @@
+/*
+ * This file is part of Vampire Editor.
+ *
+ * Vampire Editor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Vampire Editor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Vampire Editor. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @package Vampire Editor
+ * @author Marian Pollzien <map@wafriv.de>
+ * @copyright (c) 2026, Marian Pollzien
+ * @license https://www.gnu.org/licenses/lgpl.html LGPLv3
+ */
+
+package antafes.vampireEditor.entity.storage;
+
+import antafes.vampireEditor.entity.BaseTypedTranslatedEntity;
+import antafes.vampireEditor.entity.Character;
+import antafes.vampireEditor.entity.character.Flaw;
+import antafes.vampireEditor.entity.character.Merit;
+import antafes.vampireEditor.entity.character.TraitValue;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+/**
+ * Streaming writer for character files.
+ * The elements are written straight to the output in the order defined by character.xsd, without building a document
+ * first.
+ *
+ * @author Marian Pollzien
+ */
+final class CharacterXMLWriter {
+    private static final String XSI_NAMESPACE = "http://www.w3.org/2001/XMLSchema-instance";
+    private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+
+    private final XMLStreamWriter writer;
+    private final SimpleDateFormat format;
+    private int depth;
+
+    /**
+     * Constructor
+     *
+     * @param output The stream to write to
+     *
+     * @throws XMLStreamException If the writer could not be created
+     */
+    CharacterXMLWriter(OutputStream output) throws XMLStreamException {
+        this.writer = OUTPUT_FACTORY.createXMLStreamWriter(output, StandardCharsets.UTF_8.name());
+        this.format = new SimpleDateFormat("yyyy-MM-dd");
+        this.depth = 0;
+    }
+
+    /**
+     * Write the given character as a complete document.
+     *
+     * @param character The character to write
+     *
+     * @throws XMLStreamException If writing failed
+     */
+    void write(Character character) throws XMLStreamException {
+        this.writer.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+        this.writer.writeCharacters("\n");
+        this.writer.writeStartElement("character");
+        this.writer.writeNamespace("xsi", XSI_NAMESPACE);
+        this.writer.writeAttribute("id", character.getId().toString());
+        this.depth++;
+
+        this.writeElement("name", character.getName());
+        this.writeElement("clan", character.getClan().getKey());
+        this.writeElement("generation", character.getGeneration().toString());
+        this.writeElement("chronicle", character.getChronicle());
+        this.writeElement("experience", character.getExperience());
+        this.writeElement("nature", character.getNature());
+        this.writeElement("hideout", character.getHideout());
+        this.writeElement("player", character.getPlayer());
+        this.writeElement("demeanor", character.getDemeanor());
+        this.writeElement("concept", character.getConcept());
+        this.writeElement("sire", character.getSire());
+        this.writeElement("sect", character.getSect());
+        this.writeTraits("attributes", "attribute", character.getAttributeValues());
+        this.writeTraits("abilities", "ability", character.getAbilityValues());
+        this.writeTraits("advantages", "advantage", character.getAdvantageValues());
+
+        this.startElement("merits");
+        for (Merit merit : character.getMerits()) {
+            this.writeElement("merit", merit.getKey());
+        }
+        this.endElement();
+
+        this.startElement("flaws");
+        for (Flaw flaw : character.getFlaws()) {
+            this.writeElement("flaw", flaw.getKey());
+        }
+        this.endElement();
+
+        this.writeKeyedElement("road", character.getRoad().getKey(), character.getRoad().getValue());
+        this.writeElement("willpower", character.getWillpower());
+        this.writeElement("usedWillpower", character.getUsedWillpower());
+        this.writeElement("bloodPool", character.getBloodPool());
+        this.writeElement("age", character.getAge());
+        this.writeElement("apparentAge", character.getApparentAge());
+        this.writeDate("dayOfBirth", character.getDayOfBirth());
+        this.writeDate("dayOfDeath", character.getDayOfDeath());
+        this.writeElement("hairColor", character.getHairColor());
+        this.writeElement("eyeColor", character.getEyeColor());
+        this.writeElement("skinColor", character.getSkinColor());
+        this.writeElement("nationality", character.getNationality());
+        this.writeElement("height", character.getHeight());
+        this.writeElement("weight", character.getWeight());
+        this.writeElement("sex", character.getSex().name());
+        this.writeElement("story", character.getStory());
+        this.writeElement("description", character.getDescription());
+
+        this.endElement();
+        this.writer.writeEndDocument();
+        this.writer.flush();
+    }
+
+    /**
+     * Write a list of trait values, each with its key as attribute.
+     *
+     * @param listName The name of the list element
+     * @param name The name of the element for every trait
+     * @param traits The traits to write
+     *
+     * @throws XMLStreamException If writing failed
+     */
+    private <C extends BaseTypedTranslatedEntity> void writeTraits(
+        String listName,
+        String name,
+        Iterable<TraitValue<C>> traits
+    ) throws XMLStreamException {
+        this.startElement(listName);
+
+        for (TraitValue<C> trait : traits) {
+            this.writeKeyedElement(name, trait.getKey(), trait.getValue());
+        }
+
+        this.endElement();
+    }
+
+    /**
+     * Write an element with a key attribute and a numeric value.
+     *
+     * @param name The element name
+     * @param key The key attribute
+     * @param value The value
+     *
+     * @throws XMLStreamException If writing failed
+     */
+    private void writeKeyedElement(String name, String key, int value) throws XMLStreamException {
+        this.indent();
+        this.writer.writeStartElement(name);
+        this.writer.writeAttribute("key", key);
+        this.writer.writeCharacters(Integer.toString(value));
+        this.writer.writeEndElement();
+    }
+
+    /**
+     * Write a date element. Missing dates are written as nil.
+     *
+     * @param name The element name
+     * @param date The date
+     *
+     * @throws XMLStreamException If writing failed
+     */
+    private void writeDate(String name, Date date) throws XMLStreamException {
+        if (date != null) {
+            this.writeElement(name, this.format.format(date));
+
+            return;
+        }
+
+        this.indent();
+        this.writer.writeEmptyElement(name);
+        this.writer.writeAttribute("xsi", XSI_NAMESPACE, "nil", "true");
+    }
+
+    /**
+     * Write a simple element with a numeric value.
+     *
+     * @param name The element name
+     * @param value The value
+     *
+     * @throws XMLStreamException If writing failed
+     */
+    private void writeElement(String name, int value) throws XMLStreamException {
+        this.writeElement(name, Integer.toString(value));
+    }
+
+    /**
+     * Write a simple element. Missing values are written as empty element.
+     *
+     * @param name The element name
+     * @param value The value
+     *
+     * @throws XMLStreamException If writing failed
+     */
+    private void writeElement(String name, String value) throws XMLStreamException {
+        this.indent();
+
+        if (value == null || value.isEmpty()) {
+            this.writer.writeEmptyElement(name);
+
+            return;
+        }
+
+        this.writer.writeStartElement(name);
+        this.writer.writeCharacters(value);
+        this.writer.writeEndElement();
+    }
+
+    /**
+     * Start an element containing further elements.
+     *
+     * @param name The element name
+     *
+     * @throws XMLStreamException If writing failed
+     */
+    private void startElement(String name) throws XMLStreamException {
+        this.indent();
+        this.writer.writeStartElement(name);
+        this.depth++;
+    }
+
+    /**
+     * End the current element containing further elements.
+     *
+     * @throws XMLStreamException If writing failed
+     */
+    private void endElement() throws XMLStreamException {
+        this.depth--;
+        this.indent();
+        this.writer.writeEndElement();
+    }
+
+    /**
+     * Start a new line indented according to the current depth.
+     *
+     * @throws XMLStreamException If writing failed
+     */
+    private void indent() throws XMLStreamException {
+        StringBuilder indent = new StringBuilder("\n");
+
+        for (int i = 0; i < this.depth; i++) {
+            indent.append("    ");
+        }
+
+        this.writer.writeCharacters(indent.toString());
+    }
+}
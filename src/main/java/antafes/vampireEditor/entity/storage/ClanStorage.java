@@ -25,6 +25,7 @@ package antafes.vampireEditor.entity.storage;
 import antafes.myXML.XMLParser;
 import antafes.vampireEditor.Configuration;
 import antafes.vampireEditor.VampireEditor;
+import antafes.vampireEditor.entity.BaseEntity;
 import antafes.vampireEditor.entity.EntityStorageException;
 import antafes.vampireEditor.entity.character.Advantage;
 import antafes.vampireEditor.entity.character.Clan;
@@ -38,13 +39,15 @@ import java.util.HashMap;
 /**
  * Storage for clans.
  */
-public class ClanStorage extends BaseStorage<Clan> {
+public class ClanStorage extends ReferenceStorage<Clan> {
     /**
      * Initializes the storage and pre-loads available data.
      */
     @Override
     public void init() {
-        this.loadData();
+        if (!ReferenceSnapshot.getInstance().load(StorageFactory.StorageType.CLAN, this)) {
+            this.loadData();
+        }
     }
 
     /**
@@ -136,4 +139,68 @@ public class ClanStorage extends BaseStorage<Clan> {
 
         return weaknessesList;
     }
+
+    /**
+     * Write the stored entities into a section of the reference snapshot.
+     *
+     * @param writer The section writer
+     */
+    @Override
+    void writeSnapshot(ReferenceSnapshot.Writer writer) {
+        writer.writeInt(this.getList().size());
+        this.getList().values().forEach((clan) -> {
+            writer.writeString(clan.getKey());
+            writer.writeNames(clan.getNames());
+            writer.writeNames(clan.getNicknames());
+            writer.writeInt(clan.getAdvantages().size());
+            clan.getAdvantages().forEach((advantage) -> writer.writeString(advantage.getKey()));
+            writer.writeInt(clan.getWeaknesses().size());
+            clan.getWeaknesses().forEach((weakness) -> writer.writeString(weakness.getKey()));
+        });
+    }
+
+    /**
+     * Fill the storage from a section of the reference snapshot.
+     *
+     * @param reader The section reader
+     */
+    @Override
+    void readSnapshot(ReferenceSnapshot.Reader reader) {
+        AdvantageStorage advantageStorage = (AdvantageStorage) StorageFactory.getStorage(StorageFactory.StorageType.ADVANTAGE);
+        WeaknessStorage weaknessStorage = (WeaknessStorage) StorageFactory.getStorage(StorageFactory.StorageType.WEAKNESS);
+
+        for (int i = reader.readInt(); i > 0; i--) {
+            Clan.ClanBuilder<?, ?> builder = Clan.builder()
+                .setKey(reader.readString())
+                .setNames(reader.readNames())
+                .setNicknames(reader.readNames());
+
+            for (int j = reader.readInt(); j > 0; j--) {
+                builder.addAdvantage(this.getSnapshotEntity(advantageStorage, reader.readString()));
+            }
+
+            for (int j = reader.readInt(); j > 0; j--) {
+                builder.addWeakness(this.getSnapshotEntity(weaknessStorage, reader.readString()));
+            }
+
+            Clan clan = builder.build();
+            this.getList().put(clan.getKey(), clan);
+        }
+    }
+
+    /**
+     * Fetch an entity referenced in the reference snapshot.
+     *
+     * @param storage The storage to fetch the entity from
+     * @param key The key of the entity
+     *
+     * @return The entity
+     */
+    private <T extends BaseEntity> T getSnapshotEntity(BaseStorage<T> storage, String key) {
+        try {
+            return storage.getEntity(key);
+        } catch (EntityStorageException e) {
+            throw new IllegalStateException("Reference snapshot is inconsistent with the loaded storages.", e);
+        }
+    }
 }
@@ -34,13 +34,15 @@ import java.util.HashMap;
 /**
  * Storage for flaws.
  */
-public class FlawStorage extends BaseStorage<Flaw> {
+public class FlawStorage extends ReferenceStorage<Flaw> {
     /**
      * Initializes the storage and pre-loads available data.
      */
     @Override
     public void init() {
-        this.loadData();
+        if (!ReferenceSnapshot.getInstance().load(StorageFactory.StorageType.FLAW, this)) {
+            this.loadData();
+        }
     }
 
     /**
@@ -71,4 +73,39 @@ public class FlawStorage extends BaseStorage<Flaw> {
             });
         }
     }
+
+    /**
+     * Write the stored entities into a section of the reference snapshot.
+     *
+     * @param writer The section writer
+     */
+    @Override
+    void writeSnapshot(ReferenceSnapshot.Writer writer) {
+        writer.writeInt(this.getList().size());
+        this.getList().values().forEach((flaw) -> {
+            writer.writeString(flaw.getKey());
+            writer.writeString(flaw.getType().name());
+            writer.writeInt(flaw.getCost());
+            writer.writeNames(flaw.getNames());
+        });
+    }
+
+    /**
+     * Fill the storage from a section of the reference snapshot.
+     *
+     * @param reader The section reader
+     */
+    @Override
+    void readSnapshot(ReferenceSnapshot.Reader reader) {
+        for (int i = reader.readInt(); i > 0; i--) {
+            Flaw flaw = Flaw.builder()
+                .setKey(reader.readString())
+                .setType(SpecialFeatureInterface.SpecialFeatureType.valueOf(reader.readString()))
+                .setCost(reader.readInt())
+                .setNames(reader.readNames())
+                .build();
+
+            this.getList().put(flaw.getKey(), flaw);
+        }
+    }
 }
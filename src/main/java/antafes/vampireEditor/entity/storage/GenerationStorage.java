@@ -34,13 +34,15 @@ import java.util.ArrayList;
 /**
  * Storage for generations.
  */
-public class GenerationStorage extends BaseStorage<Generation> {
+public class GenerationStorage extends ReferenceStorage<Generation> {
     /**
      * Initializes the storage and pre-loads available data.
      */
     @Override
     public void init() {
-        this.loadData();
+        if (!ReferenceSnapshot.getInstance().load(StorageFactory.StorageType.GENERATION, this)) {
+            this.loadData();
+        }
     }
 
     /**
@@ -77,4 +79,39 @@ public class GenerationStorage extends BaseStorage<Generation> {
     public Generation getEntity(int key) throws EntityStorageException {
         return this.getEntity(Integer.toString(key));
     }
+
+    /**
+     * Write the stored entities into a section of the reference snapshot.
+     *
+     * @param writer The section writer
+     */
+    @Override
+    void writeSnapshot(ReferenceSnapshot.Writer writer) {
+        writer.writeInt(this.getList().size());
+        this.getList().values().forEach((generation) -> {
+            writer.writeInt(generation.getGeneration());
+            writer.writeInt(generation.getMaximumAttributes());
+            writer.writeInt(generation.getMaximumBloodPool());
+            writer.writeInt(generation.getBloodPerRound());
+        });
+    }
+
+    /**
+     * Fill the storage from a section of the reference snapshot.
+     *
+     * @param reader The section reader
+     */
+    @Override
+    void readSnapshot(ReferenceSnapshot.Reader reader) {
+        for (int i = reader.readInt(); i > 0; i--) {
+            Generation generation = Generation.builder()
+                .setGeneration(reader.readInt())
+                .setMaximumAttributes(reader.readInt())
+                .setMaximumBloodPool(reader.readInt())
+                .setBloodPerRound(reader.readInt())
+                .build();
+
+            this.getList().put(Integer.toString(generation.getGeneration()), generation);
+        }
+    }
 }
@@ -34,13 +34,15 @@ import java.util.HashMap;
 /**
  * Storage for merits.
  */
-public class MeritStorage extends BaseStorage<Merit> {
+public class MeritStorage extends ReferenceStorage<Merit> {
     /**
      * Initializes the storage and pre-loads available data.
      */
     @Override
     public void init() {
-        this.loadData();
+        if (!ReferenceSnapshot.getInstance().load(StorageFactory.StorageType.MERIT, this)) {
+            this.loadData();
+        }
     }
 
     /**
@@ -71,4 +73,39 @@ public class MeritStorage extends BaseStorage<Merit> {
             });
         }
     }
+
+    /**
+     * Write the stored entities into a section of the reference snapshot.
+     *
+     * @param writer The section writer
+     */
+    @Override
+    void writeSnapshot(ReferenceSnapshot.Writer writer) {
+        writer.writeInt(this.getList().size());
+        this.getList().values().forEach((merit) -> {
+            writer.writeString(merit.getKey());
+            writer.writeString(merit.getType().name());
+            writer.writeInt(merit.getCost());
+            writer.writeNames(merit.getNames());
+        });
+    }
+
+    /**
+     * Fill the storage from a section of the reference snapshot.
+     *
+     * @param reader The section reader
+     */
+    @Override
+    void readSnapshot(ReferenceSnapshot.Reader reader) {
+        for (int i = reader.readInt(); i > 0; i--) {
+            Merit merit = Merit.builder()
+                .setKey(reader.readString())
+                .setType(SpecialFeatureInterface.SpecialFeatureType.valueOf(reader.readString()))
+                .setCost(reader.readInt())
+                .setNames(reader.readNames())
+                .build();
+
+            this.getList().put(merit.getKey(), merit);
+        }
+    }
 }
@@ -0,0 +1,450 @@
+/*
+ * This file is part of Vampire Editor.
+ *
+ * Vampire Editor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Vampire Editor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Vampire Editor. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @package Vampire Editor
+ * @author Marian Pollzien <map@wafriv.de>
+ * @copyright (c) 2026, Marian Pollzien
+ * @license https://www.gnu.org/licenses/lgpl.html LGPLv3
+ */
+
+package antafes.vampireEditor.entity.storage;
+
+import antafes.vampireEditor.Configuration;
+import antafes.vampireEditor.VampireEditor;
+
+import java.io.*;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * Binary snapshot of the reference data in the data directory.
+ * The snapshot is compiled during the build by {@link ReferenceSnapshotCompiler} and allows the storages to skip
+ * parsing their XML files. If the snapshot is missing or has been created from other data files than the ones
+ * shipped, the storages fall back to the XML files. The checksum of the shipped data files is computed by the same
+ * build step and stored next to the snapshot, so the data files don't have to be read at startup.
+ *
+ * Layout: magic, version, checksum of the data files, string table and one section per storage.
+ */
+public final class ReferenceSnapshot {
+    static final String FILENAME = "reference.snapshot";
+    static final String CHECKSUM_FILENAME = "reference.checksum";
+    private static final int MAGIC = 0x56454453;
+    private static final byte VERSION = 1;
+    private static final EnumMap<StorageFactory.StorageType, String> SOURCES = new EnumMap<>(StorageFactory.StorageType.class);
+    private static ReferenceSnapshot instance;
+
+    private final String[] strings;
+    private final EnumMap<StorageFactory.StorageType, ByteBuffer> sections;
+
+    static {
+        SOURCES.put(StorageFactory.StorageType.ABILITY, "abilities.xml");
+        SOURCES.put(StorageFactory.StorageType.ADVANTAGE, "advantages.xml");
+        SOURCES.put(StorageFactory.StorageType.ATTRIBUTE, "attributes.xml");
+        SOURCES.put(StorageFactory.StorageType.WEAKNESS, "weaknesses.xml");
+        SOURCES.put(StorageFactory.StorageType.CLAN, "clans.xml");
+        SOURCES.put(StorageFactory.StorageType.MERIT, "merits.xml");
+        SOURCES.put(StorageFactory.StorageType.FLAW, "flaws.xml");
+        SOURCES.put(StorageFactory.StorageType.GENERATION, "generations.xml");
+        SOURCES.put(StorageFactory.StorageType.ROAD, "roads.xml");
+    }
+
+    /**
+     * Create a new snapshot.
+     *
+     * @param strings The string table
+     * @param sections The sections of every storage
+     */
+    private ReferenceSnapshot(String[] strings, EnumMap<StorageFactory.StorageType, ByteBuffer> sections) {
+        this.strings = strings;
+        this.sections = sections;
+    }
+
+    /**
+     * Get the snapshot shipped with the application.
+     * If there is none or it doesn't match the shipped data files, an empty snapshot is returned.
+     *
+     * @return The snapshot
+     */
+    public static synchronized ReferenceSnapshot getInstance() {
+        if (ReferenceSnapshot.instance == null) {
+            ReferenceSnapshot.instance = ReferenceSnapshot.loadFromJar();
+        }
+
+        return ReferenceSnapshot.instance;
+    }
+
+    /**
+     * Load the snapshot from the jar.
+     *
+     * @return The loaded snapshot or an empty one
+     */
+    private static ReferenceSnapshot loadFromJar() {
+        ReferenceSnapshot empty = new ReferenceSnapshot(new String[0], new EnumMap<>(StorageFactory.StorageType.class));
+
+        try (InputStream is = VampireEditor.getFileInJar(VampireEditor.getDataPath() + FILENAME)) {
+            if (is == null) {
+                VampireEditor.log("No reference snapshot found, using the data files.");
+
+                return empty;
+            }
+
+            ReferenceSnapshot snapshot = ReferenceSnapshot.read(
+                ByteBuffer.wrap(ReferenceSnapshot.readFully(is)),
+                ReferenceSnapshot.readEmbeddedChecksum()
+            );
+
+            if (snapshot == null) {
+                VampireEditor.log("Reference snapshot is outdated, using the data files.");
+
+                return empty;
+            }
+
+            return snapshot;
+        } catch (IOException | RuntimeException ex) {
+            Logger.getLogger(ReferenceSnapshot.class.getName()).log(Level.WARNING, "Could not read reference snapshot", ex);
+        }
+
+        return empty;
+    }
+
+    /**
+     * Read a snapshot from the given buffer.
+     *
+     * @param buffer The buffer containing the whole snapshot
+     * @param checksum The checksum of the data files the snapshot has to match
+     *
+     * @return The snapshot or null if the snapshot is of another version or doesn't match the checksum
+     */
+    static ReferenceSnapshot read(ByteBuffer buffer, long checksum) {
+        try {
+            if (buffer.getInt() != MAGIC || buffer.get() != VERSION || buffer.getLong() != checksum) {
+                return null;
+            }
+
+            String[] strings = new String[buffer.getInt()];
+
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[buffer.getInt()];
+                buffer.get(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            EnumMap<StorageFactory.StorageType, ByteBuffer> sections = new EnumMap<>(StorageFactory.StorageType.class);
+
+            for (int i = buffer.getInt(); i > 0; i--) {
+                StorageFactory.StorageType type = StorageFactory.StorageType.valueOf(strings[buffer.getInt()]);
+                int length = buffer.getInt();
+                ByteBuffer section = buffer.slice();
+                section.limit(length);
+                buffer.position(buffer.position() + length);
+                sections.put(type, section);
+            }
+
+            return new ReferenceSnapshot(strings, sections);
+        } catch (BufferUnderflowException | IllegalArgumentException ex) {
+            Logger.getLogger(ReferenceSnapshot.class.getName()).log(Level.WARNING, "Invalid reference snapshot", ex);
+        }
+
+        return null;
+    }
+
+    /**
+     * Fill the given storage with the data from the snapshot.
+     *
+     * @param type The type of the storage
+     * @param storage The storage to fill
+     *
+     * @return True if the storage has been filled, false if the XML file has to be used
+     */
+    boolean load(StorageFactory.StorageType type, ReferenceStorage<?> storage) {
+        ByteBuffer section = this.sections.get(type);
+
+        if (section == null) {
+            return false;
+        }
+
+        try {
+            storage.readSnapshot(new Reader(section.duplicate(), this.strings));
+
+            return true;
+        } catch (Exception ex) {
+            Logger.getLogger(ReferenceSnapshot.class.getName()).log(Level.WARNING, "Could not read snapshot for " + type, ex);
+            storage.getList().clear();
+        }
+
+        return false;
+    }
+
+    /**
+     * Check whether the snapshot contains any data.
+     *
+     * @return True if there is at least one storage section
+     */
+    public boolean isAvailable() {
+        return !this.sections.isEmpty();
+    }
+
+    /**
+     * Write a snapshot of the currently loaded reference storages.
+     *
+     * @param out The stream to write to
+     *
+     * @throws IOException If writing fails
+     */
+    static void write(OutputStream out) throws IOException {
+        LinkedHashMap<String, Integer> strings = new LinkedHashMap<>();
+        LinkedHashMap<Integer, byte[]> sections = new LinkedHashMap<>();
+
+        for (StorageFactory.StorageType type : SOURCES.keySet()) {
+            Writer writer = new Writer(strings);
+            ((ReferenceStorage<?>) StorageFactory.getStorage(type)).writeSnapshot(writer);
+            sections.put(writer.index(type.name()), writer.toByteArray());
+        }
+
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        data.writeLong(ReferenceSnapshot.computeChecksum());
+        data.writeInt(strings.size());
+
+        for (String string : strings.keySet()) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            data.writeInt(bytes.length);
+            data.write(bytes);
+        }
+
+        data.writeInt(sections.size());
+
+        for (Map.Entry<Integer, byte[]> section : sections.entrySet()) {
+            data.writeInt(section.getKey());
+            data.writeInt(section.getValue().length);
+            data.write(section.getValue());
+        }
+
+        data.flush();
+    }
+
+    /**
+     * Write the checksum of the data files, to be shipped next to the snapshot.
+     *
+     * @param out The stream to write to
+     *
+     * @throws IOException If a data file could not be read or writing fails
+     */
+    static void writeChecksum(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeLong(ReferenceSnapshot.computeChecksum());
+        data.flush();
+    }
+
+    /**
+     * Read the checksum of the data files that has been stored during the build.
+     * The data files in the jar can't change after the build, so this replaces computing the checksum at startup.
+     *
+     * @return The checksum
+     *
+     * @throws IOException If there is no stored checksum or it could not be read
+     */
+    static long readEmbeddedChecksum() throws IOException {
+        try (InputStream is = VampireEditor.getFileInJar(VampireEditor.getDataPath() + CHECKSUM_FILENAME)) {
+            if (is == null) {
+                throw new FileNotFoundException(CHECKSUM_FILENAME);
+            }
+
+            return new DataInputStream(is).readLong();
+        }
+    }
+
+    /**
+     * Compute the checksum over every data file that is part of the snapshot.
+     *
+     * @return The checksum
+     *
+     * @throws IOException If a data file could not be read
+     */
+    static long computeChecksum() throws IOException {
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[8192];
+
+        for (String source : SOURCES.values()) {
+            try (InputStream is = VampireEditor.getFileInJar(VampireEditor.getDataPath() + source)) {
+                if (is == null) {
+                    throw new FileNotFoundException(source);
+                }
+
+                int read;
+                while ((read = is.read(buffer)) != -1) {
+                    crc.update(buffer, 0, read);
+                }
+            }
+        }
+
+        return crc.getValue();
+    }
+
+    /**
+     * Read the whole stream into a byte array.
+     *
+     * @param is The stream to read
+     *
+     * @return The content of the stream
+     *
+     * @throws IOException If reading fails
+     */
+    private static byte[] readFully(InputStream is) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+
+        while ((read = is.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+
+        return out.toByteArray();
+    }
+
+    /**
+     * Writer for a single storage section.
+     */
+    static final class Writer {
+        private final LinkedHashMap<String, Integer> strings;
+        private final ByteArrayOutputStream bytes;
+        private final DataOutputStream out;
+
+        /**
+         * Create a new section writer.
+         *
+         * @param strings The string table shared by every section
+         */
+        private Writer(LinkedHashMap<String, Integer> strings) {
+            this.strings = strings;
+            this.bytes = new ByteArrayOutputStream();
+            this.out = new DataOutputStream(this.bytes);
+        }
+
+        /**
+         * Write a single integer.
+         *
+         * @param value The value to write
+         */
+        void writeInt(int value) {
+            try {
+                this.out.writeInt(value);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        /**
+         * Write a string as index into the string table.
+         *
+         * @param value The string to write
+         */
+        void writeString(String value) {
+            this.writeInt(this.index(value));
+        }
+
+        /**
+         * Write a map of translated names.
+         *
+         * @param names The names to write
+         */
+        void writeNames(Map<Configuration.Language, String> names) {
+            this.writeInt(names.size());
+            names.forEach((language, name) -> {
+                this.writeString(language.name());
+                this.writeString(name);
+            });
+        }
+
+        /**
+         * Get the index of the string in the string table, adding it if necessary.
+         *
+         * @param value The string
+         *
+         * @return Index of the string
+         */
+        private int index(String value) {
+            return this.strings.computeIfAbsent(value, (string) -> this.strings.size());
+        }
+
+        /**
+         * Get the written section.
+         *
+         * @return The section bytes
+         */
+        private byte[] toByteArray() {
+            return this.bytes.toByteArray();
+        }
+    }
+
+    /**
+     * Reader for a single storage section.
+     */
+    static final class Reader {
+        private final ByteBuffer buffer;
+        private final String[] strings;
+
+        /**
+         * Create a new section reader.
+         *
+         * @param buffer The section buffer
+         * @param strings The string table
+         */
+        private Reader(ByteBuffer buffer, String[] strings) {
+            this.buffer = buffer;
+            this.strings = strings;
+        }
+
+        /**
+         * Read a single integer.
+         *
+         * @return The read value
+         */
+        int readInt() {
+            return this.buffer.getInt();
+        }
+
+        /**
+         * Read a string from the string table.
+         *
+         * @return The read string
+         */
+        String readString() {
+            return this.strings[this.buffer.getInt()];
+        }
+
+        /**
+         * Read a map of translated names.
+         *
+         * @return The translated names
+         */
+        HashMap<Configuration.Language, String> readNames() {
+            HashMap<Configuration.Language, String> names = new HashMap<>();
+
+            for (int i = this.readInt(); i > 0; i--) {
+                names.put(Configuration.Language.valueOf(this.readString()), this.readString());
+            }
+
+            return names;
+        }
+    }
+}
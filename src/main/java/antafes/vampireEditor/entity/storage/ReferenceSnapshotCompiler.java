@@ -0,0 +1,69 @@
+/*
+ * This file is part of Vampire Editor.
+ *
+ * Vampire Editor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Vampire Editor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Vampire Editor. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @package Vampire Editor
+ * @author Marian Pollzien <map@wafriv.de>
+ * @copyright (c) 2026, Marian Pollzien
+ * @license https://www.gnu.org/licenses/lgpl.html LGPLv3
+ */
+
+package antafes.vampireEditor.entity.storage;
+
+import antafes.vampireEditor.VampireEditor;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+
+/**
+ * Build step that compiles the data files into the reference snapshot.
+ * Called by the build with the path of the snapshot file inside the output directory. The checksum of the data files
+ * is written next to it.
+ */
+public class ReferenceSnapshotCompiler {
+    /**
+     * @param args The path of the snapshot file to create
+     *
+     * @throws IOException If the snapshot could not be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: ReferenceSnapshotCompiler <snapshot file>");
+        }
+
+        System.setProperty("java.awt.headless", "true");
+        File file = new File(args[0]);
+        File checksumFile = new File(file.getParentFile(), ReferenceSnapshot.CHECKSUM_FILENAME);
+
+        // An old snapshot would be picked up by the storages, so make sure they are filled from the data files.
+        Files.deleteIfExists(file.toPath());
+        Files.deleteIfExists(checksumFile.toPath());
+        StorageFactory.storageWarmUp();
+
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file))) {
+            ReferenceSnapshot.write(out);
+        }
+
+        try (OutputStream out = new FileOutputStream(checksumFile)) {
+            ReferenceSnapshot.writeChecksum(out);
+        }
+
+        VampireEditor.log("Created reference snapshot " + file.getPath());
+    }
+}
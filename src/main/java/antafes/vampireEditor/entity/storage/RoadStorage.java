@@ -33,13 +33,15 @@ import java.util.HashMap;
 /**
  * Storage for roads.
  */
-public class RoadStorage extends BaseStorage<Road> {
+public class RoadStorage extends ReferenceStorage<Road> {
     /**
      * Initializes the storage and pre-loads available data.
      */
     @Override
     public void init() {
-        this.loadData();
+        if (!ReferenceSnapshot.getInstance().load(StorageFactory.StorageType.ROAD, this)) {
+            this.loadData();
+        }
     }
 
     /**
@@ -68,4 +70,35 @@ public class RoadStorage extends BaseStorage<Road> {
             });
         }
     }
+
+    /**
+     * Write the stored entities into a section of the reference snapshot.
+     *
+     * @param writer The section writer
+     */
+    @Override
+    void writeSnapshot(ReferenceSnapshot.Writer writer) {
+        writer.writeInt(this.getList().size());
+        this.getList().values().forEach((road) -> {
+            writer.writeString(road.getKey());
+            writer.writeNames(road.getNames());
+        });
+    }
+
+    /**
+     * Fill the storage from a section of the reference snapshot.
+     *
+     * @param reader The section reader
+     */
+    @Override
+    void readSnapshot(ReferenceSnapshot.Reader reader) {
+        for (int i = reader.readInt(); i > 0; i--) {
+            Road road = Road.builder()
+                .setKey(reader.readString())
+                .setNames(reader.readNames())
+                .build();
+
+            this.getList().put(road.getKey(), road);
+        }
+    }
 }
@@ -25,7 +25,14 @@ package antafes.vampireEditor.entity.storage;
 import antafes.vampireEditor.Configuration;
 
 import java.lang.reflect.InvocationTargetException;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -33,14 +40,15 @@ import java.util.logging.Logger;
  * Factory for fetching certain storages.
  */
 public class StorageFactory {
-    private static final HashMap<StorageType, BaseStorage<?>> storages = new HashMap<>();
+    private static final ConcurrentHashMap<StorageType, BaseStorage<?>> storages = new ConcurrentHashMap<>();
+    private static volatile Map<StorageType, CompletableFuture<Void>> warmUpTasks;
 
     public enum StorageType {
         ABILITY (AbilityStorage.class),
         ADVANTAGE (AdvantageStorage.class),
         ATTRIBUTE (AttributeStorage.class),
         WEAKNESS (WeaknessStorage.class),
-        CLAN (ClanStorage.class),
+        CLAN (ClanStorage.class, ADVANTAGE, WEAKNESS),
         MERIT (MeritStorage.class),
         FLAW (FlawStorage.class),
         GENERATION (GenerationStorage.class),
@@ -49,14 +57,17 @@ public class StorageFactory {
         EMPTY (EmptyEntityStorage.class);
 
         private final Class<?> storageClass;
+        private final StorageType[] dependencies;
 
         /**
          * Constructor
          *
          * @param storageClass The storage class name
+         * @param dependencies Storages that have to be initialized before this one
          */
-        StorageType(Class<?> storageClass) {
+        StorageType(Class<?> storageClass, StorageType... dependencies) {
             this.storageClass = storageClass;
+            this.dependencies = dependencies;
         }
 
         /**
@@ -65,33 +76,116 @@ public class StorageFactory {
         public Class<?> getStorageClass() {
             return storageClass;
         }
+
+        /**
+         * Get the storages that have to be initialized before this one.
+         */
+        public StorageType[] getDependencies() {
+            return dependencies.clone();
+        }
     }
 
     /**
      * Warm up the storages to contain every available data.
+     * Independent storages are initialized in parallel, while storages with dependencies wait for them to be
+     * finished. This method only returns after every storage has been initialized.
      */
-    public static void storageWarmUp() {
-        for (StorageType type : StorageType.values()) {
+    public static synchronized void storageWarmUp() {
+        for (CompletableFuture<Void> task : StorageFactory.scheduleWarmUp().values()) {
             try {
-                BaseStorage<?> storage = (BaseStorage<?>) type.getStorageClass().getDeclaredConstructor().newInstance();
-                storage.init();
-                StorageFactory.storages.put(type, storage);
-            } catch (InvocationTargetException | NoSuchMethodException | InstantiationException | IllegalAccessException e) {
-                Logger.getLogger(Configuration.class.getName()).log(Level.SEVERE, null, e);
+                task.join();
+            } catch (CompletionException e) {
+                // Already logged by the task itself.
             }
         }
     }
 
+    /**
+     * Schedule the initialization of every storage.
+     * The tasks are published before any of them starts, so storages initialized in the meantime can already wait
+     * for each other through {@link #getStorage(StorageType)}.
+     *
+     * @return The initialization task of every storage
+     */
+    private static synchronized Map<StorageType, CompletableFuture<Void>> scheduleWarmUp() {
+        CompletableFuture<Void> start = new CompletableFuture<>();
+        EnumMap<StorageType, CompletableFuture<Void>> tasks = new EnumMap<>(StorageType.class);
+
+        // The enum order guarantees that dependencies are always scheduled before their dependents.
+        for (StorageType type : StorageType.values()) {
+            CompletableFuture<?>[] dependencies = type.getDependencies().length == 0
+                ? new CompletableFuture<?>[] {start}
+                : Arrays.stream(type.getDependencies()).map(tasks::get).toArray(CompletableFuture<?>[]::new);
+
+            tasks.put(
+                type,
+                CompletableFuture.allOf(dependencies)
+                    .thenRunAsync(() -> StorageFactory.createStorage(type), ForkJoinPool.commonPool())
+                    .whenComplete((result, e) -> {
+                        if (e != null) {
+                            Logger.getLogger(StorageFactory.class.getName()).log(
+                                Level.SEVERE,
+                                "Could not warm up storage " + type,
+                                e instanceof CompletionException ? e.getCause() : e
+                            );
+                        }
+                    })
+            );
+        }
+
+        StorageFactory.warmUpTasks = Collections.unmodifiableMap(tasks);
+        start.complete(null);
+
+        return StorageFactory.warmUpTasks;
+    }
+
+    /**
+     * Create and initialize the storage of the given type and add it to the list of storages.
+     *
+     * @param type The type of storage to create
+     */
+    private static void createStorage(StorageType type) {
+        try {
+            BaseStorage<?> storage = (BaseStorage<?>) type.getStorageClass().getDeclaredConstructor().newInstance();
+            storage.init();
+            StorageFactory.storages.put(type, storage);
+        } catch (InvocationTargetException | NoSuchMethodException | InstantiationException | IllegalAccessException e) {
+            Logger.getLogger(Configuration.class.getName()).log(Level.SEVERE, null, e);
+        }
+    }
+
+    /**
+     * Start the warm up if it hasn't been started yet, without waiting for it.
+     *
+     * @return The initialization task of every storage
+     */
+    private static synchronized Map<StorageType, CompletableFuture<Void>> startWarmUp() {
+        if (StorageFactory.warmUpTasks != null) {
+            return StorageFactory.warmUpTasks;
+        }
+
+        return StorageFactory.scheduleWarmUp();
+    }
+
     /**
      * Get a certain storage.
+     * If the storage is still being initialized, this waits until it is finished.
      *
      * @param type The type of storage to fetch.
      *
      * @return The storage
      */
     public static BaseStorage<?> getStorage(StorageType type) {
-        if (StorageFactory.storages.isEmpty()) {
-            StorageFactory.storageWarmUp();
+        Map<StorageType, CompletableFuture<Void>> tasks = StorageFactory.warmUpTasks;
+
+        if (tasks == null) {
+            tasks = StorageFactory.startWarmUp();
+        }
+
+        try {
+            tasks.get(type).join();
+        } catch (CompletionException e) {
+            // Already logged by the warm up, the storage is simply missing.
         }
 
         return StorageFactory.storages.get(type);
@@ -33,13 +33,15 @@ import java.util.HashMap;
 /**
  * Storage for weaknesses.
  */
-public class WeaknessStorage extends BaseStorage<Weakness> {
+public class WeaknessStorage extends ReferenceStorage<Weakness> {
     /**
      * Initializes the storage and pre-loads available data.
      */
     @Override
     public void init() {
-        this.loadData();
+        if (!ReferenceSnapshot.getInstance().load(StorageFactory.StorageType.WEAKNESS, this)) {
+            this.loadData();
+        }
     }
 
     /**
@@ -68,4 +70,35 @@ public class WeaknessStorage extends BaseStorage<Weakness> {
             });
         }
     }
+
+    /**
+     * Write the stored entities into a section of the reference snapshot.
+     *
+     * @param writer The section writer
+     */
+    @Override
+    void writeSnapshot(ReferenceSnapshot.Writer writer) {
+        writer.writeInt(this.getList().size());
+        this.getList().values().forEach((weakness) -> {
+            writer.writeString(weakness.getKey());
+            writer.writeNames(weakness.getNames());
+        });
+    }
+
+    /**
+     * Fill the storage from a section of the reference snapshot.
+     *
+     * @param reader The section reader
+     */
+    @Override
+    void readSnapshot(ReferenceSnapshot.Reader reader) {
+        for (int i = reader.readInt(); i > 0; i--) {
+            Weakness weakness = Weakness.builder()
+                .setKey(reader.readString())
+                .setNames(reader.readNames())
+                .build();
+
+            this.getList().put(weakness.getKey(), weakness);
+        }
+    }
 }
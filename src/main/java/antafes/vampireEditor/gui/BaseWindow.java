@@ -24,6 +24,13 @@ package antafes.vampireEditor.gui;
 import antafes.vampireEditor.Configuration;
 import antafes.vampireEditor.VampireEditor;
 import antafes.vampireEditor.entity.Character;
+import antafes.vampireEditor.entity.EntityStorageException;
+import antafes.vampireEditor.entity.storage.CharacterDirectoryWatcher;
+import antafes.vampireEditor.entity.storage.CharacterImport;
+import antafes.vampireEditor.entity.storage.CharacterLibrary;
+import antafes.vampireEditor.entity.storage.CharacterQueryIndex;
+import antafes.vampireEditor.entity.storage.CharacterSearchIndex;
+import antafes.vampireEditor.entity.storage.CharacterSimilarityIndex;
 import antafes.vampireEditor.entity.storage.CharacterStorage;
 import antafes.vampireEditor.entity.storage.StorageFactory;
 import antafes.vampireEditor.gui.character.CharacterTabbedPane;
@@ -36,6 +43,8 @@ import javax.swing.*;
 import javax.swing.filechooser.FileNameExtensionFilter;
 import java.awt.*;
 import java.awt.event.ActionEvent;
+import java.awt.event.ContainerAdapter;
+import java.awt.event.ContainerEvent;
 import java.awt.event.InputEvent;
 import java.awt.event.KeyEvent;
 import java.awt.event.WindowEvent;
@@ -44,8 +53,14 @@ import java.awt.print.PageFormat;
 import java.awt.print.PrinterException;
 import java.awt.print.PrinterJob;
 import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -57,12 +72,14 @@ public class BaseWindow extends javax.swing.JFrame {
 
     private final Configuration configuration;
     private LanguageInterface language;
+    private CharacterDirectoryWatcher directoryWatcher;
 
     // List of components in the window
     private JDialog aboutDialog;
     private JMenuItem aboutMenuItem;
     private JTextPane aboutTextPane;
     private CloseableTabbedPane charactersTabPane;
+    private JLabel statusLabel;
     private JButton closeAboutButton;
     private JMenuItem closeMenuItem;
     private JRadioButtonMenuItem englishMenuItem;
@@ -76,6 +93,10 @@ public class BaseWindow extends javax.swing.JFrame {
     private JFileChooser saveFileChooser;
     private JMenuItem saveMenuItem;
     private JMenuItem openMenuItem;
+    private JMenuItem importMenuItem;
+    private JMenuItem libraryMenuItem;
+    private JMenuItem searchMenuItem;
+    private JMenuItem similarMenuItem;
     private JMenuItem printMenuItem;
 
     /**
@@ -88,6 +109,8 @@ public class BaseWindow extends javax.swing.JFrame {
         this.initComponents();
         this.init();
         this.setFieldTexts();
+        this.configuration.addLanguageChangeListener(this::languageChanged);
+        this.watchSaveDirectory();
     }
 
     /**
@@ -125,10 +148,26 @@ public class BaseWindow extends javax.swing.JFrame {
         };
         openFileChooser = new javax.swing.JFileChooser();
         charactersTabPane = new CloseableTabbedPane();
+        charactersTabPane.addContainerListener(new ContainerAdapter() {
+            @Override
+            public void componentAdded(ContainerEvent e) {
+                BaseWindow.this.setCharacterPinned(e.getChild(), true);
+            }
+
+            @Override
+            public void componentRemoved(ContainerEvent e) {
+                BaseWindow.this.setCharacterPinned(e.getChild(), false);
+            }
+        });
+        statusLabel = new JLabel();
         JMenuBar menuBar = new JMenuBar();
         fileMenu = new javax.swing.JMenu();
         newMenuItem = new javax.swing.JMenuItem();
         openMenuItem = new JMenuItem();
+        importMenuItem = new JMenuItem();
+        libraryMenuItem = new JMenuItem();
+        searchMenuItem = new JMenuItem();
+        similarMenuItem = new JMenuItem();
         saveMenuItem = new javax.swing.JMenuItem();
         printMenuItem = new JMenuItem();
         closeMenuItem = new javax.swing.JMenuItem();
@@ -158,6 +197,27 @@ public class BaseWindow extends javax.swing.JFrame {
         openMenuItem.addActionListener(this::openMenuItemActionPerformed);
         fileMenu.add(openMenuItem);
 
+        importMenuItem.setAccelerator(javax.swing.KeyStroke.getKeyStroke(java.awt.event.KeyEvent.VK_I, InputEvent.CTRL_DOWN_MASK));
+        importMenuItem.setText("Import");
+        importMenuItem.addActionListener(this::importMenuItemActionPerformed);
+        fileMenu.add(importMenuItem);
+
+        libraryMenuItem.setAccelerator(javax.swing.KeyStroke.getKeyStroke(java.awt.event.KeyEvent.VK_L, InputEvent.CTRL_DOWN_MASK));
+        libraryMenuItem.setText("Library");
+        libraryMenuItem.addActionListener(this::libraryMenuItemActionPerformed);
+        fileMenu.add(libraryMenuItem);
+
+        searchMenuItem.setAccelerator(javax.swing.KeyStroke.getKeyStroke(java.awt.event.KeyEvent.VK_F, InputEvent.CTRL_DOWN_MASK));
+        searchMenuItem.setText("Search");
+        searchMenuItem.addActionListener(this::searchMenuItemActionPerformed);
+        fileMenu.add(searchMenuItem);
+
+        similarMenuItem.setAccelerator(javax.swing.KeyStroke.getKeyStroke(java.awt.event.KeyEvent.VK_M, InputEvent.CTRL_DOWN_MASK));
+        similarMenuItem.setText("Find similar");
+        similarMenuItem.addActionListener(this::similarMenuItemActionPerformed);
+        similarMenuItem.setEnabled(false);
+        fileMenu.add(similarMenuItem);
+
         saveMenuItem.setAccelerator(javax.swing.KeyStroke.getKeyStroke(java.awt.event.KeyEvent.VK_S, InputEvent.CTRL_DOWN_MASK));
         saveMenuItem.setText("Save");
         saveMenuItem.addActionListener(this::saveMenuItemActionPerformed);
@@ -213,10 +273,15 @@ public class BaseWindow extends javax.swing.JFrame {
         layout.setHorizontalGroup(
             layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
             .addComponent(charactersTabPane, javax.swing.GroupLayout.DEFAULT_SIZE, 1100, Short.MAX_VALUE)
+            .addGroup(layout.createSequentialGroup()
+                .addGap(5)
+                .addComponent(statusLabel, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, Short.MAX_VALUE)
+                .addGap(5))
         );
         layout.setVerticalGroup(
-            layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
+            layout.createSequentialGroup()
             .addComponent(charactersTabPane, javax.swing.GroupLayout.DEFAULT_SIZE, 627, Short.MAX_VALUE)
+            .addComponent(statusLabel, javax.swing.GroupLayout.PREFERRED_SIZE, 20, javax.swing.GroupLayout.PREFERRED_SIZE)
         );
 
         pack();
@@ -382,12 +447,39 @@ public class BaseWindow extends javax.swing.JFrame {
             ));
             this.configuration.setSaveDirPath(this.saveFileChooser.getSelectedFile().getParent());
             this.configuration.saveProperties();
+            this.watchSaveDirectory();
             CharacterStorage storage = (CharacterStorage) StorageFactory.getStorage(StorageFactory.StorageType.CHARACTER);
 
-            storage.save(character, this.saveFileChooser.getSelectedFile().getName());
+            this.statusLabel.setText(String.format(this.language.translate("savingCharacter"), character.getName()));
+            storage.saveAsync(character, this.saveFileChooser.getSelectedFile().getName())
+                .whenComplete((file, ex) -> SwingUtilities.invokeLater(() -> this.saveFinished(character, ex)));
         }
     }
 
+    /**
+     * Update the status after a background save has finished.
+     *
+     * @param character The saved character
+     * @param ex The exception if saving failed, otherwise null
+     */
+    private void saveFinished(Character character, Throwable ex) {
+        if (ex == null) {
+            this.statusLabel.setText(String.format(this.language.translate("savedCharacter"), character.getName()));
+            VampireEditor.log("Saved character " + character.getName());
+
+            return;
+        }
+
+        this.statusLabel.setText(String.format(this.language.translate("couldNotSaveCharacter"), character.getName()));
+        VampireEditor.log("Could not save character " + character.getName() + ": " + ex.getMessage());
+        JOptionPane.showMessageDialog(
+            this,
+            String.format(this.language.translate("couldNotSaveCharacter"), character.getName()),
+            this.language.translate("couldNotSave"),
+            JOptionPane.ERROR_MESSAGE
+        );
+    }
+
     /**
      * Action performed event for the open character menu entry.
      *
@@ -399,48 +491,271 @@ public class BaseWindow extends javax.swing.JFrame {
         int result = this.openFileChooser.showOpenDialog(this);
 
         if (result == JFileChooser.APPROVE_OPTION) {
-            ShowWaitAction waitAction = new ShowWaitAction(this);
-            waitAction.show(aVoid -> {
-                this.configuration.setOpenDirPath(this.openFileChooser.getSelectedFile().getParent());
-                this.configuration.saveProperties();
-                CharacterStorage storage = (CharacterStorage) StorageFactory.getStorage(StorageFactory.StorageType.CHARACTER);
+            this.configuration.setOpenDirPath(this.openFileChooser.getSelectedFile().getParent());
+            this.configuration.saveProperties();
+            this.openCharacterFile(this.openFileChooser.getSelectedFile());
+        }
+    }
 
-                try {
-                    Character character = storage.load(this.openFileChooser.getSelectedFile().getName());
+    /**
+     * Action performed event for the library menu entry.
+     *
+     * @param evt Event object
+     */
+    private void libraryMenuItemActionPerformed(java.awt.event.ActionEvent evt) {
+        LibraryDialog libraryDialog = new LibraryDialog(this, CharacterLibrary.getInstance(), this::openCharacterFile);
+        libraryDialog.setLocationRelativeTo(this);
+        libraryDialog.setVisible(true);
+    }
 
-                    int characterTab = this.isCharacterLoaded(character);
-                    if (characterTab != -1) {
-                        this.charactersTabPane.setSelectedIndex(characterTab);
-                        VampireEditor.log("Character was already open, switched to tab.");
-                        return null;
-                    }
+    /**
+     * Action performed event for the search menu entry.
+     *
+     * @param evt Event object
+     */
+    private void searchMenuItemActionPerformed(java.awt.event.ActionEvent evt) {
+        SearchDialog searchDialog = new SearchDialog(
+            this,
+            CharacterSearchIndex.getInstance(),
+            CharacterQueryIndex.getInstance(),
+            CharacterLibrary.getInstance(),
+            this::openCharacterFile
+        );
+        searchDialog.setLocationRelativeTo(this);
+        searchDialog.setVisible(true);
+    }
 
-                    this.addCharacter(character);
-                    this.printMenuItem.setEnabled(true);
-                    this.saveMenuItem.setEnabled(true);
-                    VampireEditor.log("Loaded character " + character.getName());
-                } catch (Exception ex) {
-                    Logger.getLogger(BaseWindow.class.getName()).log(Level.SEVERE, null, ex);
-                    JOptionPane.showMessageDialog(
-                        this,
-                        this.language.translate("couldNotLoadCharacter"),
-                        this.language.translate("couldNotLoad"),
-                        JOptionPane.ERROR_MESSAGE
-                    );
-                    ArrayList<String> list = new ArrayList<>(
-                        Collections.singletonList(ex.getMessage())
-                    );
+    /**
+     * Action performed event for the find similar menu entry.
+     *
+     * @param evt Event object
+     */
+    private void similarMenuItemActionPerformed(java.awt.event.ActionEvent evt) {
+        if (!this.isAnyCharacterLoaded()) {
+            return;
+        }
+
+        SimilarCharactersDialog similarDialog = new SimilarCharactersDialog(
+            this,
+            this.getActiveCharacter(),
+            CharacterSimilarityIndex.getInstance(),
+            CharacterLibrary.getInstance(),
+            this::openCharacterFile
+        );
+        similarDialog.setLocationRelativeTo(this);
+        similarDialog.setVisible(true);
+    }
+
+    /**
+     * Load the character of the given file and show it in a new tab.
+     * If the character is already open, its tab is selected instead. This is checked by only reading the id of the
+     * character, before loading the whole file.
+     *
+     * @param file The character file to open
+     */
+    private void openCharacterFile(File file) {
+        CharacterStorage storage = (CharacterStorage) StorageFactory.getStorage(StorageFactory.StorageType.CHARACTER);
+
+        try {
+            int characterTab = this.isCharacterLoaded(storage.peekId(file));
+
+            if (characterTab != -1) {
+                this.charactersTabPane.setSelectedIndex(characterTab);
+                VampireEditor.log("Character was already open, switched to tab.");
+
+                return;
+            }
+        } catch (EntityStorageException ex) {
+            // The full load below reports why the file can't be opened.
+        }
+
+        ShowWaitAction waitAction = new ShowWaitAction(this);
+        waitAction.show(aVoid -> {
+            try {
+                Character character = storage.load(file, CharacterStorage.ValidationLevel.STRICT);
+
+                int characterTab = this.isCharacterLoaded(character);
+                if (characterTab != -1) {
+                    this.charactersTabPane.setSelectedIndex(characterTab);
+                    VampireEditor.log("Character was already open, switched to tab.");
+                    return null;
+                }
+
+                this.addCharacter(character);
+                this.printMenuItem.setEnabled(true);
+                this.similarMenuItem.setEnabled(true);
+                this.saveMenuItem.setEnabled(true);
+                VampireEditor.log("Loaded character " + character.getName());
+            } catch (Exception ex) {
+                JOptionPane.showMessageDialog(
+                    this,
+                    this.language.translate("couldNotLoadCharacter"),
+                    this.language.translate("couldNotLoad"),
+                    JOptionPane.ERROR_MESSAGE
+                );
+                this.logLoadFailure(ex);
+            }
+
+            return null;
+        });
+    }
+
+    /**
+     * Action performed event for the import menu entry.
+     * Several files or whole directories may be selected, every character file found is loaded.
+     *
+     * @param evt Event object
+     */
+    private void importMenuItemActionPerformed(java.awt.event.ActionEvent evt) {
+        JFileChooser importFileChooser = new JFileChooser(this.configuration.getOpenDirPath());
+        importFileChooser.setMultiSelectionEnabled(true);
+        importFileChooser.setFileSelectionMode(JFileChooser.FILES_AND_DIRECTORIES);
+        importFileChooser.setFileFilter(new FileNameExtensionFilter(
+            this.language.translate("characterFiles"),
+            "xml",
+            "vch"
+        ));
+
+        if (importFileChooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+
+        File[] selection = importFileChooser.getSelectedFiles();
+        this.configuration.setOpenDirPath(selection[0].getParent());
+        this.configuration.saveProperties();
+        this.importCharacters(selection);
+    }
 
-                    for (Throwable throwable : ex.getSuppressed()) {
-                        list.add(throwable.getMessage());
+    /**
+     * Load every character file of the selection in the background.
+     * Characters are added as soon as they are loaded, while a progress monitor shows how many files are done.
+     *
+     * @param selection The selected files and directories
+     */
+    private void importCharacters(File[] selection) {
+        CharacterStorage storage = (CharacterStorage) StorageFactory.getStorage(StorageFactory.StorageType.CHARACTER);
+        ProgressMonitor monitor = new ProgressMonitor(
+            this,
+            this.language.translate("importingCharacters"),
+            null,
+            0,
+            100
+        );
+        monitor.setMillisToDecideToPopup(0);
+        monitor.setMillisToPopup(0);
+
+        SwingWorker<CharacterImport.Summary, CharacterImport.Result> worker = new SwingWorker<CharacterImport.Summary, CharacterImport.Result>() {
+            @Override
+            protected CharacterImport.Summary doInBackground() throws Exception {
+                List<File> files = CharacterImport.collectFiles(selection);
+                VampireEditor.log("Importing " + files.size() + " character files");
+
+                return new CharacterImport(storage, CharacterStorage.ValidationLevel.STRICT).run(
+                    files,
+                    (result, completed, total) -> {
+                        this.publish(result);
+                        this.setProgress(completed * 100 / total);
                     }
+                );
+            }
 
-                    VampireEditor.log(list);
+            @Override
+            protected void process(List<CharacterImport.Result> results) {
+                for (CharacterImport.Result result : results) {
+                    if (!result.isSuccessful()) {
+                        BaseWindow.this.logLoadFailure(result.getException());
+                    } else if (BaseWindow.this.isCharacterLoaded(result.getCharacter()) == -1) {
+                        BaseWindow.this.addCharacter(result.getCharacter());
+                    }
                 }
+            }
+
+            @Override
+            protected void done() {
+                monitor.close();
+
+                if (this.isCancelled()) {
+                    VampireEditor.log("Import cancelled");
+
+                    return;
+                }
+
+                try {
+                    BaseWindow.this.showImportSummary(this.get());
+                } catch (InterruptedException | ExecutionException ex) {
+                    Logger.getLogger(BaseWindow.class.getName()).log(Level.SEVERE, null, ex);
+                }
+            }
+        };
 
-                return null;
-            });
+        worker.addPropertyChangeListener(event -> {
+            if (event.getPropertyName().equals("progress")) {
+                monitor.setProgress((Integer) event.getNewValue());
+            }
+
+            if (monitor.isCanceled() && !worker.isDone()) {
+                worker.cancel(true);
+            }
+        });
+        worker.execute();
+    }
+
+    /**
+     * Log and show the summary of a finished import.
+     *
+     * @param summary The summary of the import
+     */
+    private void showImportSummary(CharacterImport.Summary summary) {
+        String message = String.format(
+            this.language.translate("importSummary"),
+            summary.getLoaded(),
+            summary.getTotal(),
+            summary.getElapsedMillis(),
+            summary.getThroughput()
+        );
+        VampireEditor.log(message);
+
+        if (summary.getFailures().isEmpty()) {
+            JOptionPane.showMessageDialog(
+                this,
+                message,
+                this.language.translate("importFinished"),
+                JOptionPane.INFORMATION_MESSAGE
+            );
+
+            return;
+        }
+
+        StringBuilder failures = new StringBuilder(message)
+            .append("\n\n")
+            .append(this.language.translate("importFailures"));
+
+        summary.getFailures().forEach(result -> failures.append("\n").append(result.getFile().getName()));
+
+        JOptionPane.showMessageDialog(
+            this,
+            failures.toString(),
+            this.language.translate("importFinished"),
+            JOptionPane.WARNING_MESSAGE
+        );
+    }
+
+    /**
+     * Log a character that could not be loaded, including every collected cause.
+     *
+     * @param ex The exception thrown while loading
+     */
+    private void logLoadFailure(Exception ex) {
+        Logger.getLogger(BaseWindow.class.getName()).log(Level.SEVERE, null, ex);
+        ArrayList<String> list = new ArrayList<>(
+            Collections.singletonList(ex.getMessage())
+        );
+
+        for (Throwable throwable : ex.getSuppressed()) {
+            list.add(throwable.getMessage());
         }
+
+        VampireEditor.log(list);
     }
 
     /**
@@ -494,6 +809,14 @@ public class BaseWindow extends javax.swing.JFrame {
         this.printMenuItem.setEnabled(false);
     }
 
+    /**
+     * Disable the find similar menu item.
+     */
+    public void disableSimilarMenuItem()
+    {
+        this.similarMenuItem.setEnabled(false);
+    }
+
     /**
      * Action that will be performed on changing the language.
      *
@@ -512,8 +835,17 @@ public class BaseWindow extends javax.swing.JFrame {
 
         VampireEditor.log(new ArrayList<>(Collections.singletonList(message)));
         this.configuration.saveProperties();
-        this.language = this.configuration.getLanguageObject();
-        this.languageMenu.setIcon(this.configuration.getLanguage().getIcon());
+    }
+
+    /**
+     * Update every text after the language has been changed.
+     *
+     * @param language The newly selected language
+     * @param languageObject The translations of the newly selected language
+     */
+    private void languageChanged(Configuration.Language language, LanguageInterface languageObject) {
+        this.language = languageObject;
+        this.languageMenu.setIcon(language.getIcon());
         this.setFieldTexts();
 
         for (Component component : this.charactersTabPane.getComponents()) {
@@ -568,6 +900,14 @@ public class BaseWindow extends javax.swing.JFrame {
         this.newMenuItem.setMnemonic(this.language.translate("newMnemonic").charAt(0));
         this.openMenuItem.setText(this.language.translate("open"));
         this.openMenuItem.setMnemonic(this.language.translate("openMnemonic").charAt(0));
+        this.importMenuItem.setText(this.language.translate("import"));
+        this.importMenuItem.setMnemonic(this.language.translate("importMnemonic").charAt(0));
+        this.libraryMenuItem.setText(this.language.translate("library"));
+        this.libraryMenuItem.setMnemonic(this.language.translate("libraryMnemonic").charAt(0));
+        this.searchMenuItem.setText(this.language.translate("search"));
+        this.searchMenuItem.setMnemonic(this.language.translate("searchMnemonic").charAt(0));
+        this.similarMenuItem.setText(this.language.translate("findSimilar"));
+        this.similarMenuItem.setMnemonic(this.language.translate("findSimilarMnemonic").charAt(0));
         this.saveMenuItem.setText(this.language.translate("save"));
         this.saveMenuItem.setMnemonic(this.language.translate("saveMnemonic").charAt(0));
         this.printMenuItem.setText(this.language.translate("print"));
@@ -610,12 +950,134 @@ public class BaseWindow extends javax.swing.JFrame {
             this.charactersTabPane.add(character.getName(), characterTabbedPane);
             this.charactersTabPane.setSelectedIndex(this.charactersTabPane.indexOfComponent(characterTabbedPane));
             this.printMenuItem.setEnabled(true);
+            this.similarMenuItem.setEnabled(true);
             this.saveMenuItem.setEnabled(true);
         } catch (Exception ex) {
             Logger.getLogger(BaseWindow.class.getName()).log(Level.SEVERE, null, ex);
         }
     }
 
+    /**
+     * Pin or unpin the character of a tab in the character storage.
+     * Characters of open tabs stay in memory, closed ones may be evicted.
+     *
+     * @param tab The added or removed tab
+     * @param pinned Whether to pin or unpin the character
+     */
+    private void setCharacterPinned(Component tab, boolean pinned) {
+        if (!(tab instanceof CharacterTabbedPane) || ((CharacterTabbedPane) tab).getCharacter() == null) {
+            return;
+        }
+
+        CharacterStorage storage = (CharacterStorage) StorageFactory.getStorage(StorageFactory.StorageType.CHARACTER);
+        UUID id = ((CharacterTabbedPane) tab).getCharacter().getId();
+
+        if (pinned) {
+            storage.pin(id);
+        } else {
+            storage.unpin(id);
+        }
+    }
+
+    /**
+     * Watch the save directory for characters changed by other programs.
+     * Nothing happens if the directory is already watched, a previously watched directory is no longer watched.
+     */
+    private void watchSaveDirectory() {
+        File directory = this.configuration.getSaveDirPath().getAbsoluteFile();
+
+        try {
+            if (this.directoryWatcher != null) {
+                if (this.directoryWatcher.getDirectory().equals(directory)) {
+                    return;
+                }
+
+                this.directoryWatcher.close();
+                this.directoryWatcher = null;
+            }
+
+            if (!directory.isDirectory()) {
+                return;
+            }
+
+            CharacterDirectoryWatcher watcher = new CharacterDirectoryWatcher(CharacterLibrary.getInstance(), directory);
+            watcher.addListener(files -> SwingUtilities.invokeLater(() -> this.refreshCharacterTabs(files)));
+            watcher.start();
+            this.directoryWatcher = watcher;
+            VampireEditor.log("Watching " + directory + " for changed characters");
+        } catch (IOException ex) {
+            Logger.getLogger(BaseWindow.class.getName()).log(Level.SEVERE, null, ex);
+        }
+    }
+
+    /**
+     * Reload every open character whose file has been changed by another program.
+     * Tabs with changes that haven't been saved keep their character, only a message is shown.
+     *
+     * @param files The changed files
+     */
+    private void refreshCharacterTabs(Collection<File> files) {
+        CharacterStorage storage = (CharacterStorage) StorageFactory.getStorage(StorageFactory.StorageType.CHARACTER);
+        HashSet<File> changed = new HashSet<>();
+        files.forEach(file -> changed.add(file.getAbsoluteFile()));
+
+        for (int i = 0; i < this.charactersTabPane.getTabCount(); i++) {
+            CharacterTabbedPane pane = (CharacterTabbedPane) this.charactersTabPane.getComponentAt(i);
+            Character character = pane.getCharacter();
+            File file = storage.getStoredFile(character.getId());
+
+            // Own saves leave the stored state unchanged and don't need a reload.
+            if (file == null || !changed.contains(file) || !storage.isStoredFileChanged(character.getId())) {
+                continue;
+            }
+
+            if (storage.hasLocalChanges(character) || !file.isFile()) {
+                this.statusLabel.setText(String.format(this.language.translate("characterChangedOnDisk"), character.getName()));
+                continue;
+            }
+
+            this.reloadCharacterTab(pane, file);
+        }
+    }
+
+    /**
+     * Load the character of the given tab again from its file in the background and show it in place.
+     *
+     * @param pane The tab to reload
+     * @param file The file of the character
+     */
+    private void reloadCharacterTab(CharacterTabbedPane pane, File file) {
+        CharacterStorage storage = (CharacterStorage) StorageFactory.getStorage(StorageFactory.StorageType.CHARACTER);
+
+        new SwingWorker<Character, Void>() {
+            @Override
+            protected Character doInBackground() throws Exception {
+                return storage.load(file, CharacterStorage.ValidationLevel.STRICT);
+            }
+
+            @Override
+            protected void done() {
+                int index = BaseWindow.this.charactersTabPane.indexOfComponent(pane);
+
+                if (index == -1) {
+                    return;
+                }
+
+                try {
+                    Character character = this.get();
+                    pane.reload(character);
+                    BaseWindow.this.charactersTabPane.setTitleAt(index, character.getName());
+                    BaseWindow.this.statusLabel.setText(
+                        String.format(BaseWindow.this.language.translate("characterReloaded"), character.getName())
+                    );
+                    VampireEditor.log("Reloaded character " + character.getName() + " changed on disk");
+                } catch (InterruptedException | ExecutionException ex) {
+                    BaseWindow.this.logLoadFailure(ex);
+                }
+            }
+        }.execute();
+    }
+
     /**
      * Get the character of the currently selected tab.
      */
@@ -641,10 +1103,21 @@ public class BaseWindow extends javax.swing.JFrame {
      * @return Returns the position of the character tab if found, otherwise -1
      */
     private int isCharacterLoaded(Character character) {
+        return this.isCharacterLoaded(character.getId());
+    }
+
+    /**
+     * Check if the character with the given id already has been loaded.
+     *
+     * @param id The id of the character
+     *
+     * @return Returns the position of the character tab if found, otherwise -1
+     */
+    private int isCharacterLoaded(UUID id) {
         for (int i = 0; i < this.charactersTabPane.getTabCount(); i++) {
             CharacterTabbedPane pane = (CharacterTabbedPane) this.charactersTabPane.getComponentAt(i);
 
-            if (character.getId().equals(pane.getCharacter().getId())) {
+            if (id.equals(pane.getCharacter().getId())) {
                 return i;
             }
         }
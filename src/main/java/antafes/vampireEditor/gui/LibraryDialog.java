@@ -0,0 +1,295 @@
+/*
+ * This file is part of Vampire Editor.
+ *
+ * Vampire Editor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Vampire Editor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Vampire Editor. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @package Vampire Editor
+ * @author Marian Pollzien <map@wafriv.de>
+ * @copyright (c) 2026, Marian Pollzien
+ * @license https://www.gnu.org/licenses/lgpl.html LGPLv3
+ */
+package antafes.vampireEditor.gui;
+
+import antafes.vampireEditor.Configuration;
+import antafes.vampireEditor.entity.EntityStorageException;
+import antafes.vampireEditor.entity.storage.CharacterLibrary;
+import antafes.vampireEditor.entity.storage.ClanStorage;
+import antafes.vampireEditor.entity.storage.StorageFactory;
+import antafes.vampireEditor.language.LanguageInterface;
+
+import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.table.AbstractTableModel;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Dialog listing every character of the library.
+ * The list is shown from the stored index right away and refreshed by an incremental rescan in the background.
+ *
+ * @author Marian Pollzien
+ */
+public class LibraryDialog extends JDialog {
+    private final LanguageInterface language;
+    private final CharacterLibrary library;
+    private final Consumer<File> openAction;
+    private final LibraryTableModel tableModel;
+
+    // List of created fields
+    private JTextField filterTextField;
+    private JLabel filterLabel;
+    private JTable libraryTable;
+    private JLabel statusLabel;
+    private JButton openButton;
+    private JButton closeButton;
+
+    /**
+     * Table model showing library entries.
+     */
+    private class LibraryTableModel extends AbstractTableModel {
+        private List<CharacterLibrary.Entry> entries = new ArrayList<>();
+
+        /**
+         * Replace the shown entries.
+         *
+         * @param entries The entries to show
+         */
+        void setEntries(List<CharacterLibrary.Entry> entries) {
+            this.entries = entries;
+            this.fireTableDataChanged();
+        }
+
+        /**
+         * Get the entry of the given row.
+         *
+         * @param row The row index
+         *
+         * @return The entry
+         */
+        CharacterLibrary.Entry getEntry(int row) {
+            return this.entries.get(row);
+        }
+
+        @Override
+        public int getRowCount() {
+            return this.entries.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return 4;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            switch (column) {
+                case 0:
+                    return LibraryDialog.this.language.translate("name");
+                case 1:
+                    return LibraryDialog.this.language.translate("clan");
+                case 2:
+                    return LibraryDialog.this.language.translate("generation");
+                default:
+                    return LibraryDialog.this.language.translate("player");
+            }
+        }
+
+        @Override
+        public Object getValueAt(int rowIndex, int columnIndex) {
+            CharacterLibrary.Entry entry = this.entries.get(rowIndex);
+
+            switch (columnIndex) {
+                case 0:
+                    return entry.getName();
+                case 1:
+                    return LibraryDialog.this.getClanName(entry.getClanKey());
+                case 2:
+                    return entry.getGeneration();
+                default:
+                    return entry.getPlayer();
+            }
+        }
+    }
+
+    /**
+     * Creates a new library dialog.
+     *
+     * @param parent Parent element
+     * @param library The library to show
+     * @param openAction Action called with the file of the character to open
+     */
+    public LibraryDialog(Frame parent, CharacterLibrary library, Consumer<File> openAction) {
+        super(parent, false);
+
+        this.language = Configuration.getInstance().getLanguageObject();
+        this.library = library;
+        this.openAction = openAction;
+        this.tableModel = new LibraryTableModel();
+
+        this.initComponents();
+        this.init();
+    }
+
+    /**
+     * Initialize every component that should be shown on the dialog.
+     */
+    private void initComponents() {
+        filterTextField = new JTextField();
+        filterLabel = new JLabel();
+        libraryTable = new JTable(this.tableModel);
+        statusLabel = new JLabel(" ");
+        openButton = new JButton();
+        closeButton = new JButton();
+
+        setDefaultCloseOperation(WindowConstants.DISPOSE_ON_CLOSE);
+
+        filterTextField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                LibraryDialog.this.updateEntries();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                LibraryDialog.this.updateEntries();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                LibraryDialog.this.updateEntries();
+            }
+        });
+
+        libraryTable.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        libraryTable.setAutoCreateRowSorter(true);
+        libraryTable.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (e.getClickCount() == 2) {
+                    LibraryDialog.this.openSelected();
+                }
+            }
+        });
+        JScrollPane libraryScrollPane = new JScrollPane(libraryTable);
+
+        openButton.addActionListener(evt -> this.openSelected());
+        closeButton.addActionListener(evt -> this.dispose());
+        getRootPane().setDefaultButton(openButton);
+
+        GroupLayout layout = new GroupLayout(getContentPane());
+        getContentPane().setLayout(layout);
+        layout.setAutoCreateGaps(true);
+        layout.setAutoCreateContainerGaps(true);
+        layout.setHorizontalGroup(
+            layout.createParallelGroup(GroupLayout.Alignment.LEADING)
+                .addGroup(layout.createSequentialGroup()
+                    .addComponent(filterLabel)
+                    .addComponent(filterTextField)
+                )
+                .addComponent(libraryScrollPane, GroupLayout.DEFAULT_SIZE, 600, Short.MAX_VALUE)
+                .addGroup(layout.createSequentialGroup()
+                    .addComponent(statusLabel, GroupLayout.DEFAULT_SIZE, GroupLayout.DEFAULT_SIZE, Short.MAX_VALUE)
+                    .addComponent(openButton)
+                    .addComponent(closeButton)
+                )
+        );
+        layout.setVerticalGroup(
+            layout.createSequentialGroup()
+                .addGroup(layout.createParallelGroup(GroupLayout.Alignment.BASELINE)
+                    .addComponent(filterLabel)
+                    .addComponent(filterTextField, GroupLayout.PREFERRED_SIZE, GroupLayout.DEFAULT_SIZE, GroupLayout.PREFERRED_SIZE)
+                )
+                .addComponent(libraryScrollPane, GroupLayout.DEFAULT_SIZE, 400, Short.MAX_VALUE)
+                .addGroup(layout.createParallelGroup(GroupLayout.Alignment.BASELINE)
+                    .addComponent(statusLabel)
+                    .addComponent(openButton)
+                    .addComponent(closeButton)
+                )
+        );
+
+        pack();
+    }
+
+    /**
+     * Set the translated texts, show the stored index and start the rescan.
+     */
+    private void init() {
+        BaseWindow.installEscapeCloseOperation(this);
+        this.setTitle(this.language.translate("library"));
+        this.filterLabel.setText(this.language.translate("filter"));
+        this.openButton.setText(this.language.translate("open"));
+        this.closeButton.setText(this.language.translate("close"));
+        this.updateEntries();
+        this.rescan();
+    }
+
+    /**
+     * Show the entries matching the current filter text.
+     */
+    private void updateEntries() {
+        this.tableModel.setEntries(this.library.filter(this.filterTextField.getText()));
+        this.statusLabel.setText(
+            String.format(this.language.translate("libraryCharacters"), this.tableModel.getRowCount())
+        );
+    }
+
+    /**
+     * Rescan the open directory in the background and refresh the list afterwards.
+     */
+    private void rescan() {
+        LibraryRescan.execute(this.library, this.statusLabel, this::updateEntries);
+    }
+
+    /**
+     * Open the selected character and close the dialog.
+     */
+    private void openSelected() {
+        int row = this.libraryTable.getSelectedRow();
+
+        if (row == -1) {
+            return;
+        }
+
+        CharacterLibrary.Entry entry = this.tableModel.getEntry(this.libraryTable.convertRowIndexToModel(row));
+        this.dispose();
+        this.openAction.accept(entry.getFile());
+    }
+
+    /**
+     * Get the translated name of the clan with the given key.
+     *
+     * @param key The key of the clan
+     *
+     * @return The clan name or the key if the clan is unknown
+     */
+    private String getClanName(String key) {
+        if (key == null) {
+            return null;
+        }
+
+        try {
+            ClanStorage clanStorage = (ClanStorage) StorageFactory.getStorage(StorageFactory.StorageType.CLAN);
+
+            return clanStorage.getEntity(key).getName();
+        } catch (EntityStorageException ex) {
+            return key;
+        }
+    }
+}
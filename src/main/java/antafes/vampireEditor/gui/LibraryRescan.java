@@ -0,0 +1,83 @@
+/*
+ * This file is part of Vampire Editor.
+ *
+ * Vampire Editor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Vampire Editor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Vampire Editor. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @package Vampire Editor
+ * @author Marian Pollzien <map@wafriv.de>
+ * @copyright (c) 2026, Marian Pollzien
+ * @license https://www.gnu.org/licenses/lgpl.html LGPLv3
+ */
+package antafes.vampireEditor.gui;
+
+import antafes.vampireEditor.Configuration;
+import antafes.vampireEditor.VampireEditor;
+import antafes.vampireEditor.entity.storage.CharacterLibrary;
+
+import javax.swing.*;
+import java.io.File;
+import java.util.concurrent.ExecutionException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Incremental rescan of the open directory in the background, shared by the dialogs working on the library.
+ * Every index registered with the library is updated by the rescan, so the dialogs only have to refresh their
+ * results afterwards.
+ *
+ * @author Marian Pollzien
+ */
+final class LibraryRescan {
+    /**
+     * Constructor
+     */
+    private LibraryRescan() {
+    }
+
+    /**
+     * Rescan the open directory in the background and run the given action on the event dispatch thread afterwards.
+     * The action is also run if the rescan failed, to show what is indexed so far.
+     *
+     * @param library The library to rescan
+     * @param statusLabel The label to show the progress in
+     * @param finished The action to run after the rescan
+     */
+    static void execute(CharacterLibrary library, JLabel statusLabel, Runnable finished) {
+        Configuration configuration = Configuration.getInstance();
+        File directory = configuration.getOpenDirPath();
+        statusLabel.setText(configuration.getLanguageObject().translate("scanningLibrary"));
+
+        new SwingWorker<CharacterLibrary.RescanResult, Void>() {
+            @Override
+            protected CharacterLibrary.RescanResult doInBackground() throws Exception {
+                return library.rescan(directory);
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    CharacterLibrary.RescanResult result = this.get();
+                    VampireEditor.log(
+                        "Library rescanned: " + result.getIndexed() + " characters, " + result.getParsed()
+                            + " loaded, " + result.getRemoved() + " removed"
+                    );
+                } catch (InterruptedException | ExecutionException ex) {
+                    Logger.getLogger(LibraryRescan.class.getName()).log(Level.SEVERE, null, ex);
+                }
+
+                finished.run();
+            }
+        }.execute();
+    }
+}
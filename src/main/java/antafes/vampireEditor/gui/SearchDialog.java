@@ -0,0 +1,345 @@
+/*
+ * This file is part of Vampire Editor.
+ *
+ * Vampire Editor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Vampire Editor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Vampire Editor. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @package Vampire Editor
+ * @author Marian Pollzien <map@wafriv.de>
+ * @copyright (c) 2026, Marian Pollzien
+ * @license https://www.gnu.org/licenses/lgpl.html LGPLv3
+ */
+package antafes.vampireEditor.gui;
+
+import antafes.vampireEditor.Configuration;
+import antafes.vampireEditor.entity.storage.CharacterLibrary;
+import antafes.vampireEditor.entity.storage.CharacterQueryException;
+import antafes.vampireEditor.entity.storage.CharacterQueryIndex;
+import antafes.vampireEditor.entity.storage.CharacterSearchIndex;
+import antafes.vampireEditor.language.LanguageInterface;
+
+import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.table.AbstractTableModel;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Dialog for searching every character of the library, either by full text or by a structured query like
+ * {@code clan=brujah AND generation<=8 AND attribute.strength>=4}.
+ * Results are updated while typing, the library is rescanned in the background to pick up changed files.
+ *
+ * @author Marian Pollzien
+ */
+public class SearchDialog extends JDialog {
+    private static final int MAX_RESULTS = 100;
+
+    private final LanguageInterface language;
+    private final CharacterSearchIndex searchIndex;
+    private final CharacterQueryIndex queryIndex;
+    private final CharacterLibrary library;
+    private final Consumer<File> openAction;
+    private final SearchTableModel tableModel;
+
+    // List of created fields
+    private JTextField queryTextField;
+    private JLabel queryLabel;
+    private JComboBox<String> modeComboBox;
+    private JTable resultTable;
+    private JLabel statusLabel;
+    private JButton openButton;
+    private JButton closeButton;
+
+    /**
+     * A single result row of either search mode.
+     */
+    private static class Result {
+        private final File file;
+        private final String name;
+        private final Double score;
+
+        /**
+         * Constructor
+         *
+         * @param file The file of the character
+         * @param name The name of the character
+         * @param score The relevance or null for structured queries
+         */
+        Result(File file, String name, Double score) {
+            this.file = file;
+            this.name = name;
+            this.score = score;
+        }
+    }
+
+    /**
+     * Table model showing search results.
+     */
+    private class SearchTableModel extends AbstractTableModel {
+        private List<Result> results = new ArrayList<>();
+
+        /**
+         * Replace the shown results.
+         *
+         * @param results The results to show
+         */
+        void setResults(List<Result> results) {
+            this.results = results;
+            this.fireTableDataChanged();
+        }
+
+        /**
+         * Get the result of the given row.
+         *
+         * @param row The row index
+         *
+         * @return The result
+         */
+        Result getResult(int row) {
+            return this.results.get(row);
+        }
+
+        @Override
+        public int getRowCount() {
+            return this.results.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return 3;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            switch (column) {
+                case 0:
+                    return SearchDialog.this.language.translate("name");
+                case 1:
+                    return SearchDialog.this.language.translate("relevance");
+                default:
+                    return SearchDialog.this.language.translate("file");
+            }
+        }
+
+        @Override
+        public Object getValueAt(int rowIndex, int columnIndex) {
+            Result result = this.results.get(rowIndex);
+
+            switch (columnIndex) {
+                case 0:
+                    return result.name;
+                case 1:
+                    return result.score == null ? "" : String.format("%.2f", result.score);
+                default:
+                    return result.file.getPath();
+            }
+        }
+    }
+
+    /**
+     * Creates a new search dialog.
+     *
+     * @param parent Parent element
+     * @param searchIndex The index for full-text searches
+     * @param queryIndex The index for structured queries
+     * @param library The library to rescan
+     * @param openAction Action called with the file of the character to open
+     */
+    public SearchDialog(
+        Frame parent,
+        CharacterSearchIndex searchIndex,
+        CharacterQueryIndex queryIndex,
+        CharacterLibrary library,
+        Consumer<File> openAction
+    ) {
+        super(parent, false);
+
+        this.language = Configuration.getInstance().getLanguageObject();
+        this.searchIndex = searchIndex;
+        this.queryIndex = queryIndex;
+        this.library = library;
+        this.openAction = openAction;
+        this.tableModel = new SearchTableModel();
+
+        this.initComponents();
+        this.init();
+    }
+
+    /**
+     * Initialize every component that should be shown on the dialog.
+     */
+    private void initComponents() {
+        queryTextField = new JTextField();
+        queryLabel = new JLabel();
+        modeComboBox = new JComboBox<>();
+        resultTable = new JTable(this.tableModel);
+        statusLabel = new JLabel(" ");
+        openButton = new JButton();
+        closeButton = new JButton();
+
+        setDefaultCloseOperation(WindowConstants.DISPOSE_ON_CLOSE);
+
+        queryTextField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                SearchDialog.this.search();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                SearchDialog.this.search();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                SearchDialog.this.search();
+            }
+        });
+
+        modeComboBox.addActionListener(evt -> this.search());
+
+        resultTable.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        resultTable.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (e.getClickCount() == 2) {
+                    SearchDialog.this.openSelected();
+                }
+            }
+        });
+        JScrollPane resultScrollPane = new JScrollPane(resultTable);
+
+        openButton.addActionListener(evt -> this.openSelected());
+        closeButton.addActionListener(evt -> this.dispose());
+        getRootPane().setDefaultButton(openButton);
+
+        GroupLayout layout = new GroupLayout(getContentPane());
+        getContentPane().setLayout(layout);
+        layout.setAutoCreateGaps(true);
+        layout.setAutoCreateContainerGaps(true);
+        layout.setHorizontalGroup(
+            layout.createParallelGroup(GroupLayout.Alignment.LEADING)
+                .addGroup(layout.createSequentialGroup()
+                    .addComponent(queryLabel)
+                    .addComponent(queryTextField)
+                    .addComponent(modeComboBox, GroupLayout.PREFERRED_SIZE, GroupLayout.DEFAULT_SIZE, GroupLayout.PREFERRED_SIZE)
+                )
+                .addComponent(resultScrollPane, GroupLayout.DEFAULT_SIZE, 600, Short.MAX_VALUE)
+                .addGroup(layout.createSequentialGroup()
+                    .addComponent(statusLabel, GroupLayout.DEFAULT_SIZE, GroupLayout.DEFAULT_SIZE, Short.MAX_VALUE)
+                    .addComponent(openButton)
+                    .addComponent(closeButton)
+                )
+        );
+        layout.setVerticalGroup(
+            layout.createSequentialGroup()
+                .addGroup(layout.createParallelGroup(GroupLayout.Alignment.BASELINE)
+                    .addComponent(queryLabel)
+                    .addComponent(queryTextField, GroupLayout.PREFERRED_SIZE, GroupLayout.DEFAULT_SIZE, GroupLayout.PREFERRED_SIZE)
+                    .addComponent(modeComboBox, GroupLayout.PREFERRED_SIZE, GroupLayout.DEFAULT_SIZE, GroupLayout.PREFERRED_SIZE)
+                )
+                .addComponent(resultScrollPane, GroupLayout.DEFAULT_SIZE, 400, Short.MAX_VALUE)
+                .addGroup(layout.createParallelGroup(GroupLayout.Alignment.BASELINE)
+                    .addComponent(statusLabel)
+                    .addComponent(openButton)
+                    .addComponent(closeButton)
+                )
+        );
+
+        pack();
+    }
+
+    /**
+     * Set the translated texts and start the rescan.
+     */
+    private void init() {
+        BaseWindow.installEscapeCloseOperation(this);
+        this.setTitle(this.language.translate("search"));
+        this.queryLabel.setText(this.language.translate("searchFor"));
+        this.modeComboBox.addItem(this.language.translate("fullTextSearch"));
+        this.modeComboBox.addItem(this.language.translate("structuredQuery"));
+        this.modeComboBox.setToolTipText(String.join(", ", this.queryIndex.getFieldNames()));
+        this.openButton.setText(this.language.translate("open"));
+        this.closeButton.setText(this.language.translate("close"));
+        this.rescan();
+    }
+
+    /**
+     * Show the results for the current query.
+     */
+    private void search() {
+        long start = System.nanoTime();
+        String query = this.queryTextField.getText();
+
+        if (this.modeComboBox.getSelectedIndex() != 1) {
+            this.tableModel.setResults(
+                this.searchIndex.search(query, MAX_RESULTS)
+                    .stream()
+                    .map(hit -> new Result(hit.getFile(), hit.getName(), hit.getScore()))
+                    .collect(Collectors.toList())
+            );
+        } else if (query.trim().isEmpty()) {
+            this.tableModel.setResults(new ArrayList<>());
+        } else {
+            try {
+                this.tableModel.setResults(
+                    this.queryIndex.query(query)
+                        .stream()
+                        .map(match -> new Result(match.getFile(), match.getName(), null))
+                        .collect(Collectors.toList())
+                );
+            } catch (CharacterQueryException ex) {
+                this.tableModel.setResults(new ArrayList<>());
+                this.statusLabel.setText(String.format(this.language.translate("invalidQuery"), ex.getMessage()));
+
+                return;
+            }
+        }
+
+        this.statusLabel.setText(String.format(
+            this.language.translate("searchResults"),
+            this.tableModel.getRowCount(),
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+        ));
+    }
+
+    /**
+     * Rescan the open directory in the background and repeat the search afterwards.
+     */
+    private void rescan() {
+        LibraryRescan.execute(this.library, this.statusLabel, this::search);
+    }
+
+    /**
+     * Open the selected character and close the dialog.
+     */
+    private void openSelected() {
+        int row = this.resultTable.getSelectedRow();
+
+        if (row == -1) {
+            return;
+        }
+
+        Result result = this.tableModel.getResult(row);
+        this.dispose();
+        this.openAction.accept(result.file);
+    }
+}
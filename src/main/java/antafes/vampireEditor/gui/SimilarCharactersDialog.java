@@ -0,0 +1,295 @@
+/*
+ * This file is part of Vampire Editor.
+ *
+ * Vampire Editor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Vampire Editor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Vampire Editor. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @package Vampire Editor
+ * @author Marian Pollzien <map@wafriv.de>
+ * @copyright (c) 2026, Marian Pollzien
+ * @license https://www.gnu.org/licenses/lgpl.html LGPLv3
+ */
+package antafes.vampireEditor.gui;
+
+import antafes.vampireEditor.Configuration;
+import antafes.vampireEditor.entity.Character;
+import antafes.vampireEditor.entity.storage.CharacterLibrary;
+import antafes.vampireEditor.entity.storage.CharacterSimilarityIndex;
+import antafes.vampireEditor.language.LanguageInterface;
+
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Dialog listing the characters of the library that are most similar to a given character.
+ * The library is rescanned in the background to pick up changed files.
+ *
+ * @author Marian Pollzien
+ */
+public class SimilarCharactersDialog extends JDialog {
+    private static final int MAX_RESULTS = 25;
+
+    private final LanguageInterface language;
+    private final Character character;
+    private final CharacterSimilarityIndex similarityIndex;
+    private final CharacterLibrary library;
+    private final Consumer<File> openAction;
+    private final SimilarTableModel tableModel;
+
+    // List of created fields
+    private JLabel metricLabel;
+    private JComboBox<String> metricComboBox;
+    private JTable resultTable;
+    private JLabel statusLabel;
+    private JButton openButton;
+    private JButton closeButton;
+
+    /**
+     * Table model showing similar characters.
+     */
+    private class SimilarTableModel extends AbstractTableModel {
+        private List<CharacterSimilarityIndex.Neighbour> neighbours = new ArrayList<>();
+
+        /**
+         * Replace the shown characters.
+         *
+         * @param neighbours The characters to show
+         */
+        void setNeighbours(List<CharacterSimilarityIndex.Neighbour> neighbours) {
+            this.neighbours = neighbours;
+            this.fireTableDataChanged();
+        }
+
+        /**
+         * Get the character of the given row.
+         *
+         * @param row The row index
+         *
+         * @return The character
+         */
+        CharacterSimilarityIndex.Neighbour getNeighbour(int row) {
+            return this.neighbours.get(row);
+        }
+
+        @Override
+        public int getRowCount() {
+            return this.neighbours.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return 3;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            switch (column) {
+                case 0:
+                    return SimilarCharactersDialog.this.language.translate("name");
+                case 1:
+                    return SimilarCharactersDialog.this.language.translate("distance");
+                default:
+                    return SimilarCharactersDialog.this.language.translate("file");
+            }
+        }
+
+        @Override
+        public Object getValueAt(int rowIndex, int columnIndex) {
+            CharacterSimilarityIndex.Neighbour neighbour = this.neighbours.get(rowIndex);
+
+            switch (columnIndex) {
+                case 0:
+                    return neighbour.getName();
+                case 1:
+                    return String.format("%.3f", neighbour.getDistance());
+                default:
+                    return neighbour.getFile().getPath();
+            }
+        }
+    }
+
+    /**
+     * Creates a new dialog for similar characters.
+     *
+     * @param parent Parent element
+     * @param character The character to compare with
+     * @param similarityIndex The index to search in
+     * @param library The library to rescan
+     * @param openAction Action called with the file of the character to open
+     */
+    public SimilarCharactersDialog(
+        Frame parent,
+        Character character,
+        CharacterSimilarityIndex similarityIndex,
+        CharacterLibrary library,
+        Consumer<File> openAction
+    ) {
+        super(parent, false);
+
+        this.language = Configuration.getInstance().getLanguageObject();
+        this.character = character;
+        this.similarityIndex = similarityIndex;
+        this.library = library;
+        this.openAction = openAction;
+        this.tableModel = new SimilarTableModel();
+
+        this.initComponents();
+        this.init();
+    }
+
+    /**
+     * Initialize every component that should be shown on the dialog.
+     */
+    private void initComponents() {
+        metricLabel = new JLabel();
+        metricComboBox = new JComboBox<>();
+        resultTable = new JTable(this.tableModel);
+        statusLabel = new JLabel(" ");
+        openButton = new JButton();
+        closeButton = new JButton();
+
+        setDefaultCloseOperation(WindowConstants.DISPOSE_ON_CLOSE);
+
+        resultTable.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        resultTable.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (e.getClickCount() == 2) {
+                    SimilarCharactersDialog.this.openSelected();
+                }
+            }
+        });
+        JScrollPane resultScrollPane = new JScrollPane(resultTable);
+
+        openButton.addActionListener(evt -> this.openSelected());
+        closeButton.addActionListener(evt -> this.dispose());
+        getRootPane().setDefaultButton(openButton);
+
+        GroupLayout layout = new GroupLayout(getContentPane());
+        getContentPane().setLayout(layout);
+        layout.setAutoCreateGaps(true);
+        layout.setAutoCreateContainerGaps(true);
+        layout.setHorizontalGroup(
+            layout.createParallelGroup(GroupLayout.Alignment.LEADING)
+                .addGroup(layout.createSequentialGroup()
+                    .addComponent(metricLabel)
+                    .addComponent(metricComboBox, GroupLayout.PREFERRED_SIZE, GroupLayout.DEFAULT_SIZE, GroupLayout.PREFERRED_SIZE)
+                )
+                .addComponent(resultScrollPane, GroupLayout.DEFAULT_SIZE, 600, Short.MAX_VALUE)
+                .addGroup(layout.createSequentialGroup()
+                    .addComponent(statusLabel, GroupLayout.DEFAULT_SIZE, GroupLayout.DEFAULT_SIZE, Short.MAX_VALUE)
+                    .addComponent(openButton)
+                    .addComponent(closeButton)
+                )
+        );
+        layout.setVerticalGroup(
+            layout.createSequentialGroup()
+                .addGroup(layout.createParallelGroup(GroupLayout.Alignment.BASELINE)
+                    .addComponent(metricLabel)
+                    .addComponent(metricComboBox, GroupLayout.PREFERRED_SIZE, GroupLayout.DEFAULT_SIZE, GroupLayout.PREFERRED_SIZE)
+                )
+                .addComponent(resultScrollPane, GroupLayout.DEFAULT_SIZE, 400, Short.MAX_VALUE)
+                .addGroup(layout.createParallelGroup(GroupLayout.Alignment.BASELINE)
+                    .addComponent(statusLabel)
+                    .addComponent(openButton)
+                    .addComponent(closeButton)
+                )
+        );
+
+        pack();
+    }
+
+    /**
+     * Set the translated texts and start the rescan.
+     */
+    private void init() {
+        BaseWindow.installEscapeCloseOperation(this);
+        this.setTitle(String.format(this.language.translate("similarTo"), this.character.getName()));
+        this.metricLabel.setText(this.language.translate("compareBy"));
+        this.metricComboBox.addItem(this.language.translate("traitDistribution"));
+        this.metricComboBox.addItem(this.language.translate("traitValues"));
+        this.metricComboBox.addActionListener(evt -> this.findSimilar());
+        this.openButton.setText(this.language.translate("open"));
+        this.closeButton.setText(this.language.translate("close"));
+        this.rescan();
+    }
+
+    /**
+     * Show the characters most similar to the character.
+     * The search runs in the background, as the first search of a large library has to partition the index.
+     */
+    private void findSimilar() {
+        long start = System.nanoTime();
+        CharacterSimilarityIndex.Metric metric = this.metricComboBox.getSelectedIndex() == 1
+            ? CharacterSimilarityIndex.Metric.L1
+            : CharacterSimilarityIndex.Metric.COSINE;
+
+        new SwingWorker<List<CharacterSimilarityIndex.Neighbour>, Void>() {
+            @Override
+            protected List<CharacterSimilarityIndex.Neighbour> doInBackground() {
+                return SimilarCharactersDialog.this.similarityIndex.findSimilar(
+                    SimilarCharactersDialog.this.character,
+                    MAX_RESULTS,
+                    metric
+                );
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    SimilarCharactersDialog.this.tableModel.setNeighbours(this.get());
+                    SimilarCharactersDialog.this.statusLabel.setText(String.format(
+                        SimilarCharactersDialog.this.language.translate("searchResults"),
+                        SimilarCharactersDialog.this.tableModel.getRowCount(),
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+                    ));
+                } catch (InterruptedException | ExecutionException ex) {
+                    Logger.getLogger(SimilarCharactersDialog.class.getName()).log(Level.SEVERE, null, ex);
+                }
+            }
+        }.execute();
+    }
+
+    /**
+     * Rescan the open directory in the background and show the similar characters afterwards.
+     */
+    private void rescan() {
+        LibraryRescan.execute(this.library, this.statusLabel, this::findSimilar);
+    }
+
+    /**
+     * Open the selected character and close the dialog.
+     */
+    private void openSelected() {
+        int row = this.resultTable.getSelectedRow();
+
+        if (row == -1) {
+            return;
+        }
+
+        CharacterSimilarityIndex.Neighbour neighbour = this.tableModel.getNeighbour(row);
+        this.dispose();
+        this.openAction.accept(neighbour.getFile());
+    }
+}
@@ -84,7 +84,7 @@ public class AbilitiesPanel extends BaseListPanel implements TranslatableCompone
     private void addAbilityFields(String fieldName, AbilityInterface.AbilityType type) {
         ArrayList<String> list = new ArrayList<>();
 
-        this.character.getAbilities().stream()
+        this.character.getAbilityValues().toList().stream()
             .filter((ability) -> (ability.getType().equals(type)))
             .forEachOrdered((ability) -> list.add(ability.getName()));
         list.sort(new StringComparator());
@@ -130,7 +130,7 @@ public class AbilitiesPanel extends BaseListPanel implements TranslatableCompone
 
         this.getFields().forEach((type, abilitiesList) -> abilitiesList.stream().map((component) -> (JSpinner) component)
             .forEachOrdered((spinner) -> {
-                this.character.getAbilities().stream()
+                this.character.getAbilityValues().toList().stream()
                     .filter((ability) -> (ability.getName().equals(spinner.getName())))
                     .forEachOrdered((ability) -> spinner.setValue(ability.getValue()));
             }
@@ -142,7 +142,6 @@ public class AbilitiesPanel extends BaseListPanel implements TranslatableCompone
      */
     @Override
     public void updateTexts() {
-        this.getConfiguration().loadProperties();
         this.setLanguage(this.getConfiguration().getLanguageObject());
         this.removeAll();
         this.initComponents();
@@ -86,7 +86,7 @@ public class AdvantagesPanel extends BaseListPanel implements TranslatableCompon
     private void addAdvantageFields(String fieldName, AdvantageInterface.AdvantageType type) {
         ArrayList<String> list = new ArrayList<>();
 
-        this.character.getAdvantages().stream()
+        this.character.getAdvantageValues().toList().stream()
             .filter((advantage) -> (advantage.getType().equals(type)))
             .forEachOrdered((advantage) -> list.add(advantage.getName()));
         list.sort(new StringComparator());
@@ -132,7 +132,7 @@ public class AdvantagesPanel extends BaseListPanel implements TranslatableCompon
 
         this.getFields().forEach((type, advantagesList) -> advantagesList.stream().map((component) -> (JSpinner) component)
             .forEachOrdered((spinner) -> {
-                this.character.getAdvantages().stream()
+                this.character.getAdvantageValues().toList().stream()
                     .filter((advantage) -> (advantage.getName().equals(spinner.getName())))
                     .forEachOrdered((advantage) -> spinner.setValue(advantage.getValue()));
             }
@@ -144,7 +144,6 @@ public class AdvantagesPanel extends BaseListPanel implements TranslatableCompon
      */
     @Override
     public void updateTexts() {
-        this.getConfiguration().loadProperties();
         this.setLanguage(this.getConfiguration().getLanguageObject());
         this.removeAll();
         this.initComponents();
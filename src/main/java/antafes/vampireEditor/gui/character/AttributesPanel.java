@@ -84,7 +84,7 @@ public class AttributesPanel extends BaseListPanel implements TranslatableCompon
     private void addAttributeFields(String fieldName, AttributeInterface.AttributeType type) {
         ArrayList<String> list = new ArrayList<>();
 
-        this.character.getAttributes().stream()
+        this.character.getAttributeValues().toList().stream()
             .filter((attribute) -> (attribute.getType().equals(type)))
             .forEachOrdered((attribute) -> list.add(attribute.getName()));
         list.sort(new StringComparator());
@@ -130,7 +130,7 @@ public class AttributesPanel extends BaseListPanel implements TranslatableCompon
 
         this.getFields().forEach((type, attributeList) -> attributeList.stream().map((component) -> (JSpinner) component)
             .forEachOrdered((spinner) -> {
-                this.character.getAttributes().stream()
+                this.character.getAttributeValues().toList().stream()
                     .filter((attribute) -> (attribute.getName().equals(spinner.getName())))
                     .forEachOrdered((attribute) -> spinner.setValue(attribute.getValue()));
             }
@@ -142,7 +142,6 @@ public class AttributesPanel extends BaseListPanel implements TranslatableCompon
      */
     @Override
     public void updateTexts() {
-        this.getConfiguration().loadProperties();
         this.setLanguage(this.getConfiguration().getLanguageObject());
         this.removeAll();
         this.initComponents();
@@ -25,7 +25,6 @@ import antafes.vampireEditor.Configuration;
 import antafes.vampireEditor.gui.TranslatableComponent;
 import antafes.vampireEditor.language.LanguageInterface;
 import antafes.vampireEditor.print.General;
-import antafes.vampireEditor.print.PaperA4;
 import antafes.vampireEditor.print.PrintBase;
 import lombok.Getter;
 import lombok.Setter;
@@ -73,6 +72,24 @@ public class CharacterTabbedPane extends JTabbedPane implements TranslatableComp
         this.initComponents();
     }
 
+    /**
+     * Replace the shown character, e.g. after its file has been changed by another program.
+     * The selected panel stays selected.
+     *
+     * @param character The character to show
+     */
+    public void reload(antafes.vampireEditor.entity.Character character) {
+        int selected = this.getSelectedIndex();
+        this.character = character;
+        this.removeAll();
+        this.printPages.clear();
+        this.initComponents();
+
+        if (selected >= 0 && selected < this.getTabCount()) {
+            this.setSelectedIndex(selected);
+        }
+    }
+
     /**
      * Initialize the components that should be added.
      */
@@ -157,43 +174,7 @@ public class CharacterTabbedPane extends JTabbedPane implements TranslatableComp
      */
     private void fillPrintPages()
     {
-        PaperA4 paper = new PaperA4();
-        Dimension dimension = new Dimension((int) paper.getImageableWidth(), (int) paper.getImageableHeight());
-        General generalPage = new General(this.character);
-        generalPage.setSize(dimension);
-        generalPage.create();
-        this.layoutComponent(generalPage);
-        this.printPages.add(generalPage);
-        PrintBase page = generalPage.getFollowingPageObject();
-
-        do {
-            page.setSize(dimension);
-            page.create();
-            this.layoutComponent(page);
-            this.printPages.add(page);
-            page = page.getFollowingPageObject();
-        } while (page != null);
-    }
-
-    /**
-     * Layout the component and each child element in it.
-     *
-     * @param component The component to layout
-     */
-    private void layoutComponent(Component component)
-    {
-        synchronized (component.getTreeLock())
-        {
-            component.doLayout();
-
-            if (component instanceof Container)
-            {
-                for (Component child : ((Container)component).getComponents())
-                {
-                    this.layoutComponent(child);
-                }
-            }
-        }
+        this.printPages.addAll(PrintBase.createPages(this.character));
     }
 
     /**
@@ -201,7 +182,6 @@ public class CharacterTabbedPane extends JTabbedPane implements TranslatableComp
      */
     @Override
     public void updateTexts() {
-        this.configuration.loadProperties();
         this.language = this.configuration.getLanguageObject();
 
         for (Component component : this.getComponents()) {
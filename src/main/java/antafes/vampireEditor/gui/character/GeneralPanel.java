@@ -235,7 +235,6 @@ public class GeneralPanel extends BasePanel implements TranslatableComponent, Ch
 
     @Override
     public void updateTexts() {
-        this.getConfiguration().loadProperties();
         this.setLanguage(this.getConfiguration().getLanguageObject());
         this.removeAll();
         this.initComponents();
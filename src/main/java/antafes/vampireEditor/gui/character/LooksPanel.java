@@ -193,7 +193,6 @@ public class LooksPanel extends BasePanel implements TranslatableComponent, Char
 
     @Override
     public void updateTexts() {
-        this.getConfiguration().loadProperties();
         this.setLanguage(this.getConfiguration().getLanguageObject());
         this.removeAll();
         this.initComponents();
@@ -101,6 +101,26 @@ public class CloseableTabbedPane extends JTabbedPane {
         this.addTabCloseButtons(title, index);
     }
 
+    /**
+     * Set the title of a tab, including the label next to its close button.
+     *
+     * @param index The position of the tab
+     * @param title The title to be displayed on the tab
+     */
+    @Override
+    public void setTitleAt(int index, String title) {
+        super.setTitleAt(index, title);
+        Component tabComponent = this.getTabComponentAt(index);
+
+        if (tabComponent instanceof JPanel) {
+            for (Component component : ((JPanel) tabComponent).getComponents()) {
+                if (component instanceof JLabel) {
+                    ((JLabel) component).setText(title);
+                }
+            }
+        }
+    }
+
     /**
      * Close action handler.
      */
@@ -133,6 +153,7 @@ public class CloseableTabbedPane extends JTabbedPane {
             if (!window.isAnyCharacterLoaded()) {
                 window.disablePrintMenuItem();
                 window.disableSaveMenuItem();
+                window.disableSimilarMenuItem();
             }
         }
     }
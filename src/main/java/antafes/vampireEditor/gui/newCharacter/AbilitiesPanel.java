@@ -37,6 +37,7 @@ import javax.swing.*;
 import javax.swing.event.ChangeEvent;
 import java.awt.*;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -141,12 +142,10 @@ public class AbilitiesPanel extends BaseListPanel {
      *
      * @return List of abilities
      */
-    protected ArrayList<Ability> getValues(String type) {
+    protected List<Ability> getValues(String type) {
         AbilityStorage storage = (AbilityStorage) StorageFactory.getStorage(StorageFactory.StorageType.ABILITY);
-        ArrayList<Ability> list = storage.getEntityListByType(AbilityInterface.AbilityType.valueOf(type.toUpperCase()));
-        list.sort(new StringComparator());
 
-        return list;
+        return storage.getEntityListByType(AbilityInterface.AbilityType.valueOf(type.toUpperCase()));
     }
 
     /**
@@ -405,11 +404,7 @@ public class AbilitiesPanel extends BaseListPanel {
 
                 try {
                     Ability ability = storage.getEntity(spinner.getName());
-                    builder.addAbility(
-                        ability.toBuilder()
-                            .setValue((int) spinner.getValue())
-                            .build()
-                    );
+                    builder.addAbility(ability, (int) spinner.getValue());
                 } catch (EntityStorageException ex) {
                     Logger.getLogger(AbilitiesPanel.class.getName()).log(Level.SEVERE, null, ex);
                 }
@@ -35,7 +35,6 @@ import antafes.vampireEditor.entity.storage.StorageFactory;
 import antafes.vampireEditor.gui.ComponentChangeListener;
 import antafes.vampireEditor.gui.NewCharacterDialog;
 import antafes.vampireEditor.gui.utility.Weighting;
-import antafes.vampireEditor.utility.StringComparator;
 
 import javax.swing.*;
 import javax.swing.event.ChangeEvent;
@@ -43,6 +42,7 @@ import javax.swing.event.ChangeListener;
 import java.awt.*;
 import java.awt.event.ItemEvent;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.HashMap;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -95,7 +95,7 @@ public class AdvantagesPanel extends BaseEditableListPanel {
      * Add all virtue fields sorted by the translated name.
      */
     private void addVirtueFields() {
-        ArrayList<Advantage> advantages = this.getValues(AdvantageInterface.AdvantageType.VIRTUE.name());
+        List<Advantage> advantages = this.getValues(AdvantageInterface.AdvantageType.VIRTUE.name());
         ArrayList<String> list = new ArrayList<>();
 
         advantages.forEach((advantage) -> list.add(advantage.getKey()));
@@ -119,7 +119,7 @@ public class AdvantagesPanel extends BaseEditableListPanel {
      */
     @Override
     protected String getElementLabelText(String element) {
-        ArrayList<Advantage> advantages = this.getValues(AdvantageInterface.AdvantageType.VIRTUE.name());
+        List<Advantage> advantages = this.getValues(AdvantageInterface.AdvantageType.VIRTUE.name());
 
         for (Advantage advantage : advantages) {
             if (advantage.getKey().equals(element)) {
@@ -312,12 +312,10 @@ public class AdvantagesPanel extends BaseEditableListPanel {
      * @return List of values
      */
     @Override
-    protected ArrayList<Advantage> getValues(String type) {
+    protected List<Advantage> getValues(String type) {
         AdvantageStorage storage = (AdvantageStorage) StorageFactory.getStorage(StorageFactory.StorageType.ADVANTAGE);
-        ArrayList<Advantage> list = storage.getEntityListByType(AdvantageInterface.AdvantageType.valueOf(type.toUpperCase()));
-        list.sort(new StringComparator());
 
-        return list;
+        return storage.getEntityListByType(AdvantageInterface.AdvantageType.valueOf(type.toUpperCase()));
     }
 
     /**
@@ -448,11 +446,7 @@ public class AdvantagesPanel extends BaseEditableListPanel {
                         advantage = storage.getEntity(spinner.getName());
                     }
 
-                    builder.addAdvantage(
-                        advantage.toBuilder()
-                            .setValue((int) spinner.getValue())
-                            .build()
-                    );
+                    builder.addAdvantage(advantage, (int) spinner.getValue());
                 } catch (EntityStorageException ex) {
                     Logger.getLogger(AdvantagesPanel.class.getName()).log(Level.SEVERE, null, ex);
                 }
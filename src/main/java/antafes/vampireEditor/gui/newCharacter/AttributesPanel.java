@@ -37,6 +37,7 @@ import javax.swing.*;
 import javax.swing.event.ChangeEvent;
 import java.awt.*;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -126,12 +127,10 @@ public class AttributesPanel extends BaseListPanel {
      *
      * @return List of attribute objects
      */
-    protected ArrayList<Attribute> getValues(String type) {
+    protected List<Attribute> getValues(String type) {
         AttributeStorage storage = (AttributeStorage) StorageFactory.getStorage(StorageFactory.StorageType.ATTRIBUTE);
-        ArrayList<Attribute> list = storage.getEntityListByType(AttributeInterface.AttributeType.valueOf(type.toUpperCase()));
-        list.sort(new StringComparator());
 
-        return list;
+        return storage.getEntityListByType(AttributeInterface.AttributeType.valueOf(type.toUpperCase()));
     }
 
     /**
@@ -372,11 +371,7 @@ public class AttributesPanel extends BaseListPanel {
             try {
                 Attribute attribute = storage.getEntity(spinner.getName());
 
-                builder.addAttribute(
-                    attribute.toBuilder()
-                        .setValue((int) spinner.getValue())
-                        .build()
-                );
+                builder.addAttribute(attribute, (int) spinner.getValue());
             } catch (EntityStorageException ex) {
                 Logger.getLogger(AttributesPanel.class.getName()).log(Level.SEVERE, null, ex);
             }
@@ -385,11 +380,7 @@ public class AttributesPanel extends BaseListPanel {
             try {
                 Attribute attribute = storage.getEntity(spinner.getName());
 
-                builder.addAttribute(
-                    attribute.toBuilder()
-                        .setValue((int) spinner.getValue())
-                        .build()
-                );
+                builder.addAttribute(attribute, (int) spinner.getValue());
             } catch (EntityStorageException ex) {
                 Logger.getLogger(AttributesPanel.class.getName()).log(Level.SEVERE, null, ex);
             }
@@ -398,11 +389,7 @@ public class AttributesPanel extends BaseListPanel {
             try {
                 Attribute attribute = storage.getEntity(spinner.getName());
 
-                builder.addAttribute(
-                    attribute.toBuilder()
-                        .setValue((int) spinner.getValue())
-                        .build()
-                );
+                builder.addAttribute(attribute, (int) spinner.getValue());
             } catch (EntityStorageException ex) {
                 Logger.getLogger(AttributesPanel.class.getName()).log(Level.SEVERE, null, ex);
             }
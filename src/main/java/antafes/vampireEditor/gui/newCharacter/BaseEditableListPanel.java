@@ -34,6 +34,7 @@ import java.awt.event.ItemEvent;
 import java.awt.event.ItemListener;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 
 /**
  *
@@ -481,7 +482,7 @@ abstract public class BaseEditableListPanel extends BaseListPanel {
      *
      * @return List of values
      */
-    abstract protected ArrayList<?> getValues(String type);
+    abstract protected List<?> getValues(String type);
 
     /**
      * Get an entity of the given type for the given key.
@@ -25,6 +25,8 @@ import antafes.vampireEditor.VampireEditor;
 
 import java.awt.*;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -38,22 +40,69 @@ public enum Font {
     HEADLINE ("fonts/GoudyTextMT-LombardicCapitals.ttf");
 
     private final String path;
+    private final ConcurrentHashMap<Long, java.awt.Font> derivedFonts;
+    private volatile java.awt.Font font;
 
     Font(String path) {
         this.path = path;
+        this.derivedFonts = new ConcurrentHashMap<>();
     }
 
     /**
-     * Create a java.awt.Font object from the path of this font.
+     * Get the java.awt.Font object from the path of this font.
+     * The font file is only loaded and registered with the graphics environment once.
      *
      * @return
      */
     public java.awt.Font getFont() {
-        try {
-            return java.awt.Font.createFont(
-                java.awt.Font.TRUETYPE_FONT,
-                VampireEditor.getFileInJar(this.path)
-            );
+        java.awt.Font font = this.font;
+
+        if (font == null) {
+            synchronized (this) {
+                font = this.font;
+
+                if (font == null) {
+                    font = this.loadFont();
+                    this.font = font;
+                }
+            }
+        }
+
+        return font;
+    }
+
+    /**
+     * Get the font derived with the given style and size.
+     * Derived fonts are cached, so every combination is only created once.
+     *
+     * @param style The font style
+     * @param size The font size
+     *
+     * @return
+     */
+    public java.awt.Font getFont(int style, float size) {
+        java.awt.Font font = this.getFont();
+
+        if (font == null) {
+            return null;
+        }
+
+        long key = ((long) style << 32) | (Float.floatToIntBits(size) & 0xFFFFFFFFL);
+
+        return this.derivedFonts.computeIfAbsent(key, (k) -> font.deriveFont(style, size));
+    }
+
+    /**
+     * Create the java.awt.Font object from the path of this font and register it with the graphics environment.
+     *
+     * @return
+     */
+    private java.awt.Font loadFont() {
+        try (InputStream stream = VampireEditor.getFileInJar(this.path)) {
+            java.awt.Font font = java.awt.Font.createFont(java.awt.Font.TRUETYPE_FONT, stream);
+            GraphicsEnvironment.getLocalGraphicsEnvironment().registerFont(font);
+
+            return font;
         } catch (FontFormatException | IOException ex) {
             Logger.getLogger(Font.class.getName()).log(Level.SEVERE, null, ex);
         }
@@ -38,6 +38,7 @@ public class English extends Language {
         this.character();
         this.health();
         this.print();
+        this.freeze();
     }
 
     /**
@@ -79,6 +80,33 @@ public class English extends Language {
         this.getTranslations().put("newMnemonic", "N");
         this.getTranslations().put("open", "Open");
         this.getTranslations().put("openMnemonic", "O");
+        this.getTranslations().put("import", "Import");
+        this.getTranslations().put("importMnemonic", "I");
+        this.getTranslations().put("characterFiles", "Character files");
+        this.getTranslations().put("importingCharacters", "Importing characters");
+        this.getTranslations().put("importFinished", "Import finished");
+        this.getTranslations().put("importSummary", "%d of %d characters imported in %d ms (%.1f files per second).");
+        this.getTranslations().put("importFailures", "The following files could not be loaded:");
+        this.getTranslations().put("library", "Library");
+        this.getTranslations().put("libraryMnemonic", "L");
+        this.getTranslations().put("filter", "Filter");
+        this.getTranslations().put("libraryCharacters", "%d characters");
+        this.getTranslations().put("scanningLibrary", "Scanning library ...");
+        this.getTranslations().put("search", "Search");
+        this.getTranslations().put("searchMnemonic", "e");
+        this.getTranslations().put("searchFor", "Search for");
+        this.getTranslations().put("searchResults", "%d results in %d ms");
+        this.getTranslations().put("relevance", "Relevance");
+        this.getTranslations().put("fullTextSearch", "Full text");
+        this.getTranslations().put("structuredQuery", "Structured query");
+        this.getTranslations().put("invalidQuery", "Invalid query: %s");
+        this.getTranslations().put("findSimilar", "Find similar");
+        this.getTranslations().put("findSimilarMnemonic", "m");
+        this.getTranslations().put("similarTo", "Characters similar to %s");
+        this.getTranslations().put("compareBy", "Compare by");
+        this.getTranslations().put("traitDistribution", "Trait distribution");
+        this.getTranslations().put("traitValues", "Trait values");
+        this.getTranslations().put("distance", "Distance");
         this.getTranslations().put("save", "Save");
         this.getTranslations().put("saveMnemonic", "S");
         this.getTranslations().put("print", "Print");
@@ -87,6 +115,12 @@ public class English extends Language {
         this.getTranslations().put("fileExists", "The selected file already exists, overwrite?");
         this.getTranslations().put("couldNotLoad", "Could not load");
         this.getTranslations().put("couldNotLoadCharacter", "Could not load the character.");
+        this.getTranslations().put("savingCharacter", "Saving %s ...");
+        this.getTranslations().put("savedCharacter", "Saved %s");
+        this.getTranslations().put("characterChangedOnDisk", "%s has been changed by another program, the open tab keeps its unsaved state.");
+        this.getTranslations().put("characterReloaded", "Reloaded %s, it has been changed by another program.");
+        this.getTranslations().put("couldNotSave", "Could not save");
+        this.getTranslations().put("couldNotSaveCharacter", "Could not save %s.");
         this.getTranslations().put("close", "Close");
         this.getTranslations().put("loadingCharacter", "Loading character, please wait");
     }
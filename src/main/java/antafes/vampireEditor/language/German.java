@@ -38,6 +38,7 @@ public class German extends Language {
         this.character();
         this.health();
         this.print();
+        this.freeze();
     }
 
     /**
@@ -79,6 +80,33 @@ public class German extends Language {
         this.getTranslations().put("newMnemonic", "N");
         this.getTranslations().put("open", "Öffnen");
         this.getTranslations().put("openMnemonic", "f");
+        this.getTranslations().put("import", "Importieren");
+        this.getTranslations().put("importMnemonic", "I");
+        this.getTranslations().put("characterFiles", "Charakterdateien");
+        this.getTranslations().put("importingCharacters", "Importiere Charaktere");
+        this.getTranslations().put("importFinished", "Import abgeschlossen");
+        this.getTranslations().put("importSummary", "%d von %d Charakteren in %d ms importiert (%.1f Dateien pro Sekunde).");
+        this.getTranslations().put("importFailures", "Die folgenden Dateien konnten nicht geladen werden:");
+        this.getTranslations().put("library", "Bibliothek");
+        this.getTranslations().put("libraryMnemonic", "k");
+        this.getTranslations().put("filter", "Filter");
+        this.getTranslations().put("libraryCharacters", "%d Charaktere");
+        this.getTranslations().put("scanningLibrary", "Durchsuche Bibliothek ...");
+        this.getTranslations().put("search", "Suchen");
+        this.getTranslations().put("searchMnemonic", "u");
+        this.getTranslations().put("searchFor", "Suche nach");
+        this.getTranslations().put("searchResults", "%d Ergebnisse in %d ms");
+        this.getTranslations().put("relevance", "Relevanz");
+        this.getTranslations().put("fullTextSearch", "Volltext");
+        this.getTranslations().put("structuredQuery", "Strukturierte Abfrage");
+        this.getTranslations().put("invalidQuery", "Ungültige Abfrage: %s");
+        this.getTranslations().put("findSimilar", "Ähnliche finden");
+        this.getTranslations().put("findSimilarMnemonic", "h");
+        this.getTranslations().put("similarTo", "Charaktere ähnlich zu %s");
+        this.getTranslations().put("compareBy", "Vergleichen nach");
+        this.getTranslations().put("traitDistribution", "Verteilung der Eigenschaften");
+        this.getTranslations().put("traitValues", "Werte der Eigenschaften");
+        this.getTranslations().put("distance", "Abstand");
         this.getTranslations().put("save", "Speichern");
         this.getTranslations().put("saveMnemonic", "S");
         this.getTranslations().put("print", "Drucken");
@@ -87,6 +115,12 @@ public class German extends Language {
         this.getTranslations().put("fileExists", "Die ausgewählte Datei existiert bereits, überschreiben?");
         this.getTranslations().put("couldNotLoad", "Laden fehlgeschlagen");
         this.getTranslations().put("couldNotLoadCharacter", "Konnte den Charakter nicht laden.");
+        this.getTranslations().put("savingCharacter", "Speichere %s ...");
+        this.getTranslations().put("savedCharacter", "%s gespeichert");
+        this.getTranslations().put("characterChangedOnDisk", "%s wurde von einem anderen Programm geändert, der geöffnete Tab behält seinen ungespeicherten Stand.");
+        this.getTranslations().put("characterReloaded", "%s wurde neu geladen, da es von einem anderen Programm geändert wurde.");
+        this.getTranslations().put("couldNotSave", "Speichern fehlgeschlagen");
+        this.getTranslations().put("couldNotSaveCharacter", "Konnte %s nicht speichern.");
         this.getTranslations().put("close", "Schließen");
         this.getTranslations().put("loadingCharacter", "Lade Character, bitte warten");
     }
@@ -22,21 +22,31 @@
 
 package antafes.vampireEditor.language;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 public abstract class Language implements LanguageInterface {
-    private final HashMap<String, String> translations = new HashMap<>();
+    private Map<String, String> translations = new HashMap<>();
 
     /**
      * Get the translations map.
      *
      * @return
      */
-    protected HashMap<String, String> getTranslations() {
+    protected Map<String, String> getTranslations() {
         return this.translations;
     }
 
+    /**
+     * Make the translations immutable.
+     * Has to be called at the end of the constructor of every language, after all translations have been added.
+     */
+    protected final void freeze() {
+        this.translations = Collections.unmodifiableMap(this.translations);
+    }
+
     /**
      * Get the translation for the given key.
      *
@@ -78,6 +88,6 @@ public abstract class Language implements LanguageInterface {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(translations);
+        return Objects.hash(this.translations);
     }
 }
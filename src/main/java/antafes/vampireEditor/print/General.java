@@ -163,7 +163,7 @@ public class General extends PrintBase {
         this.setMaxY(this.getMaxY() + 1);
         int yPhysical = this.getMaxY(), ySocial = this.getMaxY(), yMental = this.getMaxY();
 
-        for (Attribute attribute : this.getCharacter().getAttributesByType(AttributeInterface.AttributeType.PHYSICAL)) {
+        for (TraitValue<Attribute> attribute : this.getCharacter().getAttributeValues().getByType(AttributeInterface.AttributeType.PHYSICAL)) {
             this.addValueEntry(
                 attribute.getName(),
                 PositionX.LEFT1.getPosition(),
@@ -174,7 +174,7 @@ public class General extends PrintBase {
             this.setMaxY(this.getMaxY() + 1);
         }
 
-        for (Attribute attribute : this.getCharacter().getAttributesByType(AttributeInterface.AttributeType.SOCIAL)) {
+        for (TraitValue<Attribute> attribute : this.getCharacter().getAttributeValues().getByType(AttributeInterface.AttributeType.SOCIAL)) {
             this.addValueEntry(
                 attribute.getName(),
                 PositionX.MIDDLE1.getPosition(),
@@ -184,7 +184,7 @@ public class General extends PrintBase {
             );
         }
 
-        for (Attribute attribute : this.getCharacter().getAttributesByType(AttributeInterface.AttributeType.MENTAL)) {
+        for (TraitValue<Attribute> attribute : this.getCharacter().getAttributeValues().getByType(AttributeInterface.AttributeType.MENTAL)) {
             this.addValueEntry(
                 attribute.getName(),
                 PositionX.RIGHT1.getPosition(),
@@ -204,7 +204,7 @@ public class General extends PrintBase {
         this.setMaxY(this.getMaxY() + 1);
         int yTalents = this.getMaxY(), ySkills = this.getMaxY(), yKnowledge = this.getMaxY();
 
-        for (Ability ability : this.getCharacter().getAbilitiesByType(AbilityInterface.AbilityType.TALENT)) {
+        for (TraitValue<Ability> ability : this.getCharacter().getAbilityValues().getByType(AbilityInterface.AbilityType.TALENT)) {
             this.addValueEntry(
                 ability.getName(),
                 PositionX.LEFT1.getPosition(),
@@ -215,7 +215,7 @@ public class General extends PrintBase {
             this.setMaxY(this.getMaxY() + 1);
         }
 
-        for (Ability ability : this.getCharacter().getAbilitiesByType(AbilityInterface.AbilityType.SKILL)) {
+        for (TraitValue<Ability> ability : this.getCharacter().getAbilityValues().getByType(AbilityInterface.AbilityType.SKILL)) {
             this.addValueEntry(
                 ability.getName(),
                 PositionX.MIDDLE1.getPosition(),
@@ -225,7 +225,7 @@ public class General extends PrintBase {
             );
         }
 
-        for (Ability ability : this.getCharacter().getAbilitiesByType(AbilityInterface.AbilityType.KNOWLEDGE)) {
+        for (TraitValue<Ability> ability : this.getCharacter().getAbilityValues().getByType(AbilityInterface.AbilityType.KNOWLEDGE)) {
             this.addValueEntry(
                 ability.getName(),
                 PositionX.RIGHT1.getPosition(),
@@ -245,7 +245,7 @@ public class General extends PrintBase {
         this.setMaxY(this.getMaxY() + 1);
         int yDisciplines = this.getMaxY(), yBackground = this.getMaxY(), yVirtues = this.getMaxY();
 
-        for (Advantage advantage : this.getCharacter().getAdvantagesByType(AdvantageInterface.AdvantageType.DISCIPLINE)) {
+        for (TraitValue<Advantage> advantage : this.getCharacter().getAdvantageValues().getByType(AdvantageInterface.AdvantageType.DISCIPLINE)) {
             this.addValueEntry(
                 advantage.getName(),
                 PositionX.LEFT1.getPosition(),
@@ -256,7 +256,7 @@ public class General extends PrintBase {
             this.setMaxY(this.getMaxY() + 1);
         }
 
-        for (Advantage advantage : this.getCharacter().getAdvantagesByType(AdvantageInterface.AdvantageType.BACKGROUND)) {
+        for (TraitValue<Advantage> advantage : this.getCharacter().getAdvantageValues().getByType(AdvantageInterface.AdvantageType.BACKGROUND)) {
             this.addValueEntry(
                 advantage.getName(),
                 PositionX.MIDDLE1.getPosition(),
@@ -266,7 +266,7 @@ public class General extends PrintBase {
             );
         }
 
-        for (Advantage advantage : this.getCharacter().getAdvantagesByType(AdvantageInterface.AdvantageType.VIRTUE)) {
+        for (TraitValue<Advantage> advantage : this.getCharacter().getAdvantageValues().getByType(AdvantageInterface.AdvantageType.VIRTUE)) {
             this.addValueEntry(
                 advantage.getName(),
                 PositionX.RIGHT1.getPosition(),
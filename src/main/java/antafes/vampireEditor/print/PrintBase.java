@@ -31,15 +31,18 @@ import antafes.vampireEditor.language.LanguageInterface;
 import antafes.vampireEditor.print.element.BarLabel;
 import antafes.vampireEditor.print.element.DotElement;
 import antafes.vampireEditor.print.utility.Dot;
+import antafes.vampireEditor.print.utility.ImageCache;
 import antafes.vampireEditor.print.utility.StringProperties;
 import org.apache.commons.lang3.StringUtils;
 
 import javax.swing.*;
 import java.awt.*;
+import java.awt.image.BufferedImage;
 import java.awt.print.PageFormat;
 import java.awt.print.Printable;
 import java.awt.print.PrinterException;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.Objects;
 
 /**
@@ -87,6 +90,53 @@ public abstract class PrintBase extends JPanel implements TranslatableComponent,
         this.constraints.gridwidth = 1;
     }
 
+    /**
+     * Create and lay out every print page of the given character, starting with the general page.
+     * The pages are not added to any window, so this also works in a headless environment.
+     *
+     * @param character The character to create the pages for
+     *
+     * @return The pages in print order
+     */
+    public static ArrayList<PrintBase> createPages(Character character)
+    {
+        ArrayList<PrintBase> pages = new ArrayList<>();
+        PaperA4 paper = new PaperA4();
+        Dimension dimension = new Dimension((int) paper.getImageableWidth(), (int) paper.getImageableHeight());
+        PrintBase page = new General(character);
+
+        do {
+            page.setSize(dimension);
+            page.create();
+            PrintBase.layoutComponent(page);
+            pages.add(page);
+            page = page.getFollowingPageObject();
+        } while (page != null);
+
+        return pages;
+    }
+
+    /**
+     * Layout the component and each child element in it.
+     *
+     * @param component The component to layout
+     */
+    private static void layoutComponent(Component component)
+    {
+        synchronized (component.getTreeLock())
+        {
+            component.doLayout();
+
+            if (component instanceof Container)
+            {
+                for (Component child : ((Container)component).getComponents())
+                {
+                    PrintBase.layoutComponent(child);
+                }
+            }
+        }
+    }
+
     /**
      * Initialize everything needed for a print page.
      */
@@ -289,15 +339,13 @@ public abstract class PrintBase extends JPanel implements TranslatableComponent,
      */
     protected void addBar(String title, int width, StringProperties properties) {
         BarLabel barLabel = new BarLabel();
-        ImageIcon bar = new ImageIcon(VampireEditor.getResourceInJar("images/bar.png"));
-        int iconHeight = bar.getIconHeight();
-        float factor = (float) bar.getIconWidth() / width;
+        BufferedImage bar = ImageCache.getImage("images/bar.png");
+        float factor = (float) bar.getWidth() / width;
         barLabel.setForeground(Color.BLACK);
         barLabel.setFont(
-            Objects.requireNonNull(properties.getFontType().getFont())
-                .deriveFont(properties.getFontStyle(), properties.getSize())
+            Objects.requireNonNull(properties.getFontType().getFont(properties.getFontStyle(), properties.getSize()))
         );
-        barLabel.setIcon(new ImageIcon(bar.getImage().getScaledInstance(width, (int)(iconHeight / factor), Image.SCALE_DEFAULT)));
+        barLabel.setIcon(ImageCache.getScaledIcon("images/bar.png", width, (int)(bar.getHeight() / factor)));
         barLabel.setIconTextGap(0);
         barLabel.setHorizontalTextPosition(JLabel.CENTER);
         Dimension size = new Dimension(barLabel.getIcon().getIconWidth(), barLabel.getIcon().getIconHeight());
@@ -393,7 +441,6 @@ public abstract class PrintBase extends JPanel implements TranslatableComponent,
      */
     @Override
     public void updateTexts() {
-        this.getConfiguration().loadProperties();
         this.setLanguage(this.getConfiguration().getLanguageObject());
 
         this.innerPanel.removeAll();
@@ -527,8 +574,7 @@ public abstract class PrintBase extends JPanel implements TranslatableComponent,
         label.setText(text);
         label.setForeground(properties.getFontColor());
         label.setFont(
-            Objects.requireNonNull(properties.getFontType().getFont())
-                .deriveFont(properties.getFontStyle(), properties.getSize())
+            Objects.requireNonNull(properties.getFontType().getFont(properties.getFontStyle(), properties.getSize()))
         );
         label.setSize(100, (int) properties.getSize());
         label.setBackground(properties.getBackgroundColor());
@@ -21,7 +21,7 @@
  */
 package antafes.vampireEditor.print.element;
 
-import antafes.vampireEditor.VampireEditor;
+import antafes.vampireEditor.print.utility.ImageCache;
 
 import javax.swing.*;
 import java.awt.*;
@@ -189,15 +189,8 @@ public class BarLabel extends JLabel {
             return;
         }
 
-        ImageIcon bar = new ImageIcon(VampireEditor.getResourceInJar("images/barEmpty.png"));
         this.textLabel.setIcon(
-            new ImageIcon(
-                bar.getImage().getScaledInstance(
-                    icon.getIconWidth(),
-                    icon.getIconHeight(),
-                    Image.SCALE_DEFAULT
-                )
-            )
+            ImageCache.getScaledIcon("images/barEmpty.png", icon.getIconWidth(), icon.getIconHeight())
         );
     }
 
@@ -21,19 +21,24 @@
  */
 package antafes.vampireEditor.print.element;
 
-import antafes.vampireEditor.VampireEditor;
 import antafes.vampireEditor.print.utility.Dot;
+import antafes.vampireEditor.print.utility.ImageCache;
 
 import javax.swing.*;
 import java.awt.*;
 
 /**
+ * Row of dots showing a value. The dots are painted directly instead of using a component per dot.
  *
  * @author Marian Pollzien
  */
-public class DotElement extends JPanel {
-    private GridLayout layout;
+public class DotElement extends JComponent {
+    private static final int GAP = 1;
     private final int dotSize = 13;
+    private int max;
+    private int filled;
+    private int sizePerDot;
+    private Dot style;
 
     public DotElement() {
         this.init();
@@ -41,10 +46,7 @@ public class DotElement extends JPanel {
 
     private void init() {
         this.setBackground(Color.WHITE);
-        this.layout = new GridLayout();
-        this.layout.setHgap(1);
-        this.layout.setRows(1);
-        this.setLayout(this.layout);
+        this.setOpaque(true);
     }
 
     public void createDots(int max, int filled, Dot style) {
@@ -68,37 +70,46 @@ public class DotElement extends JPanel {
             sizePerDot = (double) this.dotSize;
         }
 
-        Dimension size = new Dimension(sizePerDot.intValue() * max, sizePerDot.intValue());
+        this.max = max;
+        this.filled = filled;
+        this.style = style;
+        this.sizePerDot = sizePerDot.intValue();
+
+        Dimension size = new Dimension(this.sizePerDot * max, this.sizePerDot);
         this.setSize(size);
         this.setPreferredSize(size);
         this.setMinimumSize(size);
         this.setMaximumSize(size);
-        this.layout.setColumns(max);
-
-        for (int i = 0; i < max; i++) {
-            JLabel dot = new JLabel();
-            String src;
-
-            if (i < filled) {
-                src = style.getFilled();
-            } else {
-                src = style.getEmpty();
-            }
-
-            ImageIcon image = new ImageIcon(VampireEditor.getResourceInJar(src));
-            dot.setIcon(
-                new ImageIcon(
-                    image.getImage().getScaledInstance(
-                        sizePerDot.intValue(),
-                        sizePerDot.intValue(),
-                        Image.SCALE_DEFAULT
-                    )
-                )
-            );
-            dot.setIconTextGap(0);
-            dot.setText("");
-
-            this.add(dot);
+        this.repaint();
+    }
+
+    /**
+     * Paint the dots. The available width is split into equally sized cells like a grid with a gap of one pixel and
+     * every dot is centered in its cell.
+     *
+     * @param g The graphics object to paint on
+     */
+    @Override
+    protected void paintComponent(Graphics g) {
+        if (this.isOpaque()) {
+            g.setColor(this.getBackground());
+            g.fillRect(0, 0, this.getWidth(), this.getHeight());
+        }
+
+        if (this.style == null || this.max <= 0 || this.sizePerDot <= 0) {
+            return;
+        }
+
+        Icon filledDot = ImageCache.getScaledIcon(this.style.getFilled(), this.sizePerDot, this.sizePerDot);
+        Icon emptyDot = ImageCache.getScaledIcon(this.style.getEmpty(), this.sizePerDot, this.sizePerDot);
+        int cellWidth = (this.getWidth() - (this.max - 1) * GAP) / this.max;
+        int offsetX = (this.getWidth() - (this.max * cellWidth + (this.max - 1) * GAP)) / 2;
+        int y = (this.getHeight() - this.sizePerDot) / 2;
+
+        for (int i = 0; i < this.max; i++) {
+            int x = offsetX + i * (cellWidth + GAP) + (cellWidth - this.sizePerDot) / 2;
+            Icon dot = i < this.filled ? filledDot : emptyDot;
+            dot.paintIcon(this, g, x, y);
         }
     }
 
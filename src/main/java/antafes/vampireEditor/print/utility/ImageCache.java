@@ -0,0 +1,119 @@
+/*
+ * This file is part of Vampire Editor.
+ *
+ * Vampire Editor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Vampire Editor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Vampire Editor. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @package Vampire Editor
+ * @author Marian Pollzien <map@wafriv.de>
+ * @copyright (c) 2026, Marian Pollzien
+ * @license https://www.gnu.org/licenses/lgpl.html LGPLv3
+ */
+
+package antafes.vampireEditor.print.utility;
+
+import antafes.vampireEditor.VampireEditor;
+
+import javax.imageio.ImageIO;
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Cache for the images used on the character sheet.
+ * Every image is only decoded once and every scaled variant is only created once.
+ *
+ * @author Marian Pollzien
+ */
+public final class ImageCache {
+    private static final ConcurrentHashMap<String, BufferedImage> images = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, ImageIcon> scaledIcons = new ConcurrentHashMap<>();
+
+    private ImageCache() {
+    }
+
+    /**
+     * Get the decoded image for the given path.
+     *
+     * @param path Path of the image inside the jar
+     *
+     * @return The image
+     */
+    public static BufferedImage getImage(String path) {
+        return ImageCache.images.computeIfAbsent(path, ImageCache::loadImage);
+    }
+
+    /**
+     * Get the image for the given path, scaled to the given size.
+     *
+     * @param path Path of the image inside the jar
+     * @param width The width to scale to
+     * @param height The height to scale to
+     *
+     * @return Icon with the scaled image
+     */
+    public static ImageIcon getScaledIcon(String path, int width, int height) {
+        return ImageCache.scaledIcons.computeIfAbsent(
+            path + '@' + width + 'x' + height,
+            (key) -> new ImageIcon(ImageCache.scale(ImageCache.getImage(path), width, height))
+        );
+    }
+
+    /**
+     * Decode the image for the given path.
+     *
+     * @param path Path of the image inside the jar
+     *
+     * @return The image
+     */
+    private static BufferedImage loadImage(String path) {
+        try (InputStream stream = VampireEditor.getFileInJar(path)) {
+            if (stream != null) {
+                BufferedImage image = ImageIO.read(stream);
+
+                if (image != null) {
+                    return image;
+                }
+            }
+        } catch (IOException ex) {
+            Logger.getLogger(ImageCache.class.getName()).log(Level.SEVERE, null, ex);
+        }
+
+        throw new IllegalArgumentException("Could not load image: " + path);
+    }
+
+    /**
+     * Scale the given image to the given size.
+     *
+     * @param image The image to scale
+     * @param width The width to scale to
+     * @param height The height to scale to
+     *
+     * @return The scaled image
+     */
+    private static BufferedImage scale(BufferedImage image, int width, int height) {
+        BufferedImage scaled = new BufferedImage(Math.max(width, 1), Math.max(height, 1), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = scaled.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+        graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        graphics.drawImage(image, 0, 0, scaled.getWidth(), scaled.getHeight(), null);
+        graphics.dispose();
+
+        return scaled;
+    }
+}
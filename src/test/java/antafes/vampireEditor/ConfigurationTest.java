@@ -24,6 +24,7 @@ package antafes.vampireEditor;
 
 import antafes.vampireEditor.language.English;
 import antafes.vampireEditor.language.German;
+import antafes.vampireEditor.language.LanguageChangeListener;
 import antafes.vampireEditor.language.LanguageInterface;
 import org.testng.Assert;
 import org.testng.annotations.AfterMethod;
@@ -33,6 +34,7 @@ import org.testng.annotations.Test;
 import javax.swing.*;
 import java.awt.*;
 import java.io.File;
+import java.util.ArrayList;
 
 @Test
 public class ConfigurationTest {
@@ -120,6 +122,37 @@ public class ConfigurationTest {
         Assert.assertEquals(actual, expected);
     }
 
+    public void testGetLanguageObjectIsCached() {
+        Assert.assertSame(this.configuration.getLanguageObject(), this.configuration.getLanguageObject());
+        Assert.assertSame(
+            this.configuration.getLanguageObject(Configuration.Language.GERMAN),
+            this.configuration.getLanguageObject(Configuration.Language.GERMAN)
+        );
+    }
+
+    public void testLanguageChangeListener() {
+        final ArrayList<Configuration.Language> changes = new ArrayList<>();
+        final LanguageChangeListener listener = (language, languageObject) -> {
+            changes.add(language);
+            Assert.assertSame(languageObject, this.configuration.getLanguageObject(language));
+        };
+
+        this.configuration.addLanguageChangeListener(listener);
+
+        try {
+            this.configuration.setLanguage(Configuration.Language.ENGLISH);
+            this.configuration.setLanguage(Configuration.Language.GERMAN);
+            this.configuration.setLanguage(Configuration.Language.GERMAN);
+        } finally {
+            this.configuration.removeLanguageChangeListener(listener);
+        }
+
+        this.configuration.setLanguage(Configuration.Language.ENGLISH);
+
+        Assert.assertEquals(changes.size(), 1);
+        Assert.assertEquals(changes.get(0), Configuration.Language.GERMAN);
+    }
+
     public void testSetOpenDirPath() {
         final File notExpected = new File("test/open/dir/path");
         final File expected = new File("test/new/open/path");
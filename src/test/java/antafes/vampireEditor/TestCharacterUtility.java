@@ -28,10 +28,16 @@ import antafes.vampireEditor.entity.EntityStorageException;
 import antafes.vampireEditor.entity.storage.*;
 import antafes.vampireEditor.gui.BaseWindow;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
 import java.util.GregorianCalendar;
 import java.util.UUID;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 /**
  * Test character utility class.
@@ -111,6 +117,49 @@ public class TestCharacterUtility {
         return null;
     }
 
+    /**
+     * Create a copy of the given character with a new id and the given name, e.g. to fill a library.
+     *
+     * @param template The character to copy
+     * @param name The name of the copy
+     *
+     * @return The builder of the copy, to change further values
+     */
+    public static Character.CharacterBuilder<?, ?> createVariant(Character template, String name) {
+        return template.toBuilder()
+            .setId(UUID.randomUUID())
+            .setName(name);
+    }
+
+    /**
+     * Load the configuration and let characters be saved into the given directory.
+     *
+     * @param saveDirPath The directory to save characters in
+     */
+    public static void initConfiguration(String saveDirPath) {
+        new VampireEditor();
+        Configuration configuration = Configuration.getInstance();
+        configuration.loadProperties();
+        configuration.setSaveDirPath(saveDirPath);
+    }
+
+    /**
+     * Delete the given directory with everything in it. Nothing happens if the directory doesn't exist.
+     *
+     * @param directory The directory to delete
+     *
+     * @throws IOException If the directory couldn't be walked
+     */
+    public static void deleteDirectory(File directory) throws IOException {
+        if (!directory.exists()) {
+            return;
+        }
+
+        try (Stream<Path> paths = Files.walk(directory.toPath())) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
     private static void addAttributes(Character.CharacterBuilder<?, ?> builder) throws EntityException, EntityStorageException {
         AttributeStorage storage = (AttributeStorage) StorageFactory.getStorage(StorageFactory.StorageType.ATTRIBUTE);
         builder.addAttribute(storage.getEntity("strength").toBuilder().setValue(3).build());
@@ -0,0 +1,119 @@
+/*
+ * This file is part of Vampire Editor.
+ *
+ * Vampire Editor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Vampire Editor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Vampire Editor. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @package Vampire Editor
+ * @author Marian Pollzien <map@wafriv.de>
+ * @copyright (c) 2026, Marian Pollzien
+ * @license https://www.gnu.org/licenses/lgpl.html LGPLv3
+ */
+
+package antafes.vampireEditor.batch;
+
+import antafes.vampireEditor.TestCharacterUtility;
+import antafes.vampireEditor.entity.Character;
+import antafes.vampireEditor.entity.storage.CharacterStorage;
+import antafes.vampireEditor.entity.storage.StorageFactory;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+@Test
+public class BatchRunnerTest {
+    private final File batchDir = new File(System.getProperty("user.home") + "/.vampire/testBatch");
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        TestCharacterUtility.initConfiguration(this.batchDir.getPath());
+        CharacterStorage storage = (CharacterStorage) StorageFactory.getStorage(StorageFactory.StorageType.CHARACTER);
+        Character template = TestCharacterUtility.createTestCharacter();
+
+        storage.save(TestCharacterUtility.createVariant(template, "First").build(), "First.xml");
+        storage.save(TestCharacterUtility.createVariant(template, "Second").build(), "Second.vch");
+        Files.write(new File(this.batchDir, "Broken.xml").toPath(), "<character".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        TestCharacterUtility.deleteDirectory(this.batchDir);
+    }
+
+    public void testValidate() throws Exception {
+        BatchReport report = new BatchRunner(BatchRunner.Command.VALIDATE, this.batchDir, null, null, 2).run();
+
+        Assert.assertEquals(report.getEntries().size(), 3);
+        Assert.assertEquals(report.getFailed(), 1);
+        Assert.assertEquals(report.getExitCode(), BatchReport.EXIT_FAILURES);
+        Assert.assertTrue(report.toJson().contains("\"status\": \"failed\""));
+    }
+
+    public void testConvert() throws Exception {
+        Files.delete(new File(this.batchDir, "Broken.xml").toPath());
+        BatchReport report = new BatchRunner(BatchRunner.Command.CONVERT, this.batchDir, null, null, 2).run();
+
+        Assert.assertEquals(report.getExitCode(), BatchReport.EXIT_SUCCESS);
+        Assert.assertTrue(new File(this.batchDir, "converted/First.vch").exists());
+        Assert.assertTrue(new File(this.batchDir, "converted/Second.xml").exists());
+
+        BatchReport second = new BatchRunner(BatchRunner.Command.CONVERT, this.batchDir, null, null, 2).run();
+
+        Assert.assertEquals(second.getEntries().size(), 2, "Output directory must not be processed again");
+    }
+
+    public void testRender() throws Exception {
+        Files.delete(new File(this.batchDir, "Broken.xml").toPath());
+        BatchReport report = new BatchRunner(BatchRunner.Command.RENDER, this.batchDir, null, null, 2).run();
+
+        Assert.assertEquals(report.getExitCode(), BatchReport.EXIT_SUCCESS);
+
+        for (BatchReport.Entry entry : report.getEntries()) {
+            Assert.assertFalse(entry.getOutputs().isEmpty());
+
+            for (File output : entry.getOutputs()) {
+                Assert.assertTrue(output.exists());
+                Assert.assertTrue(output.getName().endsWith(".png"));
+            }
+        }
+    }
+
+    public void testRunFromArguments() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int exitCode = BatchRunner.run(
+            new String[]{"--batch", "validate", this.batchDir.getPath(), "--threads", "2"},
+            new PrintStream(out),
+            System.err
+        );
+
+        Assert.assertEquals(exitCode, BatchReport.EXIT_FAILURES);
+        Assert.assertTrue(new String(out.toByteArray(), StandardCharsets.UTF_8).contains("\"total\": 3"));
+    }
+
+    public void testRunWithInvalidArguments() {
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+        Assert.assertEquals(
+            BatchRunner.run(new String[]{"--batch", "explode", this.batchDir.getPath()}, System.out, new PrintStream(err)),
+            BatchReport.EXIT_USAGE
+        );
+        Assert.assertTrue(new String(err.toByteArray(), StandardCharsets.UTF_8).contains(BatchRunner.USAGE));
+    }
+}
@@ -72,6 +72,21 @@ public class AbilityTest {
         Assert.assertEquals(actual, expected);
     }
 
+    public void testGetNameByLanguage() throws EntityException {
+        Ability ability = this.ability.toBuilder()
+            .addName(Configuration.Language.GERMAN, "Testfähigkeit")
+            .build();
+
+        Assert.assertEquals(ability.getName(Configuration.Language.ENGLISH), "Test ability");
+        Assert.assertEquals(ability.getName(Configuration.Language.GERMAN), "Testfähigkeit");
+        Assert.assertEquals(this.ability.getName(Configuration.Language.GERMAN), "Test ability");
+        Assert.assertFalse(this.ability.getNames().containsKey(Configuration.Language.GERMAN));
+    }
+
+    public void testGetNameFallback() {
+        Assert.assertEquals(this.ability.getName(Configuration.Language.GERMAN), "Test ability");
+    }
+
     public void testGetType() {
         final AbilityInterface.AbilityType expected = Ability.AbilityType.TALENT;
         final AbilityInterface.AbilityType actual = this.ability.getType();
@@ -0,0 +1,109 @@
+/*
+ * This file is part of Vampire Editor.
+ *
+ * Vampire Editor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Vampire Editor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Vampire Editor. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @package Vampire Editor
+ * @author Marian Pollzien <map@wafriv.de>
+ * @copyright (c) 2026, Marian Pollzien
+ * @license https://www.gnu.org/licenses/lgpl.html LGPLv3
+ */
+
+package antafes.vampireEditor.entity.character;
+
+import antafes.vampireEditor.Configuration;
+import antafes.vampireEditor.TestCharacterUtility;
+import antafes.vampireEditor.entity.Character;
+import antafes.vampireEditor.entity.EntityException;
+import antafes.vampireEditor.entity.EntityStorageException;
+import antafes.vampireEditor.entity.storage.AttributeStorage;
+import antafes.vampireEditor.entity.storage.StorageFactory;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+
+@Test
+public class TraitValuesTest {
+    private Character character;
+
+    @BeforeMethod
+    public void setUp() {
+        Configuration configuration = Configuration.getInstance();
+        configuration.loadProperties();
+        configuration.setLanguage(Configuration.Language.ENGLISH);
+        this.character = TestCharacterUtility.createTestCharacter();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        this.character = null;
+    }
+
+    public void testSize() {
+        Assert.assertEquals(this.character.getAttributeValues().size(), 9);
+        Assert.assertEquals(this.character.getAbilityValues().size(), 30);
+        Assert.assertEquals(this.character.getAdvantageValues().size(), 8);
+    }
+
+    public void testGetValue() {
+        TraitValues<Advantage, AdvantageInterface.AdvantageType> advantages = this.character.getAdvantageValues();
+
+        Assert.assertTrue(advantages.contains("allies"));
+        Assert.assertEquals(advantages.getValue("allies"), 3);
+        Assert.assertFalse(advantages.contains("contacts"));
+        Assert.assertEquals(advantages.getValue("contacts"), 0);
+        Assert.assertFalse(advantages.contains("unknown"));
+    }
+
+    public void testDefinitionIsShared() throws EntityStorageException {
+        AttributeStorage storage = (AttributeStorage) StorageFactory.getStorage(StorageFactory.StorageType.ATTRIBUTE);
+
+        for (TraitValue<Attribute> trait : this.character.getAttributeValues()) {
+            Assert.assertSame(trait.getDefinition(), storage.getEntity(trait.getKey()));
+        }
+    }
+
+    public void testGetByType() {
+        ArrayList<TraitValue<Attribute>> actual = this.character.getAttributeValues()
+            .getByType(AttributeInterface.AttributeType.PHYSICAL);
+
+        Assert.assertEquals(actual.size(), 3);
+
+        for (int i = 1; i < actual.size(); i++) {
+            Assert.assertTrue(actual.get(i - 1).getName().compareTo(actual.get(i).getName()) <= 0);
+        }
+
+        actual.forEach((trait) -> Assert.assertEquals(trait.getType(), AttributeInterface.AttributeType.PHYSICAL));
+    }
+
+    public void testToBuilderKeepsValues() throws EntityException {
+        Character copy = this.character.toBuilder().build();
+
+        Assert.assertEquals(copy.getAttributeValues(), this.character.getAttributeValues());
+        Assert.assertEquals(copy.getAbilityValues(), this.character.getAbilityValues());
+        Assert.assertEquals(copy.getAdvantageValues(), this.character.getAdvantageValues());
+    }
+
+    @Test(expectedExceptions = EntityException.class, expectedExceptionsMessageRegExp = "Unknown trait: unknown")
+    public void testUnknownTrait() throws EntityException, EntityStorageException {
+        AttributeStorage storage = (AttributeStorage) StorageFactory.getStorage(StorageFactory.StorageType.ATTRIBUTE);
+        Attribute unknown = storage.getEntity("strength").toBuilder().setKey("unknown").build();
+
+        TraitValues.of(storage, Collections.singletonList(new TraitValue<>(unknown, 1)));
+    }
+}
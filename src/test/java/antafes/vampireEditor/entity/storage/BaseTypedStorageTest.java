@@ -0,0 +1,80 @@
+/*
+ * This file is part of Vampire Editor.
+ *
+ * Vampire Editor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Vampire Editor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Vampire Editor. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @package Vampire Editor
+ * @author Marian Pollzien <map@wafriv.de>
+ * @copyright (c) 2026, Marian Pollzien
+ * @license https://www.gnu.org/licenses/lgpl.html LGPLv3
+ */
+
+package antafes.vampireEditor.entity.storage;
+
+import antafes.vampireEditor.Configuration;
+import antafes.vampireEditor.entity.character.Ability;
+import antafes.vampireEditor.entity.character.AbilityInterface;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Map;
+
+@Test
+public class BaseTypedStorageTest {
+    private AbilityStorage storage;
+
+    @BeforeMethod
+    public void setUp() {
+        Configuration.getInstance().loadProperties();
+        this.storage = (AbilityStorage) StorageFactory.getStorage(StorageFactory.StorageType.ABILITY);
+    }
+
+    public void testGetEntityMapByType() {
+        int count = 0;
+
+        for (AbilityInterface.AbilityType type : AbilityInterface.AbilityType.values()) {
+            Map<String, Ability> map = this.storage.getEntityMapByType(type);
+            map.values().forEach(ability -> Assert.assertEquals(ability.getType(), type));
+            count += map.size();
+        }
+
+        Assert.assertEquals(count, this.storage.getList().size());
+    }
+
+    public void testGetEntityListByTypeIsSorted() {
+        for (Configuration.Language language : Configuration.Language.values()) {
+            List<Ability> list = this.storage.getEntityListByType(AbilityInterface.AbilityType.TALENT, language);
+
+            Assert.assertFalse(list.isEmpty());
+
+            for (int i = 1; i < list.size(); i++) {
+                Assert.assertTrue(list.get(i - 1).getName(language).compareTo(list.get(i).getName(language)) <= 0);
+            }
+        }
+    }
+
+    public void testGetEntityListByTypeReturnsSameInstance() {
+        Assert.assertSame(
+            this.storage.getEntityListByType(AbilityInterface.AbilityType.SKILL),
+            this.storage.getEntityListByType(AbilityInterface.AbilityType.SKILL)
+        );
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void testGetEntityListByTypeIsUnmodifiable() {
+        this.storage.getEntityListByType(AbilityInterface.AbilityType.KNOWLEDGE).clear();
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * This file is part of Vampire Editor.
+ *
+ * Vampire Editor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Vampire Editor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Vampire Editor. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @package Vampire Editor
+ * @author Marian Pollzien <map@wafriv.de>
+ * @copyright (c) 2026, Marian Pollzien
+ * @license https://www.gnu.org/licenses/lgpl.html LGPLv3
+ */
+
+package antafes.vampireEditor.entity.storage;
+
+import antafes.vampireEditor.Configuration;
+import antafes.vampireEditor.TestCharacterUtility;
+import antafes.vampireEditor.VampireEditor;
+import antafes.vampireEditor.entity.Character;
+import antafes.vampireEditor.entity.EntityStorageException;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+
+@Test
+public class CharacterBinaryFormatTest {
+    @BeforeMethod
+    public void setUp() {
+        new VampireEditor();
+        Configuration.getInstance().loadProperties();
+    }
+
+    public void testRoundTrip() throws Exception {
+        Character expected = TestCharacterUtility.createTestCharacter();
+
+        Assert.assertEquals(CharacterBinaryFormat.read(ByteBuffer.wrap(this.write(expected))), expected);
+    }
+
+    public void testRoundTripWithoutOptionalValues() throws Exception {
+        Character expected = TestCharacterUtility.createTestCharacter().toBuilder()
+            .setDayOfBirth(null)
+            .setDayOfDeath(null)
+            .setStory(null)
+            .setSire(null)
+            .build();
+
+        Assert.assertEquals(CharacterBinaryFormat.read(ByteBuffer.wrap(this.write(expected))), expected);
+    }
+
+    public void testSmallerThanXml() throws Exception {
+        Character character = TestCharacterUtility.createTestCharacter();
+        ByteArrayOutputStream xml = new ByteArrayOutputStream();
+        new CharacterXMLWriter(xml).write(character);
+
+        Assert.assertTrue(this.write(character).length < xml.size());
+    }
+
+    @Test(expectedExceptions = EntityStorageException.class, expectedExceptionsMessageRegExp = "Not a binary.*")
+    public void testReadWrongMagic() throws Exception {
+        byte[] bytes = this.write(TestCharacterUtility.createTestCharacter());
+        bytes[0] = 0;
+
+        CharacterBinaryFormat.read(ByteBuffer.wrap(bytes));
+    }
+
+    @Test(expectedExceptions = EntityStorageException.class, expectedExceptionsMessageRegExp = "Unsupported.*")
+    public void testReadWrongVersion() throws Exception {
+        byte[] bytes = this.write(TestCharacterUtility.createTestCharacter());
+        bytes[4] = 99;
+
+        CharacterBinaryFormat.read(ByteBuffer.wrap(bytes));
+    }
+
+    @Test(expectedExceptions = EntityStorageException.class)
+    public void testReadTruncated() throws Exception {
+        byte[] bytes = this.write(TestCharacterUtility.createTestCharacter());
+
+        CharacterBinaryFormat.read(ByteBuffer.wrap(bytes, 0, bytes.length - 10).slice());
+    }
+
+    private byte[] write(Character character) throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        CharacterBinaryFormat.write(character, output);
+
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * This file is part of Vampire Editor.
+ *
+ * Vampire Editor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Vampire Editor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Vampire Editor. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @package Vampire Editor
+ * @author Marian Pollzien <map@wafriv.de>
+ * @copyright (c) 2026, Marian Pollzien
+ * @license https://www.gnu.org/licenses/lgpl.html LGPLv3
+ */
+package antafes.vampireEditor.entity.storage;
+
+import antafes.vampireEditor.TestCharacterUtility;
+import antafes.vampireEditor.VampireEditor;
+import antafes.vampireEditor.entity.Character;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.UUID;
+
+@Test
+public class CharacterCacheTest {
+    private CharacterCache cache;
+    private Character character;
+
+    @BeforeMethod
+    public void setUp() {
+        new VampireEditor();
+        this.cache = new CharacterCache(2);
+        this.character = TestCharacterUtility.createTestCharacter();
+    }
+
+    public void testEvictLeastRecentlyUsed() {
+        this.cache.put("a", this.character);
+        this.cache.put("b", this.character);
+        this.cache.get("a");
+        this.cache.put("c", this.character);
+
+        Assert.assertEquals(new ArrayList<>(this.cache.keySet()), Arrays.asList("a", "c"));
+        Assert.assertEquals(this.cache.getEvictions(), 1);
+    }
+
+    public void testPinned() {
+        this.cache.pin("a");
+        this.cache.put("a", this.character);
+        this.cache.put("b", this.character);
+        this.cache.put("c", this.character);
+        this.cache.put("d", this.character);
+
+        Assert.assertTrue(this.cache.isPinned("a"));
+        Assert.assertEquals(new ArrayList<>(this.cache.keySet()), Arrays.asList("a", "c", "d"));
+
+        this.cache.unpin("a");
+
+        Assert.assertFalse(this.cache.isPinned("a"));
+        Assert.assertEquals(new ArrayList<>(this.cache.keySet()), Arrays.asList("c", "d"));
+        Assert.assertEquals(this.cache.getEvictions(), 2);
+    }
+
+    public void testLookup() {
+        String key = UUID.randomUUID().toString();
+        this.cache.put(key, this.character);
+
+        Assert.assertSame(this.cache.lookup(key, character -> true), this.character);
+        Assert.assertNull(this.cache.lookup(key, character -> false));
+        Assert.assertNull(this.cache.lookup("missing", character -> true));
+        Assert.assertEquals(this.cache.getHits(), 1);
+        Assert.assertEquals(this.cache.getMisses(), 2);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidCapacity() {
+        new CharacterCache(0);
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * This file is part of Vampire Editor.
+ *
+ * Vampire Editor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Vampire Editor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Vampire Editor. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @package Vampire Editor
+ * @author Marian Pollzien <map@wafriv.de>
+ * @copyright (c) 2026, Marian Pollzien
+ * @license https://www.gnu.org/licenses/lgpl.html LGPLv3
+ */
+package antafes.vampireEditor.entity.storage;
+
+import antafes.vampireEditor.TestCharacterUtility;
+import antafes.vampireEditor.entity.Character;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Collection;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+@Test
+public class CharacterDirectoryWatcherTest {
+    private static final long QUIET_PERIOD_MILLIS = 200;
+    private static final long TIMEOUT_SECONDS = 20;
+
+    private final String libraryDir = System.getProperty("user.home") + "/.vampire/testWatcher";
+    private final File indexFile = new File(System.getProperty("user.home") + "/.vampire/testWatcher.idx");
+    private final LinkedBlockingQueue<Collection<File>> batches = new LinkedBlockingQueue<>();
+    private CharacterStorage characterStorage;
+    private CharacterLibrary library;
+    private CharacterDirectoryWatcher watcher;
+    private Character template;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        TestCharacterUtility.initConfiguration(this.libraryDir);
+        Files.createDirectories(new File(this.libraryDir).toPath());
+        this.characterStorage = new CharacterStorage();
+        this.library = new CharacterLibrary(this.characterStorage, this.indexFile);
+        this.template = TestCharacterUtility.createTestCharacter();
+        this.batches.clear();
+        this.watcher = new CharacterDirectoryWatcher(this.library, new File(this.libraryDir), QUIET_PERIOD_MILLIS);
+        this.watcher.addListener(this.batches::add);
+        this.watcher.start();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        this.watcher.close();
+
+        TestCharacterUtility.deleteDirectory(new File(this.libraryDir));
+
+        Files.deleteIfExists(this.indexFile.toPath());
+    }
+
+    public void testCreateChangeAndDelete() throws Exception {
+        File file = new File(this.libraryDir, "Watched.xml").getAbsoluteFile();
+        Character character = TestCharacterUtility.createVariant(this.template, "Watched").build();
+        this.characterStorage.save(character, "Watched.xml");
+
+        Assert.assertTrue(this.awaitBatch().contains(file));
+        Assert.assertEquals(this.library.getEntry(character.getId()).getName(), "Watched");
+
+        new CharacterStorage().save(character.toBuilder().setName("Changed").build(), "Watched.xml");
+
+        Assert.assertTrue(this.awaitBatch().contains(file));
+        Assert.assertEquals(this.library.getEntry(character.getId()).getName(), "Changed");
+
+        Files.delete(file.toPath());
+
+        Assert.assertTrue(this.awaitBatch().contains(file));
+        Assert.assertNull(this.library.getEntry(character.getId()));
+    }
+
+    public void testBurstIsCoalesced() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            Character character = TestCharacterUtility.createVariant(this.template, "Burst " + i).build();
+            this.characterStorage.save(character, "Burst" + i + ".xml");
+        }
+
+        int batches = 0;
+        int files = 0;
+
+        while (files < 20) {
+            files += this.awaitBatch().size();
+            batches++;
+        }
+
+        Assert.assertTrue(batches < 20, "Expected the burst to be coalesced, got " + batches + " refreshes");
+        Assert.assertEquals(this.library.getEntries().size(), 20);
+    }
+
+    public void testSubDirectory() throws Exception {
+        File directory = new File(this.libraryDir, "chronicle");
+        Files.createDirectories(directory.toPath());
+        Character character = TestCharacterUtility.createVariant(this.template, "Nested").build();
+        this.characterStorage.save(character, "chronicle/Nested.xml");
+
+        Assert.assertTrue(this.awaitBatch().contains(new File(directory, "Nested.xml").getAbsoluteFile()));
+        Assert.assertEquals(this.library.getEntry(character.getId()).getName(), "Nested");
+
+        TestCharacterUtility.deleteDirectory(directory);
+
+        this.awaitBatch();
+
+        Assert.assertNull(this.library.getEntry(character.getId()));
+    }
+
+    private Collection<File> awaitBatch() throws InterruptedException {
+        Collection<File> batch = this.batches.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        Assert.assertNotNull(batch, "No changes detected");
+
+        return batch;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * This file is part of Vampire Editor.
+ *
+ * Vampire Editor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Vampire Editor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Vampire Editor. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @package Vampire Editor
+ * @author Marian Pollzien <map@wafriv.de>
+ * @copyright (c) 2026, Marian Pollzien
+ * @license https://www.gnu.org/licenses/lgpl.html LGPLv3
+ */
+
+package antafes.vampireEditor.entity.storage;
+
+import antafes.vampireEditor.Configuration;
+import antafes.vampireEditor.TestCharacterUtility;
+import antafes.vampireEditor.VampireEditor;
+import antafes.vampireEditor.entity.Character;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the load times of the XML and the binary character format.
+ * Only run with the benchmark profile: mvn test -P benchmark
+ */
+@Test(groups = "benchmark")
+public class CharacterFormatBenchmarkTest {
+    private static final int WARM_UP = 200;
+    private static final int ITERATIONS = 1000;
+
+    private CharacterStorage characterStorage;
+    private Character character;
+
+    @BeforeMethod
+    public void setUp() {
+        new VampireEditor();
+        Configuration configuration = Configuration.getInstance();
+        configuration.loadProperties();
+        configuration.setSaveDirPath(System.getProperty("user.home") + "/.vampire/benchmark");
+        configuration.setOpenDirPath(System.getProperty("user.home") + "/.vampire/benchmark");
+        this.characterStorage = new CharacterStorage();
+        this.character = TestCharacterUtility.createTestCharacter();
+    }
+
+    public void benchmarkLoad() throws Exception {
+        this.characterStorage.save(this.character, "Benchmark.xml");
+        this.characterStorage.save(this.character, "Benchmark.vch");
+
+        long xmlStrict = this.measure("Benchmark.xml", CharacterStorage.ValidationLevel.STRICT);
+        long xmlOff = this.measure("Benchmark.xml", CharacterStorage.ValidationLevel.OFF);
+        long binary = this.measure("Benchmark.vch", CharacterStorage.ValidationLevel.OFF);
+
+        System.out.printf(
+            "Loading %d characters: XML strict %d ms, XML without validation %d ms, binary %d ms (%.1fx)%n",
+            ITERATIONS,
+            TimeUnit.NANOSECONDS.toMillis(xmlStrict),
+            TimeUnit.NANOSECONDS.toMillis(xmlOff),
+            TimeUnit.NANOSECONDS.toMillis(binary),
+            (double) xmlStrict / binary
+        );
+
+        Assert.assertTrue(binary < xmlStrict);
+    }
+
+    private long measure(String filename, CharacterStorage.ValidationLevel level) throws Exception {
+        // Read the file directly, as load() would answer every call after the first one from memory.
+        File file = new File(Configuration.getInstance().getOpenDirPath(), filename);
+
+        for (int i = 0; i < WARM_UP; i++) {
+            this.characterStorage.read(file, filename, level);
+        }
+
+        long start = System.nanoTime();
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            this.characterStorage.read(file, filename, level);
+        }
+
+        return System.nanoTime() - start;
+    }
+}
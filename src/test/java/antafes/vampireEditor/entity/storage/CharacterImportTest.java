@@ -0,0 +1,114 @@
+/*
+ * This file is part of Vampire Editor.
+ *
+ * Vampire Editor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Vampire Editor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Vampire Editor. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @package Vampire Editor
+ * @author Marian Pollzien <map@wafriv.de>
+ * @copyright (c) 2026, Marian Pollzien
+ * @license https://www.gnu.org/licenses/lgpl.html LGPLv3
+ */
+
+package antafes.vampireEditor.entity.storage;
+
+import antafes.vampireEditor.TestCharacterUtility;
+import antafes.vampireEditor.entity.Character;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+@Test
+public class CharacterImportTest {
+    private final String importDir = System.getProperty("user.home") + "/.vampire/testImport";
+    private CharacterStorage characterStorage;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        TestCharacterUtility.initConfiguration(this.importDir);
+        this.characterStorage = new CharacterStorage();
+        Character template = TestCharacterUtility.createTestCharacter();
+
+        for (int i = 0; i < 6; i++) {
+            Character character = TestCharacterUtility.createVariant(template, "Import " + i).build();
+            this.characterStorage.save(character, "Import" + i + (i % 2 == 0 ? ".xml" : ".vch"));
+        }
+
+        Files.write(new File(this.importDir, "Broken.xml").toPath(), "<character>".getBytes(StandardCharsets.UTF_8));
+        Files.write(new File(this.importDir, "notes.txt").toPath(), "notes".getBytes(StandardCharsets.UTF_8));
+        this.characterStorage.getList().clear();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        TestCharacterUtility.deleteDirectory(new File(this.importDir));
+    }
+
+    public void testCollectFiles() throws Exception {
+        List<File> files = CharacterImport.collectFiles(new File(this.importDir));
+
+        Assert.assertEquals(files.size(), 7);
+        Assert.assertTrue(files.stream().noneMatch(file -> file.getName().equals("notes.txt")));
+    }
+
+    public void testRun() throws Exception {
+        List<File> files = CharacterImport.collectFiles(new File(this.importDir));
+        List<Integer> progress = Collections.synchronizedList(new ArrayList<>());
+        CharacterImport characterImport = new CharacterImport(
+            this.characterStorage,
+            3,
+            CharacterStorage.ValidationLevel.STRICT
+        );
+
+        CharacterImport.Summary summary = characterImport.run(
+            files,
+            (result, completed, total) -> {
+                Assert.assertEquals(total, 7);
+                Assert.assertEquals(result.isSuccessful(), result.getCharacter() != null);
+                progress.add(completed);
+            }
+        );
+
+        Assert.assertEquals(progress, Arrays.asList(1, 2, 3, 4, 5, 6, 7));
+        Assert.assertEquals(summary.getTotal(), 7);
+        Assert.assertEquals(summary.getLoaded(), 6);
+        Assert.assertEquals(summary.getFailures().size(), 1);
+        Assert.assertEquals(summary.getFailures().get(0).getFile().getName(), "Broken.xml");
+        Assert.assertTrue(summary.getFailures().get(0).getException().getSuppressed().length > 0);
+        Assert.assertTrue(summary.getThroughput() > 0);
+        Assert.assertEquals(this.characterStorage.getList().size(), 6);
+    }
+
+    public void testRunEmpty() throws Exception {
+        CharacterImport.Summary summary = new CharacterImport(
+            this.characterStorage,
+            CharacterStorage.ValidationLevel.STRICT
+        ).run(Collections.emptyList(), (result, completed, total) -> Assert.fail());
+
+        Assert.assertEquals(summary.getTotal(), 0);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidThreads() {
+        new CharacterImport(this.characterStorage, 0, CharacterStorage.ValidationLevel.STRICT);
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * This file is part of Vampire Editor.
+ *
+ * Vampire Editor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Vampire Editor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Vampire Editor. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @package Vampire Editor
+ * @author Marian Pollzien <map@wafriv.de>
+ * @copyright (c) 2026, Marian Pollzien
+ * @license https://www.gnu.org/licenses/lgpl.html LGPLv3
+ */
+package antafes.vampireEditor.entity.storage;
+
+import antafes.vampireEditor.TestCharacterUtility;
+import antafes.vampireEditor.entity.Character;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+@Test
+public class CharacterLibraryTest {
+    private final String libraryDir = System.getProperty("user.home") + "/.vampire/testLibrary";
+    private final File indexFile = new File(System.getProperty("user.home") + "/.vampire/testLibrary.idx");
+    private CharacterStorage characterStorage;
+    private CharacterLibrary library;
+    private Character template;
+
+    @BeforeMethod
+    public void setUp() {
+        TestCharacterUtility.initConfiguration(this.libraryDir);
+        this.characterStorage = new CharacterStorage();
+        this.template = TestCharacterUtility.createTestCharacter();
+
+        for (int i = 0; i < 4; i++) {
+            Character character = TestCharacterUtility.createVariant(this.template, "Library " + i)
+                .setPlayer(i % 2 == 0 ? "Alice" : "Bob")
+                .build();
+            this.characterStorage.save(character, "Library" + i + (i < 3 ? ".xml" : ".vch"));
+        }
+
+        this.library = new CharacterLibrary(this.characterStorage, this.indexFile);
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        TestCharacterUtility.deleteDirectory(new File(this.libraryDir));
+
+        Files.deleteIfExists(this.indexFile.toPath());
+    }
+
+    public void testRescan() throws Exception {
+        CharacterLibrary.RescanResult result = this.library.rescan(new File(this.libraryDir));
+
+        Assert.assertEquals(result.getIndexed(), 4);
+        Assert.assertEquals(result.getParsed(), 4);
+        Assert.assertEquals(result.getRemoved(), 0);
+        Assert.assertTrue(result.getFailures().isEmpty());
+        Assert.assertTrue(this.indexFile.isFile());
+
+        CharacterLibrary.Entry entry = this.library.getEntries().get(0);
+        Assert.assertEquals(entry.getName(), "Library 0");
+        Assert.assertEquals(entry.getPlayer(), "Alice");
+        Assert.assertEquals(entry.getClanKey(), this.template.getClan().getKey());
+        Assert.assertEquals(entry.getGeneration(), this.template.getGeneration().getGeneration());
+        Assert.assertEquals(entry.getFile(), new File(this.libraryDir, "Library0.xml").getAbsoluteFile());
+    }
+
+    public void testRescanIncremental() throws Exception {
+        this.library.rescan(new File(this.libraryDir));
+        CharacterLibrary.RescanResult unchanged = this.library.rescan(new File(this.libraryDir));
+
+        Assert.assertEquals(unchanged.getIndexed(), 4);
+        Assert.assertEquals(unchanged.getParsed(), 0);
+
+        Character changed = TestCharacterUtility.createVariant(this.template, "Changed").build();
+        this.characterStorage.save(changed, "Library1.xml");
+        new File(this.libraryDir, "Library1.xml").setLastModified(System.currentTimeMillis() + 10000);
+        Files.delete(new File(this.libraryDir, "Library2.xml").toPath());
+        CharacterLibrary.RescanResult result = this.library.rescan(new File(this.libraryDir));
+
+        Assert.assertEquals(result.getIndexed(), 3);
+        Assert.assertEquals(result.getParsed(), 1);
+        Assert.assertEquals(result.getRemoved(), 1);
+        Assert.assertEquals(this.library.getEntry(changed.getId()).getName(), "Changed");
+    }
+
+    public void testRescanKeepsOtherRoots() throws Exception {
+        this.library.rescan(new File(this.libraryDir));
+        File other = new File(this.libraryDir, "other");
+        Files.createDirectories(other.toPath());
+        Files.delete(new File(this.libraryDir, "Library2.xml").toPath());
+        CharacterLibrary.RescanResult result = this.library.rescan(other);
+
+        Assert.assertEquals(result.getIndexed(), 4);
+        Assert.assertEquals(result.getRemoved(), 0);
+
+        result = this.library.rescan(new File(this.libraryDir, "Library2.xml"));
+
+        Assert.assertEquals(result.getIndexed(), 3);
+        Assert.assertEquals(result.getRemoved(), 1);
+    }
+
+    public void testRefresh() throws Exception {
+        this.library.rescan(new File(this.libraryDir));
+        Character changed = TestCharacterUtility.createVariant(this.template, "Changed").build();
+        this.characterStorage.save(changed, "Library1.xml");
+        new File(this.libraryDir, "Library1.xml").setLastModified(System.currentTimeMillis() + 10000);
+        Character added = TestCharacterUtility.createVariant(this.template, "Added").build();
+        this.characterStorage.save(added, "Added.xml");
+        Files.delete(new File(this.libraryDir, "Library2.xml").toPath());
+        CharacterLibrary.RescanResult result = this.library.refresh(Arrays.asList(
+            new File(this.libraryDir, "Library0.xml"),
+            new File(this.libraryDir, "Library1.xml"),
+            new File(this.libraryDir, "Library2.xml"),
+            new File(this.libraryDir, "Added.xml"),
+            new File(this.libraryDir, "Unknown.xml")
+        ));
+
+        Assert.assertEquals(result.getIndexed(), 4);
+        Assert.assertEquals(result.getParsed(), 2);
+        Assert.assertEquals(result.getRemoved(), 1);
+        Assert.assertEquals(this.library.getEntry(changed.getId()).getName(), "Changed");
+        Assert.assertEquals(this.library.getEntry(added.getId()).getName(), "Added");
+
+        CharacterLibrary loaded = new CharacterLibrary(this.characterStorage, this.indexFile);
+
+        Assert.assertTrue(loaded.load());
+        Assert.assertEquals(loaded.getEntries(), this.library.getEntries());
+    }
+
+    public void testRefreshFailure() throws Exception {
+        this.library.rescan(new File(this.libraryDir));
+        File broken = new File(this.libraryDir, "Library0.xml");
+        Files.write(broken.toPath(), "<character>".getBytes(StandardCharsets.UTF_8));
+        broken.setLastModified(System.currentTimeMillis() + 10000);
+        CharacterLibrary.RescanResult result = this.library.refresh(Collections.singletonList(broken));
+
+        Assert.assertEquals(result.getIndexed(), 3);
+        Assert.assertEquals(result.getRemoved(), 1);
+        Assert.assertEquals(result.getFailures().size(), 1);
+        Assert.assertEquals(this.library.getEntries().size(), 3);
+    }
+
+    public void testRescanFailure() throws Exception {
+        File broken = new File(this.libraryDir, "Broken.xml");
+        Files.write(broken.toPath(), "<character>".getBytes(StandardCharsets.UTF_8));
+        CharacterLibrary.RescanResult result = this.library.rescan(new File(this.libraryDir));
+
+        Assert.assertEquals(result.getIndexed(), 4);
+        Assert.assertEquals(result.getFailures().size(), 1);
+        Assert.assertEquals(result.getFailures().get(0).getName(), "Broken.xml");
+    }
+
+    public void testLoad() throws Exception {
+        this.library.rescan(new File(this.libraryDir));
+        CharacterLibrary loaded = new CharacterLibrary(this.characterStorage, this.indexFile);
+
+        Assert.assertTrue(loaded.load());
+        Assert.assertEquals(loaded.getEntries(), this.library.getEntries());
+        Assert.assertEquals(loaded.rescan(new File(this.libraryDir)).getParsed(), 0);
+    }
+
+    public void testLoadMissingIndex() {
+        Assert.assertFalse(this.library.load());
+        Assert.assertTrue(this.library.getEntries().isEmpty());
+    }
+
+    public void testFilter() throws Exception {
+        this.library.rescan(new File(this.libraryDir));
+        List<CharacterLibrary.Entry> entries = this.library.filter("bob");
+
+        Assert.assertEquals(entries.size(), 2);
+        Assert.assertEquals(entries.get(0).getName(), "Library 1");
+        Assert.assertEquals(entries.get(1).getName(), "Library 3");
+        Assert.assertEquals(this.library.filter("LIBRARY 2").size(), 1);
+        Assert.assertEquals(this.library.filter(" ").size(), 4);
+        Assert.assertEquals(this.library.filter(this.template.getClan().getKey()).size(), 4);
+    }
+
+    public void testCollisions() throws Exception {
+        File original = new File(this.libraryDir, "Library0.xml");
+        File copy = new File(this.libraryDir, "sub/Copy.xml");
+        Files.createDirectories(copy.toPath().getParent());
+        Files.copy(original.toPath(), copy.toPath());
+        CharacterLibrary.RescanResult result = this.library.rescan(new File(this.libraryDir));
+        UUID id = this.characterStorage.peekId(original);
+
+        Assert.assertEquals(result.getIndexed(), 5);
+        Assert.assertEquals(result.getCollisions().keySet(), Collections.singleton(id));
+        Assert.assertEquals(result.getCollisions().get(id).size(), 2);
+        Assert.assertEquals(this.library.getCollisions(), result.getCollisions());
+
+        List<CharacterLibrary.Entry> collisions = this.library.findCollisions(copy);
+        Assert.assertEquals(collisions.size(), 1);
+        Assert.assertEquals(collisions.get(0).getFile(), original.getAbsoluteFile());
+        Assert.assertTrue(this.library.findCollisions(new File(this.libraryDir, "Library1.xml")).isEmpty());
+    }
+}
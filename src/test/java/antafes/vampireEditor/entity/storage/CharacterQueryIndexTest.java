@@ -0,0 +1,220 @@
+/*
+ * This file is part of Vampire Editor.
+ *
+ * Vampire Editor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Vampire Editor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Vampire Editor. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @package Vampire Editor
+ * @author Marian Pollzien <map@wafriv.de>
+ * @copyright (c) 2026, Marian Pollzien
+ * @license https://www.gnu.org/licenses/lgpl.html LGPLv3
+ */
+package antafes.vampireEditor.entity.storage;
+
+import antafes.vampireEditor.TestCharacterUtility;
+import antafes.vampireEditor.entity.Character;
+import antafes.vampireEditor.entity.character.Attribute;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Test
+public class CharacterQueryIndexTest {
+    private final String libraryDir = System.getProperty("user.home") + "/.vampire/testQuery";
+    private final File indexFile = new File(System.getProperty("user.home") + "/.vampire/testQuery.idx");
+    private final File libraryFile = new File(System.getProperty("user.home") + "/.vampire/testQueryLibrary.idx");
+    private CharacterQueryIndex queryIndex;
+    private Character template;
+
+    @BeforeMethod
+    public void setUp() {
+        TestCharacterUtility.initConfiguration(this.libraryDir);
+        this.queryIndex = new CharacterQueryIndex(this.indexFile);
+        this.template = TestCharacterUtility.createTestCharacter();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        TestCharacterUtility.deleteDirectory(new File(this.libraryDir));
+
+        Files.deleteIfExists(this.indexFile.toPath());
+        Files.deleteIfExists(this.libraryFile.toPath());
+    }
+
+    public void testQuery() throws Exception {
+        this.index("a.xml", "Anna", "brujah", 8, 4);
+        this.index("b.xml", "Boris", "brujah", 10, 5);
+        this.index("c.xml", "Clara", "ventrue", 7, 2);
+
+        Assert.assertEquals(
+            this.names("clan=brujah AND generation<=8 AND attribute.strength>=4"),
+            Arrays.asList("Anna")
+        );
+        Assert.assertEquals(this.names("clan = BRUJAH"), Arrays.asList("Anna", "Boris"));
+        Assert.assertEquals(this.names("clan!=brujah"), Arrays.asList("Clara"));
+        Assert.assertEquals(this.names("name~or"), Arrays.asList("Boris"));
+        Assert.assertEquals(this.names("name = \"clara\""), Arrays.asList("Clara"));
+        Assert.assertEquals(this.names("generation < 8 or generation > 9"), Arrays.asList("Boris", "Clara"));
+        Assert.assertEquals(this.names("NOT (clan=brujah AND attribute.strength=5)"), Arrays.asList("Anna", "Clara"));
+        Assert.assertEquals(this.names("clan=brujah and (generation=10 or attribute.strength<3)"), Arrays.asList("Boris"));
+        Assert.assertEquals(this.names("ability.alertness>=0"), Arrays.asList("Anna", "Boris", "Clara"));
+        Assert.assertTrue(this.names("experience>1000").isEmpty());
+    }
+
+    public void testCamelCaseTrait() throws Exception {
+        this.index("a.xml", "Anna", "brujah", 8, 4);
+        this.index("b.xml", "Boris", "brujah", 10, 5);
+
+        Assert.assertEquals(this.names("ability.animalKen=3"), Arrays.asList("Anna", "Boris"));
+        Assert.assertEquals(this.names("ability.animalken>=3"), Arrays.asList("Anna", "Boris"));
+        Assert.assertTrue(this.names("ability.animalKen>3").isEmpty());
+        Assert.assertTrue(this.queryIndex.getFieldNames().contains("ability.animalKen"));
+    }
+
+    public void testInvalidQuery() {
+        this.assertInvalid("clan", 4);
+        this.assertInvalid("colour=red", 0);
+        this.assertInvalid("attribute.wisdom>=3", 0);
+        this.assertInvalid("generation~8", 10);
+        this.assertInvalid("generation<=brujah", 12);
+        this.assertInvalid("clan<brujah", 4);
+        this.assertInvalid("(clan=brujah", 12);
+        this.assertInvalid("clan=brujah generation=8", 12);
+    }
+
+    public void testUpdateAndRemove() throws Exception {
+        this.index("a.xml", "Anna", "brujah", 8, 4);
+        this.index("b.xml", "Boris", "brujah", 10, 5);
+        this.index("c.xml", "Clara", "ventrue", 7, 2);
+        this.index("a.xml", "Anna", "ventrue", 8, 4);
+
+        Assert.assertEquals(this.queryIndex.size(), 3);
+        Assert.assertEquals(this.names("clan=ventrue"), Arrays.asList("Anna", "Clara"));
+
+        this.queryIndex.remove(new File(this.libraryDir, "a.xml"));
+
+        Assert.assertEquals(this.queryIndex.size(), 2);
+        Assert.assertEquals(this.names("clan=ventrue"), Arrays.asList("Clara"));
+        Assert.assertEquals(this.names("attribute.strength=2"), Arrays.asList("Clara"));
+        Assert.assertTrue(this.queryIndex.isIndexed(new File(this.libraryDir, "c.xml"), 1, 2));
+        Assert.assertFalse(this.queryIndex.isIndexed(new File(this.libraryDir, "a.xml"), 1, 2));
+    }
+
+    public void testManyRows() throws Exception {
+        for (int i = 0; i < 5000; i++) {
+            this.index("character" + i + ".xml", "Character " + i, i % 2 == 0 ? "brujah" : "ventrue", 4 + i % 10, 1 + i % 5);
+        }
+
+        Assert.assertEquals(this.queryIndex.size(), 5000);
+        Assert.assertEquals(this.queryIndex.query("clan=brujah").size(), 2500);
+        Assert.assertEquals(this.queryIndex.query("generation=4 AND attribute.strength=1").size(), 500);
+    }
+
+    public void testStoreAndLoad() throws Exception {
+        this.index("a.xml", "Anna", "brujah", 8, 4);
+        this.index("b.xml", "Boris", "ventrue", 10, 5);
+
+        this.queryIndex.store();
+        CharacterQueryIndex loaded = new CharacterQueryIndex(this.indexFile);
+
+        Assert.assertTrue(loaded.load());
+        Assert.assertEquals(loaded.size(), 2);
+        Assert.assertEquals(
+            loaded.query("clan=ventrue AND generation=10 AND attribute.strength=5").get(0).getName(),
+            "Boris"
+        );
+        Assert.assertEquals(loaded.query("name~ann").size(), 1);
+        Assert.assertTrue(loaded.isIndexed(new File(this.libraryDir, "a.xml"), 1, 2));
+        Assert.assertFalse(loaded.isIndexed(new File(this.libraryDir, "a.xml"), 1, 3));
+
+        Files.write(this.indexFile.toPath(), new byte[] {1, 2, 3});
+
+        Assert.assertFalse(loaded.load());
+        Assert.assertEquals(loaded.size(), 0);
+    }
+
+    public void testLibraryAndSaveUpdates() throws Exception {
+        CharacterStorage storage = new CharacterStorage();
+        storage.addSaveListener(this.queryIndex);
+        CharacterLibrary library = new CharacterLibrary(storage, this.libraryFile);
+        library.addListener(this.queryIndex);
+        storage.save(this.template, "Query.xml");
+
+        Assert.assertEquals(this.names("clan=brujah"), Arrays.asList(this.template.getName()));
+        Assert.assertTrue(this.indexFile.isFile());
+
+        library.rescan(new File(this.libraryDir));
+        CharacterQueryIndex loaded = new CharacterQueryIndex(this.indexFile);
+        loaded.load();
+        library.removeListener(this.queryIndex);
+        library.addListener(loaded);
+
+        Assert.assertEquals(library.rescan(new File(this.libraryDir)).getParsed(), 0);
+        Assert.assertEquals(loaded.query("attribute.strength=3").size(), 1);
+
+        CharacterQueryIndex rebuilt = new CharacterQueryIndex();
+        library.removeListener(loaded);
+        library.addListener(rebuilt);
+
+        Assert.assertEquals(library.rescan(new File(this.libraryDir)).getParsed(), 1);
+        Assert.assertEquals(rebuilt.query("attribute.strength=3").size(), 1);
+
+        Files.delete(new File(this.libraryDir, "Query.xml").toPath());
+        library.rescan(new File(this.libraryDir));
+
+        Assert.assertEquals(rebuilt.size(), 0);
+    }
+
+    private void index(String filename, String name, String clan, int generation, int strength) throws Exception {
+        ClanStorage clanStorage = (ClanStorage) StorageFactory.getStorage(StorageFactory.StorageType.CLAN);
+        GenerationStorage generationStorage = (GenerationStorage) StorageFactory.getStorage(StorageFactory.StorageType.GENERATION);
+        ArrayList<Attribute> attributes = new ArrayList<>();
+
+        for (Attribute attribute : this.template.getAttributes()) {
+            attributes.add(
+                attribute.getKey().equals("strength") ? attribute.toBuilder().setValue(strength).build() : attribute
+            );
+        }
+
+        Character character = TestCharacterUtility.createVariant(this.template, name)
+            .setClan(clanStorage.getEntity(clan))
+            .setGeneration(generationStorage.getEntity(generation))
+            .setAttributes(attributes)
+            .build();
+        this.queryIndex.update(new File(this.libraryDir, filename), 1, 2, character);
+    }
+
+    private List<String> names(String query) throws CharacterQueryException {
+        return this.queryIndex.query(query)
+            .stream()
+            .map(CharacterQueryIndex.Match::getName)
+            .collect(Collectors.toList());
+    }
+
+    private void assertInvalid(String query, int position) {
+        try {
+            this.queryIndex.query(query);
+            Assert.fail("Query should be invalid: " + query);
+        } catch (CharacterQueryException e) {
+            Assert.assertEquals(e.getPosition(), position, e.getMessage());
+        }
+    }
+}
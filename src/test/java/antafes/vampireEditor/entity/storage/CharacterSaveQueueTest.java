@@ -0,0 +1,114 @@
+/*
+ * This file is part of Vampire Editor.
+ *
+ * Vampire Editor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Vampire Editor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Vampire Editor. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @package Vampire Editor
+ * @author Marian Pollzien <map@wafriv.de>
+ * @copyright (c) 2026, Marian Pollzien
+ * @license https://www.gnu.org/licenses/lgpl.html LGPLv3
+ */
+
+package antafes.vampireEditor.entity.storage;
+
+import antafes.vampireEditor.TestCharacterUtility;
+import antafes.vampireEditor.VampireEditor;
+import antafes.vampireEditor.entity.Character;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+@Test
+public class CharacterSaveQueueTest {
+    private Character first;
+    private Character second;
+
+    @BeforeMethod
+    public void setUp() {
+        new VampireEditor();
+        this.first = TestCharacterUtility.createTestCharacter();
+        this.second = this.first.toBuilder().setId(UUID.randomUUID()).build();
+    }
+
+    public void testSubmit() throws Exception {
+        List<String> written = Collections.synchronizedList(new ArrayList<>());
+        CharacterSaveQueue queue = new CharacterSaveQueue((character, file) -> written.add(character.getName()));
+
+        File file = queue.submit(this.first, new File("first.xml")).get(5, TimeUnit.SECONDS);
+
+        Assert.assertEquals(file, new File("first.xml"));
+        Assert.assertEquals(written, Collections.singletonList(this.first.getName()));
+    }
+
+    public void testSubmitCoalesces() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> written = Collections.synchronizedList(new ArrayList<>());
+        CharacterSaveQueue queue = new CharacterSaveQueue((character, file) -> {
+            if (character.getId().equals(this.first.getId())) {
+                started.countDown();
+                release.await();
+            }
+
+            written.add(character.getName());
+        });
+
+        CompletableFuture<File> blocking = queue.submit(this.first, new File("first.xml"));
+        Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<File> firstSave = queue.submit(this.second.toBuilder().setName("Version 1").build(), new File("a.xml"));
+        CompletableFuture<File> secondSave = queue.submit(this.second.toBuilder().setName("Version 2").build(), new File("b.xml"));
+        release.countDown();
+
+        Assert.assertSame(firstSave, secondSave);
+        Assert.assertEquals(secondSave.get(5, TimeUnit.SECONDS), new File("b.xml"));
+        Assert.assertEquals(blocking.get(5, TimeUnit.SECONDS), new File("first.xml"));
+        Assert.assertEquals(written, Arrays.asList(this.first.getName(), "Version 2"));
+    }
+
+    @Test(expectedExceptions = ExecutionException.class, expectedExceptionsMessageRegExp = ".*disk full")
+    public void testSubmitFailed() throws Exception {
+        CharacterSaveQueue queue = new CharacterSaveQueue((character, file) -> {
+            throw new IOException("disk full");
+        });
+
+        queue.submit(this.first, new File("first.xml")).get(5, TimeUnit.SECONDS);
+    }
+
+    public void testAwaitPending() {
+        List<String> written = Collections.synchronizedList(new ArrayList<>());
+        CharacterSaveQueue queue = new CharacterSaveQueue((character, file) -> {
+            Thread.sleep(50);
+            written.add(character.getName());
+        });
+
+        queue.submit(this.first, new File("first.xml"));
+        queue.submit(this.second, new File("second.xml"));
+
+        Assert.assertTrue(queue.awaitPending(5, TimeUnit.SECONDS));
+        Assert.assertEquals(written.size(), 2);
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * This file is part of Vampire Editor.
+ *
+ * Vampire Editor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Vampire Editor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Vampire Editor. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @package Vampire Editor
+ * @author Marian Pollzien <map@wafriv.de>
+ * @copyright (c) 2026, Marian Pollzien
+ * @license https://www.gnu.org/licenses/lgpl.html LGPLv3
+ */
+
+package antafes.vampireEditor.entity.storage;
+
+import antafes.vampireEditor.TestCharacterUtility;
+import antafes.vampireEditor.VampireEditor;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+import org.xml.sax.SAXException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+@Test
+public class CharacterSchemaTest {
+    private File file;
+    private String content;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        new VampireEditor();
+        this.file = File.createTempFile("character", ".xml");
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new CharacterXMLWriter(output).write(TestCharacterUtility.createTestCharacter());
+        this.content = new String(output.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        Files.deleteIfExists(this.file.toPath());
+    }
+
+    public void testGetSchema() throws Exception {
+        Assert.assertSame(CharacterSchema.getSchema(), CharacterSchema.getSchema());
+    }
+
+    public void testParse() throws Exception {
+        this.write(this.content);
+
+        for (CharacterStorage.ValidationLevel level : CharacterStorage.ValidationLevel.values()) {
+            Document document = CharacterSchema.parse(this.file, level);
+
+            Assert.assertEquals(document.getDocumentElement().getNodeName(), "character");
+        }
+    }
+
+    public void testParseUnknownElement() throws Exception {
+        this.write(this.content.replace("<sect>", "<unknown>value</unknown>\n    <sect>"));
+
+        Assert.assertNotNull(CharacterSchema.parse(this.file, CharacterStorage.ValidationLevel.LENIENT));
+        Assert.assertNotNull(CharacterSchema.parse(this.file, CharacterStorage.ValidationLevel.OFF));
+    }
+
+    @Test(expectedExceptions = SAXException.class)
+    public void testParseUnknownElementStrict() throws Exception {
+        this.write(this.content.replace("<sect>", "<unknown>value</unknown>\n    <sect>"));
+
+        CharacterSchema.parse(this.file, CharacterStorage.ValidationLevel.STRICT);
+    }
+
+    @Test(expectedExceptions = SAXException.class, expectedExceptionsMessageRegExp = "Missing required fields.*")
+    public void testParseMissingFieldLenient() throws Exception {
+        this.write(this.content.replaceAll("<concept>.*</concept>", ""));
+
+        CharacterSchema.parse(this.file, CharacterStorage.ValidationLevel.LENIENT);
+    }
+
+    public void testParseMissingFieldOff() throws Exception {
+        this.write(this.content.replaceAll("<concept>.*</concept>", ""));
+
+        Assert.assertNotNull(CharacterSchema.parse(this.file, CharacterStorage.ValidationLevel.OFF));
+    }
+
+    @Test(expectedExceptions = SAXException.class)
+    public void testParseMalformed() throws Exception {
+        this.write(this.content.replace("</character>", ""));
+
+        CharacterSchema.parse(this.file, CharacterStorage.ValidationLevel.OFF);
+    }
+
+    @Test(expectedExceptions = SAXException.class)
+    public void testParseDoctype() throws Exception {
+        this.write(this.content.replaceFirst(
+            "<character",
+            "<!DOCTYPE character [<!ENTITY secret SYSTEM \"file:///etc/hostname\">]>\n<character"
+        ).replace("Really no concept!", "&secret;"));
+
+        CharacterSchema.parse(this.file, CharacterStorage.ValidationLevel.OFF);
+    }
+
+    private void write(String content) throws Exception {
+        Files.write(this.file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
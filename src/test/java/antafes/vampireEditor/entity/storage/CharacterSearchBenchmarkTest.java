@@ -0,0 +1,105 @@
+/*
+ * This file is part of Vampire Editor.
+ *
+ * Vampire Editor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Vampire Editor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Vampire Editor. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @package Vampire Editor
+ * @author Marian Pollzien <map@wafriv.de>
+ * @copyright (c) 2026, Marian Pollzien
+ * @license https://www.gnu.org/licenses/lgpl.html LGPLv3
+ */
+package antafes.vampireEditor.entity.storage;
+
+import antafes.vampireEditor.TestCharacterUtility;
+import antafes.vampireEditor.VampireEditor;
+import antafes.vampireEditor.entity.Character;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the query latency of the full-text index for a large library.
+ * Only run with the benchmark profile: mvn test -P benchmark
+ */
+@Test(groups = "benchmark")
+public class CharacterSearchBenchmarkTest {
+    private static final int CHARACTERS = 10000;
+    private static final int WORDS = 5000;
+    private static final int QUERIES = 1000;
+
+    private CharacterSearchIndex searchIndex;
+    private Random random;
+
+    @BeforeMethod
+    public void setUp() {
+        new VampireEditor();
+        this.searchIndex = new CharacterSearchIndex(new File(System.getProperty("user.home") + "/.vampire/benchmark/search.idx"));
+        this.random = new Random(42);
+        Character template = TestCharacterUtility.createTestCharacter();
+
+        for (int i = 0; i < CHARACTERS; i++) {
+            Character character = template.toBuilder()
+                .setId(UUID.randomUUID())
+                .setName("Character " + i)
+                .setStory(this.text(200))
+                .setDescription(this.text(50))
+                .build();
+            this.searchIndex.update(new File("character" + i + ".xml"), 0, 0, character);
+        }
+    }
+
+    public void benchmarkSearch() {
+        for (int i = 0; i < QUERIES; i++) {
+            this.searchIndex.search(this.text(2), 20);
+        }
+
+        long worst = 0;
+        long total = 0;
+
+        for (int i = 0; i < QUERIES; i++) {
+            String query = i % 2 == 0 ? this.text(1) : this.text(2);
+            long start = System.nanoTime();
+            this.searchIndex.search(query, 20);
+            long duration = System.nanoTime() - start;
+            worst = Math.max(worst, duration);
+            total += duration;
+        }
+
+        System.out.printf(
+            "Searching %d characters: %.3f ms average, %.3f ms worst%n",
+            CHARACTERS,
+            total / (double) QUERIES / TimeUnit.MILLISECONDS.toNanos(1),
+            worst / (double) TimeUnit.MILLISECONDS.toNanos(1)
+        );
+
+        Assert.assertTrue(total / QUERIES < TimeUnit.MILLISECONDS.toNanos(10));
+    }
+
+    private String text(int words) {
+        StringBuilder text = new StringBuilder();
+
+        for (int i = 0; i < words; i++) {
+            // Skewed word distribution, so some terms are very common and others rare.
+            int word = (int) (WORDS * Math.pow(this.random.nextDouble(), 3));
+            text.append("word").append(word).append(' ');
+        }
+
+        return text.toString();
+    }
+}
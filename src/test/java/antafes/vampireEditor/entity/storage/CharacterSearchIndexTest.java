@@ -0,0 +1,153 @@
+/*
+ * This file is part of Vampire Editor.
+ *
+ * Vampire Editor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Vampire Editor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Vampire Editor. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @package Vampire Editor
+ * @author Marian Pollzien <map@wafriv.de>
+ * @copyright (c) 2026, Marian Pollzien
+ * @license https://www.gnu.org/licenses/lgpl.html LGPLv3
+ */
+package antafes.vampireEditor.entity.storage;
+
+import antafes.vampireEditor.TestCharacterUtility;
+import antafes.vampireEditor.entity.Character;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Test
+public class CharacterSearchIndexTest {
+    private final String libraryDir = System.getProperty("user.home") + "/.vampire/testSearch";
+    private final File indexFile = new File(System.getProperty("user.home") + "/.vampire/testSearch.idx");
+    private final File libraryFile = new File(System.getProperty("user.home") + "/.vampire/testSearchLibrary.idx");
+    private CharacterSearchIndex searchIndex;
+    private Character template;
+
+    @BeforeMethod
+    public void setUp() {
+        TestCharacterUtility.initConfiguration(this.libraryDir);
+        this.searchIndex = new CharacterSearchIndex(this.indexFile);
+        this.template = TestCharacterUtility.createTestCharacter();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        TestCharacterUtility.deleteDirectory(new File(this.libraryDir));
+
+        Files.deleteIfExists(this.indexFile.toPath());
+        Files.deleteIfExists(this.libraryFile.toPath());
+    }
+
+    public void testTokenize() {
+        Assert.assertEquals(
+            CharacterSearchIndex.tokenize("Der MÜLLER aus Köln, née Straße-42!"),
+            Arrays.asList("der", "mueller", "aus", "koeln", "nee", "strasse", "42")
+        );
+        Assert.assertEquals(CharacterSearchIndex.tokenize("Müller"), CharacterSearchIndex.tokenize("mueller"));
+        Assert.assertTrue(CharacterSearchIndex.tokenize(null).isEmpty());
+        Assert.assertTrue(CharacterSearchIndex.tokenize(" ,.; ").isEmpty());
+    }
+
+    public void testSearch() {
+        this.index("a.xml", "Anna", "She was born in Constantinople.", "A scholar");
+        this.index("b.xml", "Boris", "Constantinople, Constantinople and again Constantinople.", "A merchant");
+        this.index("c.xml", "Clara", "She never left Köln.", "A scholar from Constantinople");
+
+        List<String> names = this.names(this.searchIndex.search("constantinople", 10));
+
+        Assert.assertEquals(names.size(), 3);
+        Assert.assertEquals(names.get(0), "Boris");
+        List<String> scholars = this.names(this.searchIndex.search("SCHOLAR constantinople", 10));
+        Assert.assertEquals(scholars.size(), 2);
+        Assert.assertTrue(scholars.containsAll(Arrays.asList("Anna", "Clara")));
+        Assert.assertEquals(this.names(this.searchIndex.search("koeln", 10)), Arrays.asList("Clara"));
+        Assert.assertEquals(this.names(this.searchIndex.search("Köln", 10)), Arrays.asList("Clara"));
+        Assert.assertTrue(this.searchIndex.search("constantinople rome", 10).isEmpty());
+        Assert.assertTrue(this.searchIndex.search("", 10).isEmpty());
+        Assert.assertEquals(this.searchIndex.search("constantinople", 2).size(), 2);
+    }
+
+    public void testUpdateAndRemove() {
+        this.index("a.xml", "Anna", "Born in Constantinople.", "A wanderer");
+        this.index("a.xml", "Anna", "Born in Rome.", "A wanderer");
+
+        Assert.assertEquals(this.searchIndex.size(), 1);
+        Assert.assertTrue(this.searchIndex.search("constantinople", 10).isEmpty());
+        Assert.assertEquals(this.names(this.searchIndex.search("rome", 10)), Arrays.asList("Anna"));
+
+        this.searchIndex.remove(new File(this.libraryDir, "a.xml"));
+
+        Assert.assertEquals(this.searchIndex.size(), 0);
+        Assert.assertTrue(this.searchIndex.search("rome", 10).isEmpty());
+    }
+
+    public void testStoreAndLoad() throws Exception {
+        this.index("a.xml", "Anna", "Born in Constantinople.", "A wanderer");
+        this.index("b.xml", "Boris", "Born in Rome.", "A wanderer");
+        this.searchIndex.store();
+        CharacterSearchIndex loaded = new CharacterSearchIndex(this.indexFile);
+
+        Assert.assertTrue(loaded.load());
+        Assert.assertEquals(loaded.size(), 2);
+        Assert.assertEquals(this.names(loaded.search("rome", 10)), Arrays.asList("Boris"));
+        Assert.assertTrue(loaded.isIndexed(new File(this.libraryDir, "a.xml"), 1, 2));
+        Assert.assertFalse(loaded.isIndexed(new File(this.libraryDir, "a.xml"), 1, 3));
+    }
+
+    public void testLibraryAndSaveUpdates() throws Exception {
+        CharacterStorage storage = new CharacterStorage();
+        storage.addSaveListener(this.searchIndex);
+        CharacterLibrary library = new CharacterLibrary(storage, this.libraryFile);
+        library.addListener(this.searchIndex);
+        Character character = this.template.toBuilder().setStory("Fled from Constantinople.").build();
+        storage.save(character, "Search.xml");
+
+        Assert.assertEquals(this.names(this.searchIndex.search("constantinople", 10)), Arrays.asList(character.getName()));
+        Assert.assertTrue(this.indexFile.isFile());
+
+        library.rescan(new File(this.libraryDir));
+        Files.delete(this.indexFile.toPath());
+        CharacterSearchIndex rebuilt = new CharacterSearchIndex(this.indexFile);
+        library.removeListener(this.searchIndex);
+        library.addListener(rebuilt);
+
+        Assert.assertEquals(library.rescan(new File(this.libraryDir)).getParsed(), 1);
+        Assert.assertEquals(rebuilt.search("fled", 10).size(), 1);
+
+        Files.delete(new File(this.libraryDir, "Search.xml").toPath());
+        library.rescan(new File(this.libraryDir));
+
+        Assert.assertTrue(rebuilt.search("fled", 10).isEmpty());
+    }
+
+    private void index(String filename, String name, String story, String concept) {
+        Character character = TestCharacterUtility.createVariant(this.template, name)
+            .setStory(story)
+            .setConcept(concept)
+            .build();
+        this.searchIndex.update(new File(this.libraryDir, filename), 1, 2, character);
+    }
+
+    private List<String> names(List<CharacterSearchIndex.Hit> hits) {
+        return hits.stream().map(CharacterSearchIndex.Hit::getName).collect(Collectors.toList());
+    }
+}
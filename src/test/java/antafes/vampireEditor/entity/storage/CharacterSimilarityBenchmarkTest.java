@@ -0,0 +1,151 @@
+/*
+ * This file is part of Vampire Editor.
+ *
+ * Vampire Editor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Vampire Editor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Vampire Editor. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @package Vampire Editor
+ * @author Marian Pollzien <map@wafriv.de>
+ * @copyright (c) 2026, Marian Pollzien
+ * @license https://www.gnu.org/licenses/lgpl.html LGPLv3
+ */
+package antafes.vampireEditor.entity.storage;
+
+import antafes.vampireEditor.VampireEditor;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures the query latency and recall of the similarity index for a large library, with and without clusters.
+ * Characters are generated as variations of a set of archetypes, like the NPCs of a real library.
+ * Only run with the benchmark profile: mvn test -P benchmark
+ */
+@Test(groups = "benchmark")
+public class CharacterSimilarityBenchmarkTest {
+    private static final int CHARACTERS = 100000;
+    private static final int ARCHETYPES = 500;
+    private static final int QUERIES = 1000;
+
+    private CharacterSimilarityIndex exactIndex;
+    private CharacterSimilarityIndex partitionedIndex;
+    private byte[][] queries;
+
+    @BeforeMethod
+    public void setUp() {
+        new VampireEditor();
+        this.exactIndex = new CharacterSimilarityIndex(Integer.MAX_VALUE);
+        this.partitionedIndex = new CharacterSimilarityIndex();
+        Random random = new Random(42);
+        int dimensions = this.exactIndex.getDimensions();
+        byte[][] archetypes = new byte[ARCHETYPES][];
+
+        for (int i = 0; i < ARCHETYPES; i++) {
+            archetypes[i] = this.vector(random, dimensions);
+        }
+
+        for (int i = 0; i < CHARACTERS; i++) {
+            byte[] vector = this.variation(random, archetypes[random.nextInt(ARCHETYPES)]);
+            File file = new File("character" + i + ".xml");
+            UUID id = UUID.randomUUID();
+            this.exactIndex.update(file, 0, 0, id, "Character " + i, vector);
+            this.partitionedIndex.update(file, 0, 0, id, "Character " + i, vector);
+        }
+
+        this.queries = new byte[QUERIES][];
+
+        for (int i = 0; i < QUERIES; i++) {
+            this.queries[i] = this.variation(random, archetypes[random.nextInt(ARCHETYPES)]);
+        }
+    }
+
+    public void benchmarkFindSimilar() {
+        long partitioning = System.nanoTime();
+        this.partitionedIndex.findSimilar(this.queries[0], null, 10, CharacterSimilarityIndex.Metric.COSINE);
+        partitioning = System.nanoTime() - partitioning;
+
+        double exact = this.measure(this.exactIndex);
+        double partitioned = this.measure(this.partitionedIndex);
+        int found = 0;
+
+        for (byte[] query : this.queries) {
+            Set<UUID> expected = this.exactIndex.findSimilar(query, null, 10, CharacterSimilarityIndex.Metric.COSINE)
+                .stream()
+                .map(CharacterSimilarityIndex.Neighbour::getId)
+                .collect(Collectors.toSet());
+            found += this.partitionedIndex.findSimilar(query, null, 10, CharacterSimilarityIndex.Metric.COSINE)
+                .stream()
+                .filter(neighbour -> expected.contains(neighbour.getId()))
+                .count();
+        }
+
+        System.out.printf(
+            "Finding similar among %d characters: %.3f ms exact, %.3f ms partitioned, %d ms to partition, %.1f%% recall%n",
+            CHARACTERS,
+            exact,
+            partitioned,
+            TimeUnit.NANOSECONDS.toMillis(partitioning),
+            found * 100.0 / (QUERIES * 10)
+        );
+
+        Assert.assertTrue(this.partitionedIndex.isPartitioned());
+        Assert.assertTrue(partitioned < exact);
+        Assert.assertTrue(found >= QUERIES * 10 * 0.9);
+    }
+
+    private double measure(CharacterSimilarityIndex index) {
+        for (byte[] query : this.queries) {
+            index.findSimilar(query, null, 10, CharacterSimilarityIndex.Metric.COSINE);
+        }
+
+        long total = 0;
+
+        for (byte[] query : this.queries) {
+            long start = System.nanoTime();
+            index.findSimilar(query, null, 10, CharacterSimilarityIndex.Metric.COSINE);
+            total += System.nanoTime() - start;
+        }
+
+        return total / (double) QUERIES / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private byte[] vector(Random random, int dimensions) {
+        byte[] vector = new byte[dimensions];
+
+        for (int d = 0; d < dimensions; d++) {
+            // Most traits of a character are low, a few are high.
+            vector[d] = (byte) (5 * Math.pow(random.nextDouble(), 3));
+        }
+
+        return vector;
+    }
+
+    private byte[] variation(Random random, byte[] archetype) {
+        byte[] vector = archetype.clone();
+
+        // Characters of the same archetype differ in a few traits.
+        for (int i = 0; i < 8; i++) {
+            int d = random.nextInt(vector.length);
+            vector[d] = (byte) Math.max(0, Math.min(5, vector[d] + random.nextInt(3) - 1));
+        }
+
+        return vector;
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * This file is part of Vampire Editor.
+ *
+ * Vampire Editor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Vampire Editor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Vampire Editor. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @package Vampire Editor
+ * @author Marian Pollzien <map@wafriv.de>
+ * @copyright (c) 2026, Marian Pollzien
+ * @license https://www.gnu.org/licenses/lgpl.html LGPLv3
+ */
+package antafes.vampireEditor.entity.storage;
+
+import antafes.vampireEditor.TestCharacterUtility;
+import antafes.vampireEditor.entity.Character;
+import antafes.vampireEditor.entity.character.Attribute;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Test
+public class CharacterSimilarityIndexTest {
+    private final String libraryDir = System.getProperty("user.home") + "/.vampire/testSimilarity";
+    private final File indexFile = new File(System.getProperty("user.home") + "/.vampire/testSimilarity.idx");
+    private final File libraryFile = new File(System.getProperty("user.home") + "/.vampire/testSimilarityLibrary.idx");
+    private CharacterSimilarityIndex similarityIndex;
+    private Character template;
+
+    @BeforeMethod
+    public void setUp() {
+        TestCharacterUtility.initConfiguration(this.libraryDir);
+        this.similarityIndex = new CharacterSimilarityIndex(this.indexFile);
+        this.template = TestCharacterUtility.createTestCharacter();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        TestCharacterUtility.deleteDirectory(new File(this.libraryDir));
+
+        Files.deleteIfExists(this.indexFile.toPath());
+        Files.deleteIfExists(this.libraryFile.toPath());
+    }
+
+    public void testToVector() {
+        AttributeStorage storage = (AttributeStorage) StorageFactory.getStorage(StorageFactory.StorageType.ATTRIBUTE);
+        byte[] vector = this.similarityIndex.toVector(this.template);
+        int dimensions = this.similarityIndex.getDimensions();
+
+        Assert.assertEquals(vector.length, dimensions);
+        Assert.assertEquals(vector[storage.getOrdinal("strength")], 3);
+        Assert.assertEquals(vector[storage.getOrdinal("wits")], 1);
+        Assert.assertEquals(vector[dimensions - 3], this.template.getRoad().getValue());
+        Assert.assertEquals(vector[dimensions - 2], this.template.getGeneration().getGeneration());
+        Assert.assertEquals(vector[dimensions - 1], this.template.getWillpower());
+    }
+
+    public void testFindSimilar() {
+        Character anna = this.index("a.xml", "Anna", 3);
+        this.index("b.xml", "Boris", 4);
+        this.index("c.xml", "Clara", 1);
+        this.index("d.xml", "Dora", 5);
+
+        Assert.assertEquals(
+            this.names(this.similarityIndex.findSimilar(anna, 10, CharacterSimilarityIndex.Metric.L1)),
+            Arrays.asList("Boris", "Dora", "Clara")
+        );
+        Assert.assertEquals(
+            this.names(this.similarityIndex.findSimilar(anna, 2, CharacterSimilarityIndex.Metric.COSINE)),
+            Arrays.asList("Boris", "Dora")
+        );
+
+        List<CharacterSimilarityIndex.Neighbour> neighbours = this.similarityIndex.findSimilar(
+            anna,
+            10,
+            CharacterSimilarityIndex.Metric.COSINE
+        );
+
+        for (int i = 1; i < neighbours.size(); i++) {
+            Assert.assertTrue(neighbours.get(i - 1).getDistance() <= neighbours.get(i).getDistance());
+        }
+
+        Assert.assertTrue(this.similarityIndex.findSimilar(anna, 0, CharacterSimilarityIndex.Metric.L1).isEmpty());
+    }
+
+    public void testUpdateAndRemove() {
+        Character anna = this.index("a.xml", "Anna", 3);
+        this.index("b.xml", "Boris", 4);
+        this.index("c.xml", "Clara", 2);
+        this.index("b.xml", "Boris", 5);
+
+        Assert.assertEquals(this.similarityIndex.size(), 3);
+        Assert.assertEquals(
+            this.names(this.similarityIndex.findSimilar(anna, 1, CharacterSimilarityIndex.Metric.L1)),
+            Arrays.asList("Clara")
+        );
+
+        this.similarityIndex.remove(new File(this.libraryDir, "c.xml"));
+
+        Assert.assertEquals(this.similarityIndex.size(), 2);
+        Assert.assertEquals(
+            this.names(this.similarityIndex.findSimilar(anna, 10, CharacterSimilarityIndex.Metric.L1)),
+            Arrays.asList("Boris")
+        );
+        Assert.assertTrue(this.similarityIndex.isIndexed(new File(this.libraryDir, "a.xml"), 1, 2));
+        Assert.assertFalse(this.similarityIndex.isIndexed(new File(this.libraryDir, "c.xml"), 1, 2));
+    }
+
+    public void testStoreAndLoad() throws Exception {
+        Character anna = this.index("a.xml", "Anna", 3);
+        this.index("b.xml", "Boris", 4);
+        this.index("c.xml", "Clara", 1);
+
+        this.similarityIndex.store();
+        CharacterSimilarityIndex loaded = new CharacterSimilarityIndex(this.indexFile);
+
+        Assert.assertTrue(loaded.load());
+        Assert.assertEquals(loaded.size(), 3);
+        Assert.assertEquals(
+            this.names(loaded.findSimilar(anna, 10, CharacterSimilarityIndex.Metric.L1)),
+            this.names(this.similarityIndex.findSimilar(anna, 10, CharacterSimilarityIndex.Metric.L1))
+        );
+        Assert.assertTrue(loaded.isIndexed(new File(this.libraryDir, "a.xml"), 1, 2));
+        Assert.assertFalse(loaded.isIndexed(new File(this.libraryDir, "a.xml"), 1, 3));
+
+        Files.write(this.indexFile.toPath(), new byte[] {1, 2, 3});
+
+        Assert.assertFalse(loaded.load());
+        Assert.assertEquals(loaded.size(), 0);
+    }
+
+    public void testPartitioned() {
+        CharacterSimilarityIndex partitioned = new CharacterSimilarityIndex(1000);
+        CharacterSimilarityIndex exact = new CharacterSimilarityIndex(Integer.MAX_VALUE);
+        int dimensions = partitioned.getDimensions();
+        Random random = new Random(7);
+        byte[][] prototypes = new byte[20][dimensions];
+
+        for (byte[] prototype : prototypes) {
+            for (int d = 0; d < dimensions; d++) {
+                prototype[d] = (byte) random.nextInt(6);
+            }
+        }
+
+        for (int i = 0; i < 2000; i++) {
+            byte[] vector = prototypes[i % prototypes.length].clone();
+            vector[random.nextInt(dimensions)] += 1;
+            File file = new File(this.libraryDir, i + ".xml");
+            UUID id = UUID.randomUUID();
+            partitioned.update(file, 1, 2, id, "Character " + i, vector);
+            exact.update(file, 1, 2, id, "Character " + i, vector);
+        }
+
+        byte[] query = prototypes[3];
+        List<CharacterSimilarityIndex.Neighbour> expected = exact.findSimilar(query, null, 10, CharacterSimilarityIndex.Metric.L1);
+        List<CharacterSimilarityIndex.Neighbour> found = partitioned.findSimilar(query, null, 10, CharacterSimilarityIndex.Metric.L1);
+
+        Assert.assertTrue(partitioned.isPartitioned());
+        Assert.assertFalse(exact.isPartitioned());
+        Assert.assertEquals(found.size(), 10);
+        Assert.assertEquals(found.get(9).getDistance(), expected.get(9).getDistance());
+
+        for (int i = 0; i < 1500; i++) {
+            partitioned.remove(new File(this.libraryDir, i + ".xml"));
+        }
+
+        Assert.assertEquals(partitioned.findSimilar(query, null, 10, CharacterSimilarityIndex.Metric.L1).size(), 10);
+        Assert.assertFalse(partitioned.isPartitioned());
+    }
+
+    public void testLibraryAndSaveUpdates() throws Exception {
+        CharacterStorage storage = new CharacterStorage();
+        storage.addSaveListener(this.similarityIndex);
+        CharacterLibrary library = new CharacterLibrary(storage, this.libraryFile);
+        library.addListener(this.similarityIndex);
+        storage.save(this.template, "Similar.xml");
+        Character other = TestCharacterUtility.createVariant(this.template, "Other").build();
+
+        Assert.assertEquals(
+            this.names(this.similarityIndex.findSimilar(other, 10, CharacterSimilarityIndex.Metric.COSINE)),
+            Arrays.asList(this.template.getName())
+        );
+        Assert.assertTrue(this.similarityIndex.findSimilar(this.template, 10, CharacterSimilarityIndex.Metric.COSINE).isEmpty());
+
+        Assert.assertEquals(library.rescan(new File(this.libraryDir)).getIndexed(), 1);
+        Assert.assertTrue(this.indexFile.isFile());
+
+        CharacterSimilarityIndex loaded = new CharacterSimilarityIndex(this.indexFile);
+        loaded.load();
+        library.removeListener(this.similarityIndex);
+        library.addListener(loaded);
+
+        Assert.assertEquals(library.rescan(new File(this.libraryDir)).getParsed(), 0);
+        Assert.assertEquals(loaded.size(), 1);
+
+        Files.delete(new File(this.libraryDir, "Similar.xml").toPath());
+        library.rescan(new File(this.libraryDir));
+
+        Assert.assertEquals(loaded.size(), 0);
+    }
+
+    private Character index(String filename, String name, int attributeValue) {
+        ArrayList<Attribute> attributes = new ArrayList<>();
+
+        for (Attribute attribute : this.template.getAttributes()) {
+            attributes.add(attribute.toBuilder().setValue(attributeValue).build());
+        }
+
+        Character character = TestCharacterUtility.createVariant(this.template, name)
+            .setAttributes(attributes)
+            .build();
+        this.similarityIndex.update(new File(this.libraryDir, filename), 1, 2, character);
+
+        return character;
+    }
+
+    private List<String> names(List<CharacterSimilarityIndex.Neighbour> neighbours) {
+        return neighbours.stream().map(CharacterSimilarityIndex.Neighbour::getName).collect(Collectors.toList());
+    }
+}
@@ -27,12 +27,28 @@ import antafes.vampireEditor.Configuration;
 import antafes.vampireEditor.TestCharacterUtility;
 import antafes.vampireEditor.VampireEditor;
 import antafes.vampireEditor.entity.Character;
+import antafes.vampireEditor.entity.EntityStorageException;
 import org.testng.Assert;
+import org.testng.SkipException;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 @Test
 public class CharacterStorageTest {
@@ -84,6 +100,292 @@ public class CharacterStorageTest {
         }
     }
 
+    public void testSaveTwice() {
+        XMLValidator validator = new XMLValidator(VampireEditor.getFileInJar("character.xsd"));
+        this.characterStorage.save(TestCharacterUtility.createTestCharacter(), this.filename);
+        this.characterStorage.save(TestCharacterUtility.createTestCharacter(), this.filename);
+
+        Assert.assertTrue(validator.validate(new File(this.saveDir + "/" + this.filename)));
+    }
+
+    public void testSaveWithoutDates() throws Exception {
+        XMLValidator validator = new XMLValidator(VampireEditor.getFileInJar("character.xsd"));
+        final Character expected = TestCharacterUtility.createTestCharacter().toBuilder()
+            .setDayOfBirth(null)
+            .setDayOfDeath(null)
+            .build();
+        this.characterStorage.save(expected, this.filename);
+
+        Assert.assertTrue(validator.validate(new File(this.saveDir + "/" + this.filename)));
+        Assert.assertEquals(this.characterStorage.load(this.filename), expected);
+    }
+
+    public void testSaveAsync() throws Exception {
+        final Character expected = TestCharacterUtility.createTestCharacter();
+        File file = this.characterStorage.saveAsync(expected, this.filename).get(5, TimeUnit.SECONDS);
+
+        Assert.assertEquals(file.getName(), this.filename);
+        Assert.assertEquals(this.characterStorage.load(this.filename), expected);
+        Assert.assertTrue(this.characterStorage.awaitPendingSaves(5, TimeUnit.SECONDS));
+    }
+
+    public void testSaveLeavesNoTemporaryFiles() {
+        this.characterStorage.save(TestCharacterUtility.createTestCharacter(), this.filename);
+        File[] temporary = new File(this.saveDir).listFiles((dir, name) -> name.endsWith(".tmp"));
+
+        Assert.assertNotNull(temporary);
+        Assert.assertEquals(temporary.length, 0);
+    }
+
+    public void testSaveUnchanged() throws Exception {
+        final Character character = TestCharacterUtility.createTestCharacter();
+        Path path = new File(this.saveDir, this.filename).toPath();
+        this.characterStorage.save(character, this.filename);
+        Object fileKey = Files.readAttributes(path, BasicFileAttributes.class).fileKey();
+
+        this.characterStorage.save(character.toBuilder().build(), this.filename);
+
+        Assert.assertEquals(Files.readAttributes(path, BasicFileAttributes.class).fileKey(), fileKey);
+    }
+
+    public void testSaveChanged() throws Exception {
+        final Character character = TestCharacterUtility.createTestCharacter();
+        Path path = new File(this.saveDir, this.filename).toPath();
+        this.characterStorage.save(character, this.filename);
+        Object fileKey = Files.readAttributes(path, BasicFileAttributes.class).fileKey();
+
+        this.characterStorage.save(character.toBuilder().setName("Changed").build(), this.filename);
+
+        Assert.assertNotEquals(Files.readAttributes(path, BasicFileAttributes.class).fileKey(), fileKey);
+        Assert.assertEquals(this.characterStorage.load(this.filename).getName(), "Changed");
+    }
+
+    public void testSaveKeepsPermissions() throws Exception {
+        final Character character = TestCharacterUtility.createTestCharacter();
+        Path path = new File(this.saveDir, this.filename).toPath();
+        this.characterStorage.save(character, this.filename);
+
+        if (Files.getFileAttributeView(path, PosixFileAttributeView.class) == null) {
+            throw new SkipException("The file system doesn't support POSIX permissions.");
+        }
+
+        Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-rw-r--");
+        Files.setPosixFilePermissions(path, permissions);
+
+        this.characterStorage.save(character.toBuilder().setName("Changed").build(), this.filename);
+
+        Assert.assertEquals(Files.getPosixFilePermissions(path), permissions);
+    }
+
+    public void testSaveUnchangedAfterDelete() throws Exception {
+        final Character character = TestCharacterUtility.createTestCharacter();
+        Path path = new File(this.saveDir, this.filename).toPath();
+        this.characterStorage.save(character, this.filename);
+        Files.delete(path);
+
+        this.characterStorage.save(character, this.filename);
+
+        Assert.assertTrue(Files.exists(path));
+    }
+
+    public void testContentHash() throws Exception {
+        final Character character = TestCharacterUtility.createTestCharacter();
+        String hash = this.characterStorage.getContentHash(character);
+
+        Assert.assertEquals(hash.length(), 64);
+        Assert.assertEquals(this.characterStorage.getContentHash(character.toBuilder().build()), hash);
+        Assert.assertNotEquals(
+            this.characterStorage.getContentHash(character.toBuilder().setName("Changed").build()),
+            hash
+        );
+        Assert.assertNull(this.characterStorage.getStoredContentHash(character.getId().toString()));
+
+        this.characterStorage.save(character, this.filename);
+        CharacterStorage other = new CharacterStorage();
+        other.load(this.filename);
+
+        Assert.assertEquals(other.getStoredContentHash(character.getId().toString()), hash);
+    }
+
+    public void testStoredFileChanged() throws Exception {
+        final Character character = TestCharacterUtility.createTestCharacter();
+        File file = new File(this.saveDir, this.filename).getAbsoluteFile();
+
+        Assert.assertNull(this.characterStorage.getStoredFile(character.getId()));
+        Assert.assertTrue(this.characterStorage.hasLocalChanges(character));
+        Assert.assertFalse(this.characterStorage.isStoredFileChanged(character.getId()));
+
+        this.characterStorage.save(character, this.filename);
+
+        Assert.assertEquals(this.characterStorage.getStoredFile(character.getId()), file);
+        Assert.assertFalse(this.characterStorage.hasLocalChanges(character));
+        Assert.assertTrue(this.characterStorage.hasLocalChanges(character.toBuilder().setName("Changed").build()));
+        Assert.assertFalse(this.characterStorage.isStoredFileChanged(character.getId()));
+
+        file.setLastModified(file.lastModified() + 10000);
+
+        Assert.assertTrue(this.characterStorage.isStoredFileChanged(character.getId()));
+
+        this.characterStorage.load(this.filename);
+
+        Assert.assertFalse(this.characterStorage.isStoredFileChanged(character.getId()));
+    }
+
+    public void testPeekId() throws Exception {
+        final Character expected = TestCharacterUtility.createTestCharacter();
+        this.characterStorage.save(expected, this.filename);
+        this.characterStorage.save(expected, "TestCharacter.vch");
+
+        Assert.assertEquals(this.characterStorage.peekId(new File(this.saveDir, this.filename)), expected.getId());
+        Assert.assertEquals(this.characterStorage.peekId(new File(this.saveDir, "TestCharacter.vch")), expected.getId());
+    }
+
+    @Test(expectedExceptions = EntityStorageException.class)
+    public void testPeekIdWithoutId() throws Exception {
+        File file = new File(this.saveDir, "NoId.xml");
+        Files.createDirectories(file.toPath().getParent());
+        Files.write(file.toPath(), "<character><name>Test</name></character>".getBytes(StandardCharsets.UTF_8));
+
+        try {
+            this.characterStorage.peekId(file);
+        } finally {
+            Files.delete(file.toPath());
+        }
+    }
+
+    @Test(expectedExceptions = EntityStorageException.class)
+    public void testPeekIdTruncatedBinary() throws Exception {
+        File file = new File(this.saveDir, "Truncated.vch");
+        Files.createDirectories(file.toPath().getParent());
+        Files.write(file.toPath(), new byte[] {0x56, 0x45, 0x43, 0x48, 1, 0, 0});
+
+        try {
+            this.characterStorage.peekId(file);
+        } finally {
+            Files.delete(file.toPath());
+        }
+    }
+
+    public void testLoadCached() throws Exception {
+        final Character expected = TestCharacterUtility.createTestCharacter();
+        this.characterStorage.save(expected, this.filename);
+        final Character first = this.characterStorage.load(this.filename);
+
+        Assert.assertSame(this.characterStorage.load(this.filename), first);
+        Assert.assertEquals(this.characterStorage.getCacheHits(), 2);
+        Assert.assertEquals(this.characterStorage.getCacheMisses(), 0);
+    }
+
+    public void testLoadCachedStricterLevel() throws Exception {
+        new CharacterStorage().save(TestCharacterUtility.createTestCharacter(), this.filename);
+        final Character unvalidated = this.characterStorage.load(this.filename, CharacterStorage.ValidationLevel.OFF);
+        final Character validated = this.characterStorage.load(this.filename, CharacterStorage.ValidationLevel.STRICT);
+
+        Assert.assertFalse(validated == unvalidated);
+        Assert.assertSame(this.characterStorage.load(this.filename, CharacterStorage.ValidationLevel.OFF), validated);
+        Assert.assertEquals(this.characterStorage.getCacheHits(), 1);
+        Assert.assertEquals(this.characterStorage.getCacheMisses(), 2);
+    }
+
+    public void testLoadCachedChangedFile() throws Exception {
+        final Character expected = TestCharacterUtility.createTestCharacter();
+        this.characterStorage.save(expected, this.filename);
+        new CharacterStorage().save(expected.toBuilder().setName("Changed").build(), this.filename);
+
+        Assert.assertEquals(this.characterStorage.load(this.filename).getName(), "Changed");
+        Assert.assertEquals(this.characterStorage.getCacheHits(), 0);
+        Assert.assertEquals(this.characterStorage.getCacheMisses(), 1);
+    }
+
+    public void testCacheEviction() {
+        CharacterStorage storage = new CharacterStorage(2);
+        ArrayList<Character> characters = new ArrayList<>();
+
+        for (int i = 0; i < 4; i++) {
+            characters.add(TestCharacterUtility.createTestCharacter().toBuilder().setId(UUID.randomUUID()).build());
+        }
+
+        storage.pin(characters.get(0).getId());
+        characters.forEach(character -> storage.getList().put(character.getId().toString(), character));
+
+        Assert.assertEquals(storage.getList().size(), 3);
+        Assert.assertTrue(storage.getList().containsKey(characters.get(0).getId().toString()));
+        Assert.assertFalse(storage.getList().containsKey(characters.get(1).getId().toString()));
+        Assert.assertEquals(storage.getCacheEvictions(), 1);
+
+        storage.unpin(characters.get(0).getId());
+
+        Assert.assertEquals(storage.getList().size(), 2);
+        Assert.assertEquals(storage.getCacheEvictions(), 2);
+    }
+
+    public void testConcurrentSaveAndLoad() throws Exception {
+        final Character template = TestCharacterUtility.createTestCharacter();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            ArrayList<Future<Boolean>> results = new ArrayList<>();
+
+            for (int i = 0; i < 8; i++) {
+                final Character expected = template.toBuilder()
+                    .setId(UUID.randomUUID())
+                    .setName("Concurrent " + i)
+                    .build();
+                final String filename = "Concurrent" + i + ".xml";
+
+                results.add(executor.submit(() -> {
+                    this.characterStorage.save(expected, filename);
+
+                    return expected.equals(this.characterStorage.load(filename));
+                }));
+            }
+
+            for (Future<Boolean> result : results) {
+                Assert.assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        Assert.assertTrue(this.characterStorage.getList().size() >= 8);
+    }
+
+    public void testLoadWithValidationLevels() throws Exception {
+        final Character expected = TestCharacterUtility.createTestCharacter();
+        this.characterStorage.save(expected, this.filename);
+
+        for (CharacterStorage.ValidationLevel level : CharacterStorage.ValidationLevel.values()) {
+            Assert.assertEquals(this.characterStorage.load(this.filename, level), expected);
+        }
+    }
+
+    public void testSaveAndLoadBinary() throws Exception {
+        final Character expected = TestCharacterUtility.createTestCharacter();
+        this.characterStorage.save(expected, "TestCharacter.vch");
+
+        Assert.assertTrue(new File(this.saveDir + "/TestCharacter.vch").exists());
+        Assert.assertEquals(this.characterStorage.load("TestCharacter.vch"), expected);
+    }
+
+    public void testConvert() throws Exception {
+        final Character expected = TestCharacterUtility.createTestCharacter();
+        this.characterStorage.save(expected, this.filename);
+        File binary = new File(this.saveDir + "/Converted.vch");
+        File xml = new File(this.saveDir + "/Converted.xml");
+
+        this.characterStorage.convert(new File(this.saveDir + "/" + this.filename), binary);
+        this.characterStorage.convert(binary, xml);
+
+        Assert.assertEquals(this.characterStorage.load("Converted.vch"), expected);
+        Assert.assertEquals(this.characterStorage.load("Converted.xml"), expected);
+    }
+
+    public void testFormatForFilename() {
+        Assert.assertEquals(CharacterStorage.Format.forFilename("test.xml"), CharacterStorage.Format.XML);
+        Assert.assertEquals(CharacterStorage.Format.forFilename("test.VCH"), CharacterStorage.Format.BINARY);
+        Assert.assertEquals(CharacterStorage.Format.forFilename("test"), CharacterStorage.Format.XML);
+    }
+
     @Test(expectedExceptions = Exception.class, expectedExceptionsMessageRegExp = "Could not load character.*")
     public void testLoadFailed() throws Exception {
         this.characterStorage.load("path/to/not/existing/file.xml");
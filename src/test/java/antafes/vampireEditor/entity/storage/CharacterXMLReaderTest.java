@@ -0,0 +1,78 @@
+/*
+ * This file is part of Vampire Editor.
+ *
+ * Vampire Editor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Vampire Editor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Vampire Editor. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @package Vampire Editor
+ * @author Marian Pollzien <map@wafriv.de>
+ * @copyright (c) 2026, Marian Pollzien
+ * @license https://www.gnu.org/licenses/lgpl.html LGPLv3
+ */
+
+package antafes.vampireEditor.entity.storage;
+
+import antafes.vampireEditor.Configuration;
+import antafes.vampireEditor.TestCharacterUtility;
+import antafes.vampireEditor.VampireEditor;
+import antafes.vampireEditor.entity.Character;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+@Test
+public class CharacterXMLReaderTest {
+    @BeforeMethod
+    public void setUp() {
+        new VampireEditor();
+        Configuration.getInstance().loadProperties();
+    }
+
+    public void testRead() throws Exception {
+        Character expected = TestCharacterUtility.createTestCharacter();
+
+        Assert.assertEquals(new CharacterXMLReader().read(this.writeAndParse(expected)), expected);
+    }
+
+    public void testReadWithoutDates() throws Exception {
+        Character expected = TestCharacterUtility.createTestCharacter().toBuilder()
+            .setDayOfBirth(null)
+            .setDayOfDeath(null)
+            .build();
+
+        Assert.assertEquals(new CharacterXMLReader().read(this.writeAndParse(expected)), expected);
+    }
+
+    public void testReadWithoutId() throws Exception {
+        Document document = this.writeAndParse(TestCharacterUtility.createTestCharacter()).getOwnerDocument();
+        document.getDocumentElement().removeAttribute("id");
+
+        Assert.assertNull(new CharacterXMLReader().read(document.getDocumentElement()));
+    }
+
+    private Element writeAndParse(Character character) throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new CharacterXMLWriter(output).write(character);
+
+        return DocumentBuilderFactory.newInstance()
+            .newDocumentBuilder()
+            .parse(new ByteArrayInputStream(output.toByteArray()))
+            .getDocumentElement();
+    }
+}
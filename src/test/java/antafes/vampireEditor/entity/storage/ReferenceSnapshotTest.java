@@ -0,0 +1,90 @@
+/*
+ * This file is part of Vampire Editor.
+ *
+ * Vampire Editor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Vampire Editor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Vampire Editor. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @package Vampire Editor
+ * @author Marian Pollzien <map@wafriv.de>
+ * @copyright (c) 2026, Marian Pollzien
+ * @license https://www.gnu.org/licenses/lgpl.html LGPLv3
+ */
+
+package antafes.vampireEditor.entity.storage;
+
+import antafes.vampireEditor.Configuration;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+@Test
+public class ReferenceSnapshotTest {
+    private ReferenceSnapshot snapshot;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        Configuration.getInstance().loadProperties();
+        StorageFactory.storageWarmUp();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ReferenceSnapshot.write(out);
+        this.snapshot = ReferenceSnapshot.read(ByteBuffer.wrap(out.toByteArray()), ReferenceSnapshot.computeChecksum());
+    }
+
+    public void testRead() {
+        Assert.assertNotNull(this.snapshot);
+        Assert.assertTrue(this.snapshot.isAvailable());
+    }
+
+    public void testReadOutdated() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ReferenceSnapshot.write(out);
+
+        Assert.assertNull(ReferenceSnapshot.read(ByteBuffer.wrap(out.toByteArray()), ReferenceSnapshot.computeChecksum() + 1));
+    }
+
+    public void testEmbeddedChecksum() throws IOException {
+        Assert.assertEquals(ReferenceSnapshot.readEmbeddedChecksum(), ReferenceSnapshot.computeChecksum());
+    }
+
+    public void testReadInvalid() {
+        Assert.assertNull(ReferenceSnapshot.read(ByteBuffer.wrap(new byte[] {1, 2, 3}), 0));
+    }
+
+    public void testLoad() {
+        this.assertLoaded(StorageFactory.StorageType.ABILITY, new AbilityStorage());
+        this.assertLoaded(StorageFactory.StorageType.ADVANTAGE, new AdvantageStorage());
+        this.assertLoaded(StorageFactory.StorageType.ATTRIBUTE, new AttributeStorage());
+        this.assertLoaded(StorageFactory.StorageType.WEAKNESS, new WeaknessStorage());
+        this.assertLoaded(StorageFactory.StorageType.CLAN, new ClanStorage());
+        this.assertLoaded(StorageFactory.StorageType.MERIT, new MeritStorage());
+        this.assertLoaded(StorageFactory.StorageType.FLAW, new FlawStorage());
+        this.assertLoaded(StorageFactory.StorageType.GENERATION, new GenerationStorage());
+        this.assertLoaded(StorageFactory.StorageType.ROAD, new RoadStorage());
+    }
+
+    public void testLoadUnknownSection() {
+        RoadStorage storage = new RoadStorage();
+
+        Assert.assertFalse(this.snapshot.load(StorageFactory.StorageType.CHARACTER, storage));
+        Assert.assertTrue(storage.getList().isEmpty());
+    }
+
+    private void assertLoaded(StorageFactory.StorageType type, ReferenceStorage<?> storage) {
+        Assert.assertTrue(this.snapshot.load(type, storage));
+        Assert.assertEquals(storage.getList(), StorageFactory.getStorage(type).getList());
+    }
+}
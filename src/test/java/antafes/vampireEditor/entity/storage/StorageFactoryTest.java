@@ -0,0 +1,88 @@
+/*
+ * This file is part of Vampire Editor.
+ *
+ * Vampire Editor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Vampire Editor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Vampire Editor. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @package Vampire Editor
+ * @author Marian Pollzien <map@wafriv.de>
+ * @copyright (c) 2026, Marian Pollzien
+ * @license https://www.gnu.org/licenses/lgpl.html LGPLv3
+ */
+
+package antafes.vampireEditor.entity.storage;
+
+import antafes.vampireEditor.Configuration;
+import antafes.vampireEditor.entity.EntityStorageException;
+import antafes.vampireEditor.entity.character.Clan;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+@Test
+public class StorageFactoryTest {
+    @BeforeMethod
+    public void setUp() {
+        Configuration.getInstance().loadProperties();
+        StorageFactory.storageWarmUp();
+    }
+
+    public void testStorageWarmUp() {
+        for (StorageFactory.StorageType type : StorageFactory.StorageType.values()) {
+            BaseStorage<?> storage = StorageFactory.getStorage(type);
+
+            Assert.assertNotNull(storage);
+            Assert.assertEquals(storage.getClass(), type.getStorageClass());
+        }
+    }
+
+    public void testStorageWarmUpResolvesDependencies() throws EntityStorageException {
+        ClanStorage clanStorage = (ClanStorage) StorageFactory.getStorage(StorageFactory.StorageType.CLAN);
+        Clan clan = clanStorage.getEntity("brujah");
+
+        Assert.assertFalse(clan.getAdvantages().isEmpty());
+        Assert.assertFalse(clan.getWeaknesses().isEmpty());
+    }
+
+    public void testGetStorageDuringWarmUp() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            Future<?> warmUp = executor.submit(StorageFactory::storageWarmUp);
+
+            for (StorageFactory.StorageType type : StorageFactory.StorageType.values()) {
+                Assert.assertNotNull(StorageFactory.getStorage(type), type.name());
+            }
+
+            warmUp.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    public void testGetDependencies() {
+        final StorageFactory.StorageType[] expected = {
+            StorageFactory.StorageType.ADVANTAGE,
+            StorageFactory.StorageType.WEAKNESS
+        };
+        final StorageFactory.StorageType[] actual = StorageFactory.StorageType.CLAN.getDependencies();
+
+        Assert.assertEquals(actual, expected);
+        Assert.assertEquals(StorageFactory.StorageType.ABILITY.getDependencies().length, 0);
+    }
+}
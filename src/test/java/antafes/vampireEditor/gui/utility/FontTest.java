@@ -23,6 +23,7 @@
 package antafes.vampireEditor.gui.utility;
 
 import antafes.vampireEditor.VampireEditor;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.awt.*;
@@ -36,5 +37,20 @@ public class FontTest {
             VampireEditor.getFileInJar("fonts/GoudyTextMT-LombardicCapitals.ttf")
         );
         final java.awt.Font actual = Font.HEADLINE.getFont();
+
+        Assert.assertEquals(actual.getFontName(), expected.getFontName());
+    }
+
+    public void testGetFontIsCached() {
+        Assert.assertSame(Font.TEXT.getFont(), Font.TEXT.getFont());
+    }
+
+    public void testGetDerivedFont() {
+        final java.awt.Font actual = Font.TEXT.getFont(java.awt.Font.BOLD, 12f);
+
+        Assert.assertEquals(actual.getStyle(), java.awt.Font.BOLD);
+        Assert.assertEquals(actual.getSize2D(), 12f);
+        Assert.assertSame(Font.TEXT.getFont(java.awt.Font.BOLD, 12f), actual);
+        Assert.assertNotSame(Font.TEXT.getFont(java.awt.Font.PLAIN, 12f), actual);
     }
 }
\ No newline at end of file
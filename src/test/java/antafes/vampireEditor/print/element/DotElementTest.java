@@ -0,0 +1,64 @@
+/*
+ * This file is part of Vampire Editor.
+ *
+ * Vampire Editor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Vampire Editor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Vampire Editor. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @package Vampire Editor
+ * @author Marian Pollzien <map@wafriv.de>
+ * @copyright (c) 2026, Marian Pollzien
+ * @license https://www.gnu.org/licenses/lgpl.html LGPLv3
+ */
+
+package antafes.vampireEditor.print.element;
+
+import antafes.vampireEditor.print.utility.Dot;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+@Test
+public class DotElementTest {
+    public void testCreateDotsResized() {
+        DotElement element = new DotElement();
+        element.createDots(10, 3, Dot.CIRCLE);
+
+        Assert.assertEquals(element.getPreferredSize(), new Dimension(70, 7));
+        Assert.assertEquals(element.getComponentCount(), 0);
+    }
+
+    public void testCreateDotsNotResized() {
+        DotElement element = new DotElement();
+        element.createDots(10, 3, Dot.SQUARE, false);
+
+        Assert.assertEquals(element.getPreferredSize(), new Dimension(130, 13));
+    }
+
+    public void testPaint() {
+        DotElement element = new DotElement();
+        element.createDots(5, 2, Dot.SQUARE, false);
+        Dimension size = element.getPreferredSize();
+        BufferedImage image = new BufferedImage(size.width, size.height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        element.paint(graphics);
+        graphics.dispose();
+
+        int cellWidth = (size.width - 4) / 5;
+        int center = size.height / 2;
+
+        Assert.assertEquals(image.getRGB(cellWidth / 2, center), image.getRGB(cellWidth + 1 + cellWidth / 2, center));
+        Assert.assertNotEquals(image.getRGB(cellWidth / 2, center), image.getRGB(size.width - cellWidth / 2, center));
+    }
+}
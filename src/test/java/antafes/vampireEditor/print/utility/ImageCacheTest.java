@@ -0,0 +1,53 @@
+/*
+ * This file is part of Vampire Editor.
+ *
+ * Vampire Editor is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Vampire Editor is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Vampire Editor. If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @package Vampire Editor
+ * @author Marian Pollzien <map@wafriv.de>
+ * @copyright (c) 2026, Marian Pollzien
+ * @license https://www.gnu.org/licenses/lgpl.html LGPLv3
+ */
+
+package antafes.vampireEditor.print.utility;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import javax.swing.*;
+import java.awt.image.BufferedImage;
+
+@Test
+public class ImageCacheTest {
+    public void testGetImage() {
+        final BufferedImage actual = ImageCache.getImage(Dot.CIRCLE.getFilled());
+
+        Assert.assertNotNull(actual);
+        Assert.assertSame(ImageCache.getImage(Dot.CIRCLE.getFilled()), actual);
+    }
+
+    public void testGetScaledIcon() {
+        final ImageIcon actual = ImageCache.getScaledIcon(Dot.SQUARE.getEmpty(), 8, 8);
+
+        Assert.assertEquals(actual.getIconWidth(), 8);
+        Assert.assertEquals(actual.getIconHeight(), 8);
+        Assert.assertSame(ImageCache.getScaledIcon(Dot.SQUARE.getEmpty(), 8, 8), actual);
+        Assert.assertNotSame(ImageCache.getScaledIcon(Dot.SQUARE.getEmpty(), 13, 13), actual);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testGetImageMissing() {
+        ImageCache.getImage("images/missing.png");
+    }
+}